@@ -15,6 +15,7 @@
  */
 package com.tngtech.archunit.junit.internal;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Map;
@@ -27,6 +28,8 @@ import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableSet;
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.domain.DerivedData;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.importer.ClassFileImporter;
 import com.tngtech.archunit.core.importer.ImportOption;
@@ -54,8 +57,14 @@ import static java.util.stream.Collectors.toSet;
  * may dramatically reduce performance, if multiple test classes are executed.
  * The cache will hold imported classes as long as there is sufficient memory, and reuse them, if the same
  * locations (i.e. URLs) are imported.
+ * <br><br>
+ * Derived data of the imported classes (e.g. dependencies) can be computed eagerly and in parallel right after the import
+ * by configuring the property {@value #PRECOMPUTE_PROPERTY_NAME} within {@code archunit.properties}
+ * (compare {@link JavaClasses#precompute(DerivedData...)}).
  */
 class ClassCache {
+    static final String PRECOMPUTE_PROPERTY_NAME = "junit.cache.precompute";
+
     @VisibleForTesting
     final Map<Class<?>, JavaClasses> cachedByTest = new ConcurrentHashMap<>();
     @VisibleForTesting
@@ -115,11 +124,30 @@ class ClassCache {
                 for (Class<? extends ImportOption> optionClass : importOptionTypes) {
                     importOptions.add(newInstanceOf(optionClass));
                 }
-                javaClasses = cacheClassFileImporter.importClasses(importOptions, locations);
+                javaClasses = precomputeConfiguredDerivedData(cacheClassFileImporter.importClasses(importOptions, locations));
             }
         }
     }
 
+    private static JavaClasses precomputeConfiguredDerivedData(JavaClasses classes) {
+        String configuredDerivedData = ArchConfiguration.get().getPropertyOrDefault(PRECOMPUTE_PROPERTY_NAME, "");
+        DerivedData[] derivedData = stream(configuredDerivedData.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .map(ClassCache::parseDerivedData)
+                .toArray(DerivedData[]::new);
+        return classes.precompute(derivedData);
+    }
+
+    private static DerivedData parseDerivedData(String name) {
+        try {
+            return DerivedData.valueOf(name.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("Property %s contains unknown value '%s', supported values are %s",
+                    PRECOMPUTE_PROPERTY_NAME, name, Arrays.toString(DerivedData.values())), e);
+        }
+    }
+
     // Used for testing -> that's also the reason it's declared top level
     static class CacheClassFileImporter {
         JavaClasses importClasses(Set<ImportOption> importOptions, Collection<Location> locations) {
@@ -4,6 +4,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Set;
 
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.base.HasDescription;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.importer.ClassFileImporter;
@@ -30,6 +32,7 @@ import org.mockito.junit.MockitoRule;
 import static com.tngtech.archunit.junit.CacheMode.PER_CLASS;
 import static com.tngtech.archunit.testutil.Assertions.assertThatTypes;
 import static com.tngtech.java.junit.dataprovider.DataProviders.testForEach;
+import static java.util.stream.Collectors.toSet;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyCollection;
@@ -90,6 +93,38 @@ public class ClassCacheTest {
         verifyNumberOfImports(2);
     }
 
+    @Test
+    public void precomputes_configured_derived_data() {
+        ArchConfiguration.get().setProperty(ClassCache.PRECOMPUTE_PROPERTY_NAME, "dependencies, REVERSE_DEPENDENCIES");
+
+        JavaClasses precomputedClasses = cache.getClassesToAnalyzeFor(TestClass.class, analyzePackages("com.tngtech.archunit.junit"));
+        JavaClasses lazilyComputedClasses = new ClassFileImporter().importPackages("com.tngtech.archunit.junit");
+
+        assertThat(precomputedClasses).as("Classes were found").isNotEmpty();
+        assertThat(namesOf(precomputedClasses)).isEqualTo(namesOf(lazilyComputedClasses));
+        for (JavaClass precomputedClass : precomputedClasses) {
+            JavaClass lazilyComputedClass = lazilyComputedClasses.get(precomputedClass.getName());
+            assertThat(descriptionsOf(precomputedClass.getDirectDependenciesFromSelf()))
+                    .isEqualTo(descriptionsOf(lazilyComputedClass.getDirectDependenciesFromSelf()));
+            assertThat(descriptionsOf(precomputedClass.getDirectDependenciesToSelf()))
+                    .as("dependencies to " + precomputedClass.getName())
+                    .isEqualTo(descriptionsOf(lazilyComputedClass.getDirectDependenciesToSelf()));
+            assertThat(descriptionsOf(precomputedClass.getAccessesToSelf()))
+                    .as("accesses to " + precomputedClass.getName())
+                    .isEqualTo(descriptionsOf(lazilyComputedClass.getAccessesToSelf()));
+        }
+    }
+
+    @Test
+    public void rejects_unknown_derived_data_to_precompute() {
+        ArchConfiguration.get().setProperty(ClassCache.PRECOMPUTE_PROPERTY_NAME, "DEPENDENCIES,UNKNOWN");
+
+        assertThatThrownBy(() -> cache.getClassesToAnalyzeFor(TestClass.class, analyzePackages("com.tngtech.archunit.junit").withCacheMode(PER_CLASS)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(ClassCache.PRECOMPUTE_PROPERTY_NAME)
+                .hasMessageContaining("UNKNOWN");
+    }
+
     @Test
     public void filters_jars_relative_to_class() {
         JavaClasses classes = cache.getClassesToAnalyzeFor(TestClass.class, analyzePackagesOf(Rule.class));
@@ -241,6 +276,14 @@ public class ClassCacheTest {
         return new TestAnalysisRequest().withLocationProviders(providerClass);
     }
 
+    private static Set<String> namesOf(JavaClasses classes) {
+        return classes.stream().map(JavaClass::getName).collect(toSet());
+    }
+
+    private static Set<String> descriptionsOf(Collection<? extends HasDescription> objects) {
+        return objects.stream().map(HasDescription::getDescription).collect(toSet());
+    }
+
     private void verifyNumberOfImports(int number) {
         verify(cacheClassFileImporter, times(number)).importClasses(anySet(), anyCollection());
         verifyNoMoreInteractions(cacheClassFileImporter);
@@ -321,6 +321,27 @@ public final class ArchConfiguration {
         }
     }
 
+    /**
+     * Executes {@code doWithConfiguration} within the current thread, such that {@link ArchConfiguration#get() ArchConfiguration.get()}
+     * returns the passed configuration. This allows to propagate the configuration of an evaluating thread, which might
+     * be scoped to this thread (compare {@link #withThreadLocalScope(Function)}), to worker threads.
+     * Afterwards, the previous configuration of the current thread is restored.
+     *
+     * @param configuration The configuration to use, usually {@link ArchConfiguration#get()} of another thread
+     * @param doWithConfiguration The code to execute with the passed configuration
+     * @return The value supplied by {@code doWithConfiguration}
+     */
+    @Internal
+    public static <T> T withConfiguration(ArchConfiguration configuration, Supplier<T> doWithConfiguration) {
+        ArchConfiguration previousConfiguration = threadLocalConfiguration.get();
+        threadLocalConfiguration.set(checkNotNull(configuration));
+        try {
+            return doWithConfiguration.get();
+        } finally {
+            threadLocalConfiguration.set(previousConfiguration);
+        }
+    }
+
     private ArchConfiguration copy() {
         return new ArchConfiguration(propertiesResourceName, properties.copy());
     }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.base;
+
+import java.util.function.Predicate;
+
+import com.tngtech.archunit.Internal;
+
+/**
+ * Implemented by the {@link DescribedPredicate predicates} provided by ArchUnit that declare their {@link EvaluationCost}.
+ * Only if both operands of {@link DescribedPredicate#and(DescribedPredicate) and(..)} or {@link DescribedPredicate#or(DescribedPredicate) or(..)}
+ * declare their cost this way, the cheaper operand may be tested first. Any other combination is tested in declaration order,
+ * since the first operand might guard the second one (e.g. {@code isInterface.and(onlyValidForInterfaces)}).
+ * The predicates provided by ArchUnit can be tested in any order, since they never throw an exception and have no side effects.
+ */
+@Internal
+public interface DeclaresEvaluationCost {
+    /**
+     * @return A hint how expensive it is to {@link DescribedPredicate#test(Object) test} this predicate
+     */
+    EvaluationCost getEvaluationCost();
+
+    /**
+     * @return {@code true}, if the {@link EvaluationCost} of this predicate is declared by ArchUnit.
+     *         Predicates that delegate to other predicates only declare their cost if all those predicates do.
+     */
+    default boolean isEvaluationCostDeclared() {
+        return true;
+    }
+
+    static boolean declaresEvaluationCost(Predicate<?> predicate) {
+        return predicate instanceof DeclaresEvaluationCost && ((DeclaresEvaluationCost) predicate).isEvaluationCostDeclared();
+    }
+
+    /**
+     * @return The {@link EvaluationCost} the predicate declares, or {@link EvaluationCost#MODERATE} if it does not declare any
+     */
+    static EvaluationCost evaluationCostOf(Predicate<?> predicate) {
+        return predicate instanceof DeclaresEvaluationCost ? ((DeclaresEvaluationCost) predicate).getEvaluationCost() : EvaluationCost.MODERATE;
+    }
+}
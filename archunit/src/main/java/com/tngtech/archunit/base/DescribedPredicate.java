@@ -31,6 +31,8 @@ import static com.google.common.collect.Iterables.isEmpty;
 import static com.google.common.collect.Iterables.size;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.PublicAPI.Usage.INHERITANCE;
+import static com.tngtech.archunit.base.DeclaresEvaluationCost.declaresEvaluationCost;
+import static com.tngtech.archunit.base.DeclaresEvaluationCost.evaluationCostOf;
 import static java.util.stream.StreamSupport.stream;
 
 /**
@@ -97,6 +99,14 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         return (DescribedPredicate<U>) this;
     }
 
+    /**
+     * Selects the candidates this predicate might match from the given index.
+     * Composed predicates override this to combine the candidates of their components.
+     */
+    <C> Optional<C> selectCandidates(PredicateIndex<T, C> index) {
+        return index.candidatesOf(this);
+    }
+
     @Override
     public String toString() {
         return getDescription();
@@ -108,12 +118,7 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         return (DescribedPredicate<T>) ALWAYS_TRUE;
     }
 
-    private static final DescribedPredicate<Object> ALWAYS_TRUE = new DescribedPredicate<Object>("always true") {
-        @Override
-        public boolean test(Object input) {
-            return true;
-        }
-    };
+    private static final DescribedPredicate<Object> ALWAYS_TRUE = new ConstantPredicate("always true", true);
 
     @PublicAPI(usage = ACCESS)
     @SuppressWarnings("unchecked")
@@ -121,12 +126,7 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         return (DescribedPredicate<T>) ALWAYS_FALSE;
     }
 
-    private static final DescribedPredicate<Object> ALWAYS_FALSE = new DescribedPredicate<Object>("always false") {
-        @Override
-        public boolean test(Object input) {
-            return false;
-        }
-    };
+    private static final DescribedPredicate<Object> ALWAYS_FALSE = new ConstantPredicate("always false", false);
 
     @PublicAPI(usage = ACCESS)
     public static <T> DescribedPredicate<T> equalTo(T object) {
@@ -299,7 +299,35 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         }
     };
 
-    private static class AsPredicate<T> extends DescribedPredicate<T> {
+    /**
+     * Predicates are only reordered if ArchUnit declares the cost of both of them,
+     * since a custom predicate might rely on being guarded by the preceding predicate.
+     */
+    private static boolean testSecondFirst(DescribedPredicate<?> first, DescribedPredicate<?> second) {
+        return declaresEvaluationCost(first) && declaresEvaluationCost(second)
+                && evaluationCostOf(second).compareTo(evaluationCostOf(first)) < 0;
+    }
+
+    private static final class ConstantPredicate extends DescribedPredicate<Object> implements DeclaresEvaluationCost {
+        private final boolean result;
+
+        ConstantPredicate(String description, boolean result) {
+            super(description);
+            this.result = result;
+        }
+
+        @Override
+        public boolean test(Object input) {
+            return result;
+        }
+
+        @Override
+        public EvaluationCost getEvaluationCost() {
+            return EvaluationCost.CHEAP;
+        }
+    }
+
+    private static class AsPredicate<T> extends DescribedPredicate<T> implements DeclaresEvaluationCost {
         private final DescribedPredicate<T> current;
 
         AsPredicate(DescribedPredicate<T> current, String description, Object... params) {
@@ -311,37 +339,100 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         public boolean test(T input) {
             return current.test(input);
         }
+
+        @Override
+        public EvaluationCost getEvaluationCost() {
+            return evaluationCostOf(current);
+        }
+
+        @Override
+        public boolean isEvaluationCostDeclared() {
+            return declaresEvaluationCost(current);
+        }
+
+        @Override
+        <C> Optional<C> selectCandidates(PredicateIndex<T, C> index) {
+            return current.selectCandidates(index);
+        }
     }
 
-    private static class AndPredicate<T> extends DescribedPredicate<T> {
+    private static class AndPredicate<T> extends DescribedPredicate<T> implements DeclaresEvaluationCost {
         private final DescribedPredicate<T> current;
         private final DescribedPredicate<? super T> other;
+        private final boolean testOtherFirst;
 
         AndPredicate(DescribedPredicate<T> current, DescribedPredicate<? super T> other) {
             super(current.getDescription() + " and " + other.getDescription());
             this.current = checkNotNull(current);
             this.other = checkNotNull(other);
+            this.testOtherFirst = testSecondFirst(current, other);
         }
 
         @Override
         public boolean test(T input) {
-            return current.test(input) && other.test(input);
+            return testOtherFirst
+                    ? other.test(input) && current.test(input)
+                    : current.test(input) && other.test(input);
+        }
+
+        @Override
+        public EvaluationCost getEvaluationCost() {
+            return EvaluationCost.max(evaluationCostOf(current), evaluationCostOf(other));
+        }
+
+        @Override
+        public boolean isEvaluationCostDeclared() {
+            return declaresEvaluationCost(current) && declaresEvaluationCost(other);
+        }
+
+        @Override
+        <C> Optional<C> selectCandidates(PredicateIndex<T, C> index) {
+            Optional<C> currentCandidates = current.selectCandidates(index);
+            Optional<C> otherCandidates = other.<T>forSubtype().selectCandidates(index);
+            if (currentCandidates.isPresent() && otherCandidates.isPresent()) {
+                return Optional.of(index.intersection(currentCandidates.get(), otherCandidates.get()));
+            }
+            return currentCandidates.isPresent() ? currentCandidates : otherCandidates;
         }
     }
 
-    private static class OrPredicate<T> extends DescribedPredicate<T> {
+    private static class OrPredicate<T> extends DescribedPredicate<T> implements DeclaresEvaluationCost {
         private final DescribedPredicate<T> current;
         private final DescribedPredicate<? super T> other;
+        private final boolean testOtherFirst;
 
         OrPredicate(DescribedPredicate<T> current, DescribedPredicate<? super T> other) {
             super(current.getDescription() + " or " + other.getDescription());
             this.current = checkNotNull(current);
             this.other = checkNotNull(other);
+            this.testOtherFirst = testSecondFirst(current, other);
         }
 
         @Override
         public boolean test(T input) {
-            return current.test(input) || other.test(input);
+            return testOtherFirst
+                    ? other.test(input) || current.test(input)
+                    : current.test(input) || other.test(input);
+        }
+
+        @Override
+        public EvaluationCost getEvaluationCost() {
+            return EvaluationCost.max(evaluationCostOf(current), evaluationCostOf(other));
+        }
+
+        @Override
+        public boolean isEvaluationCostDeclared() {
+            return declaresEvaluationCost(current) && declaresEvaluationCost(other);
+        }
+
+        @Override
+        <C> Optional<C> selectCandidates(PredicateIndex<T, C> index) {
+            Optional<C> currentCandidates = current.selectCandidates(index);
+            if (!currentCandidates.isPresent()) {
+                return Optional.empty();
+            }
+            Optional<C> otherCandidates = other.<T>forSubtype().selectCandidates(index);
+            return otherCandidates.map(candidates -> index.union(currentCandidates.get(), candidates));
         }
     }
 
@@ -361,7 +452,7 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         }
     }
 
-    private static class NotPredicate<T> extends DescribedPredicate<T> {
+    private static class NotPredicate<T> extends DescribedPredicate<T> implements DeclaresEvaluationCost {
         private final DescribedPredicate<T> predicate;
 
         NotPredicate(DescribedPredicate<? super T> predicate) {
@@ -373,9 +464,19 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         public boolean test(T input) {
             return !predicate.test(input);
         }
+
+        @Override
+        public EvaluationCost getEvaluationCost() {
+            return evaluationCostOf(predicate);
+        }
+
+        @Override
+        public boolean isEvaluationCostDeclared() {
+            return declaresEvaluationCost(predicate);
+        }
     }
 
-    private static class EqualToPredicate<T> extends DescribedPredicate<T> {
+    private static class EqualToPredicate<T> extends DescribedPredicate<T> implements DeclaresEvaluationCost {
         private final T value;
 
         EqualToPredicate(T value) {
@@ -387,9 +488,14 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         public boolean test(T input) {
             return value.equals(input);
         }
+
+        @Override
+        public EvaluationCost getEvaluationCost() {
+            return EvaluationCost.CHEAP;
+        }
     }
 
-    private static class LessThanPredicate<T extends Comparable<T>> extends DescribedPredicate<T> {
+    private static class LessThanPredicate<T extends Comparable<T>> extends DescribedPredicate<T> implements DeclaresEvaluationCost {
         private final T value;
 
         LessThanPredicate(T value) {
@@ -401,9 +507,14 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         public boolean test(T input) {
             return input.compareTo(value) < 0;
         }
+
+        @Override
+        public EvaluationCost getEvaluationCost() {
+            return EvaluationCost.CHEAP;
+        }
     }
 
-    private static class GreaterThanPredicate<T extends Comparable<T>> extends DescribedPredicate<T> {
+    private static class GreaterThanPredicate<T extends Comparable<T>> extends DescribedPredicate<T> implements DeclaresEvaluationCost {
         private final T value;
 
         GreaterThanPredicate(T value) {
@@ -415,9 +526,14 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         public boolean test(T input) {
             return input.compareTo(value) > 0;
         }
+
+        @Override
+        public EvaluationCost getEvaluationCost() {
+            return EvaluationCost.CHEAP;
+        }
     }
 
-    private static class LessThanOrEqualToPredicate<T extends Comparable<T>> extends DescribedPredicate<T> {
+    private static class LessThanOrEqualToPredicate<T extends Comparable<T>> extends DescribedPredicate<T> implements DeclaresEvaluationCost {
         private final T value;
 
         LessThanOrEqualToPredicate(T value) {
@@ -429,9 +545,14 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         public boolean test(T input) {
             return input.compareTo(value) <= 0;
         }
+
+        @Override
+        public EvaluationCost getEvaluationCost() {
+            return EvaluationCost.CHEAP;
+        }
     }
 
-    private static class GreaterThanOrEqualToPredicate<T extends Comparable<T>> extends DescribedPredicate<T> {
+    private static class GreaterThanOrEqualToPredicate<T extends Comparable<T>> extends DescribedPredicate<T> implements DeclaresEvaluationCost {
         private final T value;
 
         GreaterThanOrEqualToPredicate(T value) {
@@ -443,9 +564,14 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         public boolean test(T input) {
             return input.compareTo(value) >= 0;
         }
+
+        @Override
+        public EvaluationCost getEvaluationCost() {
+            return EvaluationCost.CHEAP;
+        }
     }
 
-    private static class DescribePredicate<T> extends DescribedPredicate<T> {
+    private static class DescribePredicate<T> extends DescribedPredicate<T> implements DeclaresEvaluationCost {
         private final Predicate<T> delegate;
 
         DescribePredicate(String description, Predicate<T> predicate) {
@@ -457,9 +583,19 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         public boolean test(T input) {
             return delegate.test(input);
         }
+
+        @Override
+        public EvaluationCost getEvaluationCost() {
+            return evaluationCostOf(delegate);
+        }
+
+        @Override
+        public boolean isEvaluationCostDeclared() {
+            return declaresEvaluationCost(delegate);
+        }
     }
 
-    private static class AnyElementPredicate<T> extends DescribedPredicate<Iterable<? extends T>> {
+    private static class AnyElementPredicate<T> extends DescribedPredicate<Iterable<? extends T>> implements DeclaresEvaluationCost {
         private final DescribedPredicate<T> predicate;
 
         AnyElementPredicate(DescribedPredicate<? super T> predicate) {
@@ -476,9 +612,19 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
             }
             return false;
         }
+
+        @Override
+        public EvaluationCost getEvaluationCost() {
+            return EvaluationCost.max(EvaluationCost.MODERATE, evaluationCostOf(predicate));
+        }
+
+        @Override
+        public boolean isEvaluationCostDeclared() {
+            return declaresEvaluationCost(predicate);
+        }
     }
 
-    private static class AllElementsPredicate<T> extends DescribedPredicate<Iterable<T>> {
+    private static class AllElementsPredicate<T> extends DescribedPredicate<Iterable<T>> implements DeclaresEvaluationCost {
         private final DescribedPredicate<T> predicate;
 
         AllElementsPredicate(DescribedPredicate<? super T> predicate) {
@@ -495,9 +641,19 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
             }
             return true;
         }
+
+        @Override
+        public EvaluationCost getEvaluationCost() {
+            return EvaluationCost.max(EvaluationCost.MODERATE, evaluationCostOf(predicate));
+        }
+
+        @Override
+        public boolean isEvaluationCostDeclared() {
+            return declaresEvaluationCost(predicate);
+        }
     }
 
-    private static class OptionalContainsPredicate<T> extends DescribedPredicate<Optional<T>> {
+    private static class OptionalContainsPredicate<T> extends DescribedPredicate<Optional<T>> implements DeclaresEvaluationCost {
         private final DescribedPredicate<T> predicate;
 
         OptionalContainsPredicate(DescribedPredicate<? super T> predicate) {
@@ -509,5 +665,15 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         public boolean test(Optional<T> optional) {
             return optional.isPresent() && predicate.test(optional.get());
         }
+
+        @Override
+        public EvaluationCost getEvaluationCost() {
+            return evaluationCostOf(predicate);
+        }
+
+        @Override
+        public boolean isEvaluationCostDeclared() {
+            return declaresEvaluationCost(predicate);
+        }
     }
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.base;
+
+import com.tngtech.archunit.Internal;
+
+/**
+ * A hint how expensive it is to test a {@link DescribedPredicate} (see {@link DeclaresEvaluationCost#getEvaluationCost()}).
+ * If both operands are predicates provided by ArchUnit, predicates composed via {@link DescribedPredicate#and(DescribedPredicate) and}
+ * or {@link DescribedPredicate#or(DescribedPredicate) or} test their cheaper operand first, so the expensive operand can often be skipped.
+ * Predicates provided by ArchUnit have no side effects and never throw an exception, so this does not change the result.
+ * As soon as a custom predicate is involved, the operands are tested in the order they were combined, no matter their cost,
+ * since the first operand might guard the second one. The hint never influences the description of a predicate.
+ */
+@Internal
+public enum EvaluationCost {
+    /**
+     * Only inspects simple properties of the tested object, like its name, its package or its modifiers.
+     */
+    CHEAP,
+    /**
+     * The default for all predicates that do not declare any cost.
+     */
+    MODERATE,
+    /**
+     * Traverses further objects reachable from the tested object, like the class hierarchy, meta-annotations or members.
+     */
+    EXPENSIVE;
+
+    static EvaluationCost max(EvaluationCost first, EvaluationCost second) {
+        return first.compareTo(second) >= 0 ? first : second;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.base;
+
+import java.util.Optional;
+
+import com.tngtech.archunit.Internal;
+
+/**
+ * An index that can narrow down the objects a {@link DescribedPredicate} might match, before the predicate is tested.
+ * Leaf predicates are answered by {@link #candidatesOf(DescribedPredicate)}, while the structure of composed predicates
+ * (i.e. {@link DescribedPredicate#and(DescribedPredicate) and}, {@link DescribedPredicate#or(DescribedPredicate) or}
+ * and {@link DescribedPredicate#as(String, Object...) as}) is resolved by {@link #select(DescribedPredicate)}.
+ * <br><br>
+ * The candidates selected for a predicate must always contain all objects the predicate matches, i.e. it is always
+ * valid to select too many candidates, but never to select too few. If no candidates can be selected for a predicate,
+ * all objects have to be tested.
+ *
+ * @param <T> The type of objects the predicates apply to
+ * @param <C> The type of the candidate sets
+ */
+@Internal
+public abstract class PredicateIndex<T, C> {
+    /**
+     * @param predicate A (composed) predicate
+     * @return A set of candidates containing all objects the predicate matches,
+     *         or {@link Optional#empty()}, if the predicate cannot be narrowed down by this index
+     */
+    public final Optional<C> select(DescribedPredicate<? super T> predicate) {
+        return predicate.<T>forSubtype().selectCandidates(this);
+    }
+
+    /**
+     * @param predicate A leaf predicate, i.e. a predicate that is no composition of other predicates
+     * @return A set of candidates containing all objects the predicate matches,
+     *         or {@link Optional#empty()}, if the predicate is not supported by this index
+     */
+    protected abstract Optional<C> candidatesOf(DescribedPredicate<T> predicate);
+
+    protected abstract C intersection(C first, C second);
+
+    protected abstract C union(C first, C second);
+}
@@ -15,13 +15,120 @@
  */
 package com.tngtech.archunit.base;
 
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Supplier;
 
 import com.tngtech.archunit.Internal;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Memoizing {@link Supplier Suppliers} used for lazily derived data of the domain model.
+ * All suppliers created here are thread-safe and, once the value has been computed,
+ * reading it costs a single volatile read without any locking.
+ */
 @Internal
 public class Suppliers {
+    private static final Object UNINITIALIZED = new Object();
+
+    /**
+     * @return a {@link Supplier} that computes the value of the delegate at most once. Only threads that
+     *         request the value while it is computed for the first time will block, afterwards the value is read lock-free.
+     *         Use this for expensive computations or for computations with side effects.
+     */
     public static <T> Supplier<T> memoize(Supplier<T> supplier) {
-        return com.google.common.base.Suppliers.memoize(supplier::get);
+        return new MemoizingSupplier<>(supplier);
+    }
+
+    /**
+     * @return a {@link Supplier} that never blocks. If several threads request the value concurrently before it has been
+     *         computed, the delegate might be invoked more than once, but all threads will observe the same (first published) value.
+     *         Use this only for cheap computations without side effects.
+     */
+    public static <T> Supplier<T> memoizeRacy(Supplier<T> supplier) {
+        return new RacyMemoizingSupplier<>(supplier);
+    }
+
+    /**
+     * @return {@code true}, if the {@link Supplier} has been created by {@link #memoize(Supplier)} or {@link #memoizeRacy(Supplier)}
+     *         and has already computed its value
+     */
+    public static boolean isComputed(Supplier<?> supplier) {
+        if (supplier instanceof MemoizingSupplier<?>) {
+            return ((MemoizingSupplier<?>) supplier).value != UNINITIALIZED;
+        }
+        if (supplier instanceof RacyMemoizingSupplier<?>) {
+            return ((RacyMemoizingSupplier<?>) supplier).value != UNINITIALIZED;
+        }
+        return false;
+    }
+
+    private static class MemoizingSupplier<T> implements Supplier<T> {
+        private volatile Supplier<T> delegate;
+        private volatile Object value = UNINITIALIZED;
+
+        MemoizingSupplier(Supplier<T> delegate) {
+            this.delegate = checkNotNull(delegate);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked") // value is only ever set to a result of the delegate
+        public T get() {
+            Object result = value;
+            if (result == UNINITIALIZED) {
+                synchronized (this) {
+                    result = value;
+                    if (result == UNINITIALIZED) {
+                        result = delegate.get();
+                        value = result;
+                        delegate = null;
+                    }
+                }
+            }
+            return (T) result;
+        }
+
+        @Override
+        public String toString() {
+            return "Suppliers.memoize(" + (value == UNINITIALIZED ? delegate : "<value>") + ")";
+        }
+    }
+
+    private static class RacyMemoizingSupplier<T> implements Supplier<T> {
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<RacyMemoizingSupplier, Object> VALUE =
+                AtomicReferenceFieldUpdater.newUpdater(RacyMemoizingSupplier.class, Object.class, "value");
+
+        private volatile Supplier<T> delegate;
+        private volatile Object value = UNINITIALIZED;
+
+        RacyMemoizingSupplier(Supplier<T> delegate) {
+            this.delegate = checkNotNull(delegate);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked") // value is only ever set to a result of the delegate
+        public T get() {
+            Object result = value;
+            if (result != UNINITIALIZED) {
+                return (T) result;
+            }
+            Supplier<T> currentDelegate = delegate;
+            if (currentDelegate == null) {
+                // another thread has published the value between our two reads
+                return (T) value;
+            }
+            T computed = currentDelegate.get();
+            if (VALUE.compareAndSet(this, UNINITIALIZED, computed)) {
+                delegate = null;
+                return computed;
+            }
+            return (T) value;
+        }
+
+        @Override
+        public String toString() {
+            return "Suppliers.memoizeRacy(" + (value == UNINITIALIZED ? delegate : "<value>") + ")";
+        }
     }
 }
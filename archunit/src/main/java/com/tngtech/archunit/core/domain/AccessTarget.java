@@ -93,7 +93,7 @@ public abstract class AccessTarget implements HasName.AndFullName, CanBeAnnotate
         this.name = checkNotNull(builder.getName());
         this.owner = checkNotNull(builder.getOwner());
         this.fullName = checkNotNull(builder.getFullName());
-        this.member = Suppliers.memoize(builder.getMember());
+        this.member = Suppliers.memoizeRacy(builder.getMember());
     }
 
     @Override
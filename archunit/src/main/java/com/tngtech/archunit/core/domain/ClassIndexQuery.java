@@ -0,0 +1,180 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import com.tngtech.archunit.Internal;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Describes which {@link JavaClass JavaClasses} a predicate matches in terms of a key that {@link JavaClasses}
+ * can index, like the package name or the names of the annotations of a class.
+ * Predicates implementing {@link Provider} thus allow {@link JavaClasses#that(com.tngtech.archunit.base.DescribedPredicate)}
+ * to only test those classes that have a matching key, instead of all classes.
+ * <br><br>
+ * A query must match exactly the classes the respective predicate matches.
+ */
+@Internal
+public final class ClassIndexQuery {
+    private final Key key;
+    private final Optional<String> exactValue;
+    private final Optional<String> valuePrefix;
+    private final Predicate<String> valueMatcher;
+
+    private ClassIndexQuery(Key key, Optional<String> exactValue, Optional<String> valuePrefix, Predicate<String> valueMatcher) {
+        this.key = checkNotNull(key);
+        this.exactValue = checkNotNull(exactValue);
+        this.valuePrefix = checkNotNull(valuePrefix);
+        this.valueMatcher = checkNotNull(valueMatcher);
+    }
+
+    Key getKey() {
+        return key;
+    }
+
+    Optional<String> getExactValue() {
+        return exactValue;
+    }
+
+    Optional<String> getValuePrefix() {
+        return valuePrefix;
+    }
+
+    boolean matches(String value) {
+        return valueMatcher.test(value);
+    }
+
+    private static ClassIndexQuery exact(Key key, String value) {
+        return new ClassIndexQuery(key, Optional.of(value), Optional.empty(), value::equals);
+    }
+
+    private static ClassIndexQuery startingWith(Key key, String prefix) {
+        return new ClassIndexQuery(key, Optional.empty(), Optional.of(prefix), value -> value.startsWith(prefix));
+    }
+
+    private static ClassIndexQuery matching(Key key, Predicate<String> matcher) {
+        return new ClassIndexQuery(key, Optional.empty(), Optional.empty(), matcher);
+    }
+
+    /**
+     * @return A query for classes with a {@link JavaClass#getPackageName() package name} matching the given matcher
+     */
+    public static ClassIndexQuery packageNameMatching(Predicate<String> matcher) {
+        return matching(Key.PACKAGE_NAME, matcher);
+    }
+
+    /**
+     * @return A query for classes with exactly the given {@link JavaClass#getSimpleName() simple name}
+     */
+    public static ClassIndexQuery simpleName(String simpleName) {
+        return exact(Key.SIMPLE_NAME, simpleName);
+    }
+
+    /**
+     * @return A query for classes with a {@link JavaClass#getSimpleName() simple name} starting with the given prefix
+     */
+    public static ClassIndexQuery simpleNameStartingWith(String prefix) {
+        return startingWith(Key.SIMPLE_NAME, prefix);
+    }
+
+    /**
+     * @return A query for classes with a {@link JavaClass#getSimpleName() simple name} ending with the given suffix
+     */
+    public static ClassIndexQuery simpleNameEndingWith(String suffix) {
+        return startingWith(Key.REVERSED_SIMPLE_NAME, reverse(suffix));
+    }
+
+    /**
+     * @return A query for classes directly annotated with an annotation of the given fully qualified type name
+     */
+    public static ClassIndexQuery annotatedWith(String annotationTypeName) {
+        return exact(Key.ANNOTATION_TYPE_NAME, annotationTypeName);
+    }
+
+    /**
+     * @return A query for classes {@link JavaClass#isAssignableTo(String) assignable to} the given fully qualified type name
+     */
+    public static ClassIndexQuery assignableTo(String typeName) {
+        return exact(Key.ASSIGNABLE_TYPE_NAME, typeName);
+    }
+
+    private static String reverse(String string) {
+        return new StringBuilder(string).reverse().toString();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{key=" + key + ", exactValue=" + exactValue + ", valuePrefix=" + valuePrefix + '}';
+    }
+
+    enum Key {
+        PACKAGE_NAME {
+            @Override
+            void forEachValueOf(JavaClass javaClass, Consumer<String> action) {
+                action.accept(javaClass.getPackageName());
+            }
+        },
+        SIMPLE_NAME {
+            @Override
+            void forEachValueOf(JavaClass javaClass, Consumer<String> action) {
+                action.accept(javaClass.getSimpleName());
+            }
+        },
+        REVERSED_SIMPLE_NAME {
+            @Override
+            void forEachValueOf(JavaClass javaClass, Consumer<String> action) {
+                action.accept(reverse(javaClass.getSimpleName()));
+            }
+        },
+        ANNOTATION_TYPE_NAME {
+            @Override
+            void forEachValueOf(JavaClass javaClass, Consumer<String> action) {
+                for (JavaAnnotation<JavaClass> annotation : javaClass.getAnnotations()) {
+                    action.accept(annotation.getRawType().getName());
+                }
+            }
+        },
+        ASSIGNABLE_TYPE_NAME {
+            @Override
+            void forEachValueOf(JavaClass javaClass, Consumer<String> action) {
+                for (JavaClass type : javaClass.getClassHierarchy()) {
+                    action.accept(type.getName());
+                }
+                for (JavaClass type : javaClass.getAllRawInterfaces()) {
+                    action.accept(type.getName());
+                }
+            }
+        };
+
+        abstract void forEachValueOf(JavaClass javaClass, Consumer<String> action);
+    }
+
+    /**
+     * Implemented by predicates on {@link JavaClass JavaClasses} that can be answered by a {@link ClassIndexQuery}.
+     */
+    @Internal
+    public interface Provider {
+        /**
+         * @return The query matching exactly the classes the predicate matches,
+         *         or {@link Optional#empty()}, if this predicate cannot be answered by a query
+         */
+        Optional<ClassIndexQuery> getClassIndexQuery();
+    }
+}
@@ -0,0 +1,384 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * A package identifier (compare {@link PackageMatcher}) compiled into a tree of nodes that can be matched
+ * against package names without going through {@link java.util.regex.Pattern}.
+ * <br><br>
+ * The syntax of package identifiers is defined by the regular expression each construct used to be translated to, i.e.
+ * <ul>
+ *     <li>{@code '*'} corresponds to {@code \w+}</li>
+ *     <li>{@code '..'} corresponds to {@code (?:(?:^\w*)?\.(?:\w+\.)*(?:\w*$)?)?}</li>
+ *     <li>{@code '(**)'} corresponds to {@code (\w+(?:\.\w+)*)}</li>
+ *     <li>{@code '(..|..)'} and {@code '[..|..]'} correspond to capturing and non-capturing groups</li>
+ * </ul>
+ * The nodes backtrack in the same order as these regular expressions would, so the match results and captured groups are identical.
+ */
+class CompiledPackageIdentifier {
+    private final Sequence root;
+    private final int numberOfGroups;
+
+    private CompiledPackageIdentifier(Sequence root, int numberOfGroups) {
+        this.root = root;
+        this.numberOfGroups = numberOfGroups;
+    }
+
+    /**
+     * @return the literal characters every matching package name must start with, e.g. {@code 'com.foo.'} for {@code 'com.foo.*..'}
+     */
+    String getLiteralPrefix() {
+        StringBuilder result = new StringBuilder();
+        for (Node node : root.nodes) {
+            if (!(node instanceof Literal)) {
+                break;
+            }
+            result.append(((Literal) node).value);
+        }
+        return result.toString();
+    }
+
+    boolean matches(String packageName) {
+        return root.match(new Input(packageName, numberOfGroups), 0, position -> position == packageName.length());
+    }
+
+    /**
+     * @return the captured groups, if the package name matches, where index 0 is the first group
+     */
+    Optional<String[]> match(String packageName) {
+        Input input = new Input(packageName, numberOfGroups);
+        if (!root.match(input, 0, position -> position == packageName.length())) {
+            return Optional.empty();
+        }
+        String[] groups = new String[numberOfGroups];
+        for (int i = 0; i < numberOfGroups; i++) {
+            groups[i] = input.getGroup(i);
+        }
+        return Optional.of(groups);
+    }
+
+    static CompiledPackageIdentifier compile(String packageIdentifier) {
+        Parser parser = new Parser(packageIdentifier);
+        Sequence root = parser.parseSequence(false);
+        if (!parser.isFinished()) {
+            throw parser.unexpectedCharacter();
+        }
+        return new CompiledPackageIdentifier(root, parser.numberOfGroups);
+    }
+
+    private static class Parser {
+        private final String packageIdentifier;
+        private int position = 0;
+        private int numberOfGroups = 0;
+
+        Parser(String packageIdentifier) {
+            this.packageIdentifier = packageIdentifier;
+        }
+
+        boolean isFinished() {
+            return position == packageIdentifier.length();
+        }
+
+        /**
+         * Like within a regular expression a ']' is only special if it closes a preceding '['
+         */
+        Sequence parseSequence(boolean insideBrackets) {
+            List<Node> nodes = new ArrayList<>();
+            while (!isFinished() && !isAtAnyOf('|', ')') && !(insideBrackets && isAtAnyOf(']'))) {
+                nodes.add(parseNode());
+            }
+            return new Sequence(nodes);
+        }
+
+        private Node parseNode() {
+            if (packageIdentifier.startsWith("(**)", position)) {
+                position += 4;
+                return new CapturingGroup(numberOfGroups++, ImmutableList.of(new Sequence(ImmutableList.of(new QualifiedName()))));
+            }
+            char c = packageIdentifier.charAt(position++);
+            switch (c) {
+                case '(':
+                    int groupIndex = numberOfGroups++;
+                    return new CapturingGroup(groupIndex, parseAlternatives(')'));
+                case '[':
+                    return new Group(parseAlternatives(']'));
+                case '*':
+                    return new Word();
+                case '.':
+                    if (!isFinished() && packageIdentifier.charAt(position) == '.') {
+                        position++;
+                        return new ArbitraryPackages();
+                    }
+                    return new Literal('.');
+                case '$':
+                    return new EndOfInput();
+                default:
+                    return new Literal(c);
+            }
+        }
+
+        private List<Sequence> parseAlternatives(char closingCharacter) {
+            int start = position - 1;
+            ImmutableList.Builder<Sequence> alternatives = ImmutableList.builder();
+            boolean insideBrackets = closingCharacter == ']';
+            alternatives.add(parseSequence(insideBrackets));
+            while (isAtAnyOf('|')) {
+                position++;
+                alternatives.add(parseSequence(insideBrackets));
+            }
+            if (!isAtAnyOf(closingCharacter)) {
+                throw new IllegalArgumentException(String.format(
+                        "Package Identifier '%s' contains unclosed '%s' at index %d", packageIdentifier, packageIdentifier.charAt(start), start));
+            }
+            position++;
+            return alternatives.build();
+        }
+
+        private boolean isAtAnyOf(char... candidates) {
+            if (isFinished()) {
+                return false;
+            }
+            for (char candidate : candidates) {
+                if (packageIdentifier.charAt(position) == candidate) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        IllegalArgumentException unexpectedCharacter() {
+            return new IllegalArgumentException(String.format(
+                    "Package Identifier '%s' contains unexpected '%s' at index %d", packageIdentifier, packageIdentifier.charAt(position), position));
+        }
+    }
+
+    private static class Input {
+        private final String value;
+        private final int[] groupStarts;
+        private final int[] groupEnds;
+
+        Input(String value, int numberOfGroups) {
+            this.value = value;
+            this.groupStarts = new int[numberOfGroups];
+            this.groupEnds = new int[numberOfGroups];
+        }
+
+        int length() {
+            return value.length();
+        }
+
+        boolean isCharacterAt(int position, char c) {
+            return position < value.length() && value.charAt(position) == c;
+        }
+
+        /**
+         * @return the end of the longest sequence of word characters (i.e. {@code \w}) starting at {@code position}
+         */
+        int endOfWord(int position) {
+            int end = position;
+            while (end < value.length() && isWordCharacter(value.charAt(end))) {
+                end++;
+            }
+            return end;
+        }
+
+        private static boolean isWordCharacter(char c) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+        }
+
+        String getGroup(int index) {
+            return value.substring(groupStarts[index], groupEnds[index]);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Continuation {
+        boolean matchFrom(int position);
+    }
+
+    private interface Node {
+        /**
+         * Tries all ways this node can match starting at {@code position} in order of precedence,
+         * until the continuation matches the rest of the input.
+         */
+        boolean match(Input input, int position, Continuation continuation);
+    }
+
+    private static class Sequence implements Node {
+        private final List<Node> nodes;
+
+        Sequence(List<Node> nodes) {
+            this.nodes = ImmutableList.copyOf(nodes);
+        }
+
+        @Override
+        public boolean match(Input input, int position, Continuation continuation) {
+            return matchFrom(0, input, position, continuation);
+        }
+
+        private boolean matchFrom(int index, Input input, int position, Continuation continuation) {
+            if (index == nodes.size()) {
+                return continuation.matchFrom(position);
+            }
+            return nodes.get(index).match(input, position, next -> matchFrom(index + 1, input, next, continuation));
+        }
+    }
+
+    private static class Group implements Node {
+        private final List<Sequence> alternatives;
+
+        Group(List<Sequence> alternatives) {
+            this.alternatives = alternatives;
+        }
+
+        @Override
+        public boolean match(Input input, int position, Continuation continuation) {
+            for (Sequence alternative : alternatives) {
+                if (alternative.match(input, position, continuation)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static class CapturingGroup extends Group {
+        private final int index;
+
+        CapturingGroup(int index, List<Sequence> alternatives) {
+            super(alternatives);
+            this.index = index;
+        }
+
+        @Override
+        public boolean match(Input input, int position, Continuation continuation) {
+            return super.match(input, position, end -> {
+                input.groupStarts[index] = position;
+                input.groupEnds[index] = end;
+                return continuation.matchFrom(end);
+            });
+        }
+    }
+
+    private static class Literal implements Node {
+        private final char value;
+
+        Literal(char value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean match(Input input, int position, Continuation continuation) {
+            return input.isCharacterAt(position, value) && continuation.matchFrom(position + 1);
+        }
+    }
+
+    private static class EndOfInput implements Node {
+        @Override
+        public boolean match(Input input, int position, Continuation continuation) {
+            return position == input.length() && continuation.matchFrom(position);
+        }
+    }
+
+    /**
+     * {@code \w+}
+     */
+    private static class Word implements Node {
+        @Override
+        public boolean match(Input input, int position, Continuation continuation) {
+            for (int end = input.endOfWord(position); end > position; end--) {
+                if (continuation.matchFrom(end)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * {@code \w+(?:\.\w+)*}
+     */
+    private static class QualifiedName implements Node {
+        @Override
+        public boolean match(Input input, int position, Continuation continuation) {
+            for (int end = input.endOfWord(position); end > position; end--) {
+                if (matchFurtherSegments(input, end, continuation)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean matchFurtherSegments(Input input, int position, Continuation continuation) {
+            if (input.isCharacterAt(position, '.')) {
+                for (int end = input.endOfWord(position + 1); end > position + 1; end--) {
+                    if (matchFurtherSegments(input, end, continuation)) {
+                        return true;
+                    }
+                }
+            }
+            return continuation.matchFrom(position);
+        }
+    }
+
+    /**
+     * {@code (?:(?:^\w*)?\.(?:\w+\.)*(?:\w*$)?)?}
+     */
+    private static class ArbitraryPackages implements Node {
+        @Override
+        public boolean match(Input input, int position, Continuation continuation) {
+            return matchLettersAtStart(input, position, continuation) || continuation.matchFrom(position);
+        }
+
+        private boolean matchLettersAtStart(Input input, int position, Continuation continuation) {
+            if (position == 0) {
+                for (int end = input.endOfWord(position); end >= position; end--) {
+                    if (matchPackages(input, end, continuation)) {
+                        return true;
+                    }
+                }
+            }
+            return matchPackages(input, position, continuation);
+        }
+
+        private boolean matchPackages(Input input, int position, Continuation continuation) {
+            return input.isCharacterAt(position, '.') && matchFurtherPackages(input, position + 1, continuation);
+        }
+
+        private boolean matchFurtherPackages(Input input, int position, Continuation continuation) {
+            // a shorter word than the longest one can never be followed by '.'
+            int endOfWord = input.endOfWord(position);
+            if (endOfWord > position && input.isCharacterAt(endOfWord, '.') && matchFurtherPackages(input, endOfWord + 1, continuation)) {
+                return true;
+            }
+            return matchLettersAtEnd(input, position, continuation);
+        }
+
+        private boolean matchLettersAtEnd(Input input, int position, Continuation continuation) {
+            // a shorter word than the longest one can never be followed by the end of input
+            if (input.endOfWord(position) == input.length() && continuation.matchFrom(input.length())) {
+                return true;
+            }
+            return continuation.matchFrom(position);
+        }
+    }
+}
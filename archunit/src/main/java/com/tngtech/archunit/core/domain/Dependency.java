@@ -19,6 +19,7 @@ import java.util.HashSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.ComparisonChain;
@@ -31,7 +32,6 @@ import com.tngtech.archunit.core.domain.properties.HasName;
 import com.tngtech.archunit.core.domain.properties.HasOwner;
 import com.tngtech.archunit.core.domain.properties.HasSourceCodeLocation;
 
-import static com.google.common.base.Preconditions.checkArgument;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.base.Optionals.asSet;
 
@@ -53,39 +53,65 @@ import static com.tngtech.archunit.base.Optionals.asSet;
  * </ul>
  * Note that a {@link Dependency} will by definition never be a self-reference,
  * i.e. <code>origin</code> will never be equal to <code>target</code>.
+ * <br><br>
+ * The {@link #getDescription() description} of a {@link Dependency} is only rendered on first request,
+ * since for most dependencies (i.e. those not violating any rule) it is never needed.
  */
 @PublicAPI(usage = ACCESS)
 public final class Dependency implements HasDescription, Comparable<Dependency>, HasSourceCodeLocation {
     private final JavaClass originClass;
     private final JavaClass targetClass;
     private final int lineNumber;
-    private final String description;
+    private final Object descriptionKey;
+    private final Supplier<String> createDescription;
+    // benign data race: a String is safely published, so at worst the description is rendered more than once
+    private String description;
     private final SourceCodeLocation sourceCodeLocation;
     private final int hashCode;
 
-    private Dependency(JavaClass originClass, JavaClass targetClass, int lineNumber, String description) {
-        checkArgument(!originClass.equals(targetClass) || targetClass.isPrimitive(),
-                "Tried to create illegal dependency '%s' (%s -> %s), this is likely a bug!",
-                description, originClass.getSimpleName(), targetClass.getSimpleName());
+    /**
+     * @param descriptionKey A cheap representation of the origin the description of this dependency starts with
+     *                       (compare {@link #descriptionKeyOf(JavaMember)}). Dependencies with equal descriptions always have equal
+     *                       description keys, thus the key can be used to calculate the hash code without rendering the description.
+     */
+    private Dependency(JavaClass originClass, JavaClass targetClass, int lineNumber, Object descriptionKey, Supplier<String> description) {
+        if (originClass.equals(targetClass) && !targetClass.isPrimitive()) {
+            throw new IllegalArgumentException(String.format("Tried to create illegal dependency '%s' (%s -> %s), this is likely a bug!",
+                    description.get(), originClass.getSimpleName(), targetClass.getSimpleName()));
+        }
 
         this.originClass = originClass;
         this.targetClass = targetClass;
         this.lineNumber = lineNumber;
-        this.description = description;
+        this.descriptionKey = descriptionKey;
+        this.createDescription = description;
         this.sourceCodeLocation = SourceCodeLocation.of(originClass, lineNumber);
-        hashCode = Objects.hash(originClass, targetClass, lineNumber, description);
+        hashCode = Objects.hash(originClass, targetClass, lineNumber, descriptionKey);
     }
 
     static Set<Dependency> tryCreateFromAccess(JavaAccess<?> access) {
         JavaClass originOwner = access.getOriginOwner();
         JavaClass targetOwner = access.getTargetOwner();
+        JavaCodeUnit origin = access.getOrigin();
+        Object descriptionKey = descriptionKeyOf(origin);
         ImmutableSet.Builder<Dependency> dependencies = ImmutableSet.<Dependency>builder()
-                .addAll(createComponentTypeDependencies(originOwner, access.getOrigin().getDescription(), targetOwner, access.getSourceCodeLocation()));
-        dependencies.addAll(asSet(tryCreateDependency(originOwner, targetOwner, access.getDescription(), access.getLineNumber())));
+                .addAll(createComponentTypeDependencies(originOwner, descriptionKey, origin::getDescription, targetOwner, access.getSourceCodeLocation()));
+        dependencies.addAll(asSet(tryCreateDependency(originOwner, targetOwner, access.getLineNumber(), descriptionKey, access::getDescription)));
         return dependencies.build();
     }
 
     static Dependency fromInheritance(JavaClass origin, JavaClass targetSupertype) {
+        Supplier<String> description = () -> describeInheritance(origin, targetSupertype);
+        Optional<Dependency> result = tryCreateDependency(origin, targetSupertype, 0, origin, description);
+
+        if (!result.isPresent()) {
+            throw new IllegalStateException(String.format("Tried to create illegal inheritance dependency '%s' (%s -> %s), this is likely a bug!",
+                    description.get(), origin.getSimpleName(), targetSupertype.getSimpleName()));
+        }
+        return result.get();
+    }
+
+    private static String describeInheritance(JavaClass origin, JavaClass targetSupertype) {
         String originType = origin.isInterface() ? "Interface" : "Class";
         String originDescription = originType + " " + bracketFormat(origin.getName());
 
@@ -96,14 +122,7 @@ public final class Dependency implements HasDescription, Comparable<Dependency>,
 
         String dependencyDescription = originDescription + " " + dependencyType + " " + targetType + " " + targetDescription;
 
-        String description = dependencyDescription + " in " + origin.getSourceCodeLocation();
-        Optional<Dependency> result = tryCreateDependency(origin, targetSupertype, description, 0);
-
-        if (!result.isPresent()) {
-            throw new IllegalStateException(String.format("Tried to create illegal inheritance dependency '%s' (%s -> %s), this is likely a bug!",
-                    description, origin.getSimpleName(), targetSupertype.getSimpleName()));
-        }
-        return result.get();
+        return dependencyDescription + " in " + origin.getSourceCodeLocation();
     }
 
     static Set<Dependency> tryCreateFromField(JavaField field) {
@@ -145,7 +164,7 @@ public final class Dependency implements HasDescription, Comparable<Dependency>,
     }
 
     static Set<Dependency> tryCreateFromTypeParameter(JavaTypeVariable<?> typeParameter, JavaClass typeParameterDependency) {
-        String dependencyType = "has type parameter '" + typeParameter.getName() + "' depending on";
+        Supplier<String> dependencyType = () -> "has type parameter '" + typeParameter.getName() + "' depending on";
         Origin origin = findSuitableOrigin(typeParameter, typeParameter.getOwner());
         return tryCreateDependency(origin, dependencyType, typeParameterDependency);
     }
@@ -170,74 +189,109 @@ public final class Dependency implements HasDescription, Comparable<Dependency>,
         return tryCreateDependency(origin, genericDependencyType("parameter type", parameterType), typeArgumentDependency);
     }
 
-    private static String genericDependencyType(String genericTypeDescription, JavaType genericType) {
-        return "has generic " + genericTypeDescription + " " + bracketFormat(genericType.getName()) + " with type argument depending on";
+    private static Supplier<String> genericDependencyType(String genericTypeDescription, JavaType genericType) {
+        return () -> "has generic " + genericTypeDescription + " " + bracketFormat(genericType.getName()) + " with type argument depending on";
     }
 
     private static Origin findSuitableOrigin(Object dependencyCause, Object originCandidate) {
         if (originCandidate instanceof JavaMember) {
             JavaMember member = (JavaMember) originCandidate;
-            return new Origin(member.getOwner(), member.getDescription());
+            return new Origin(member.getOwner(), descriptionKeyOf(member), member::getDescription);
         }
         if (originCandidate instanceof JavaClass) {
             JavaClass clazz = (JavaClass) originCandidate;
-            return new Origin(clazz, clazz.getDescription());
+            return new Origin(clazz, clazz, clazz::getDescription);
         }
         if (originCandidate instanceof JavaParameter) {
             JavaParameter parameter = (JavaParameter) originCandidate;
-            return new Origin(parameter.getOwner().getOwner(), parameter.getDescription());
+            return new Origin(parameter.getOwner().getOwner(), descriptionKeyOf(parameter.getOwner()), parameter::getDescription);
         }
         throw new IllegalStateException("Could not find suitable dependency origin for " + dependencyCause);
     }
 
     private static Set<Dependency> tryCreateDependency(JavaClass origin, String dependencyType, JavaClass targetClass) {
-        return tryCreateDependency(origin, origin.getDescription(), dependencyType, targetClass, origin.getSourceCodeLocation());
+        return tryCreateDependency(origin, () -> dependencyType, targetClass);
+    }
+
+    private static Set<Dependency> tryCreateDependency(JavaClass origin, Supplier<String> dependencyType, JavaClass targetClass) {
+        return tryCreateDependency(origin, origin, origin::getDescription, dependencyType, targetClass, origin.getSourceCodeLocation());
     }
 
-    private static <T extends HasOwner<JavaClass> & HasDescription> Set<Dependency> tryCreateDependency(
-            T origin, String dependencyType, JavaClass targetClass) {
+    private static Set<Dependency> tryCreateDependency(JavaMember origin, String dependencyType, JavaClass targetClass) {
+        return tryCreateDependency(origin, () -> dependencyType, targetClass);
+    }
 
+    private static Set<Dependency> tryCreateDependency(JavaMember origin, Supplier<String> dependencyType, JavaClass targetClass) {
         return tryCreateDependency(origin, dependencyType, targetClass, origin.getOwner().getSourceCodeLocation());
     }
 
-    private static <T extends HasOwner<JavaClass> & HasDescription> Set<Dependency> tryCreateDependency(
-            T origin, String dependencyType, JavaClass targetClass, SourceCodeLocation sourceCodeLocation) {
+    private static Set<Dependency> tryCreateDependency(JavaMember origin, String dependencyType, JavaClass targetClass, SourceCodeLocation sourceCodeLocation) {
+        return tryCreateDependency(origin, () -> dependencyType, targetClass, sourceCodeLocation);
+    }
+
+    private static Set<Dependency> tryCreateDependency(
+            JavaMember origin, Supplier<String> dependencyType, JavaClass targetClass, SourceCodeLocation sourceCodeLocation) {
+
+        return tryCreateDependency(origin.getOwner(), descriptionKeyOf(origin), origin::getDescription, dependencyType, targetClass, sourceCodeLocation);
+    }
+
+    /**
+     * Code units can share their description (e.g. bridge methods only differ from the bridged method by return type),
+     * so they are represented by their full name. Any other member can be represented by itself.
+     */
+    private static Object descriptionKeyOf(JavaMember member) {
+        return member instanceof JavaCodeUnit ? member.getFullName() : member;
+    }
 
-        return tryCreateDependency(origin.getOwner(), origin.getDescription(), dependencyType, targetClass, sourceCodeLocation);
+    private static Set<Dependency> tryCreateDependency(Origin origin, String dependencyType, JavaClass targetClass) {
+        return tryCreateDependency(origin, () -> dependencyType, targetClass);
+    }
+
+    private static Set<Dependency> tryCreateDependency(Origin origin, Supplier<String> dependencyType, JavaClass targetClass) {
+        return tryCreateDependency(origin.getOwner(), origin.descriptionKey, origin.originDescription,
+                dependencyType, targetClass, origin.getOwner().getSourceCodeLocation());
     }
 
     private static Set<Dependency> tryCreateDependency(
-            JavaClass originClass, String originDescription, String dependencyType, JavaClass targetClass, SourceCodeLocation sourceCodeLocation) {
+            JavaClass originClass, Object descriptionKey, Supplier<String> originDescription,
+            Supplier<String> dependencyType, JavaClass targetClass, SourceCodeLocation sourceCodeLocation) {
 
         ImmutableSet.Builder<Dependency> dependencies = ImmutableSet.<Dependency>builder()
-                .addAll(createComponentTypeDependencies(originClass, originDescription, targetClass, sourceCodeLocation));
-        String targetDescription = bracketFormat(targetClass.getName());
-        String dependencyDescription = originDescription + " " + dependencyType + " " + targetDescription;
-        String description = dependencyDescription + " in " + sourceCodeLocation;
-        dependencies.addAll(asSet(tryCreateDependency(originClass, targetClass, description, sourceCodeLocation.getLineNumber())));
+                .addAll(createComponentTypeDependencies(originClass, descriptionKey, originDescription, targetClass, sourceCodeLocation));
+        Supplier<String> description = () -> {
+            String targetDescription = bracketFormat(targetClass.getName());
+            String dependencyDescription = originDescription.get() + " " + dependencyType.get() + " " + targetDescription;
+            return dependencyDescription + " in " + sourceCodeLocation;
+        };
+        dependencies.addAll(asSet(tryCreateDependency(originClass, targetClass, sourceCodeLocation.getLineNumber(), descriptionKey, description)));
         return dependencies.build();
     }
 
     private static Set<Dependency> createComponentTypeDependencies(
-            JavaClass originClass, String originDescription, JavaClass targetClass, SourceCodeLocation sourceCodeLocation) {
+            JavaClass originClass, Object descriptionKey, Supplier<String> originDescription, JavaClass targetClass, SourceCodeLocation sourceCodeLocation) {
 
         ImmutableSet.Builder<Dependency> result = ImmutableSet.builder();
         Optional<JavaClass> componentType = targetClass.tryGetComponentType();
         while (componentType.isPresent()) {
-            String componentTypeTargetDescription = bracketFormat(componentType.get().getName());
-            String componentTypeDependencyDescription = originDescription + " depends on component type " + componentTypeTargetDescription;
-            String componentTypeDescription = componentTypeDependencyDescription + " in " + sourceCodeLocation;
-            result.addAll(asSet(tryCreateDependency(originClass, componentType.get(), componentTypeDescription, sourceCodeLocation.getLineNumber())));
-            componentType = componentType.get().tryGetComponentType();
+            JavaClass componentTypeTarget = componentType.get();
+            Supplier<String> componentTypeDescription = () -> {
+                String componentTypeTargetDescription = bracketFormat(componentTypeTarget.getName());
+                String componentTypeDependencyDescription = originDescription.get() + " depends on component type " + componentTypeTargetDescription;
+                return componentTypeDependencyDescription + " in " + sourceCodeLocation;
+            };
+            result.addAll(asSet(tryCreateDependency(originClass, componentTypeTarget, sourceCodeLocation.getLineNumber(), descriptionKey, componentTypeDescription)));
+            componentType = componentTypeTarget.tryGetComponentType();
         }
         return result.build();
     }
 
-    private static Optional<Dependency> tryCreateDependency(JavaClass originClass, JavaClass targetClass, String description, int lineNumber) {
+    private static Optional<Dependency> tryCreateDependency(
+            JavaClass originClass, JavaClass targetClass, int lineNumber, Object descriptionKey, Supplier<String> description) {
+
         if (originClass.equals(targetClass) || targetClass.isPrimitive()) {
             return Optional.empty();
         }
-        return Optional.of(new Dependency(originClass, targetClass, lineNumber, description));
+        return Optional.of(new Dependency(originClass, targetClass, lineNumber, descriptionKey, description));
     }
 
     private static String bracketFormat(String name) {
@@ -257,7 +311,11 @@ public final class Dependency implements HasDescription, Comparable<Dependency>,
     @Override
     @PublicAPI(usage = ACCESS)
     public String getDescription() {
-        return description;
+        String result = description;
+        if (result == null) {
+            description = result = createDescription.get();
+        }
+        return result;
     }
 
     @Override
@@ -292,7 +350,8 @@ public final class Dependency implements HasDescription, Comparable<Dependency>,
         return Objects.equals(this.originClass, other.originClass)
                 && Objects.equals(this.targetClass, other.targetClass)
                 && Objects.equals(this.lineNumber, other.lineNumber)
-                && Objects.equals(this.description, other.description);
+                && Objects.equals(this.descriptionKey, other.descriptionKey)
+                && Objects.equals(this.getDescription(), other.getDescription());
     }
 
     @Override
@@ -301,7 +360,7 @@ public final class Dependency implements HasDescription, Comparable<Dependency>,
                 .add("originClass", originClass)
                 .add("targetClass", targetClass)
                 .add("lineNumber", lineNumber)
-                .add("description", description)
+                .add("description", getDescription())
                 .toString();
     }
 
@@ -314,12 +373,14 @@ public final class Dependency implements HasDescription, Comparable<Dependency>,
         return JavaClasses.of(classes);
     }
 
-    private static class Origin implements HasOwner<JavaClass>, HasDescription {
+    private static class Origin implements HasOwner<JavaClass> {
         private final JavaClass originClass;
-        private final String originDescription;
+        private final Object descriptionKey;
+        private final Supplier<String> originDescription;
 
-        private Origin(JavaClass originClass, String originDescription) {
+        private Origin(JavaClass originClass, Object descriptionKey, Supplier<String> originDescription) {
             this.originClass = originClass;
+            this.descriptionKey = descriptionKey;
             this.originDescription = originDescription;
         }
 
@@ -327,11 +388,6 @@ public final class Dependency implements HasDescription, Comparable<Dependency>,
         public JavaClass getOwner() {
             return originClass;
         }
-
-        @Override
-        public String getDescription() {
-            return originDescription;
-        }
     }
 
     /**
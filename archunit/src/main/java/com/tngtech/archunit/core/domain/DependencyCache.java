@@ -0,0 +1,117 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import java.lang.ref.SoftReference;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import com.tngtech.archunit.ArchConfiguration;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Creates the caches for dependencies derived from imported classes. All caches created by the same
+ * {@link DependencyCache} share the same {@link DependencyCachePolicy}, which is fixed once the classes have been imported.
+ */
+class DependencyCache {
+    static final String DEPENDENCY_CACHE_POLICY_PROPERTY_NAME = "domain.dependencyCachePolicy";
+
+    private final DependencyCachePolicy policy;
+
+    private DependencyCache(DependencyCachePolicy policy) {
+        this.policy = checkNotNull(policy);
+    }
+
+    DependencyCachePolicy getPolicy() {
+        return policy;
+    }
+
+    <T> CachedValue<T> cache(Supplier<T> computeValue) {
+        return new CachedValue<>(computeValue);
+    }
+
+    static DependencyCache retaining() {
+        return new DependencyCache(DependencyCachePolicy.RETAIN);
+    }
+
+    static DependencyCache fromConfiguration() {
+        String configuredPolicy = ArchConfiguration.get()
+                .getPropertyOrDefault(DEPENDENCY_CACHE_POLICY_PROPERTY_NAME, DependencyCachePolicy.RETAIN.name());
+        try {
+            return new DependencyCache(DependencyCachePolicy.valueOf(configuredPolicy.trim().toUpperCase()));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("Illegal value '%s' of property %s, supported values are %s",
+                    configuredPolicy, DEPENDENCY_CACHE_POLICY_PROPERTY_NAME, Arrays.toString(DependencyCachePolicy.values())), e);
+        }
+    }
+
+    /**
+     * A value that is cached according to the current {@link DependencyCachePolicy}. Like
+     * {@link com.tngtech.archunit.base.Suppliers#memoize(Supplier) memoize} only the computation of a missing
+     * value is synchronized, a cached value is read without any locking.
+     */
+    class CachedValue<T> implements Supplier<T> {
+        private final Supplier<T> computeValue;
+        // either null, the value itself (RETAIN) or a SoftReference to the value (SOFT)
+        private volatile Object cached;
+
+        private CachedValue(Supplier<T> computeValue) {
+            this.computeValue = checkNotNull(computeValue);
+        }
+
+        @Override
+        public T get() {
+            DependencyCachePolicy currentPolicy = policy;
+            if (currentPolicy == DependencyCachePolicy.RECOMPUTE) {
+                cached = null;
+                return computeValue.get();
+            }
+
+            Optional<T> cachedValue = getIfCached();
+            if (cachedValue.isPresent()) {
+                return store(cachedValue.get(), currentPolicy);
+            }
+            synchronized (this) {
+                cachedValue = getIfCached();
+                return store(cachedValue.isPresent() ? cachedValue.get() : computeValue.get(), currentPolicy);
+            }
+        }
+
+        /**
+         * @return the value, if it is currently cached, otherwise {@link Optional#empty()}. Never computes the value.
+         */
+        @SuppressWarnings("unchecked") // we only ever store values of type T or SoftReference<T>
+        Optional<T> getIfCached() {
+            Object current = cached;
+            if (current instanceof SoftReference<?>) {
+                return Optional.ofNullable(((SoftReference<T>) current).get());
+            }
+            return Optional.ofNullable((T) current);
+        }
+
+        private T store(T value, DependencyCachePolicy currentPolicy) {
+            Object current = cached;
+            if (currentPolicy == DependencyCachePolicy.RETAIN && current != value) {
+                cached = value;
+            } else if (currentPolicy == DependencyCachePolicy.SOFT && !(current instanceof SoftReference<?>)) {
+                cached = new SoftReference<>(value);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import com.tngtech.archunit.PublicAPI;
+
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+
+/**
+ * Determines how the {@link Dependency dependencies} derived from imported {@link JavaClass classes}
+ * (e.g. {@link JavaClass#getDirectDependenciesFromSelf()} or {@link JavaClass#getDirectDependenciesToSelf()})
+ * are cached once they have been computed. The policy is configured via the property
+ * {@code domain.dependencyCachePolicy} within {@code archunit.properties}. It is determined when the classes are imported
+ * and then applies unchanged to all classes imported together (compare {@link JavaClasses#getDependencyCachePolicy()}).
+ * <br><br>
+ * Note that the policy only covers dependencies derived on request. The accesses and member types the imported classes
+ * are indexed by at import time (e.g. to answer {@link JavaClass#getAccessesToSelf()} or {@link JavaClass#getFieldsWithTypeOfSelf()})
+ * are part of the import and retained under every policy, just like the accesses from each class themselves.
+ */
+@PublicAPI(usage = ACCESS)
+public enum DependencyCachePolicy {
+    /**
+     * Dependencies are computed once and kept as long as the imported classes are reachable. This is the default.
+     */
+    @PublicAPI(usage = ACCESS)
+    RETAIN,
+    /**
+     * Dependencies are only softly referenced once they have been computed. I.e. the garbage collector
+     * may discard them under memory pressure, in which case they will be computed again on the next access.
+     */
+    @PublicAPI(usage = ACCESS)
+    SOFT,
+    /**
+     * Dependencies are never cached, but computed again on every access. This keeps the heap flat
+     * at the cost of recomputing dependencies every time they are queried. Note that in particular
+     * {@link JavaClass#getDirectDependenciesToSelf()} then needs to compute the dependencies of all imported classes on each call.
+     */
+    @PublicAPI(usage = ACCESS)
+    RECOMPUTE
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import com.tngtech.archunit.PublicAPI;
+
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+
+/**
+ * Data derived from imported {@link JavaClass classes} that is usually computed lazily on first access,
+ * but can also be computed eagerly via {@link JavaClasses#precompute(DerivedData...)}.
+ */
+@PublicAPI(usage = ACCESS)
+public enum DerivedData {
+    /**
+     * The type hierarchy closures of each class, e.g. {@link JavaClass#getAllRawSuperclasses()},
+     * {@link JavaClass#getAllRawInterfaces()}, {@link JavaClass#getAllSubclasses()} or {@link JavaClass#getAllMembers()}
+     */
+    @PublicAPI(usage = ACCESS)
+    CLASS_HIERARCHIES,
+    /**
+     * The {@link JavaClass#getDirectDependenciesFromSelf() direct dependencies} of each class
+     */
+    @PublicAPI(usage = ACCESS)
+    DEPENDENCIES,
+    /**
+     * The reverse dependencies of each class, e.g. {@link JavaClass#getDirectDependenciesToSelf()} or {@link JavaClass#getAccessesToSelf()}.
+     * Implies {@link #DEPENDENCIES}.
+     */
+    @PublicAPI(usage = ACCESS)
+    REVERSE_DEPENDENCIES,
+    /**
+     * The dependencies between all packages of the package tree, e.g. {@link JavaPackage#getClassDependenciesFromThisPackageTree()}.
+     * Implies {@link #DEPENDENCIES}.
+     */
+    @PublicAPI(usage = ACCESS)
+    PACKAGE_DEPENDENCIES
+}
@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import com.tngtech.archunit.Internal;
 import com.tngtech.archunit.core.importer.DomainBuilders.TryCatchBlockBuilder;
@@ -27,13 +28,13 @@ import com.tngtech.archunit.core.importer.DomainBuilders.TryCatchBlockBuilder;
 public interface ImportContext {
     Optional<JavaClass> createSuperclass(JavaClass owner);
 
-    Optional<JavaType> createGenericSuperclass(JavaClass owner);
+    Supplier<Optional<JavaType>> createGenericSuperclass(JavaClass owner);
 
-    Optional<List<JavaType>> createGenericInterfaces(JavaClass owner);
+    Supplier<Optional<List<JavaType>>> createGenericInterfaces(JavaClass owner);
 
     List<JavaClass> createInterfaces(JavaClass owner);
 
-    List<JavaTypeVariable<JavaClass>> createTypeParameters(JavaClass owner);
+    Supplier<List<JavaTypeVariable<JavaClass>>> createTypeParameters(JavaClass owner);
 
     Set<JavaField> createFields(JavaClass owner);
 
@@ -68,4 +69,6 @@ public interface ImportContext {
     Set<InstanceofCheck> createInstanceofChecksFor(JavaCodeUnit codeUnit);
 
     JavaClass resolveClass(String fullyQualifiedClassName);
+
+    boolean includesGenericTypesInDependencies();
 }
@@ -27,6 +27,7 @@ import com.tngtech.archunit.core.domain.properties.HasOwner.Functions.Get;
 import com.tngtech.archunit.core.domain.properties.HasSourceCodeLocation;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaAccessBuilder;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.ImmutableSet.toImmutableSet;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
@@ -38,14 +39,13 @@ public abstract class JavaAccess<TARGET extends AccessTarget>
     private final JavaCodeUnit origin;
     private final TARGET target;
     private final int lineNumber;
-    private final SourceCodeLocation sourceCodeLocation;
     private final boolean declaredInLambda;
 
     JavaAccess(JavaAccessBuilder<TARGET, ?> builder) {
         this.origin = checkNotNull(builder.getOrigin());
         this.target = checkNotNull(builder.getTarget());
         this.lineNumber = builder.getLineNumber();
-        this.sourceCodeLocation = SourceCodeLocation.of(getOriginOwner(), lineNumber);
+        checkArgument(lineNumber >= 0, "Line number must be non-negative but was " + lineNumber);
         this.declaredInLambda = builder.isDeclaredInLambda();
     }
 
@@ -89,7 +89,8 @@ public abstract class JavaAccess<TARGET extends AccessTarget>
     @Override
     @PublicAPI(usage = ACCESS)
     public SourceCodeLocation getSourceCodeLocation() {
-        return sourceCodeLocation;
+        // created on demand, since there are far more accesses than there are queries for their location
+        return SourceCodeLocation.of(getOriginOwner(), lineNumber);
     }
 
     @PublicAPI(usage = ACCESS)
@@ -18,6 +18,7 @@ package com.tngtech.archunit.core.domain;
 import java.lang.annotation.Annotation;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import com.google.common.collect.ImmutableMap;
 import com.tngtech.archunit.PublicAPI;
@@ -31,6 +32,8 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.PublicAPI.Usage.INHERITANCE;
+import static com.tngtech.archunit.base.Suppliers.isComputed;
+import static com.tngtech.archunit.base.Suppliers.memoize;
 
 /**
  * Represents an imported annotation on an annotated object like a class or a method. To be
@@ -80,14 +83,14 @@ public final class JavaAnnotation<OWNER extends HasDescription> implements HasTy
     private final JavaClass type;
     private final OWNER owner;
     private final CanBeAnnotated annotatedElement;
-    private final String description;
-    private final Map<String, Object> values;
+    private final Supplier<Map<String, Object>> values;
+    private String description;
+    private volatile Annotation proxy;
 
-    private JavaAnnotation(JavaClass type, OWNER owner, CanBeAnnotated annotatedElement, String description, Map<String, Object> values) {
+    private JavaAnnotation(JavaClass type, OWNER owner, CanBeAnnotated annotatedElement, Supplier<Map<String, Object>> values) {
         this.type = checkNotNull(type);
         this.owner = checkNotNull(owner);
         this.annotatedElement = checkNotNull(annotatedElement);
-        this.description = checkNotNull(description);
         this.values = checkNotNull(values);
     }
 
@@ -95,8 +98,8 @@ public final class JavaAnnotation<OWNER extends HasDescription> implements HasTy
         this.type = checkNotNull(builder.getType());
         this.owner = checkNotNull(owner);
         this.annotatedElement = getAnnotatedElement(owner);
-        this.description = createDescription();
-        this.values = checkNotNull(builder.getValues(this));
+        // most annotations are only checked for presence, so we only create the values once they are requested
+        this.values = builder.hasValues() ? memoize(builder.createValues(this)) : ImmutableMap::of;
     }
 
     private static CanBeAnnotated getAnnotatedElement(Object owner) {
@@ -142,7 +145,7 @@ public final class JavaAnnotation<OWNER extends HasDescription> implements HasTy
     }
 
     <NEW_OWNER extends HasDescription> JavaAnnotation<NEW_OWNER> withOwner(NEW_OWNER newOwner) {
-        return new JavaAnnotation<>(type, newOwner, annotatedElement, description, values);
+        return new JavaAnnotation<>(type, newOwner, annotatedElement, values);
     }
 
     /**
@@ -199,7 +202,7 @@ public final class JavaAnnotation<OWNER extends HasDescription> implements HasTy
      */
     @PublicAPI(usage = ACCESS)
     public Optional<Object> get(String propertyName) {
-        Object directResult = values.get(propertyName);
+        Object directResult = values.get().get(propertyName);
         return directResult != null
                 ? Optional.of(directResult)
                 : tryGetDefaultValue(propertyName);
@@ -260,7 +263,7 @@ public final class JavaAnnotation<OWNER extends HasDescription> implements HasTy
      */
     @PublicAPI(usage = ACCESS)
     public Optional<Object> tryGetExplicitlyDeclaredProperty(String propertyName) {
-        return Optional.ofNullable(values.get(propertyName));
+        return Optional.ofNullable(values.get().get(propertyName));
     }
 
     /**
@@ -268,6 +271,7 @@ public final class JavaAnnotation<OWNER extends HasDescription> implements HasTy
      */
     @PublicAPI(usage = ACCESS)
     public Map<String, Object> getProperties() {
+        Map<String, Object> values = this.values.get();
         ImmutableMap.Builder<String, Object> result = ImmutableMap.builder();
         result.putAll(values);
         for (JavaMethod method : type.getMethods()) {
@@ -278,6 +282,10 @@ public final class JavaAnnotation<OWNER extends HasDescription> implements HasTy
         return result.build();
     }
 
+    boolean areValuesCreated() {
+        return isComputed(values);
+    }
+
     /**
      * Simple implementation of the Visitor pattern (compare e.g.
      * <a href="https://en.wikipedia.org/wiki/Visitor_pattern">https://en.wikipedia.org/wiki/Visitor_pattern</a>).<br><br>
@@ -331,6 +339,7 @@ public final class JavaAnnotation<OWNER extends HasDescription> implements HasTy
      * referred parameter types must be on the classpath or an {@link Exception} will be thrown.
      * Furthermore the respective {@link JavaAnnotation} must actually be an import of the passed parameter
      * <code>annotationType</code> or a {@link RuntimeException} will likely occur.
+     * The proxy is created on the first call and then reused by subsequent calls.
      *
      * @param annotationType Any type implementing {@link Annotation}
      * @param <A> The type of the imported {@link Annotation} backing this {@link JavaAnnotation}
@@ -338,12 +347,22 @@ public final class JavaAnnotation<OWNER extends HasDescription> implements HasTy
      */
     @PublicAPI(usage = ACCESS)
     public <A extends Annotation> A as(Class<A> annotationType) {
-        return AnnotationProxy.of(annotationType, this);
+        Annotation result = proxy;
+        if (result == null || result.annotationType() != annotationType) {
+            result = AnnotationProxy.of(annotationType, this);
+            proxy = result;
+        }
+        return annotationType.cast(result);
     }
 
     @Override
     public String getDescription() {
-        return description;
+        String result = description;
+        if (result == null) {
+            // benign race: the description is immutable and always computed to the same value
+            result = description = createDescription();
+        }
+        return result;
     }
 
     @Override
@@ -24,13 +24,17 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.ArchUnitException.InvalidSyntaxUsageException;
+import com.tngtech.archunit.base.ArchUnitException.ReflectionException;
 import com.tngtech.archunit.base.ChainableFunction;
+import com.tngtech.archunit.base.DeclaresEvaluationCost;
 import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.base.EvaluationCost;
 import com.tngtech.archunit.base.MayResolveTypesViaReflection;
 import com.tngtech.archunit.base.Optionals;
 import com.tngtech.archunit.base.ResolvesTypesViaReflection;
@@ -48,6 +52,8 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.Sets.union;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.base.ClassLoaders.getCurrentClassLoader;
+import static com.tngtech.archunit.base.DeclaresEvaluationCost.declaresEvaluationCost;
+import static com.tngtech.archunit.base.DeclaresEvaluationCost.evaluationCostOf;
 import static com.tngtech.archunit.base.DescribedPredicate.equalTo;
 import static com.tngtech.archunit.base.DescribedPredicate.not;
 import static com.tngtech.archunit.core.domain.Formatters.formatNamesOf;
@@ -57,7 +63,6 @@ import static com.tngtech.archunit.core.domain.JavaClass.Functions.GET_CONSTRUCT
 import static com.tngtech.archunit.core.domain.JavaClass.Functions.GET_FIELDS;
 import static com.tngtech.archunit.core.domain.JavaClass.Functions.GET_MEMBERS;
 import static com.tngtech.archunit.core.domain.JavaClass.Functions.GET_METHODS;
-import static com.tngtech.archunit.core.domain.JavaClass.Functions.GET_SIMPLE_NAME;
 import static com.tngtech.archunit.core.domain.JavaClass.Functions.GET_STATIC_INITIALIZER;
 import static com.tngtech.archunit.core.domain.JavaModifier.ENUM;
 import static com.tngtech.archunit.core.domain.JavaType.Functions.TO_ERASURE;
@@ -67,7 +72,6 @@ import static com.tngtech.archunit.core.domain.properties.HasType.Functions.GET_
 import static java.util.Arrays.stream;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
-import static java.util.stream.Collectors.toSet;
 
 @PublicAPI(usage = ACCESS)
 public final class JavaClass
@@ -84,11 +88,11 @@ public final class JavaClass
     private final boolean isAnonymousClass;
     private final boolean isMemberClass;
     private final Set<JavaModifier> modifiers;
-    private List<JavaTypeVariable<JavaClass>> typeParameters = emptyList();
+    private Supplier<List<JavaTypeVariable<JavaClass>>> typeParameters = Collections::emptyList;
     private final Supplier<Class<?>> reflectSupplier;
     private JavaClassMembers members = JavaClassMembers.empty(this);
     private Superclass superclass = Superclass.ABSENT;
-    private final Supplier<List<JavaClass>> allRawSuperclasses = Suppliers.memoize(() -> {
+    private final Supplier<List<JavaClass>> allRawSuperclasses = Suppliers.memoizeRacy(() -> {
         ImmutableList.Builder<JavaClass> result = ImmutableList.builder();
         JavaClass current = JavaClass.this;
         while (current.getRawSuperclass().isPresent()) {
@@ -98,7 +102,7 @@ public final class JavaClass
         return result.build();
     });
     private Interfaces interfaces = Interfaces.EMPTY;
-    private final Supplier<Set<JavaClass>> allRawInterfaces = Suppliers.memoize(() -> {
+    private final Supplier<Set<JavaClass>> allRawInterfaces = Suppliers.memoizeRacy(() -> {
         ImmutableSet.Builder<JavaClass> result = ImmutableSet.builder();
         for (JavaClass i : interfaces.getRaw()) {
             result.add(i);
@@ -107,14 +111,14 @@ public final class JavaClass
         result.addAll(superclass.getAllRawInterfaces());
         return result.build();
     });
-    private final Supplier<List<JavaClass>> classHierarchy = Suppliers.memoize(() -> {
+    private final Supplier<List<JavaClass>> classHierarchy = Suppliers.memoizeRacy(() -> {
         ImmutableList.Builder<JavaClass> result = ImmutableList.builder();
         result.add(JavaClass.this);
         result.addAll(getAllRawSuperclasses());
         return result.build();
     });
     private final Set<JavaClass> subclasses = new HashSet<>();
-    private final Supplier<Set<JavaClass>> allSubclasses = Suppliers.memoize(() -> {
+    private final Supplier<Set<JavaClass>> allSubclasses = Suppliers.memoizeRacy(() -> {
         Set<JavaClass> result = new HashSet<>();
         for (JavaClass subclass : subclasses) {
             result.add(subclass);
@@ -637,7 +641,7 @@ public final class JavaClass
     @Override
     @PublicAPI(usage = ACCESS)
     public List<JavaTypeVariable<JavaClass>> getTypeParameters() {
-        return typeParameters;
+        return typeParameters.get();
     }
 
     @PublicAPI(usage = ACCESS)
@@ -1181,6 +1185,19 @@ public final class JavaClass
         return javaClassDependencies.getDirectDependenciesFromClass();
     }
 
+    /**
+     * Like {@link #getDirectDependenciesFromSelf()}, but streams the dependencies instead of collecting them into a set.
+     * If the dependencies of this class are currently not cached (compare {@link DependencyCachePolicy}),
+     * they will be computed on the fly without being cached. I.e. iterating over the dependencies of many classes
+     * this way will not increase the retained heap.
+     *
+     * @return All dependencies originating directly from this class (i.e. where this class is the origin)
+     */
+    @PublicAPI(usage = ACCESS)
+    public Stream<Dependency> streamDirectDependenciesFromSelf() {
+        return javaClassDependencies.streamDirectDependenciesFromClass();
+    }
+
     /**
      * Returns the transitive closure of all dependencies originating from this class, i.e. its direct dependencies
      * and the dependencies from all imported target classes.
@@ -1410,6 +1427,7 @@ public final class JavaClass
      * can't be found on the classpath.
      *
      * @return The {@link Class} equivalent to this {@link JavaClass}
+     * @see JavaClasses#reflect(ClassLoader)
      */
     @ResolvesTypesViaReflection
     @PublicAPI(usage = ACCESS)
@@ -1417,6 +1435,21 @@ public final class JavaClass
         return reflectSupplier.get();
     }
 
+    /**
+     * Like {@link #reflect()}, but always loads the class via the given {@link ClassLoader} and returns {@link Optional#empty()}
+     * instead of throwing an exception if the class can't be loaded. The outcome is not cached,
+     * i.e. it does not affect {@link #reflect()} or any later call of this method.
+     */
+    @ResolvesTypesViaReflection
+    @MayResolveTypesViaReflection(reason = "Just part of a bigger resolution process")
+    Optional<Class<?>> tryReflect(ClassLoader classLoader) {
+        try {
+            return Optional.of(descriptor.resolveClass(classLoader));
+        } catch (ReflectionException | LinkageError e) {
+            return Optional.empty();
+        }
+    }
+
     void completeClassHierarchyFrom(ImportContext context) {
         completeSuperclassFrom(context);
         completeInterfacesFrom(context);
@@ -1456,14 +1489,12 @@ public final class JavaClass
     }
 
     void completeGenericSuperclassFrom(ImportContext context) {
-        Optional<JavaType> genericSuperclass = context.createGenericSuperclass(this);
-        genericSuperclass.ifPresent(javaType -> superclass = superclass.withGenericType(javaType));
+        superclass = superclass.withGenericType(context.createGenericSuperclass(this));
         completionProcess.markGenericSuperclassComplete();
     }
 
     void completeGenericInterfacesFrom(ImportContext context) {
-        Optional<List<JavaType>> genericInterfaces = context.createGenericInterfaces(this);
-        genericInterfaces.ifPresent(javaTypes -> interfaces = interfaces.withGenericTypes(javaTypes));
+        interfaces = interfaces.withGenericTypes(context.createGenericInterfaces(this));
         completionProcess.markGenericInterfacesComplete();
     }
 
@@ -1478,13 +1509,17 @@ public final class JavaClass
         completionProcess.markAnnotationsComplete();
     }
 
-    JavaClassDependencies completeFrom(ImportContext context) {
+    JavaClassDependencies completeFrom(ImportContext context, DependencyCache dependencyCache) {
         completeComponentType(context);
         members.completeFrom(context);
-        javaClassDependencies = new JavaClassDependencies(this);
+        javaClassDependencies = new JavaClassDependencies(this, dependencyCache, context.includesGenericTypesInDependencies());
         return javaClassDependencies;
     }
 
+    DependencyCache getDependencyCache() {
+        return javaClassDependencies.getDependencyCache();
+    }
+
     private void completeComponentType(ImportContext context) {
         JavaClass current = this;
         while (current.isArray() && !current.componentType.isPresent()) {
@@ -1494,6 +1529,10 @@ public final class JavaClass
         }
     }
 
+    ReverseDependencies getReverseDependencies() {
+        return reverseDependencies;
+    }
+
     void setReverseDependencies(ReverseDependencies reverseDependencies) {
         this.reverseDependencies = reverseDependencies;
         members.setReverseDependencies(reverseDependencies);
@@ -1519,48 +1558,50 @@ public final class JavaClass
     }
 
     private static class Superclass {
-        private static final Superclass ABSENT = new Superclass(Optional.empty());
+        private static final Superclass ABSENT = new Superclass(Optional.empty(), Optional::empty);
 
         private final Optional<JavaClass> rawType;
-        private final Optional<JavaType> type;
+        private final Supplier<Optional<JavaType>> genericType;
 
-        private Superclass(JavaType type) {
-            this(Optional.of(type));
-        }
-
-        private Superclass(Optional<JavaType> type) {
-            this.rawType = type.map(TO_ERASURE);
-            this.type = type;
+        private Superclass(Optional<JavaClass> rawType, Supplier<Optional<JavaType>> genericType) {
+            this.rawType = checkNotNull(rawType);
+            this.genericType = checkNotNull(genericType);
         }
 
         Optional<JavaClass> getRaw() {
-            return rawType;
+            // the generic signature of an interface declares Object as superclass, even though the class file does not
+            return rawType.isPresent() ? rawType : genericType.get().map(TO_ERASURE);
         }
 
         Optional<JavaType> get() {
-            return Optional.ofNullable(type.orElse(rawType.orElse(null)));
+            Optional<JavaType> type = genericType.get();
+            return type.isPresent() ? type : rawType.map(JavaType.class::cast);
         }
 
         Set<JavaClass> getAllRawInterfaces() {
-            return rawType.isPresent() ? rawType.get().getAllRawInterfaces() : Collections.emptySet();
+            Optional<JavaClass> raw = getRaw();
+            return raw.isPresent() ? raw.get().getAllRawInterfaces() : Collections.emptySet();
         }
 
         Superclass withRawType(JavaClass newRawType) {
-            return new Superclass(newRawType);
+            return new Superclass(Optional.of(newRawType), genericType);
         }
 
-        Superclass withGenericType(JavaType newGenericType) {
-            return new Superclass(newGenericType);
+        /**
+         * @param newGenericType supplies the generic superclass, if the superclass is parameterized, which might only be computed on first access
+         */
+        Superclass withGenericType(Supplier<Optional<JavaType>> newGenericType) {
+            return new Superclass(rawType, newGenericType);
         }
     }
 
     private static class Interfaces {
-        static final Interfaces EMPTY = new Interfaces(ImmutableSet.of(), ImmutableSet.of());
+        static final Interfaces EMPTY = new Interfaces(ImmutableSet.of(), ImmutableSet::of);
 
         private final ImmutableSet<JavaClass> rawTypes;
-        private final ImmutableSet<JavaType> types;
+        private final Supplier<ImmutableSet<JavaType>> types;
 
-        private Interfaces(ImmutableSet<JavaClass> rawTypes, ImmutableSet<JavaType> types) {
+        private Interfaces(ImmutableSet<JavaClass> rawTypes, Supplier<ImmutableSet<JavaType>> types) {
             this.rawTypes = checkNotNull(rawTypes);
             this.types = checkNotNull(types);
         }
@@ -1570,6 +1611,7 @@ public final class JavaClass
         }
 
         ImmutableSet<JavaType> get() {
+            ImmutableSet<JavaType> types = this.types.get();
             return types.isEmpty() ? getRawTypesAsJavaTypes() : types;
         }
 
@@ -1582,8 +1624,8 @@ public final class JavaClass
             return new Interfaces(ImmutableSet.copyOf(rawTypes), types);
         }
 
-        Interfaces withGenericTypes(List<JavaType> genericTypes) {
-            return new Interfaces(rawTypes, ImmutableSet.copyOf(genericTypes));
+        Interfaces withGenericTypes(Supplier<Optional<List<JavaType>>> genericTypes) {
+            return new Interfaces(rawTypes, Suppliers.memoizeRacy(() -> genericTypes.get().map(ImmutableSet::copyOf).orElse(ImmutableSet.of())));
         }
     }
 
@@ -2148,7 +2190,7 @@ public final class JavaClass
 
         @PublicAPI(usage = ACCESS)
         public static DescribedPredicate<JavaClass> simpleName(String name) {
-            return equalTo(name).onResultOf(GET_SIMPLE_NAME).as("simple name '%s'", name);
+            return new SimpleNamePredicate(name);
         }
 
         @PublicAPI(usage = ACCESS)
@@ -2205,7 +2247,7 @@ public final class JavaClass
          */
         @PublicAPI(usage = ACCESS)
         public static DescribedPredicate<JavaClass> assignableTo(String typeName) {
-            return assignableTo(GET_NAME.is(equalTo(typeName)).as(typeName));
+            return new AssignableToPredicate(GET_NAME.is(equalTo(typeName)).as(typeName), typeName);
         }
 
         /**
@@ -2317,8 +2359,7 @@ public final class JavaClass
         }
 
         private static DescribedPredicate<JavaClass> resideInAnyPackage(String[] packageIdentifiers, String description) {
-            Set<PackageMatcher> packageMatchers = stream(packageIdentifiers).map(PackageMatcher::of).collect(toSet());
-            return new PackageMatchesPredicate(packageMatchers, description);
+            return new PackageMatchesPredicate(PackageMatchers.of(packageIdentifiers), description);
         }
 
         @PublicAPI(usage = ACCESS)
@@ -2487,7 +2528,7 @@ public final class JavaClass
 
         private static final Function<Optional<JavaStaticInitializer>, Set<JavaStaticInitializer>> AS_SET = Optionals::asSet;
 
-        private static class BelongToPredicate extends DescribedPredicate<JavaClass> {
+        private static class BelongToPredicate extends DescribedPredicate<JavaClass> implements DeclaresEvaluationCost {
             private final DescribedPredicate<? super JavaClass> predicate;
 
             BelongToPredicate(DescribedPredicate<? super JavaClass> predicate) {
@@ -2505,9 +2546,43 @@ public final class JavaClass
                 }
                 return matches;
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return evaluationCostOf(predicate);
+            }
+
+            @Override
+            public boolean isEvaluationCostDeclared() {
+                return declaresEvaluationCost(predicate);
+            }
         }
 
-        private static class SimpleNameStartingWithPredicate extends DescribedPredicate<JavaClass> {
+        private static class SimpleNamePredicate extends DescribedPredicate<JavaClass> implements ClassIndexQuery.Provider, DeclaresEvaluationCost {
+            private final String name;
+
+            SimpleNamePredicate(String name) {
+                super("simple name '%s'", name);
+                this.name = name;
+            }
+
+            @Override
+            public boolean test(JavaClass input) {
+                return input.getSimpleName().equals(name);
+            }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.CHEAP;
+            }
+
+            @Override
+            public Optional<ClassIndexQuery> getClassIndexQuery() {
+                return Optional.of(ClassIndexQuery.simpleName(name));
+            }
+        }
+
+        private static class SimpleNameStartingWithPredicate extends DescribedPredicate<JavaClass> implements ClassIndexQuery.Provider, DeclaresEvaluationCost {
             private final String prefix;
 
             SimpleNameStartingWithPredicate(String prefix) {
@@ -2519,9 +2594,19 @@ public final class JavaClass
             public boolean test(JavaClass input) {
                 return input.getSimpleName().startsWith(prefix);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.CHEAP;
+            }
+
+            @Override
+            public Optional<ClassIndexQuery> getClassIndexQuery() {
+                return Optional.of(ClassIndexQuery.simpleNameStartingWith(prefix));
+            }
         }
 
-        private static class SimpleNameContainingPredicate extends DescribedPredicate<JavaClass> {
+        private static class SimpleNameContainingPredicate extends DescribedPredicate<JavaClass> implements DeclaresEvaluationCost {
             private final String infix;
 
             SimpleNameContainingPredicate(String infix) {
@@ -2533,9 +2618,14 @@ public final class JavaClass
             public boolean test(JavaClass input) {
                 return input.getSimpleName().contains(infix);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.CHEAP;
+            }
         }
 
-        private static class SimpleNameEndingWithPredicate extends DescribedPredicate<JavaClass> {
+        private static class SimpleNameEndingWithPredicate extends DescribedPredicate<JavaClass> implements ClassIndexQuery.Provider, DeclaresEvaluationCost {
             private final String suffix;
 
             SimpleNameEndingWithPredicate(String suffix) {
@@ -2547,23 +2637,59 @@ public final class JavaClass
             public boolean test(JavaClass input) {
                 return input.getSimpleName().endsWith(suffix);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.CHEAP;
+            }
+
+            @Override
+            public Optional<ClassIndexQuery> getClassIndexQuery() {
+                return Optional.of(ClassIndexQuery.simpleNameEndingWith(suffix));
+            }
         }
 
-        private static class AssignableToPredicate extends DescribedPredicate<JavaClass> {
+        private static class AssignableToPredicate extends DescribedPredicate<JavaClass> implements ClassIndexQuery.Provider, DeclaresEvaluationCost {
             private final DescribedPredicate<? super JavaClass> predicate;
+            private final Optional<String> typeName;
 
             AssignableToPredicate(DescribedPredicate<? super JavaClass> predicate) {
+                this(predicate, Optional.empty());
+            }
+
+            AssignableToPredicate(DescribedPredicate<? super JavaClass> predicate, String typeName) {
+                this(predicate, Optional.of(typeName));
+            }
+
+            private AssignableToPredicate(DescribedPredicate<? super JavaClass> predicate, Optional<String> typeName) {
                 super("assignable to " + predicate.getDescription());
                 this.predicate = predicate;
+                this.typeName = typeName;
             }
 
             @Override
             public boolean test(JavaClass input) {
                 return input.isAssignableTo(predicate);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.EXPENSIVE;
+            }
+
+            @Override
+            public boolean isEvaluationCostDeclared() {
+                // with a type name the predicate is created by ArchUnit itself
+                return typeName.isPresent() || declaresEvaluationCost(predicate);
+            }
+
+            @Override
+            public Optional<ClassIndexQuery> getClassIndexQuery() {
+                return typeName.map(ClassIndexQuery::assignableTo);
+            }
         }
 
-        private static class AssignableFromPredicate extends DescribedPredicate<JavaClass> {
+        private static class AssignableFromPredicate extends DescribedPredicate<JavaClass> implements DeclaresEvaluationCost {
             private final DescribedPredicate<? super JavaClass> predicate;
 
             AssignableFromPredicate(DescribedPredicate<? super JavaClass> predicate) {
@@ -2575,23 +2701,43 @@ public final class JavaClass
             public boolean test(JavaClass input) {
                 return input.isAssignableFrom(predicate);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.EXPENSIVE;
+            }
+
+            @Override
+            public boolean isEvaluationCostDeclared() {
+                return declaresEvaluationCost(predicate);
+            }
         }
 
-        private static class PackageMatchesPredicate extends DescribedPredicate<JavaClass> {
-            private final Set<PackageMatcher> packageMatchers;
+        private static class PackageMatchesPredicate extends DescribedPredicate<JavaClass> implements ClassIndexQuery.Provider, DeclaresEvaluationCost {
+            private final PackageMatchers packageMatchers;
 
-            PackageMatchesPredicate(Set<PackageMatcher> packageMatchers, String description) {
+            PackageMatchesPredicate(PackageMatchers packageMatchers, String description) {
                 super(description);
                 this.packageMatchers = packageMatchers;
             }
 
             @Override
             public boolean test(JavaClass input) {
-                return packageMatchers.stream().anyMatch(matcher -> matcher.matches(input.getPackageName()));
+                return packageMatchers.test(input.getPackageName());
+            }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.CHEAP;
+            }
+
+            @Override
+            public Optional<ClassIndexQuery> getClassIndexQuery() {
+                return Optional.of(ClassIndexQuery.packageNameMatching(packageMatchers));
             }
         }
 
-        private static class EquivalentToPredicate extends DescribedPredicate<JavaClass> {
+        private static class EquivalentToPredicate extends DescribedPredicate<JavaClass> implements DeclaresEvaluationCost {
             private final Class<?> clazz;
 
             EquivalentToPredicate(Class<?> clazz) {
@@ -2603,9 +2749,14 @@ public final class JavaClass
             public boolean test(JavaClass input) {
                 return input.isEquivalentTo(clazz);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.CHEAP;
+            }
         }
 
-        private static class ContainAnyMembersThatPredicate<T extends JavaMember> extends DescribedPredicate<JavaClass> {
+        private static class ContainAnyMembersThatPredicate<T extends JavaMember> extends DescribedPredicate<JavaClass> implements DeclaresEvaluationCost {
             private final Function<JavaClass, Set<T>> getMembers;
             private final DescribedPredicate<? super T> predicate;
 
@@ -2619,6 +2770,16 @@ public final class JavaClass
             public boolean test(JavaClass input) {
                 return getMembers.apply(input).stream().anyMatch(predicate);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.EXPENSIVE;
+            }
+
+            @Override
+            public boolean isEvaluationCostDeclared() {
+                return declaresEvaluationCost(predicate);
+            }
         }
     }
 
@@ -16,6 +16,7 @@
 package com.tngtech.archunit.core.domain;
 
 import java.util.Collection;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -27,38 +28,62 @@ import com.tngtech.archunit.core.domain.properties.HasAnnotations;
 
 import static com.google.common.base.Predicates.instanceOf;
 import static com.google.common.collect.ImmutableSet.toImmutableSet;
-import static com.tngtech.archunit.base.Suppliers.memoize;
 
 class JavaClassDependencies {
     private final JavaClass javaClass;
-    private final Supplier<Set<Dependency>> directDependenciesFromClass;
+    private final DependencyCache dependencyCache;
+    private final boolean includeGenericTypes;
+    private final DependencyCache.CachedValue<Set<Dependency>> directDependenciesFromClass;
 
     JavaClassDependencies(JavaClass javaClass) {
+        this(javaClass, DependencyCache.retaining(), true);
+    }
+
+    /**
+     * @param includeGenericTypes whether dependencies on types that only occur within generic signatures (e.g. type arguments or bounds)
+     *                            should be included. Evaluating these dependencies forces all generic signatures of the class to be parsed.
+     */
+    JavaClassDependencies(JavaClass javaClass, DependencyCache dependencyCache, boolean includeGenericTypes) {
         this.javaClass = javaClass;
-        this.directDependenciesFromClass = createDirectDependenciesFromClassSupplier();
-    }
-
-    private Supplier<Set<Dependency>> createDirectDependenciesFromClassSupplier() {
-        return memoize(() ->
-                Streams.concat(
-                        dependenciesFromAccesses(javaClass.getAccessesFromSelf()),
-                        inheritanceDependenciesFromSelf(),
-                        fieldDependenciesFromSelf(),
-                        returnTypeDependenciesFromSelf(),
-                        codeUnitParameterDependenciesFromSelf(),
-                        throwsDeclarationDependenciesFromSelf(),
-                        annotationDependenciesFromSelf(),
-                        instanceofCheckDependenciesFromSelf(),
-                        referencedClassObjectDependenciesFromSelf(),
-                        typeParameterDependenciesFromSelf()
-                ).collect(toImmutableSet())
+        this.dependencyCache = dependencyCache;
+        this.includeGenericTypes = includeGenericTypes;
+        this.directDependenciesFromClass = dependencyCache.cache(() -> computeDirectDependenciesFromClass().collect(toImmutableSet()));
+    }
+
+    private Stream<Dependency> computeDirectDependenciesFromClass() {
+        return Streams.concat(
+                dependenciesFromAccesses(javaClass.getAccessesFromSelf()),
+                inheritanceDependenciesFromSelf(),
+                fieldDependenciesFromSelf(),
+                returnTypeDependenciesFromSelf(),
+                codeUnitParameterDependenciesFromSelf(),
+                throwsDeclarationDependenciesFromSelf(),
+                annotationDependenciesFromSelf(),
+                instanceofCheckDependenciesFromSelf(),
+                referencedClassObjectDependenciesFromSelf(),
+                typeParameterDependenciesFromSelf()
         );
     }
 
+    private Stream<Dependency> ifGenericTypesIncluded(Supplier<Stream<Dependency>> genericTypeDependencies) {
+        return includeGenericTypes ? genericTypeDependencies.get() : Stream.empty();
+    }
+
+    DependencyCache getDependencyCache() {
+        return dependencyCache;
+    }
+
     Set<Dependency> getDirectDependenciesFromClass() {
         return directDependenciesFromClass.get();
     }
 
+    Stream<Dependency> streamDirectDependenciesFromClass() {
+        Optional<Set<Dependency>> cachedDependencies = directDependenciesFromClass.getIfCached();
+        return cachedDependencies.isPresent()
+                ? cachedDependencies.get().stream()
+                : computeDirectDependenciesFromClass().distinct();
+    }
+
     private Stream<Dependency> dependenciesFromAccesses(Set<JavaAccess<?>> accesses) {
         return accesses.stream().flatMap(access -> Dependency.tryCreateFromAccess(access).stream());
     }
@@ -69,10 +94,10 @@ class JavaClassDependencies {
                 javaClass.getRawSuperclass().map(Stream::of).orElse(Stream.empty())
         ).map(supertype -> Dependency.fromInheritance(javaClass, supertype));
 
-        Stream<Dependency> genericInheritanceDependencies = Stream.concat(
+        Stream<Dependency> genericInheritanceDependencies = ifGenericTypesIncluded(() -> Stream.concat(
                 genericSuperclassTypeArgumentDependencies(),
                 genericInterfaceTypeArgumentDependencies()
-        );
+        ));
 
         return Stream.concat(rawInheritanceDependencies, genericInheritanceDependencies);
     }
@@ -106,7 +131,7 @@ class JavaClassDependencies {
         return javaClass.getFields().stream()
                 .flatMap(field -> Stream.concat(
                         Dependency.tryCreateFromField(field).stream(),
-                        genericFieldTypeArgumentDependencies(field)
+                        ifGenericTypesIncluded(() -> genericFieldTypeArgumentDependencies(field))
                 ));
     }
 
@@ -125,7 +150,7 @@ class JavaClassDependencies {
         return javaClass.getMethods().stream()
                 .flatMap(method -> Stream.concat(
                         Dependency.tryCreateFromReturnType(method).stream(),
-                        genericReturnTypeArgumentDependencies(method)
+                        ifGenericTypesIncluded(() -> genericReturnTypeArgumentDependencies(method))
                 ));
     }
 
@@ -144,7 +169,7 @@ class JavaClassDependencies {
         return javaClass.getCodeUnits().stream()
                 .flatMap(codeUnit -> Stream.concat(
                         rawParameterTypeDependencies(codeUnit),
-                        genericParameterTypeArgumentDependencies(codeUnit)
+                        ifGenericTypesIncluded(() -> genericParameterTypeArgumentDependencies(codeUnit))
                 ));
     }
 
@@ -188,10 +213,10 @@ class JavaClassDependencies {
     }
 
     private Stream<Dependency> typeParameterDependenciesFromSelf() {
-        return Stream.concat(
+        return ifGenericTypesIncluded(() -> Stream.concat(
                 classTypeParameterDependenciesFromSelf(),
                 codeUnitTypeParameterDependenciesFromSelf()
-        );
+        ));
     }
 
     private Stream<Dependency> classTypeParameterDependenciesFromSelf() {
@@ -239,7 +264,9 @@ class JavaClassDependencies {
     }
 
     private Stream<Dependency> parameterAnnotationDependencies(Set<? extends JavaCodeUnit> codeUnits) {
-        return codeUnits.stream().flatMap(codeUnit -> annotationDependencies(codeUnit.getParameters()));
+        return codeUnits.stream()
+                .filter(JavaCodeUnit::hasParameterAnnotations)
+                .flatMap(codeUnit -> annotationDependencies(codeUnit.getParameters()));
     }
 
     private <T extends HasDescription & HasAnnotations<?>> Stream<Dependency> annotationDependencies(Collection<T> annotatedObjects) {
@@ -15,15 +15,13 @@
  */
 package com.tngtech.archunit.core.domain;
 
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.google.common.base.CharMatcher;
 import com.google.common.base.Strings;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableBiMap;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
@@ -64,33 +62,51 @@ public interface JavaClassDescriptor {
 
     @Internal
     final class From {
-        private static final LoadingCache<String, JavaClassDescriptor> descriptorCache =
-                CacheBuilder.newBuilder().build(new CacheLoader<String, JavaClassDescriptor>() {
-                    @Override
-                    public JavaClassDescriptor load(String typeName) {
-                        if (primitiveClassesByNameOrDescriptor.containsKey(typeName)) {
-                            return new PrimitiveClassDescriptor(Type.getType(primitiveClassesByNameOrDescriptor.get(typeName)).getClassName());
-                        }
-                        if (isArray(typeName)) {
-                            // NOTE: ASM uses the canonical name for arrays (i.e. java.lang.Object[]), but we want the class name,
-                            //       i.e. [Ljava.lang.Object;
-                            return new ArrayClassDescriptor(ensureCorrectArrayTypeName(typeName));
-                        }
-                        return new ObjectClassDescriptor(typeName);
-                    }
-                });
+        // maps every spelling of a type name (e.g. 'int' and 'I' or 'java.lang.Object[]' and '[Ljava.lang.Object;')
+        // to the same canonical descriptor, so equal descriptors can mostly be compared by identity
+        private static final ConcurrentMap<String, JavaClassDescriptor> descriptorCache = new ConcurrentHashMap<>();
         private static final ImmutableMap<String, Class<?>> primitiveClassesByName =
                 Maps.uniqueIndex(allPrimitiveTypes(), Class::getName);
         private static final ImmutableBiMap<String, Class<?>> primitiveClassesByDescriptor =
                 ImmutableBiMap.copyOf(Maps.uniqueIndex(allPrimitiveTypes(), input -> Type.getType(input).getDescriptor()));
-        private static final Map<String, Class<?>> primitiveClassesByNameOrDescriptor =
-                ImmutableMap.<String, Class<?>>builder()
-                        .putAll(primitiveClassesByName)
-                        .putAll(primitiveClassesByDescriptor)
-                        .build();
 
         public static JavaClassDescriptor name(String typeName) {
-            return descriptorCache.getUnchecked(typeName);
+            JavaClassDescriptor cached = descriptorCache.get(typeName);
+            return cached != null ? cached : createAndCache(typeName);
+        }
+
+        private static JavaClassDescriptor createAndCache(String typeName) {
+            String className = toClassName(typeName);
+            JavaClassDescriptor descriptor = descriptorCache.get(className);
+            if (descriptor == null) {
+                // NOTE: we can't use computeIfAbsent(..), because creating an array descriptor recursively creates the component type descriptor
+                JavaClassDescriptor created = create(className);
+                JavaClassDescriptor existing = descriptorCache.putIfAbsent(className, created);
+                descriptor = existing != null ? existing : created;
+            }
+            if (!className.equals(typeName)) {
+                descriptorCache.putIfAbsent(typeName, descriptor);
+            }
+            return descriptor;
+        }
+
+        private static String toClassName(String typeName) {
+            if (primitiveClassesByDescriptor.containsKey(typeName)) {
+                return primitiveClassesByDescriptor.get(typeName).getName();
+            }
+            // NOTE: ASM uses the canonical name for arrays (i.e. java.lang.Object[]), but we want the class name,
+            //       i.e. [Ljava.lang.Object;
+            return isArray(typeName) ? ensureCorrectArrayTypeName(typeName) : typeName;
+        }
+
+        private static JavaClassDescriptor create(String className) {
+            if (primitiveClassesByName.containsKey(className)) {
+                return new PrimitiveClassDescriptor(className);
+            }
+            if (isArray(className)) {
+                return new ArrayClassDescriptor(className);
+            }
+            return new ObjectClassDescriptor(className);
         }
 
         private static boolean isArray(String typeName) {
@@ -298,7 +314,7 @@ public interface JavaClassDescriptor {
 
             @Override
             public JavaClassDescriptor toArrayDescriptor() {
-                return new ArrayClassDescriptor("[" + getFullyQualifiedClassName());
+                return From.name("[" + getFullyQualifiedClassName());
             }
         }
 
@@ -49,7 +49,7 @@ class JavaClassMembers {
     private final Supplier<Set<JavaMethod>> allMethods;
     private final Supplier<Set<JavaConstructor>> allConstructors;
     private final Supplier<Set<JavaField>> allFields;
-    private final Supplier<Set<JavaMember>> allMembers = Suppliers.memoize(() -> ImmutableSet.<JavaMember>builder()
+    private final Supplier<Set<JavaMember>> allMembers = Suppliers.memoizeRacy(() -> ImmutableSet.<JavaMember>builder()
             .addAll(getAllFields())
             .addAll(getAllMethods())
             .addAll(getAllConstructors())
@@ -69,21 +69,21 @@ class JavaClassMembers {
                 .addAll(methods)
                 .addAll(constructors)
                 .build();
-        allFields = Suppliers.memoize(() -> {
+        allFields = Suppliers.memoizeRacy(() -> {
             ImmutableSet.Builder<JavaField> result = ImmutableSet.builder();
             for (JavaClass javaClass : concat(owner.getClassHierarchy(), owner.getAllRawInterfaces())) {
                 result.addAll(javaClass.getFields());
             }
             return result.build();
         });
-        allMethods = Suppliers.memoize(() -> {
+        allMethods = Suppliers.memoizeRacy(() -> {
             ImmutableSet.Builder<JavaMethod> result = ImmutableSet.builder();
             for (JavaClass javaClass : concat(owner.getClassHierarchy(), owner.getAllRawInterfaces())) {
                 result.addAll(javaClass.getMethods());
             }
             return result.build();
         });
-        allConstructors = Suppliers.memoize(() -> {
+        allConstructors = Suppliers.memoizeRacy(() -> {
             ImmutableSet.Builder<JavaConstructor> result = ImmutableSet.builder();
             for (JavaClass javaClass : owner.getClassHierarchy()) {
                 result.addAll(javaClass.getConstructors());
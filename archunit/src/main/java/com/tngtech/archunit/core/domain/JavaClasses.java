@@ -15,10 +15,24 @@
  */
 package com.tngtech.archunit.core.domain;
 
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
@@ -26,26 +40,58 @@ import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.DescribedIterable;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.base.ForwardingCollection;
+import com.tngtech.archunit.base.MayResolveTypesViaReflection;
+import com.tngtech.archunit.base.PredicateIndex;
+import com.tngtech.archunit.base.ResolvesTypesViaReflection;
+import com.tngtech.archunit.base.Suppliers;
 import com.tngtech.archunit.core.domain.properties.CanOverrideDescription;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
-import static java.util.stream.Collectors.toMap;
+import static com.tngtech.archunit.core.domain.DerivedData.CLASS_HIERARCHIES;
+import static com.tngtech.archunit.core.domain.DerivedData.DEPENDENCIES;
+import static com.tngtech.archunit.core.domain.DerivedData.PACKAGE_DEPENDENCIES;
+import static com.tngtech.archunit.core.domain.DerivedData.REVERSE_DEPENDENCIES;
+import static java.util.stream.Collectors.toList;
 
+/**
+ * A collection of imported {@link JavaClass JavaClasses}.
+ * <br><br>
+ * <b>Thread safety:</b> Once the import has finished, {@link JavaClasses} and all domain objects reachable from it
+ * (e.g. {@link JavaClass}, {@link JavaPackage}, {@link JavaMember}, {@link JavaAccess} or {@link Dependency})
+ * are effectively immutable and can be shared and queried concurrently by multiple threads without external synchronization.
+ * Derived data that is computed lazily on first access (like the class hierarchy, dependencies or reverse dependencies)
+ * is safely published, and once computed it is read without any locking.
+ * <br><br>
+ * <b>Views:</b> All {@link JavaClasses} derived from each other (e.g. via {@link #that(DescribedPredicate)},
+ * {@link #and(JavaClasses)} or {@link #or(JavaClasses)}) share one immutable index of the originally imported classes
+ * and only mark the classes they contain within a bit set over this index. Thus, carving many subsets out
+ * of the same imported classes does not copy any classes, but only costs one bit per originally imported class.
+ * Predicates passed to {@link #that(DescribedPredicate)} that select classes by package, simple name, annotation
+ * or supertype (e.g. {@link JavaClass.Predicates#resideInAPackage(String)}) are answered from lazily built indexes
+ * of this shared index, so only the classes matching these predicates have to be tested against the full predicate.
+ */
 @PublicAPI(usage = ACCESS)
 public final class JavaClasses extends ForwardingCollection<JavaClass> implements DescribedIterable<JavaClass>, CanOverrideDescription<JavaClasses> {
-    private final ImmutableMap<String, JavaClass> classes;
+    private final ClassIndex index;
+    private final BitSet members;
+    private final int size;
     private final JavaPackage defaultPackage;
+    private final DependencyCache dependencyCache;
     private final String description;
+    private final Collection<JavaClass> classes = new Members();
 
-    private JavaClasses(JavaPackage defaultPackage, Map<String, JavaClass> classes) {
-        this(defaultPackage, classes, "classes");
+    private JavaClasses(JavaPackage defaultPackage, DependencyCache dependencyCache, ClassIndex index) {
+        this(defaultPackage, dependencyCache, index, index.all(), "classes");
     }
 
-    private JavaClasses(JavaPackage defaultPackage, Map<String, JavaClass> classes, String description) {
-        this.classes = ImmutableMap.copyOf(classes);
+    private JavaClasses(JavaPackage defaultPackage, DependencyCache dependencyCache, ClassIndex index, BitSet members, String description) {
+        this.index = index;
+        this.members = members;
+        this.size = members.cardinality();
         this.defaultPackage = checkNotNull(defaultPackage);
+        this.dependencyCache = checkNotNull(dependencyCache);
         this.description = checkNotNull(description);
     }
 
@@ -55,16 +101,81 @@ public final class JavaClasses extends ForwardingCollection<JavaClass> implement
      */
     @PublicAPI(usage = ACCESS)
     public JavaClasses that(DescribedPredicate<? super JavaClass> predicate) {
-        Map<String, JavaClass> matchingElements = classes.entrySet().stream()
-                .filter(e -> predicate.test(e.getValue()))
-                .collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
+        BitSet candidates = selectCandidates(predicate);
+        BitSet matchingElements = new BitSet(index.size());
+        for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+            if (predicate.test(index.get(id))) {
+                matchingElements.set(id);
+            }
+        }
         String newDescription = String.format("%s that %s", description, predicate.getDescription());
-        return new JavaClasses(defaultPackage, matchingElements, newDescription);
+        return withMembers(matchingElements, newDescription);
+    }
+
+    /**
+     * Narrows down the classes to test by those parts of the predicate that can be answered by the {@link ClassIndex}
+     * (e.g. the package or annotations of classes). The predicate still has to be tested for all candidates,
+     * but this only scales with the number of candidates instead of the number of all classes.
+     */
+    private BitSet selectCandidates(DescribedPredicate<? super JavaClass> predicate) {
+        Optional<BitSet> indexedCandidates = index.select(predicate);
+        if (!indexedCandidates.isPresent()) {
+            return members;
+        }
+        BitSet candidates = (BitSet) indexedCandidates.get().clone();
+        candidates.and(members);
+        return candidates;
+    }
+
+    /**
+     * @param other some other {@link JavaClasses}
+     * @return {@link JavaClasses} containing all classes contained in both these and the other {@link JavaClasses};
+     *         the description will be joined by 'and'
+     */
+    @PublicAPI(usage = ACCESS)
+    public JavaClasses and(JavaClasses other) {
+        BitSet matchingElements = (BitSet) members.clone();
+        matchingElements.and(other.membersWithin(index));
+        return withMembers(matchingElements, String.format("%s and %s", description, other.description));
+    }
+
+    /**
+     * @param other some other {@link JavaClasses}
+     * @return {@link JavaClasses} containing all classes contained in either these or the other {@link JavaClasses};
+     *         the description will be joined by 'or'
+     */
+    @PublicAPI(usage = ACCESS)
+    public JavaClasses or(JavaClasses other) {
+        String newDescription = String.format("%s or %s", description, other.description);
+        if (other.index != index) {
+            return new JavaClasses(defaultPackage, dependencyCache, ClassIndex.of(Iterables.concat(this, other))).as(newDescription);
+        }
+        BitSet matchingElements = (BitSet) members.clone();
+        matchingElements.or(other.members);
+        return withMembers(matchingElements, newDescription);
+    }
+
+    private BitSet membersWithin(ClassIndex otherIndex) {
+        if (otherIndex == index) {
+            return members;
+        }
+        BitSet result = new BitSet(otherIndex.size());
+        for (JavaClass javaClass : this) {
+            int id = otherIndex.idOf(javaClass.getName());
+            if (id >= 0 && otherIndex.get(id).equals(javaClass)) {
+                result.set(id);
+            }
+        }
+        return result;
+    }
+
+    private JavaClasses withMembers(BitSet members, String description) {
+        return new JavaClasses(defaultPackage, dependencyCache, index, members, description);
     }
 
     @Override
     public JavaClasses as(String description) {
-        return new JavaClasses(defaultPackage, classes, description);
+        return withMembers(members, description);
     }
 
     @Override
@@ -107,7 +218,8 @@ public final class JavaClasses extends ForwardingCollection<JavaClass> implement
      */
     @PublicAPI(usage = ACCESS)
     public boolean contain(String typeName) {
-        return classes.containsKey(typeName);
+        int id = index.idOf(typeName);
+        return id >= 0 && members.get(id);
     }
 
     /**
@@ -121,7 +233,7 @@ public final class JavaClasses extends ForwardingCollection<JavaClass> implement
         checkArgument(contain(typeName), "%s do not contain %s of type %s",
                 getClass().getSimpleName(), JavaClass.class.getSimpleName(), typeName);
 
-        return classes.get(typeName);
+        return index.get(index.idOf(typeName));
     }
 
     /**
@@ -151,9 +263,104 @@ public final class JavaClasses extends ForwardingCollection<JavaClass> implement
         return defaultPackage;
     }
 
+    /**
+     * @return the {@link DependencyCachePolicy} used for all classes that have been imported together with these classes.
+     *         The policy is determined at import time by the property {@code domain.dependencyCachePolicy} within {@code archunit.properties}
+     *         and never changes afterwards.
+     */
+    @PublicAPI(usage = ACCESS)
+    public DependencyCachePolicy getDependencyCachePolicy() {
+        return dependencyCache.getPolicy();
+    }
+
+    /**
+     * Eagerly computes the given {@link DerivedData} for these classes, which would otherwise be computed lazily on first access.
+     * The classes are processed in parallel on the {@link java.util.concurrent.ForkJoinPool#commonPool() common fork-join pool},
+     * so subsequent queries (e.g. by rules) will find the derived data already computed.
+     * Note that the derived data is cached according to the {@link #getDependencyCachePolicy() dependency cache policy},
+     * i.e. precomputing dependencies has no lasting effect if the policy is {@link DependencyCachePolicy#RECOMPUTE}.
+     *
+     * @param derivedData the {@link DerivedData} to compute
+     * @return these {@link JavaClasses}, to allow chaining
+     */
+    @PublicAPI(usage = ACCESS)
+    public JavaClasses precompute(DerivedData... derivedData) {
+        Set<DerivedData> toPrecompute = derivedData.length > 0 ? EnumSet.of(derivedData[0], derivedData) : EnumSet.noneOf(DerivedData.class);
+        if (toPrecompute.contains(CLASS_HIERARCHIES)) {
+            forEachInParallel(JavaClasses::precomputeClassHierarchy);
+        }
+        if (toPrecompute.contains(DEPENDENCIES) || toPrecompute.contains(REVERSE_DEPENDENCIES) || toPrecompute.contains(PACKAGE_DEPENDENCIES)) {
+            forEachInParallel(JavaClass::getDirectDependenciesFromSelf);
+        }
+        if (toPrecompute.contains(REVERSE_DEPENDENCIES)) {
+            // resolving the targets of all accesses is the expensive part of grouping the accesses by their target members
+            forEachInParallel(JavaClasses::resolveAccessTargets);
+            forEachInParallel(JavaClasses::precomputeReverseDependencies);
+        }
+        if (toPrecompute.contains(PACKAGE_DEPENDENCIES)) {
+            defaultPackage.precomputePackageDependencies();
+        }
+        return this;
+    }
+
+    /**
+     * Loads the {@link Class} of each of these classes (compare {@link JavaClass#reflect()}) via the given {@link ClassLoader}.
+     * The classes are loaded in parallel on the {@link java.util.concurrent.ForkJoinPool#commonPool() common fork-join pool}
+     * and are not initialized, i.e. no static initializers will run.
+     * <br><br>
+     * The outcome only depends on the given {@link ClassLoader}. It is neither cached within the {@link JavaClass JavaClasses}
+     * nor does it affect {@link JavaClass#reflect()}, which always loads classes via the current context {@link ClassLoader}.
+     *
+     * @param classLoader the {@link ClassLoader} to load the classes with
+     * @return the loaded {@link Class} by {@link JavaClass}, for all those of these classes that could be loaded
+     */
+    @PublicAPI(usage = ACCESS)
+    @ResolvesTypesViaReflection
+    @MayResolveTypesViaReflection(reason = "This is not part of the import and a specific decision to rely on the classpath")
+    public Map<JavaClass, Class<?>> reflect(ClassLoader classLoader) {
+        checkNotNull(classLoader);
+        List<JavaClass> toReflect = new ArrayList<>(classes);
+        List<Optional<Class<?>>> reflected = toReflect.parallelStream()
+                .map(javaClass -> javaClass.tryReflect(classLoader))
+                .collect(toList());
+
+        ImmutableMap.Builder<JavaClass, Class<?>> result = ImmutableMap.builderWithExpectedSize(size);
+        for (int i = 0; i < toReflect.size(); i++) {
+            JavaClass javaClass = toReflect.get(i);
+            reflected.get(i).ifPresent(reflectedClass -> result.put(javaClass, reflectedClass));
+        }
+        return result.build();
+    }
+
+    private void forEachInParallel(Consumer<JavaClass> action) {
+        new ArrayList<>(classes).parallelStream().forEach(action);
+    }
+
+    private static void precomputeClassHierarchy(JavaClass javaClass) {
+        javaClass.getClassHierarchy();
+        javaClass.getAllRawInterfaces();
+        javaClass.getAllSubclasses();
+        javaClass.getAllMembers();
+    }
+
+    private static void resolveAccessTargets(JavaClass javaClass) {
+        for (JavaAccess<?> access : javaClass.getAccessesFromSelf()) {
+            access.getTarget().resolveMember();
+        }
+    }
+
+    private static void precomputeReverseDependencies(JavaClass javaClass) {
+        javaClass.getDirectDependenciesToSelf();
+        javaClass.getAccessesToSelf();
+    }
+
     @Override
     public int hashCode() {
-        return Objects.hash(classes.keySet(), description);
+        int hashOfNames = 0;
+        for (JavaClass javaClass : this) {
+            hashOfNames += javaClass.getName().hashCode();
+        }
+        return Objects.hash(hashOfNames, description);
     }
 
     @Override
@@ -165,24 +372,38 @@ public final class JavaClasses extends ForwardingCollection<JavaClass> implement
             return false;
         }
         JavaClasses other = (JavaClasses) obj;
-        return Objects.equals(this.classes.keySet(), other.classes.keySet())
-                && Objects.equals(this.description, other.description);
+        return Objects.equals(this.description, other.description)
+                && haveSameNames(other);
+    }
+
+    private boolean haveSameNames(JavaClasses other) {
+        if (this.index == other.index) {
+            return this.members.equals(other.members);
+        }
+        if (this.size != other.size) {
+            return false;
+        }
+        for (JavaClass javaClass : other) {
+            if (!contain(javaClass.getName())) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     protected Collection<JavaClass> delegate() {
-        return classes.values();
+        return classes;
     }
 
     static JavaClasses of(Iterable<JavaClass> classes) {
-        Map<String, JavaClass> mapping = new HashMap<>();
-        for (JavaClass clazz : classes) {
-            mapping.put(clazz.getName(), clazz);
-        }
         JavaPackage defaultPackage = !Iterables.isEmpty(classes)
                 ? getRoot(classes.iterator().next().getPackage())
                 : JavaPackage.from(classes);
-        return new JavaClasses(defaultPackage, mapping);
+        DependencyCache dependencyCache = !Iterables.isEmpty(classes)
+                ? classes.iterator().next().getDependencyCache()
+                : DependencyCache.retaining();
+        return new JavaClasses(defaultPackage, dependencyCache, ClassIndex.of(classes));
     }
 
     private static JavaPackage getRoot(JavaPackage javaPackage) {
@@ -196,15 +417,17 @@ public final class JavaClasses extends ForwardingCollection<JavaClass> implement
     static JavaClasses of(
             Map<String, JavaClass> selectedClasses, Collection<JavaClass> allClasses, ImportContext importContext) {
 
-        ReverseDependencies.Creation reverseDependenciesCreation = new ReverseDependencies.Creation();
+        DependencyCache dependencyCache = DependencyCache.fromConfiguration();
+        ReverseDependencies.Creation reverseDependenciesCreation = new ReverseDependencies.Creation(dependencyCache);
         JavaPackage defaultPackage = JavaPackage.from(allClasses);
         for (JavaClass clazz : allClasses) {
             setPackage(clazz, defaultPackage);
-            JavaClassDependencies classDependencies = clazz.completeFrom(importContext);
+            JavaClassDependencies classDependencies = clazz.completeFrom(importContext, dependencyCache);
             reverseDependenciesCreation.registerDependenciesOf(clazz, classDependencies);
         }
         reverseDependenciesCreation.finish(allClasses);
-        return new JavaClasses(defaultPackage, selectedClasses);
+        PackageDependencies.createFor(defaultPackage, dependencyCache);
+        return new JavaClasses(defaultPackage, dependencyCache, ClassIndex.of(selectedClasses.values()));
     }
 
     private static void setPackage(JavaClass clazz, JavaPackage defaultPackage) {
@@ -213,4 +436,150 @@ public final class JavaClasses extends ForwardingCollection<JavaClass> implement
                 : defaultPackage.getPackage(clazz.getPackageName());
         clazz.setPackage(javaPackage);
     }
+
+    private class Members extends AbstractCollection<JavaClass> {
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof JavaClass)) {
+                return false;
+            }
+            int id = index.idOf(((JavaClass) o).getName());
+            return id >= 0 && members.get(id) && index.get(id).equals(o);
+        }
+
+        @Override
+        public Iterator<JavaClass> iterator() {
+            return new Iterator<JavaClass>() {
+                private int next = members.nextSetBit(0);
+
+                @Override
+                public boolean hasNext() {
+                    return next >= 0;
+                }
+
+                @Override
+                public JavaClass next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    JavaClass result = index.get(next);
+                    next = members.nextSetBit(next + 1);
+                    return result;
+                }
+            };
+        }
+    }
+
+    /**
+     * Assigns dense ids to a fixed set of classes, so that subsets of these classes can be represented as bit sets.
+     */
+    private static class ClassIndex extends PredicateIndex<JavaClass, BitSet> {
+        private final JavaClass[] classes;
+        private final Map<String, Integer> idsByName;
+        private final Map<ClassIndexQuery.Key, Supplier<NavigableMap<String, BitSet>>> idsByKeyValue = new EnumMap<>(ClassIndexQuery.Key.class);
+
+        private ClassIndex(JavaClass[] classes, Map<String, Integer> idsByName) {
+            this.classes = classes;
+            this.idsByName = idsByName;
+            for (ClassIndexQuery.Key key : ClassIndexQuery.Key.values()) {
+                idsByKeyValue.put(key, Suppliers.memoize(() -> createIdsByValue(key)));
+            }
+        }
+
+        private NavigableMap<String, BitSet> createIdsByValue(ClassIndexQuery.Key key) {
+            NavigableMap<String, BitSet> result = new TreeMap<>();
+            for (int id = 0; id < classes.length; id++) {
+                int currentId = id;
+                key.forEachValueOf(classes[id], value -> result.computeIfAbsent(value, __ -> new BitSet(classes.length)).set(currentId));
+            }
+            return result;
+        }
+
+        @Override
+        protected Optional<BitSet> candidatesOf(DescribedPredicate<JavaClass> predicate) {
+            return predicate instanceof ClassIndexQuery.Provider
+                    ? ((ClassIndexQuery.Provider) predicate).getClassIndexQuery().map(this::answer)
+                    : Optional.empty();
+        }
+
+        private BitSet answer(ClassIndexQuery query) {
+            NavigableMap<String, BitSet> idsByValue = idsByKeyValue.get(query.getKey()).get();
+            if (query.getExactValue().isPresent()) {
+                BitSet ids = idsByValue.get(query.getExactValue().get());
+                return ids != null ? ids : new BitSet();
+            }
+            BitSet result = new BitSet(classes.length);
+            if (query.getValuePrefix().isPresent()) {
+                for (Map.Entry<String, BitSet> entry : idsByValue.tailMap(query.getValuePrefix().get(), true).entrySet()) {
+                    if (!query.matches(entry.getKey())) {
+                        break;
+                    }
+                    result.or(entry.getValue());
+                }
+                return result;
+            }
+            idsByValue.forEach((value, ids) -> {
+                if (query.matches(value)) {
+                    result.or(ids);
+                }
+            });
+            return result;
+        }
+
+        @Override
+        protected BitSet intersection(BitSet first, BitSet second) {
+            BitSet result = (BitSet) first.clone();
+            result.and(second);
+            return result;
+        }
+
+        @Override
+        protected BitSet union(BitSet first, BitSet second) {
+            BitSet result = (BitSet) first.clone();
+            result.or(second);
+            return result;
+        }
+
+        int size() {
+            return classes.length;
+        }
+
+        JavaClass get(int id) {
+            return classes[id];
+        }
+
+        /**
+         * @return the id of the class with the given name or {@code -1} if there is no such class
+         */
+        int idOf(String className) {
+            Integer id = idsByName.get(className);
+            return id != null ? id : -1;
+        }
+
+        BitSet all() {
+            BitSet result = new BitSet(classes.length);
+            result.set(0, classes.length);
+            return result;
+        }
+
+        static ClassIndex of(Iterable<JavaClass> classes) {
+            List<JavaClass> classesById = new ArrayList<>();
+            Map<String, Integer> idsByName = new HashMap<>();
+            for (JavaClass javaClass : classes) {
+                Integer id = idsByName.get(javaClass.getName());
+                if (id != null) {
+                    classesById.set(id, javaClass);
+                } else {
+                    idsByName.put(javaClass.getName(), classesById.size());
+                    classesById.add(javaClass);
+                }
+            }
+            return new ClassIndex(classesById.toArray(new JavaClass[0]), idsByName);
+        }
+    }
 }
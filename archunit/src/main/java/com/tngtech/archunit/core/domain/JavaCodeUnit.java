@@ -20,6 +20,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
@@ -62,7 +63,7 @@ public abstract class JavaCodeUnit
     private final ReturnType returnType;
     private final Parameters parameters;
     private final String fullName;
-    private final List<JavaTypeVariable<JavaCodeUnit>> typeParameters;
+    private final Supplier<List<JavaTypeVariable<JavaCodeUnit>>> typeParameters;
 
     private Set<JavaFieldAccess> fieldAccesses = Collections.emptySet();
     private Set<JavaMethodCall> methodCalls = Collections.emptySet();
@@ -75,7 +76,7 @@ public abstract class JavaCodeUnit
 
     JavaCodeUnit(JavaCodeUnitBuilder<?, ?> builder) {
         super(builder);
-        typeParameters = builder.getTypeParameters(this);
+        typeParameters = builder.createFromGenericSignature(() -> builder.getTypeParameters(this));
         returnType = new ReturnType(this, builder);
         parameters = new Parameters(this, builder);
         fullName = formatMethod(getOwner().getName(), getName(), namesOf(getRawParameterTypes()));
@@ -261,7 +262,7 @@ public abstract class JavaCodeUnit
 
     @PublicAPI(usage = ACCESS)
     public List<? extends JavaTypeVariable<? extends JavaCodeUnit>> getTypeParameters() {
-        return typeParameters;
+        return typeParameters.get();
     }
 
     @PublicAPI(usage = ACCESS)
@@ -289,17 +290,52 @@ public abstract class JavaCodeUnit
         return parameters.stream().map(JavaClass::reflect).toArray(Class<?>[]::new);
     }
 
+    boolean hasParameterAnnotations() {
+        return parameters.hasAnnotations();
+    }
+
     private static class Parameters extends ForwardingList<JavaParameter> {
         private final List<JavaClass> rawParameterTypes;
-        private final List<JavaType> parameterTypes;
-        private final List<Set<JavaAnnotation<JavaParameter>>> parameterAnnotations;
-        private final List<JavaParameter> parameters;
+        private final boolean hasAnnotations;
+        private final Supplier<GenericParameters> genericParameters;
 
         Parameters(JavaCodeUnit owner, JavaCodeUnitBuilder<?, ?> builder) {
             rawParameterTypes = builder.getRawParameterTypes();
-            parameterTypes = getParameterTypes(builder.getGenericParameterTypes(owner));
-            parameters = createParameters(owner, builder, parameterTypes);
-            parameterAnnotations = annotationsOf(parameters);
+            hasAnnotations = builder.hasParameterAnnotations();
+            genericParameters = builder.createFromGenericSignature(() -> new GenericParameters(owner, builder));
+        }
+
+        boolean hasAnnotations() {
+            return hasAnnotations;
+        }
+
+        List<JavaClass> getRawParameterTypes() {
+            return rawParameterTypes;
+        }
+
+        List<JavaType> getParameterTypes() {
+            return genericParameters.get().parameterTypes;
+        }
+
+        List<Set<JavaAnnotation<JavaParameter>>> getAnnotations() {
+            return genericParameters.get().parameterAnnotations;
+        }
+
+        @Override
+        protected List<JavaParameter> delegate() {
+            return genericParameters.get().parameters;
+        }
+
+        private class GenericParameters {
+            private final List<JavaType> parameterTypes;
+            private final List<JavaParameter> parameters;
+            private final List<Set<JavaAnnotation<JavaParameter>>> parameterAnnotations;
+
+            GenericParameters(JavaCodeUnit owner, JavaCodeUnitBuilder<?, ?> builder) {
+                parameterTypes = getParameterTypes(builder.getGenericParameterTypes(owner));
+                parameters = createParameters(owner, builder, parameterTypes);
+                parameterAnnotations = annotationsOf(parameters);
+            }
         }
 
         private List<Set<JavaAnnotation<JavaParameter>>> annotationsOf(List<JavaParameter> parameters) {
@@ -322,32 +358,15 @@ public abstract class JavaCodeUnit
         private List<JavaType> getParameterTypes(List<JavaType> genericParameterTypes) {
             return genericParameterTypes.isEmpty() ? (List) rawParameterTypes : genericParameterTypes;
         }
-
-        List<JavaClass> getRawParameterTypes() {
-            return rawParameterTypes;
-        }
-
-        List<JavaType> getParameterTypes() {
-            return parameterTypes;
-        }
-
-        List<Set<JavaAnnotation<JavaParameter>>> getAnnotations() {
-            return parameterAnnotations;
-        }
-
-        @Override
-        protected List<JavaParameter> delegate() {
-            return parameters;
-        }
     }
 
     private static class ReturnType {
         private final JavaClass rawReturnType;
-        private final JavaType returnType;
+        private final Supplier<JavaType> returnType;
 
         ReturnType(JavaCodeUnit owner, JavaCodeUnitBuilder<?, ?> builder) {
             rawReturnType = builder.getRawReturnType();
-            returnType = builder.getGenericReturnType(owner);
+            returnType = builder.createFromGenericSignature(() -> builder.getGenericReturnType(owner));
         }
 
         JavaClass getRaw() {
@@ -355,7 +374,7 @@ public abstract class JavaCodeUnit
         }
 
         JavaType get() {
-            return returnType;
+            return returnType.get();
         }
     }
 
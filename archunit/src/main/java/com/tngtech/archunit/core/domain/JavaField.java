@@ -32,12 +32,14 @@ import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 
 @PublicAPI(usage = ACCESS)
 public final class JavaField extends JavaMember implements HasType {
-    private final JavaType type;
+    private final JavaClass rawType;
+    private final Supplier<JavaType> type;
     private final Supplier<Field> fieldSupplier;
 
     JavaField(DomainBuilders.JavaFieldBuilder builder) {
         super(builder);
-        type = builder.getType(this);
+        rawType = builder.getRawType();
+        type = builder.createFromGenericSignature(() -> builder.getType(this));
         fieldSupplier = Suppliers.memoize(new ReflectFieldSupplier());
     }
 
@@ -53,13 +55,13 @@ public final class JavaField extends JavaMember implements HasType {
     @Override
     @PublicAPI(usage = ACCESS)
     public JavaType getType() {
-        return type;
+        return type.get();
     }
 
     @Override
     @PublicAPI(usage = ACCESS)
     public JavaClass getRawType() {
-        return type.toErasure();
+        return rawType;
     }
 
     @Override
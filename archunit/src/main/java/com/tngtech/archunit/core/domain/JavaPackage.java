@@ -93,6 +93,7 @@ public final class JavaPackage implements HasName, HasAnnotations<JavaPackage> {
     private final Optional<JavaClass> packageInfo;
     private final Map<String, JavaPackage> subpackages;
     private Optional<JavaPackage> parent = Optional.empty();
+    private Optional<PackageDependencies> packageDependencies = Optional.empty();
 
     private JavaPackage(String name, Set<JavaClass> classes, Map<String, JavaPackage> subpackages) {
         this.name = checkNotNull(name);
@@ -302,6 +303,14 @@ public final class JavaPackage implements HasName, HasAnnotations<JavaPackage> {
         this.parent = Optional.of(parent);
     }
 
+    void setPackageDependencies(PackageDependencies packageDependencies) {
+        this.packageDependencies = Optional.of(packageDependencies);
+    }
+
+    void precomputePackageDependencies() {
+        packageDependencies.ifPresent(PackageDependencies::precompute);
+    }
+
     /**
      * @return all classes directly contained in this package, but not classes in the lower levels of the package tree (compare {@link #getClassesInPackageTree()})
      */
@@ -495,6 +504,9 @@ public final class JavaPackage implements HasName, HasAnnotations<JavaPackage> {
      */
     @PublicAPI(usage = ACCESS)
     public Set<Dependency> getClassDependenciesFromThisPackage() {
+        if (packageDependencies.isPresent()) {
+            return packageDependencies.get().getClassDependenciesFrom(this);
+        }
         return getClassDependenciesFrom(getClasses());
     }
 
@@ -513,6 +525,9 @@ public final class JavaPackage implements HasName, HasAnnotations<JavaPackage> {
      */
     @PublicAPI(usage = ACCESS)
     public Set<Dependency> getClassDependenciesFromThisPackageTree() {
+        if (packageDependencies.isPresent()) {
+            return packageDependencies.get().getClassDependenciesFromTree(this);
+        }
         return getClassDependenciesFrom(getClassesInPackageTree());
     }
 
@@ -524,6 +539,9 @@ public final class JavaPackage implements HasName, HasAnnotations<JavaPackage> {
      */
     @PublicAPI(usage = ACCESS)
     public Set<Dependency> getClassDependenciesToThisPackage() {
+        if (packageDependencies.isPresent()) {
+            return packageDependencies.get().getClassDependenciesTo(this);
+        }
         return getClassDependenciesTo(getClasses());
     }
 
@@ -542,6 +560,9 @@ public final class JavaPackage implements HasName, HasAnnotations<JavaPackage> {
      */
     @PublicAPI(usage = ACCESS)
     public Set<Dependency> getClassDependenciesToThisPackageTree() {
+        if (packageDependencies.isPresent()) {
+            return packageDependencies.get().getClassDependenciesToTree(this);
+        }
         return getClassDependenciesTo(getClassesInPackageTree());
     }
 
@@ -559,6 +580,9 @@ public final class JavaPackage implements HasName, HasAnnotations<JavaPackage> {
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaPackage> getPackageDependenciesFromThisPackage() {
+        if (packageDependencies.isPresent()) {
+            return packageDependencies.get().getPackageDependenciesFrom(this);
+        }
         return getPackageDependencies(getClassDependenciesFromThisPackage(), Dependency::getTargetClass);
     }
 
@@ -577,6 +601,9 @@ public final class JavaPackage implements HasName, HasAnnotations<JavaPackage> {
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaPackage> getPackageDependenciesFromThisPackageTree() {
+        if (packageDependencies.isPresent()) {
+            return packageDependencies.get().getPackageDependenciesFromTree(this);
+        }
         return getPackageDependencies(getClassDependenciesFromThisPackageTree(), Dependency::getTargetClass);
     }
 
@@ -594,6 +621,9 @@ public final class JavaPackage implements HasName, HasAnnotations<JavaPackage> {
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaPackage> getPackageDependenciesToThisPackage() {
+        if (packageDependencies.isPresent()) {
+            return packageDependencies.get().getPackageDependenciesTo(this);
+        }
         return getPackageDependencies(getClassDependenciesToThisPackage(), Dependency::getOriginClass);
     }
 
@@ -610,6 +640,9 @@ public final class JavaPackage implements HasName, HasAnnotations<JavaPackage> {
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaPackage> getPackageDependenciesToThisPackageTree() {
+        if (packageDependencies.isPresent()) {
+            return packageDependencies.get().getPackageDependenciesToTree(this);
+        }
         return getPackageDependencies(getClassDependenciesToThisPackageTree(), Dependency::getOriginClass);
     }
 
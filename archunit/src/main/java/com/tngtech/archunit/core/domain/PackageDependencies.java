@@ -0,0 +1,268 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+import static com.tngtech.archunit.base.Suppliers.memoize;
+
+/**
+ * A package-by-package dependency matrix of a whole package tree. Each edge between two packages
+ * aggregates all {@link Dependency dependencies} between classes (directly) within these packages.
+ * The matrix is built on first access and then cached according to the {@link DependencyCachePolicy}.
+ * Package tree rollups are computed on demand per package and cached together with the matrix,
+ * so that subsequent {@link JavaPackage} queries are proportional to the size of the result.
+ */
+class PackageDependencies {
+    private final Supplier<Matrix> matrix;
+
+    private PackageDependencies(JavaPackage root, DependencyCache dependencyCache) {
+        this.matrix = dependencyCache.cache(() -> new Matrix(root));
+    }
+
+    Set<Dependency> getClassDependenciesFrom(JavaPackage javaPackage) {
+        return dependenciesOf(matrix.get().nodeOf(javaPackage).getOutgoingToOtherPackages());
+    }
+
+    Set<Dependency> getClassDependenciesFromTree(JavaPackage javaPackage) {
+        return dependenciesOf(matrix.get().nodeOf(javaPackage).getOutgoingFromTree());
+    }
+
+    Set<Dependency> getClassDependenciesTo(JavaPackage javaPackage) {
+        return dependenciesOf(matrix.get().nodeOf(javaPackage).getIncomingFromOtherPackages());
+    }
+
+    Set<Dependency> getClassDependenciesToTree(JavaPackage javaPackage) {
+        return dependenciesOf(matrix.get().nodeOf(javaPackage).getIncomingToTree());
+    }
+
+    Set<JavaPackage> getPackageDependenciesFrom(JavaPackage javaPackage) {
+        return packagesOf(matrix.get().nodeOf(javaPackage).getOutgoingToOtherPackages(), Edge::getTarget);
+    }
+
+    Set<JavaPackage> getPackageDependenciesFromTree(JavaPackage javaPackage) {
+        return packagesOf(matrix.get().nodeOf(javaPackage).getOutgoingFromTree(), Edge::getTarget);
+    }
+
+    Set<JavaPackage> getPackageDependenciesTo(JavaPackage javaPackage) {
+        return packagesOf(matrix.get().nodeOf(javaPackage).getIncomingFromOtherPackages(), Edge::getOrigin);
+    }
+
+    Set<JavaPackage> getPackageDependenciesToTree(JavaPackage javaPackage) {
+        return packagesOf(matrix.get().nodeOf(javaPackage).getIncomingToTree(), Edge::getOrigin);
+    }
+
+    /**
+     * Builds the matrix and all package tree rollups. The rollups of each package are built from those of its subpackages,
+     * so rolling up the root of the package tree once computes the rollups of every package.
+     */
+    void precompute() {
+        Matrix.Node root = matrix.get().root();
+        root.getOutgoingFromTree();
+        root.getIncomingToTree();
+    }
+
+    private static Set<Dependency> dependenciesOf(Collection<Edge> edges) {
+        ImmutableSet.Builder<Dependency> result = ImmutableSet.builderWithExpectedSize(countDependencies(edges));
+        for (Edge edge : edges) {
+            result.addAll(edge.getDependencies());
+        }
+        return result.build();
+    }
+
+    private static int countDependencies(Collection<Edge> edges) {
+        int result = 0;
+        for (Edge edge : edges) {
+            result += edge.getCount();
+        }
+        return result;
+    }
+
+    private static Set<JavaPackage> packagesOf(Collection<Edge> edges, Function<Edge, JavaPackage> getPackage) {
+        ImmutableSet.Builder<JavaPackage> result = ImmutableSet.builderWithExpectedSize(edges.size());
+        for (Edge edge : edges) {
+            result.add(getPackage.apply(edge));
+        }
+        return result.build();
+    }
+
+    static void createFor(JavaPackage root, DependencyCache dependencyCache) {
+        setOnPackageTree(root, new PackageDependencies(root, dependencyCache));
+    }
+
+    private static void setOnPackageTree(JavaPackage javaPackage, PackageDependencies packageDependencies) {
+        javaPackage.setPackageDependencies(packageDependencies);
+        for (JavaPackage subpackage : javaPackage.getSubpackages()) {
+            setOnPackageTree(subpackage, packageDependencies);
+        }
+    }
+
+    private static class Matrix {
+        private final Map<JavaPackage, Node> nodes = new LinkedHashMap<>();
+
+        Matrix(JavaPackage root) {
+            registerPackageTree(root);
+            for (Node origin : nodes.values()) {
+                for (JavaClass javaClass : origin.javaPackage.getClasses()) {
+                    for (Dependency dependency : javaClass.getDirectDependenciesFromSelf()) {
+                        registerDependency(origin, dependency);
+                    }
+                }
+            }
+        }
+
+        private void registerPackageTree(JavaPackage javaPackage) {
+            Node node = new Node(javaPackage, nodes.size());
+            nodes.put(javaPackage, node);
+            for (JavaPackage subpackage : javaPackage.getSubpackages()) {
+                registerPackageTree(subpackage);
+            }
+            node.treeEnd = nodes.size();
+        }
+
+        private void registerDependency(Node origin, Dependency dependency) {
+            JavaPackage targetPackage = dependency.getTargetClass().getPackage();
+            Node target = nodes.get(targetPackage);
+            if (target == origin) {
+                return;
+            }
+
+            Edge edge = origin.outgoing.computeIfAbsent(targetPackage, p -> new Edge(origin.javaPackage, targetPackage));
+            edge.add(dependency);
+            if (target != null) {
+                target.incoming.putIfAbsent(origin.javaPackage, edge);
+            }
+        }
+
+        Node root() {
+            return nodes.values().iterator().next();
+        }
+
+        Node nodeOf(JavaPackage javaPackage) {
+            Node node = nodes.get(javaPackage);
+            if (node == null) {
+                throw new IllegalArgumentException(String.format("%s is not part of this package tree", javaPackage.getDescription()));
+            }
+            return node;
+        }
+
+        private class Node {
+            private final JavaPackage javaPackage;
+            private final int treeStart;
+            private int treeEnd;
+            private final Map<JavaPackage, Edge> outgoing = new LinkedHashMap<>();
+            private final Map<JavaPackage, Edge> incoming = new LinkedHashMap<>();
+            private final Supplier<List<Edge>> outgoingFromTree = memoize(this::collectOutgoingFromTree);
+            private final Supplier<List<Edge>> incomingToTree = memoize(this::collectIncomingToTree);
+
+            Node(JavaPackage javaPackage, int treeStart) {
+                this.javaPackage = javaPackage;
+                this.treeStart = treeStart;
+            }
+
+            Collection<Edge> getOutgoingToOtherPackages() {
+                return outgoing.values();
+            }
+
+            Collection<Edge> getIncomingFromOtherPackages() {
+                return incoming.values();
+            }
+
+            List<Edge> getOutgoingFromTree() {
+                return outgoingFromTree.get();
+            }
+
+            List<Edge> getIncomingToTree() {
+                return incomingToTree.get();
+            }
+
+            private List<Edge> collectOutgoingFromTree() {
+                return collectFromTree(outgoing.values(), Node::getOutgoingFromTree, Edge::getTarget);
+            }
+
+            private List<Edge> collectIncomingToTree() {
+                return collectFromTree(incoming.values(), Node::getIncomingToTree, Edge::getOrigin);
+            }
+
+            /**
+             * Rolls up the edges of the subpackages' trees (which are themselves cached) and keeps only those
+             * edges that cross the boundary of this package tree, i.e. where the other end is not part of this tree.
+             */
+            private List<Edge> collectFromTree(Collection<Edge> ownEdges, Function<Node, List<Edge>> getSubtreeEdges, Function<Edge, JavaPackage> getOtherEnd) {
+                List<Edge> result = new ArrayList<>();
+                addCrossingTree(ownEdges, getOtherEnd, result);
+                for (JavaPackage subpackage : javaPackage.getSubpackages()) {
+                    addCrossingTree(getSubtreeEdges.apply(nodes.get(subpackage)), getOtherEnd, result);
+                }
+                return ImmutableList.copyOf(result);
+            }
+
+            private void addCrossingTree(Collection<Edge> edges, Function<Edge, JavaPackage> getOtherEnd, List<Edge> result) {
+                for (Edge edge : edges) {
+                    if (!containsInTree(getOtherEnd.apply(edge))) {
+                        result.add(edge);
+                    }
+                }
+            }
+
+            private boolean containsInTree(JavaPackage javaPackage) {
+                Node node = nodes.get(javaPackage);
+                return node != null && treeStart <= node.treeStart && node.treeStart < treeEnd;
+            }
+        }
+    }
+
+    private static class Edge {
+        private final JavaPackage origin;
+        private final JavaPackage target;
+        private final List<Dependency> dependencies = new ArrayList<>();
+
+        Edge(JavaPackage origin, JavaPackage target) {
+            this.origin = origin;
+            this.target = target;
+        }
+
+        void add(Dependency dependency) {
+            dependencies.add(dependency);
+        }
+
+        JavaPackage getOrigin() {
+            return origin;
+        }
+
+        JavaPackage getTarget() {
+            return target;
+        }
+
+        int getCount() {
+            return dependencies.size();
+        }
+
+        List<Dependency> getDependencies() {
+            return dependencies;
+        }
+    }
+}
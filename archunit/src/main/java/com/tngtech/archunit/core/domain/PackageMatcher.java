@@ -16,10 +16,11 @@
 package com.tngtech.archunit.core.domain;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -60,17 +61,13 @@ import static java.util.stream.Collectors.toList;
  * <li><b>{@code '..service.(a|b*)..'}</b> matches <b>{@code 'a.service.bar.more'}</b> and group 1 would be <b>{@code 'bar'}</b></li>
  * </ul>
  * Create via {@link PackageMatcher#of(String) PackageMatcher.of(packageIdentifier)}
+ * <br><br>
+ * Since there are usually far fewer packages than classes, a {@link PackageMatcher} remembers the result for each package name
+ * it has been matched against. Thus, it pays off to reuse a {@link PackageMatcher} instead of creating it anew for each match.
  */
 @PublicAPI(usage = ACCESS)
 public final class PackageMatcher {
-    private static final String OPT_LETTERS_AT_START = "(?:^\\w*)?";
-    private static final String OPT_LETTERS_AT_END = "(?:\\w*$)?";
-    private static final String ARBITRARY_PACKAGES = "\\.(?:\\w+\\.)*";
-    private static final String TWO_DOTS_REGEX = String.format("(?:%s%s%s)?", OPT_LETTERS_AT_START, ARBITRARY_PACKAGES, OPT_LETTERS_AT_END);
-
-    private static final String TWO_STAR_CAPTURE_LITERAL = "(**)";
-    private static final String TWO_STAR_CAPTURE_REGEX = "(\\w+(?:\\.\\w+)*)";
-    static final String TWO_STAR_REGEX_MARKER = "#%#%#";
+    private static final int MAX_NUMBER_OF_CACHED_RESULTS = 10_000;
 
     private static final Pattern ILLEGAL_ALTERNATION_PATTERN = Pattern.compile("\\[[^|]*]");
     private static final Pattern ILLEGAL_NESTED_GROUP_PATTERN = Pattern.compile(
@@ -82,13 +79,14 @@ public final class PackageMatcher {
     private static final Set<Character> PACKAGE_CONTROL_SYMBOLS = ImmutableSet.of('*', '(', ')', '.', '|', '[', ']');
 
     private final String packageIdentifier;
-    private final Pattern packagePattern;
+    private final CompiledPackageIdentifier compiledPackageIdentifier;
+    private final Map<String, Optional<Result>> resultsByPackage = new ConcurrentHashMap<>();
 
     private PackageMatcher(String packageIdentifier) {
         validate(packageIdentifier);
 
         this.packageIdentifier = packageIdentifier;
-        this.packagePattern = Pattern.compile(convertToRegex(packageIdentifier));
+        this.compiledPackageIdentifier = CompiledPackageIdentifier.compile(packageIdentifier);
     }
 
     private void validate(String packageIdentifier) {
@@ -140,16 +138,6 @@ public final class PackageMatcher {
         }
     }
 
-    private String convertToRegex(String packageIdentifier) {
-        return packageIdentifier
-                .replaceAll("\\[(.*?)]", "(?:$1)") // replacing all '[..|..]' with '(?:..|..)'
-                .replace(TWO_STAR_CAPTURE_LITERAL, TWO_STAR_REGEX_MARKER)
-                .replace("*", "\\w+")
-                .replace(".", "\\.")
-                .replace(TWO_STAR_REGEX_MARKER, TWO_STAR_CAPTURE_REGEX)
-                .replace("\\.\\.", TWO_DOTS_REGEX);
-    }
-
     /**
      * Creates a new {@link PackageMatcher}
      *
@@ -164,7 +152,7 @@ public final class PackageMatcher {
 
     @PublicAPI(usage = ACCESS)
     public boolean matches(String aPackage) {
-        return packagePattern.matcher(aPackage).matches();
+        return match(aPackage).isPresent();
     }
 
     /**
@@ -178,8 +166,18 @@ public final class PackageMatcher {
      */
     @PublicAPI(usage = ACCESS)
     public Optional<Result> match(String aPackage) {
-        Matcher matcher = packagePattern.matcher(aPackage);
-        return matcher.matches() ? Optional.of(new Result(matcher)) : Optional.empty();
+        Optional<Result> result = resultsByPackage.get(aPackage);
+        if (result == null) {
+            result = compiledPackageIdentifier.match(aPackage).map(groups -> new Result(aPackage, groups));
+            if (resultsByPackage.size() < MAX_NUMBER_OF_CACHED_RESULTS) {
+                resultsByPackage.put(aPackage, result);
+            }
+        }
+        return result;
+    }
+
+    CompiledPackageIdentifier getCompiledPackageIdentifier() {
+        return compiledPackageIdentifier;
     }
 
     @Override
@@ -193,20 +191,29 @@ public final class PackageMatcher {
 
     @PublicAPI(usage = ACCESS)
     public static final class Result {
-        private final Matcher matcher;
+        private final String aPackage;
+        private final String[] groups;
 
-        private Result(Matcher matcher) {
-            this.matcher = matcher;
+        private Result(String aPackage, String[] groups) {
+            this.aPackage = aPackage;
+            this.groups = groups;
         }
 
         @PublicAPI(usage = ACCESS)
         public int getNumberOfGroups() {
-            return matcher.groupCount();
+            return groups.length;
         }
 
+        /**
+         * @param number the number of the group, where group {@code 0} is the whole matched package name (compare {@link java.util.regex.Matcher#group(int)})
+         * @return the captured group with the given number
+         */
         @PublicAPI(usage = ACCESS)
         public String getGroup(int number) {
-            return matcher.group(number);
+            if (number < 0 || number > groups.length) {
+                throw new IndexOutOfBoundsException("No group " + number);
+            }
+            return number == 0 ? aPackage : groups[number - 1];
         }
     }
 
@@ -15,9 +15,15 @@
  */
 package com.tngtech.archunit.core.domain;
 
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.DescribedPredicate;
@@ -25,17 +31,35 @@ import com.tngtech.archunit.base.DescribedPredicate;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.core.domain.Formatters.joinSingleQuoted;
 
+/**
+ * Matches packages against several package identifiers (compare {@link PackageMatcher}) at once.
+ * A package matches, if it matches any of the package identifiers.
+ * <br><br>
+ * All package identifiers are matched in a single pass over the package name: The literal prefixes of all identifiers
+ * (e.g. {@code 'com.foo.'} for {@code 'com.foo.*..'}) are combined into a trie, so only those identifiers whose prefix
+ * the package name starts with need to be matched at all. Like {@link PackageMatcher} the result for each package name is remembered,
+ * so it pays off to reuse {@link PackageMatchers} to assign many classes to many package identifiers
+ * (compare {@link #getMatchingPackageIdentifiers(String)}).
+ */
 @PublicAPI(usage = ACCESS)
 public final class PackageMatchers extends DescribedPredicate<String> {
-    private final Set<PackageMatcher> packageMatchers;
+    private static final int MAX_NUMBER_OF_CACHED_RESULTS = 10_000;
+
+    private final List<String> packageIdentifiers;
+    private final List<CompiledPackageIdentifier> compiledPackageIdentifiers;
+    private final PrefixTrie prefixTrie = new PrefixTrie();
+    private final Map<String, Set<String>> matchingPackageIdentifiersByPackage = new ConcurrentHashMap<>();
 
     private PackageMatchers(Set<String> packageIdentifiers) {
         super("matches any of [%s]", joinSingleQuoted(packageIdentifiers));
-        ImmutableSet.Builder<PackageMatcher> matchers = ImmutableSet.builder();
-        for (String identifier : packageIdentifiers) {
-            matchers.add(PackageMatcher.of(identifier));
+        this.packageIdentifiers = ImmutableList.copyOf(packageIdentifiers);
+        ImmutableList.Builder<CompiledPackageIdentifier> compiledPackageIdentifiers = ImmutableList.builder();
+        for (int i = 0; i < this.packageIdentifiers.size(); i++) {
+            CompiledPackageIdentifier compiledPackageIdentifier = PackageMatcher.of(this.packageIdentifiers.get(i)).getCompiledPackageIdentifier();
+            compiledPackageIdentifiers.add(compiledPackageIdentifier);
+            prefixTrie.add(compiledPackageIdentifier.getLiteralPrefix(), i);
         }
-        packageMatchers = matchers.build();
+        this.compiledPackageIdentifiers = compiledPackageIdentifiers.build();
     }
 
     @PublicAPI(usage = ACCESS)
@@ -51,10 +75,60 @@ public final class PackageMatchers extends DescribedPredicate<String> {
     @Override
     @PublicAPI(usage = ACCESS)
     public boolean test(String aPackage) {
-        boolean matches = false;
-        for (PackageMatcher matcher : packageMatchers) {
-            matches = matches || matcher.matches(aPackage);
+        return !getMatchingPackageIdentifiers(aPackage).isEmpty();
+    }
+
+    /**
+     * @param aPackage The package name to match against
+     * @return all package identifiers of these {@link PackageMatchers} that match the given package name,
+     *         in the order they have been passed to {@link #of(Collection)}
+     */
+    @PublicAPI(usage = ACCESS)
+    public Set<String> getMatchingPackageIdentifiers(String aPackage) {
+        Set<String> result = matchingPackageIdentifiersByPackage.get(aPackage);
+        if (result == null) {
+            result = match(aPackage);
+            if (matchingPackageIdentifiersByPackage.size() < MAX_NUMBER_OF_CACHED_RESULTS) {
+                matchingPackageIdentifiersByPackage.put(aPackage, result);
+            }
+        }
+        return result;
+    }
+
+    private Set<String> match(String aPackage) {
+        BitSet candidates = prefixTrie.getIndexesOfPrefixesOf(aPackage);
+        ImmutableSet.Builder<String> result = ImmutableSet.builder();
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            if (compiledPackageIdentifiers.get(i).matches(aPackage)) {
+                result.add(packageIdentifiers.get(i));
+            }
+        }
+        return result.build();
+    }
+
+    private static class PrefixTrie {
+        private final Map<Character, PrefixTrie> children = new HashMap<>();
+        private final BitSet indexes = new BitSet();
+
+        void add(String prefix, int index) {
+            PrefixTrie node = this;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(prefix.charAt(i), __ -> new PrefixTrie());
+            }
+            node.indexes.set(index);
+        }
+
+        /**
+         * @return the indexes of all prefixes that {@code string} starts with
+         */
+        BitSet getIndexesOfPrefixesOf(String string) {
+            BitSet result = new BitSet();
+            PrefixTrie node = this;
+            for (int i = 0; node != null; i++) {
+                result.or(node.indexes);
+                node = i < string.length() ? node.children.get(string.charAt(i)) : null;
+            }
+            return result;
         }
-        return matches;
     }
 }
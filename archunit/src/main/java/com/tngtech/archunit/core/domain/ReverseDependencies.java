@@ -16,27 +16,28 @@
 package com.tngtech.archunit.core.domain;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
-import com.tngtech.archunit.base.Suppliers;
+
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
+import static com.tngtech.archunit.base.Suppliers.memoize;
 
 final class ReverseDependencies {
 
-    private final LoadingCache<JavaField, Set<JavaFieldAccess>> accessToFieldCache;
-    private final LoadingCache<JavaMethod, Set<JavaMethodCall>> callToMethodCache;
-    private final LoadingCache<JavaMethod, Set<JavaMethodReference>> referenceToMethodCache;
-    private final LoadingCache<JavaConstructor, Set<JavaConstructorCall>> callToConstructorCache;
-    private final LoadingCache<JavaConstructor, Set<JavaConstructorReference>> referenceToConstructorCache;
+    private final AccessesToMembers<JavaField, JavaFieldAccess> accessesToFields;
+    private final AccessesToMembers<JavaMethod, JavaMethodCall> callsToMethods;
+    private final AccessesToMembers<JavaMethod, JavaMethodReference> referencesToMethods;
+    private final SetMultimap<String, JavaConstructorCall> callsToConstructors;
+    private final SetMultimap<String, JavaConstructorReference> referencesToConstructors;
     private final SetMultimap<JavaClass, JavaField> fieldTypeDependencies;
     private final SetMultimap<JavaClass, JavaMethod> methodParameterTypeDependencies;
     private final SetMultimap<JavaClass, JavaMethod> methodReturnTypeDependencies;
@@ -44,16 +45,19 @@ final class ReverseDependencies {
     private final SetMultimap<JavaClass, JavaConstructor> constructorParameterTypeDependencies;
     private final SetMultimap<JavaClass, ThrowsDeclaration<JavaConstructor>> constructorThrowsDeclarationDependencies;
     private final SetMultimap<JavaClass, JavaAnnotation<?>> annotationTypeDependencies;
-    private final SetMultimap<JavaClass, JavaAnnotation<?>> annotationParameterTypeDependencies;
+    private final Supplier<SetMultimap<JavaClass, JavaAnnotation<?>>> annotationParameterTypeDependencies;
     private final SetMultimap<JavaClass, InstanceofCheck> instanceofCheckDependencies;
-    private final Supplier<SetMultimap<JavaClass, Dependency>> directDependenciesToClass;
+    private final DependencyCache dependencyCache;
+    private final List<JavaClassDependencies> allDependencies;
+    private final DependencyCache.CachedValue<SetMultimap<JavaClass, Dependency>> directDependenciesToClass;
+    private final DependencyCache.CachedValue<SetMultimap<JavaClass, JavaAccess<?>>> constructorAccessesByTargetOwner;
 
     private ReverseDependencies(ReverseDependencies.Creation creation) {
-        accessToFieldCache = CacheBuilder.newBuilder().build(new ResolvingAccessLoader<>(creation.fieldAccessDependencies.build()));
-        callToMethodCache = CacheBuilder.newBuilder().build(new ResolvingAccessLoader<>(creation.methodCallDependencies.build()));
-        referenceToMethodCache = CacheBuilder.newBuilder().build(new ResolvingAccessLoader<>(creation.methodReferenceDependencies.build()));
-        callToConstructorCache = CacheBuilder.newBuilder().build(new ConstructorAccessLoader<>(creation.constructorCallDependencies.build()));
-        referenceToConstructorCache = CacheBuilder.newBuilder().build(new ConstructorAccessLoader<>(creation.constructorReferenceDependencies.build()));
+        accessesToFields = new AccessesToMembers<>(creation.dependencyCache, creation.fieldAccessDependencies.build());
+        callsToMethods = new AccessesToMembers<>(creation.dependencyCache, creation.methodCallDependencies.build());
+        referencesToMethods = new AccessesToMembers<>(creation.dependencyCache, creation.methodReferenceDependencies.build());
+        callsToConstructors = creation.constructorCallDependencies.build();
+        referencesToConstructors = creation.constructorReferenceDependencies.build();
         this.fieldTypeDependencies = creation.fieldTypeDependencies.build();
         this.methodParameterTypeDependencies = creation.methodParameterTypeDependencies.build();
         this.methodReturnTypeDependencies = creation.methodReturnTypeDependencies.build();
@@ -61,13 +65,53 @@ final class ReverseDependencies {
         this.constructorParameterTypeDependencies = creation.constructorParameterTypeDependencies.build();
         this.constructorThrowsDeclarationDependencies = creation.constructorThrowsDeclarationDependencies.build();
         this.annotationTypeDependencies = creation.annotationTypeDependencies.build();
-        this.annotationParameterTypeDependencies = creation.annotationParameterTypeDependencies.build();
+        // visiting the parameters creates the values of each annotation, so we only do this once parameter types are requested
+        this.annotationParameterTypeDependencies = memoize(() -> groupAnnotationsByParameterType(annotationTypeDependencies.values()));
         this.instanceofCheckDependencies = creation.instanceofCheckDependencies.build();
-        this.directDependenciesToClass = createDirectDependenciesToClassSupplier(creation.allDependencies);
+        this.dependencyCache = creation.dependencyCache;
+        this.allDependencies = creation.allDependencies;
+        this.directDependenciesToClass = createDirectDependenciesToClassCache(creation.dependencyCache, creation.allDependencies);
+        this.constructorAccessesByTargetOwner = creation.dependencyCache.cache(this::groupConstructorAccessesByTargetOwner);
+    }
+
+    private SetMultimap<JavaClass, JavaAccess<?>> groupConstructorAccessesByTargetOwner() {
+        ImmutableSetMultimap.Builder<JavaClass, JavaAccess<?>> result = ImmutableSetMultimap.builder();
+        for (JavaConstructorCall call : callsToConstructors.values()) {
+            result.put(call.getTargetOwner(), call);
+        }
+        for (JavaConstructorReference reference : referencesToConstructors.values()) {
+            result.put(reference.getTargetOwner(), reference);
+        }
+        return result.build();
+    }
+
+    private static SetMultimap<JavaClass, JavaAnnotation<?>> groupAnnotationsByParameterType(Collection<JavaAnnotation<?>> annotations) {
+        ImmutableSetMultimap.Builder<JavaClass, JavaAnnotation<?>> result = ImmutableSetMultimap.builder();
+        for (JavaAnnotation<?> annotation : annotations) {
+            annotation.accept(new JavaAnnotation.DefaultParameterVisitor() {
+                @Override
+                public void visitClass(String propertyName, JavaClass javaClass) {
+                    result.put(javaClass, annotation);
+                }
+
+                @Override
+                public void visitEnumConstant(String propertyName, JavaEnumConstant enumConstant) {
+                    result.put(enumConstant.getDeclaringClass(), annotation);
+                }
+
+                @Override
+                public void visitAnnotation(String propertyName, JavaAnnotation<?> memberAnnotation) {
+                    result.put(memberAnnotation.getRawType(), annotation);
+                    memberAnnotation.accept(this);
+                }
+            });
+        }
+        return result.build();
     }
 
-    private static Supplier<SetMultimap<JavaClass, Dependency>> createDirectDependenciesToClassSupplier(List<JavaClassDependencies> allDependencies) {
-        return Suppliers.memoize(() -> {
+    private static DependencyCache.CachedValue<SetMultimap<JavaClass, Dependency>> createDirectDependenciesToClassCache(
+            DependencyCache dependencyCache, List<JavaClassDependencies> allDependencies) {
+        return dependencyCache.cache(() -> {
             ImmutableSetMultimap.Builder<JavaClass, Dependency> result = ImmutableSetMultimap.builder();
             for (JavaClassDependencies dependencies : allDependencies) {
                 for (Dependency dependency : dependencies.getDirectDependenciesFromClass()) {
@@ -79,23 +123,23 @@ final class ReverseDependencies {
     }
 
     Set<JavaFieldAccess> getAccessesTo(JavaField field) {
-        return accessToFieldCache.getUnchecked(field);
+        return accessesToFields.get(field);
     }
 
     Set<JavaMethodCall> getCallsTo(JavaMethod method) {
-        return callToMethodCache.getUnchecked(method);
+        return callsToMethods.get(method);
     }
 
     Set<JavaMethodReference> getReferencesTo(JavaMethod method) {
-        return referenceToMethodCache.getUnchecked(method);
+        return referencesToMethods.get(method);
     }
 
     Set<JavaConstructorCall> getCallsTo(JavaConstructor constructor) {
-        return callToConstructorCache.getUnchecked(constructor);
+        return callsToConstructors.get(constructor.getFullName());
     }
 
     Set<JavaConstructorReference> getReferencesTo(JavaConstructor constructor) {
-        return referenceToConstructorCache.getUnchecked(constructor);
+        return referencesToConstructors.get(constructor.getFullName());
     }
 
     Set<JavaField> getFieldsWithTypeOf(JavaClass clazz) {
@@ -127,7 +171,7 @@ final class ReverseDependencies {
     }
 
     Set<JavaAnnotation<?>> getAnnotationsWithParameterTypeOf(JavaClass clazz) {
-        return annotationParameterTypeDependencies.get(clazz);
+        return annotationParameterTypeDependencies.get().get(clazz);
     }
 
     Set<InstanceofCheck> getInstanceofChecksWithTypeOf(JavaClass clazz) {
@@ -135,12 +179,67 @@ final class ReverseDependencies {
     }
 
     Set<Dependency> getDirectDependenciesTo(JavaClass clazz) {
+        if (dependencyCache.getPolicy() == DependencyCachePolicy.RECOMPUTE) {
+            // we don't want to build the reverse dependencies of all classes, if we only need those of a single class
+            return allDependencies.stream()
+                    .flatMap(JavaClassDependencies::streamDirectDependenciesFromClass)
+                    .filter(dependency -> dependency.getTargetClass().equals(clazz))
+                    .collect(toImmutableSet());
+        }
         return directDependenciesToClass.get().get(clazz);
     }
 
-    static final ReverseDependencies EMPTY = new ReverseDependencies(new Creation());
+    int getNumberOfClasses() {
+        return allDependencies.size();
+    }
+
+    int getNumberOfAccesses() {
+        return accessesToFields.size() + callsToMethods.size() + referencesToMethods.size()
+                + callsToConstructors.size() + referencesToConstructors.size();
+    }
+
+    /**
+     * @return the owners of the targets of all accesses from the imported classes, including owners that have not been imported
+     */
+    Set<JavaClass> getTargetOwnersOfAccesses() {
+        return Sets.union(
+                Sets.union(accessesToFields.getTargetOwners(), callsToMethods.getTargetOwners()),
+                Sets.union(referencesToMethods.getTargetOwners(), constructorAccessesByTargetOwner.get().keySet()));
+    }
+
+    /**
+     * @return all accesses from the imported classes to members of the given target owner (compare {@link JavaAccess#getTargetOwner()})
+     */
+    Iterable<JavaAccess<?>> getAccessesWithTargetOwner(JavaClass targetOwner) {
+        return Iterables.concat(
+                accessesToFields.getByTargetOwner(targetOwner),
+                callsToMethods.getByTargetOwner(targetOwner),
+                referencesToMethods.getByTargetOwner(targetOwner),
+                constructorAccessesByTargetOwner.get().get(targetOwner));
+    }
+
+    /**
+     * @return the direct dependencies from the imported classes grouped by their target class,
+     *         but only if they have already been computed and are still cached
+     */
+    Optional<SetMultimap<JavaClass, Dependency>> getDirectDependenciesByTargetClassIfCached() {
+        return directDependenciesToClass.getIfCached();
+    }
+
+    /**
+     * @return the direct dependencies from the imported classes grouped by their target class,
+     *         or {@link Optional#empty()} if the {@link DependencyCachePolicy} does not allow to cache them
+     */
+    Optional<SetMultimap<JavaClass, Dependency>> getDirectDependenciesByTargetClass() {
+        return dependencyCache.getPolicy() != DependencyCachePolicy.RECOMPUTE
+                ? Optional.of(directDependenciesToClass.get())
+                : Optional.empty();
+    }
+
+    static final ReverseDependencies EMPTY = new ReverseDependencies(new Creation(DependencyCache.retaining()));
 
     static class Creation {
+        private final DependencyCache dependencyCache;
         private final ImmutableSetMultimap.Builder<JavaClass, JavaFieldAccess> fieldAccessDependencies = ImmutableSetMultimap.builder();
         private final ImmutableSetMultimap.Builder<JavaClass, JavaMethodCall> methodCallDependencies = ImmutableSetMultimap.builder();
         private final ImmutableSetMultimap.Builder<JavaClass, JavaMethodReference> methodReferenceDependencies = ImmutableSetMultimap.builder();
@@ -153,10 +252,13 @@ final class ReverseDependencies {
         private final ImmutableSetMultimap.Builder<JavaClass, JavaConstructor> constructorParameterTypeDependencies = ImmutableSetMultimap.builder();
         private final ImmutableSetMultimap.Builder<JavaClass, ThrowsDeclaration<JavaConstructor>> constructorThrowsDeclarationDependencies = ImmutableSetMultimap.builder();
         private final ImmutableSetMultimap.Builder<JavaClass, JavaAnnotation<?>> annotationTypeDependencies = ImmutableSetMultimap.builder();
-        private final ImmutableSetMultimap.Builder<JavaClass, JavaAnnotation<?>> annotationParameterTypeDependencies = ImmutableSetMultimap.builder();
         private final ImmutableSetMultimap.Builder<JavaClass, InstanceofCheck> instanceofCheckDependencies = ImmutableSetMultimap.builder();
         private final List<JavaClassDependencies> allDependencies = new ArrayList<>();
 
+        Creation(DependencyCache dependencyCache) {
+            this.dependencyCache = dependencyCache;
+        }
+
         public void registerDependenciesOf(JavaClass clazz, JavaClassDependencies classDependencies) {
             registerAccesses(clazz);
             registerFields(clazz);
@@ -223,23 +325,6 @@ final class ReverseDependencies {
         private void registerAnnotations(JavaClass clazz) {
             for (JavaAnnotation<?> annotation : findAnnotations(clazz)) {
                 annotationTypeDependencies.put(annotation.getRawType(), annotation);
-                annotation.accept(new JavaAnnotation.DefaultParameterVisitor() {
-                    @Override
-                    public void visitClass(String propertyName, JavaClass javaClass) {
-                        annotationParameterTypeDependencies.put(javaClass, annotation);
-                    }
-
-                    @Override
-                    public void visitEnumConstant(String propertyName, JavaEnumConstant enumConstant) {
-                        annotationParameterTypeDependencies.put(enumConstant.getDeclaringClass(), annotation);
-                    }
-
-                    @Override
-                    public void visitAnnotation(String propertyName, JavaAnnotation<?> memberAnnotation) {
-                        annotationParameterTypeDependencies.put(memberAnnotation.getRawType(), annotation);
-                        memberAnnotation.accept(this);
-                    }
-                });
             }
         }
 
@@ -267,18 +352,55 @@ final class ReverseDependencies {
         }
     }
 
-    private static class ResolvingAccessLoader<MEMBER extends JavaMember, ACCESS extends JavaAccess<?>> extends CacheLoader<MEMBER, Set<ACCESS>> {
-        private final SetMultimap<JavaClass, ACCESS> accessesToSelf;
+    /**
+     * Accesses to members (e.g. {@link JavaField fields}) by the member they resolve to. On the first query all accesses to all
+     * members are resolved in a single pass, so each subsequent query is a simple lookup of the precomputed {@link Set}.
+     * Only if the {@link DependencyCachePolicy} is {@link DependencyCachePolicy#RECOMPUTE RECOMPUTE} we resolve the accesses
+     * to the single queried member instead, since recomputing the accesses to all members for each query would be too expensive.
+     */
+    private static class AccessesToMembers<MEMBER extends JavaMember, ACCESS extends JavaAccess<?>> {
+        private final DependencyCache dependencyCache;
+        private final SetMultimap<JavaClass, ACCESS> accessesByTargetOwner;
+        private final DependencyCache.CachedValue<SetMultimap<JavaMember, ACCESS>> accessesByResolvedMember;
+
+        AccessesToMembers(DependencyCache dependencyCache, SetMultimap<JavaClass, ACCESS> accessesByTargetOwner) {
+            this.dependencyCache = dependencyCache;
+            this.accessesByTargetOwner = accessesByTargetOwner;
+            this.accessesByResolvedMember = dependencyCache.cache(this::groupByResolvedMember);
+        }
+
+        int size() {
+            return accessesByTargetOwner.size();
+        }
+
+        Set<JavaClass> getTargetOwners() {
+            return accessesByTargetOwner.keySet();
+        }
+
+        Set<ACCESS> getByTargetOwner(JavaClass targetOwner) {
+            return accessesByTargetOwner.get(targetOwner);
+        }
+
+        Set<ACCESS> get(MEMBER member) {
+            if (dependencyCache.getPolicy() == DependencyCachePolicy.RECOMPUTE) {
+                return resolveAccessesTo(member);
+            }
+            return accessesByResolvedMember.get().get(member);
+        }
 
-        private ResolvingAccessLoader(SetMultimap<JavaClass, ACCESS> accessesToSelf) {
-            this.accessesToSelf = accessesToSelf;
+        private SetMultimap<JavaMember, ACCESS> groupByResolvedMember() {
+            ImmutableSetMultimap.Builder<JavaMember, ACCESS> result = ImmutableSetMultimap.builder();
+            for (ACCESS access : accessesByTargetOwner.values()) {
+                Optional<? extends JavaMember> target = access.getTarget().resolveMember();
+                target.ifPresent(member -> result.put(member, access));
+            }
+            return result.build();
         }
 
-        @Override
-        public Set<ACCESS> load(MEMBER member) {
+        private Set<ACCESS> resolveAccessesTo(MEMBER member) {
             ImmutableSet.Builder<ACCESS> result = ImmutableSet.builder();
             for (JavaClass javaClass : getPossibleTargetClassesForAccess(member.getOwner())) {
-                for (ACCESS access : this.accessesToSelf.get(javaClass)) {
+                for (ACCESS access : accessesByTargetOwner.get(javaClass)) {
                     Optional<? extends JavaMember> target = access.getTarget().resolveMember();
                     if (target.isPresent() && target.get().equals(member)) {
                         result.add(access);
@@ -295,19 +417,4 @@ final class ReverseDependencies {
                     .build();
         }
     }
-
-    private static class ConstructorAccessLoader<ACCESS extends JavaCodeUnitAccess<?>> extends CacheLoader<JavaConstructor, Set<ACCESS>> {
-        private final SetMultimap<String, ACCESS> accessesToSelf;
-
-        private ConstructorAccessLoader(SetMultimap<String, ACCESS> accessesToSelf) {
-            this.accessesToSelf = accessesToSelf;
-        }
-
-        @Override
-        public Set<ACCESS> load(JavaConstructor member) {
-            ImmutableSet.Builder<ACCESS> result = ImmutableSet.builder();
-            result.addAll(accessesToSelf.get(member.getFullName()));
-            return result.build();
-        }
-    }
 }
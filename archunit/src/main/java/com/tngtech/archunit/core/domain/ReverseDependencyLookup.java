@@ -0,0 +1,153 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.SetMultimap;
+import com.tngtech.archunit.Internal;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Finds the classes that access or depend on classes matching some predicate by starting from the matching targets
+ * and following the reverse dependencies of the imported classes, instead of iterating all accesses or dependencies
+ * of the classes to check. This is only worth it if the matching targets are rarely used compared to the number of
+ * classes to check, so each lookup estimates the cost of both strategies and declines if iterating forward is cheaper.
+ * <br><br>
+ * In contrast to {@link JavaClass#getAccessesToSelf()} the lookup also covers targets that have not been imported
+ * (e.g. JDK classes), since it is based on the targets of the accesses and dependencies of all imported classes.
+ */
+@Internal
+public final class ReverseDependencyLookup {
+    private final ReverseDependencies reverseDependencies;
+    private final int numberOfClassesToCheck;
+
+    private ReverseDependencyLookup(ReverseDependencies reverseDependencies, int numberOfClassesToCheck) {
+        this.reverseDependencies = checkNotNull(reverseDependencies);
+        this.numberOfClassesToCheck = numberOfClassesToCheck;
+    }
+
+    /**
+     * @param predicate Determines the targets of the accesses
+     * @return All classes that access a member of a class matching the predicate
+     *         (compare {@link JavaAccess#getTargetOwner()}), or {@link Optional#empty()},
+     *         if it is cheaper to iterate the accesses of the classes to check
+     */
+    public Optional<Set<JavaClass>> findOriginsOfAccessesToClassesThat(Predicate<? super JavaClass> predicate) {
+        long forwardCost = estimateForwardCost(reverseDependencies.getNumberOfAccesses());
+        long reverseCost = 0;
+        List<JavaClass> matchingTargets = new ArrayList<>();
+        for (JavaClass targetOwner : reverseDependencies.getTargetOwnersOfAccesses()) {
+            reverseCost++;
+            if (predicate.test(targetOwner)) {
+                matchingTargets.add(targetOwner);
+                reverseCost += Iterables.size(reverseDependencies.getAccessesWithTargetOwner(targetOwner));
+            }
+            if (reverseCost > forwardCost) {
+                return Optional.empty();
+            }
+        }
+
+        Set<JavaClass> result = new HashSet<>();
+        for (JavaClass targetOwner : matchingTargets) {
+            for (JavaAccess<?> access : reverseDependencies.getAccessesWithTargetOwner(targetOwner)) {
+                result.add(access.getOriginOwner());
+            }
+        }
+        return Optional.of(result);
+    }
+
+    /**
+     * @param predicate Determines the targets of the dependencies
+     * @return All classes that have a {@link JavaClass#getDirectDependenciesFromSelf() direct dependency} on a class
+     *         matching the predicate, or {@link Optional#empty()}, if it is cheaper to iterate the dependencies of the classes to check
+     */
+    public Optional<Set<JavaClass>> findOriginsOfDependenciesToClassesThat(Predicate<? super JavaClass> predicate) {
+        Optional<SetMultimap<JavaClass, Dependency>> dependenciesByTargetClass = getDependenciesByTargetClass();
+        if (!dependenciesByTargetClass.isPresent()) {
+            return Optional.empty();
+        }
+
+        long forwardCost = estimateForwardCost(dependenciesByTargetClass.get().size());
+        long reverseCost = 0;
+        Set<JavaClass> result = new HashSet<>();
+        for (JavaClass targetClass : dependenciesByTargetClass.get().keySet()) {
+            reverseCost++;
+            if (predicate.test(targetClass)) {
+                Set<Dependency> dependencies = dependenciesByTargetClass.get().get(targetClass);
+                reverseCost += dependencies.size();
+                for (Dependency dependency : dependencies) {
+                    result.add(dependency.getOriginClass());
+                }
+            }
+            if (reverseCost > forwardCost) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(result);
+    }
+
+    /**
+     * Grouping the dependencies by target class requires to compute the dependencies of all imported classes.
+     * Unless this has already happened, we only do it if we have to check most imported classes anyway.
+     */
+    private Optional<SetMultimap<JavaClass, Dependency>> getDependenciesByTargetClass() {
+        Optional<SetMultimap<JavaClass, Dependency>> cached = reverseDependencies.getDirectDependenciesByTargetClassIfCached();
+        if (cached.isPresent()) {
+            return cached;
+        }
+        return 2 * numberOfClassesToCheck >= reverseDependencies.getNumberOfClasses()
+                ? reverseDependencies.getDirectDependenciesByTargetClass()
+                : Optional.empty();
+    }
+
+    /**
+     * Assumes that the accesses or dependencies are spread evenly over all imported classes.
+     */
+    private long estimateForwardCost(int totalNumber) {
+        int numberOfClasses = Math.max(reverseDependencies.getNumberOfClasses(), 1);
+        return numberOfClassesToCheck + (long) totalNumber * numberOfClassesToCheck / numberOfClasses;
+    }
+
+    /**
+     * @param classesToCheck The classes whose accesses or dependencies would otherwise be iterated
+     * @return A {@link ReverseDependencyLookup} for the given classes, or {@link Optional#empty()},
+     *         if the classes have not all been imported together
+     */
+    public static Optional<ReverseDependencyLookup> of(Collection<JavaClass> classesToCheck) {
+        if (classesToCheck.isEmpty()) {
+            return Optional.empty();
+        }
+        ReverseDependencies reverseDependencies = classesToCheck.iterator().next().getReverseDependencies();
+        if (reverseDependencies == ReverseDependencies.EMPTY) {
+            return Optional.empty();
+        }
+        for (JavaClass javaClass : classesToCheck) {
+            if (javaClass.getReverseDependencies() != reverseDependencies) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(new ReverseDependencyLookup(reverseDependencies, classesToCheck.size()));
+    }
+}
@@ -20,15 +20,20 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.ArchUnitException.InvalidSyntaxUsageException;
+import com.tngtech.archunit.base.DeclaresEvaluationCost;
 import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.base.EvaluationCost;
+import com.tngtech.archunit.core.domain.ClassIndexQuery;
 import com.tngtech.archunit.core.domain.JavaAnnotation;
 
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static com.tngtech.archunit.base.DeclaresEvaluationCost.declaresEvaluationCost;
 import static com.tngtech.archunit.base.DescribedPredicate.equalTo;
 import static com.tngtech.archunit.core.domain.Formatters.ensureSimpleName;
 import static com.tngtech.archunit.core.domain.properties.HasName.Functions.GET_NAME;
@@ -134,7 +139,7 @@ public interface CanBeAnnotated {
         @PublicAPI(usage = ACCESS)
         public static DescribedPredicate<CanBeAnnotated> annotatedWith(String annotationTypeName) {
             DescribedPredicate<HasType> typeNameMatches = GET_RAW_TYPE.then(GET_NAME).is(equalTo(annotationTypeName));
-            return annotatedWith(typeNameMatches.as("@" + ensureSimpleName(annotationTypeName)));
+            return new AnnotatedPredicate(typeNameMatches.as("@" + ensureSimpleName(annotationTypeName)), annotationTypeName);
         }
 
         /**
@@ -147,18 +152,33 @@ public interface CanBeAnnotated {
             return new AnnotatedPredicate(predicate);
         }
 
-        private static class AnnotatedPredicate extends DescribedPredicate<CanBeAnnotated> {
+        private static class AnnotatedPredicate extends DescribedPredicate<CanBeAnnotated> implements ClassIndexQuery.Provider {
             private final DescribedPredicate<? super JavaAnnotation<?>> predicate;
+            private final Optional<String> annotationTypeName;
 
             AnnotatedPredicate(DescribedPredicate<? super JavaAnnotation<?>> predicate) {
+                this(predicate, Optional.empty());
+            }
+
+            AnnotatedPredicate(DescribedPredicate<? super JavaAnnotation<?>> predicate, String annotationTypeName) {
+                this(predicate, Optional.of(annotationTypeName));
+            }
+
+            private AnnotatedPredicate(DescribedPredicate<? super JavaAnnotation<?>> predicate, Optional<String> annotationTypeName) {
                 super("annotated with " + predicate.getDescription());
                 this.predicate = predicate;
+                this.annotationTypeName = annotationTypeName;
             }
 
             @Override
             public boolean test(CanBeAnnotated input) {
                 return input.isAnnotatedWith(predicate);
             }
+
+            @Override
+            public Optional<ClassIndexQuery> getClassIndexQuery() {
+                return annotationTypeName.map(ClassIndexQuery::annotatedWith);
+            }
         }
 
         /**
@@ -202,7 +222,7 @@ public interface CanBeAnnotated {
             return new MetaAnnotatedPredicate(predicate);
         }
 
-        private static class MetaAnnotatedPredicate extends DescribedPredicate<CanBeAnnotated> {
+        private static class MetaAnnotatedPredicate extends DescribedPredicate<CanBeAnnotated> implements DeclaresEvaluationCost {
             private final DescribedPredicate<? super JavaAnnotation<?>> predicate;
 
             MetaAnnotatedPredicate(DescribedPredicate<? super JavaAnnotation<?>> predicate) {
@@ -214,6 +234,16 @@ public interface CanBeAnnotated {
             public boolean test(CanBeAnnotated input) {
                 return input.isMetaAnnotatedWith(predicate);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.EXPENSIVE;
+            }
+
+            @Override
+            public boolean isEvaluationCostDeclared() {
+                return declaresEvaluationCost(predicate);
+            }
         }
     }
 
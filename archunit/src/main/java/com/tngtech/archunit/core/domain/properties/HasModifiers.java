@@ -18,7 +18,9 @@ package com.tngtech.archunit.core.domain.properties;
 import java.util.Set;
 
 import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.DeclaresEvaluationCost;
 import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.base.EvaluationCost;
 import com.tngtech.archunit.core.domain.JavaModifier;
 
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
@@ -41,7 +43,7 @@ public interface HasModifiers {
             return new ModifierPredicate(modifier);
         }
 
-        private static class ModifierPredicate extends DescribedPredicate<HasModifiers> {
+        private static class ModifierPredicate extends DescribedPredicate<HasModifiers> implements DeclaresEvaluationCost {
             private final JavaModifier modifier;
 
             ModifierPredicate(JavaModifier modifier) {
@@ -53,6 +55,11 @@ public interface HasModifiers {
             public boolean test(HasModifiers input) {
                 return input.getModifiers().contains(modifier);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.CHEAP;
+            }
         }
     }
 }
@@ -21,7 +21,9 @@ import java.util.regex.Pattern;
 import com.google.common.collect.ImmutableList;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.ChainableFunction;
+import com.tngtech.archunit.base.DeclaresEvaluationCost;
 import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.base.EvaluationCost;
 
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.core.domain.properties.HasName.Utils.namesOf;
@@ -60,7 +62,7 @@ public interface HasName {
                 return new FullNameMatchingPredicate(regex);
             }
 
-            private static class FullNameEqualsPredicate extends DescribedPredicate<HasName.AndFullName> {
+            private static class FullNameEqualsPredicate extends DescribedPredicate<HasName.AndFullName> implements DeclaresEvaluationCost {
                 private final String fullName;
 
                 FullNameEqualsPredicate(String fullName) {
@@ -72,6 +74,11 @@ public interface HasName {
                 public boolean test(HasName.AndFullName input) {
                     return input.getFullName().equals(fullName);
                 }
+
+                @Override
+                public EvaluationCost getEvaluationCost() {
+                    return EvaluationCost.CHEAP;
+                }
             }
 
             private static class FullNameMatchingPredicate extends DescribedPredicate<HasName.AndFullName> {
@@ -140,7 +147,7 @@ public interface HasName {
             return new NameEndingWithPredicate(postfix);
         }
 
-        private static class NameEqualsPredicate extends DescribedPredicate<HasName> {
+        private static class NameEqualsPredicate extends DescribedPredicate<HasName> implements DeclaresEvaluationCost {
             private final String name;
 
             NameEqualsPredicate(String name) {
@@ -152,6 +159,11 @@ public interface HasName {
             public boolean test(HasName input) {
                 return input.getName().equals(name);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.CHEAP;
+            }
         }
 
         private static class NameMatchingPredicate extends DescribedPredicate<HasName> {
@@ -168,7 +180,7 @@ public interface HasName {
             }
         }
 
-        private static class NameStartingWithPredicate extends DescribedPredicate<HasName> {
+        private static class NameStartingWithPredicate extends DescribedPredicate<HasName> implements DeclaresEvaluationCost {
             private final String prefix;
 
             NameStartingWithPredicate(String prefix) {
@@ -181,9 +193,13 @@ public interface HasName {
                 return input.getName().startsWith(prefix);
             }
 
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.CHEAP;
+            }
         }
 
-        private static class NameContainingPredicate extends DescribedPredicate<HasName> {
+        private static class NameContainingPredicate extends DescribedPredicate<HasName> implements DeclaresEvaluationCost {
             private final String infix;
 
             NameContainingPredicate(String infix) {
@@ -195,9 +211,14 @@ public interface HasName {
             public boolean test(HasName input) {
                 return input.getName().contains(infix);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.CHEAP;
+            }
         }
 
-        private static class NameEndingWithPredicate extends DescribedPredicate<HasName> {
+        private static class NameEndingWithPredicate extends DescribedPredicate<HasName> implements DeclaresEvaluationCost {
             private final String suffix;
 
             NameEndingWithPredicate(String suffix) {
@@ -209,6 +230,11 @@ public interface HasName {
             public boolean test(HasName input) {
                 return input.getName().endsWith(suffix);
             }
+
+            @Override
+            public EvaluationCost getEvaluationCost() {
+                return EvaluationCost.CHEAP;
+            }
         }
     }
 
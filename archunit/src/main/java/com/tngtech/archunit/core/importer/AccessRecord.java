@@ -17,6 +17,7 @@ package com.tngtech.archunit.core.importer;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -70,45 +71,55 @@ interface AccessRecord<TARGET extends AccessTarget> {
 
         static Factory<RawAccessRecord, AccessRecord<ConstructorCallTarget>> forConstructorCallRecord() {
             return new Factory<RawAccessRecord, AccessRecord<ConstructorCallTarget>>() {
+                private final AccessTargetFactory<ConstructorCallTarget> targetFactory = new CachingAccessTargetFactory<>(CONSTRUCTOR_CALL_TARGET_FACTORY);
+
                 @Override
                 AccessRecord<ConstructorCallTarget> create(RawAccessRecord record, ImportedClasses classes) {
-                    return new RawAccessRecordProcessed<>(record, classes, CONSTRUCTOR_CALL_TARGET_FACTORY);
+                    return new RawAccessRecordProcessed<>(record, classes, targetFactory);
                 }
             };
         }
 
         static Factory<RawAccessRecord, AccessRecord<ConstructorReferenceTarget>> forConstructorReferenceRecord() {
             return new Factory<RawAccessRecord, AccessRecord<ConstructorReferenceTarget>>() {
+                private final AccessTargetFactory<ConstructorReferenceTarget> targetFactory = new CachingAccessTargetFactory<>(CONSTRUCTOR_REFERENCE_TARGET_FACTORY);
+
                 @Override
                 AccessRecord<ConstructorReferenceTarget> create(RawAccessRecord record, ImportedClasses classes) {
-                    return new RawAccessRecordProcessed<>(record, classes, CONSTRUCTOR_REFERENCE_TARGET_FACTORY);
+                    return new RawAccessRecordProcessed<>(record, classes, targetFactory);
                 }
             };
         }
 
         static Factory<RawAccessRecord, AccessRecord<MethodCallTarget>> forMethodCallRecord() {
             return new Factory<RawAccessRecord, AccessRecord<MethodCallTarget>>() {
+                private final AccessTargetFactory<MethodCallTarget> targetFactory = new CachingAccessTargetFactory<>(METHOD_CALL_TARGET_FACTORY);
+
                 @Override
                 AccessRecord<MethodCallTarget> create(RawAccessRecord record, ImportedClasses classes) {
-                    return new RawAccessRecordProcessed<>(record, classes, METHOD_CALL_TARGET_FACTORY);
+                    return new RawAccessRecordProcessed<>(record, classes, targetFactory);
                 }
             };
         }
 
         static Factory<RawAccessRecord, AccessRecord<MethodReferenceTarget>> forMethodReferenceRecord() {
             return new Factory<RawAccessRecord, AccessRecord<MethodReferenceTarget>>() {
+                private final AccessTargetFactory<MethodReferenceTarget> targetFactory = new CachingAccessTargetFactory<>(METHOD_REFERENCE_TARGET_FACTORY);
+
                 @Override
                 AccessRecord<MethodReferenceTarget> create(RawAccessRecord record, ImportedClasses classes) {
-                    return new RawAccessRecordProcessed<>(record, classes, METHOD_REFERENCE_TARGET_FACTORY);
+                    return new RawAccessRecordProcessed<>(record, classes, targetFactory);
                 }
             };
         }
 
         static Factory<RawAccessRecord.ForField, FieldAccessRecord> forFieldAccessRecord() {
             return new Factory<RawAccessRecord.ForField, FieldAccessRecord>() {
+                private final AccessTargetFactory<FieldAccessTarget> targetFactory = new CachingAccessTargetFactory<>(FIELD_ACCESS_TARGET_FACTORY);
+
                 @Override
                 FieldAccessRecord create(RawAccessRecord.ForField record, ImportedClasses classes) {
-                    return new RawFieldAccessRecordProcessed(record, classes);
+                    return new RawFieldAccessRecordProcessed(record, classes, targetFactory);
                 }
             };
         }
@@ -128,6 +139,25 @@ interface AccessRecord<TARGET extends AccessTarget> {
             TARGET create(JavaClass targetOwner, TargetInfo targetInfo, ImportedClasses classes);
         }
 
+        /**
+         * Creates each distinct {@link AccessTarget} only once per import, i.e. all accesses to the same target
+         * (same owner, name and descriptor) share the same target instance. Since one factory is used for the
+         * whole import, the cache can be released together with the factory once the import is complete.
+         */
+        private static class CachingAccessTargetFactory<TARGET extends AccessTarget> implements AccessTargetFactory<TARGET> {
+            private final AccessTargetFactory<TARGET> delegate;
+            private final Map<TargetInfo, TARGET> targets = new HashMap<>();
+
+            CachingAccessTargetFactory(AccessTargetFactory<TARGET> delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public TARGET create(JavaClass targetOwner, TargetInfo targetInfo, ImportedClasses classes) {
+                return targets.computeIfAbsent(targetInfo, key -> delegate.create(targetOwner, key, classes));
+            }
+        }
+
         private static class ConstructorAccessTargetFactory<TARGET extends CodeUnitAccessTarget> implements AccessTargetFactory<TARGET> {
             private final Supplier<CodeUnitAccessTargetBuilder<JavaConstructor, TARGET>> targetBuilderSupplier;
 
@@ -279,8 +309,8 @@ interface AccessRecord<TARGET extends AccessTarget> {
         private static class RawFieldAccessRecordProcessed extends RawAccessRecordProcessed<FieldAccessTarget> implements FieldAccessRecord {
             private final AccessType accessType;
 
-            RawFieldAccessRecordProcessed(RawAccessRecord.ForField record, ImportedClasses classes) {
-                super(record, classes, FIELD_ACCESS_TARGET_FACTORY);
+            RawFieldAccessRecordProcessed(RawAccessRecord.ForField record, ImportedClasses classes, AccessTargetFactory<FieldAccessTarget> accessTargetFactory) {
+                super(record, classes, accessTargetFactory);
                 accessType = record.accessType;
             }
 
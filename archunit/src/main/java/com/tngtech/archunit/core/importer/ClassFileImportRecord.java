@@ -25,6 +25,7 @@ import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import com.google.common.collect.ArrayListMultimap;
@@ -42,6 +43,7 @@ import com.tngtech.archunit.core.importer.DomainBuilders.JavaFieldBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaMethodBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaParameterizedTypeBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaStaticInitializerBuilder;
+import com.tngtech.archunit.core.importer.JavaClassSignatureImporter.JavaClassSignature;
 import com.tngtech.archunit.core.importer.RawAccessRecord.CodeUnit;
 import com.tngtech.archunit.core.importer.RawAccessRecord.MemberSignature;
 import org.slf4j.Logger;
@@ -70,6 +72,7 @@ class ClassFileImportRecord {
     private final Map<String, JavaClassTypeParametersBuilder> typeParametersBuilderByOwner = new HashMap<>();
     private final Map<String, JavaParameterizedTypeBuilder<JavaClass>> genericSuperclassBuilderByOwner = new HashMap<>();
     private final Map<String, List<JavaParameterizedTypeBuilder<JavaClass>>> genericInterfaceBuildersByOwner = new HashMap<>();
+    private final Map<String, Supplier<JavaClassSignature>> lazilyParsedGenericSignatureByOwner = new HashMap<>();
     private final SetMultimap<String, JavaFieldBuilder> fieldBuildersByOwner = HashMultimap.create();
     private final SetMultimap<String, JavaMethodBuilder> methodBuildersByOwner = HashMultimap.create();
     private final SetMultimap<String, JavaConstructorBuilder> constructorBuildersByOwner = HashMultimap.create();
@@ -113,6 +116,10 @@ class ClassFileImportRecord {
         genericInterfaceBuildersByOwner.put(ownerName, genericInterfaceBuilders);
     }
 
+    void addLazilyParsedGenericSignature(String ownerName, Supplier<JavaClassSignature> genericSignature) {
+        lazilyParsedGenericSignatureByOwner.put(ownerName, genericSignature);
+    }
+
     void addField(String ownerName, JavaFieldBuilder fieldBuilder) {
         fieldBuildersByOwner.put(ownerName, fieldBuilder);
     }
@@ -179,6 +186,10 @@ class ClassFileImportRecord {
         return Optional.ofNullable(genericInterfaceBuildersByOwner.get(owner.getName()));
     }
 
+    Optional<Supplier<JavaClassSignature>> getLazilyParsedGenericSignatureFor(JavaClass owner) {
+        return Optional.ofNullable(lazilyParsedGenericSignatureByOwner.get(owner.getName()));
+    }
+
     Set<JavaFieldBuilder> getFieldBuildersFor(String ownerName) {
         return fieldBuildersByOwner.get(ownerName);
     }
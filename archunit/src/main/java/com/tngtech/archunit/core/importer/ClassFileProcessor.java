@@ -21,6 +21,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.core.domain.JavaClass;
@@ -35,6 +36,7 @@ import com.tngtech.archunit.core.importer.DomainBuilders.JavaMethodBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaParameterizedTypeBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaStaticInitializerBuilder;
 import com.tngtech.archunit.core.importer.JavaClassProcessor.AccessHandler;
+import com.tngtech.archunit.core.importer.JavaClassSignatureImporter.JavaClassSignature;
 import com.tngtech.archunit.core.importer.RawAccessRecord.CodeUnit;
 import com.tngtech.archunit.core.importer.RawAccessRecord.TargetInfo;
 import com.tngtech.archunit.core.importer.TryCatchRecorder.TryCatchBlocksFinishedListener;
@@ -53,26 +55,41 @@ class ClassFileProcessor {
     private static final Logger LOG = LoggerFactory.getLogger(ClassFileProcessor.class);
 
     static final int ASM_API_VERSION = ASM9;
+    static final String LAZY_GENERIC_SIGNATURES_PROPERTY_NAME = "import.lazyGenericSignatures";
+    static final String RECORD_TRY_CATCH_BLOCKS_PROPERTY_NAME = "import.recordTryCatchBlocks";
+    static final String RECORD_INSTANCEOF_CHECKS_PROPERTY_NAME = "import.recordInstanceofChecks";
+    static final String RECORD_REFERENCED_CLASS_OBJECTS_PROPERTY_NAME = "import.recordReferencedClassObjects";
+    static final String RECORD_ACCESS_LINE_NUMBERS_PROPERTY_NAME = "import.recordAccessLineNumbers";
 
     private final boolean md5InClassSourcesEnabled = ArchConfiguration.get().md5InClassSourcesEnabled();
+    private final boolean lazyGenericSignatures = getBooleanProperty(LAZY_GENERIC_SIGNATURES_PROPERTY_NAME, false);
+    private final RecordedCodeUnitDetails recordedCodeUnitDetails = new RecordedCodeUnitDetails(
+            getBooleanProperty(RECORD_TRY_CATCH_BLOCKS_PROPERTY_NAME, true),
+            getBooleanProperty(RECORD_INSTANCEOF_CHECKS_PROPERTY_NAME, true),
+            getBooleanProperty(RECORD_REFERENCED_CLASS_OBJECTS_PROPERTY_NAME, true),
+            getBooleanProperty(RECORD_ACCESS_LINE_NUMBERS_PROPERTY_NAME, true));
     private final ClassResolver.Factory classResolverFactory = new ClassResolver.Factory();
 
+    private static boolean getBooleanProperty(String propertyName, boolean defaultValue) {
+        return Boolean.parseBoolean(ArchConfiguration.get().getPropertyOrDefault(propertyName, String.valueOf(defaultValue)));
+    }
+
     JavaClasses process(ClassFileSource source) {
         ClassFileImportRecord importRecord = new ClassFileImportRecord();
         DependencyResolutionProcess dependencyResolutionProcess = new DependencyResolutionProcess();
-        RecordAccessHandler accessHandler = new RecordAccessHandler(importRecord, dependencyResolutionProcess);
+        RecordAccessHandler accessHandler = new RecordAccessHandler(importRecord, dependencyResolutionProcess, recordedCodeUnitDetails);
         ClassDetailsRecorder classDetailsRecorder = new ClassDetailsRecorder(importRecord, dependencyResolutionProcess);
         for (ClassFileLocation location : source) {
             try (InputStream s = location.openStream()) {
-                JavaClassProcessor javaClassProcessor =
-                        new JavaClassProcessor(new SourceDescriptor(location.getUri(), md5InClassSourcesEnabled), classDetailsRecorder, accessHandler);
+                JavaClassProcessor javaClassProcessor = new JavaClassProcessor(
+                        new SourceDescriptor(location.getUri(), md5InClassSourcesEnabled), lazyGenericSignatures, classDetailsRecorder, accessHandler);
                 new ClassReader(s).accept(javaClassProcessor, 0);
                 javaClassProcessor.createJavaClass().ifPresent(importRecord::add);
             } catch (Exception e) {
                 LOG.warn(String.format("Couldn't import class from %s", location.getUri()), e);
             }
         }
-        return new ClassGraphCreator(importRecord, dependencyResolutionProcess, getClassResolver(classDetailsRecorder)).complete();
+        return new ClassGraphCreator(importRecord, dependencyResolutionProcess, getClassResolver(classDetailsRecorder), lazyGenericSignatures).complete();
     }
 
     private static class ClassDetailsRecorder implements DeclarationHandler {
@@ -116,6 +133,11 @@ class ClassFileProcessor {
             importRecord.addGenericInterfaces(ownerName, genericInterfaceBuilders);
         }
 
+        @Override
+        public void onLazilyParsedGenericSignature(Supplier<JavaClassSignature> genericSignature) {
+            importRecord.addLazilyParsedGenericSignature(ownerName, genericSignature);
+        }
+
         @Override
         public void onDeclaredField(JavaFieldBuilder fieldBuilder, String fieldTypeName) {
             importRecord.addField(ownerName, fieldBuilder);
@@ -205,13 +227,15 @@ class ClassFileProcessor {
 
         private final ClassFileImportRecord importRecord;
         private final DependencyResolutionProcess dependencyResolutionProcess;
+        private final RecordedCodeUnitDetails recordedDetails;
         private CodeUnit codeUnit;
         private int lineNumber;
         private final TryCatchRecorder tryCatchRecorder = new TryCatchRecorder(this);
 
-        private RecordAccessHandler(ClassFileImportRecord importRecord, DependencyResolutionProcess dependencyResolutionProcess) {
+        private RecordAccessHandler(ClassFileImportRecord importRecord, DependencyResolutionProcess dependencyResolutionProcess, RecordedCodeUnitDetails recordedDetails) {
             this.importRecord = importRecord;
             this.dependencyResolutionProcess = dependencyResolutionProcess;
+            this.recordedDetails = recordedDetails;
         }
 
         @Override
@@ -221,13 +245,17 @@ class ClassFileProcessor {
 
         @Override
         public void onLineNumber(int lineNumber, Label label) {
-            this.lineNumber = lineNumber;
-            tryCatchRecorder.onEncounteredLabel(label, lineNumber);
+            this.lineNumber = recordedDetails.accessLineNumbers ? lineNumber : 0;
+            if (recordedDetails.tryCatchBlocks) {
+                tryCatchRecorder.onEncounteredLabel(label, lineNumber);
+            }
         }
 
         @Override
         public void onLabel(Label label) {
-            tryCatchRecorder.onEncounteredLabel(label);
+            if (recordedDetails.tryCatchBlocks) {
+                tryCatchRecorder.onEncounteredLabel(label);
+            }
         }
 
         @Override
@@ -239,7 +267,7 @@ class ClassFileProcessor {
                     .withAccessType(accessType)
                     .build();
             importRecord.registerFieldAccess(accessRecord);
-            tryCatchRecorder.registerAccess(accessRecord);
+            registerInTryCatchBlocks(accessRecord);
             dependencyResolutionProcess.registerAccessToType(target.owner.getFullyQualifiedClassName());
         }
 
@@ -253,7 +281,7 @@ class ClassFileProcessor {
             } else {
                 importRecord.registerMethodCall(accessRecord);
             }
-            tryCatchRecorder.registerAccess(accessRecord);
+            registerInTryCatchBlocks(accessRecord);
             dependencyResolutionProcess.registerAccessToType(target.owner.getFullyQualifiedClassName());
         }
 
@@ -267,7 +295,7 @@ class ClassFileProcessor {
             } else {
                 importRecord.registerMethodReference(accessRecord);
             }
-            tryCatchRecorder.registerAccess(accessRecord);
+            registerInTryCatchBlocks(accessRecord);
             dependencyResolutionProcess.registerAccessToType(target.owner.getFullyQualifiedClassName());
         }
 
@@ -279,39 +307,59 @@ class ClassFileProcessor {
 
         @Override
         public void handleReferencedClassObject(JavaClassDescriptor type, int lineNumber) {
+            if (!recordedDetails.referencedClassObjects) {
+                return;
+            }
             importRecord.registerReferencedClassObject(new RawReferencedClassObject.Builder()
                     .withOrigin(codeUnit)
                     .withTarget(type)
-                    .withLineNumber(lineNumber)
+                    .withLineNumber(recordedDetails.accessLineNumbers ? lineNumber : 0)
                     .withDeclaredInLambda(false)
                     .build());
         }
 
         @Override
         public void handleInstanceofCheck(JavaClassDescriptor instanceOfCheckType, int lineNumber) {
+            if (!recordedDetails.instanceofChecks) {
+                return;
+            }
             importRecord.registerInstanceofCheck(new RawInstanceofCheck.Builder()
                     .withOrigin(codeUnit)
                     .withTarget(instanceOfCheckType)
-                    .withLineNumber(lineNumber)
+                    .withLineNumber(recordedDetails.accessLineNumbers ? lineNumber : 0)
                     .withDeclaredInLambda(false)
                     .build());
         }
 
         @Override
         public void handleTryCatchBlock(Label start, Label end, Label handler, JavaClassDescriptor throwableType) {
+            if (!recordedDetails.tryCatchBlocks) {
+                return;
+            }
             LOG.trace("Found try/catch block between {} and {} for throwable {}", start, end, throwableType);
             tryCatchRecorder.registerTryCatchBlock(start, end, handler, throwableType);
         }
 
         @Override
         public void handleTryFinallyBlock(Label start, Label end, Label handler) {
+            if (!recordedDetails.tryCatchBlocks) {
+                return;
+            }
             LOG.trace("Found try/finally block between {} and {}", start, end);
             tryCatchRecorder.registerTryFinallyBlock(start, end, handler);
         }
 
         @Override
         public void onMethodEnd() {
-            tryCatchRecorder.onEncounteredMethodEnd();
+            if (recordedDetails.tryCatchBlocks) {
+                tryCatchRecorder.onEncounteredMethodEnd();
+            }
+        }
+
+        private void registerInTryCatchBlocks(RawAccessRecord accessRecord) {
+            if (recordedDetails.tryCatchBlocks) {
+                tryCatchRecorder.registerAccess(accessRecord);
+            }
         }
 
         @Override
@@ -328,25 +376,46 @@ class ClassFileProcessor {
         }
     }
 
+    /**
+     * Details of code units that are recorded by default, but can be switched off to save import time and memory
+     * if no rule is interested in them. Without line numbers all accesses will be reported in line 0.
+     */
+    private static class RecordedCodeUnitDetails {
+        private final boolean tryCatchBlocks;
+        private final boolean instanceofChecks;
+        private final boolean referencedClassObjects;
+        private final boolean accessLineNumbers;
+
+        RecordedCodeUnitDetails(boolean tryCatchBlocks, boolean instanceofChecks, boolean referencedClassObjects, boolean accessLineNumbers) {
+            this.tryCatchBlocks = tryCatchBlocks;
+            this.instanceofChecks = instanceofChecks;
+            this.referencedClassObjects = referencedClassObjects;
+            this.accessLineNumbers = accessLineNumbers;
+        }
+    }
+
     private ClassResolver getClassResolver(ClassDetailsRecorder classDetailsRecorder) {
         ClassResolver classResolver = classResolverFactory.create();
-        classResolver.setClassUriImporter(new UriImporterOfProcessor(classDetailsRecorder, md5InClassSourcesEnabled));
+        classResolver.setClassUriImporter(new UriImporterOfProcessor(classDetailsRecorder, md5InClassSourcesEnabled, lazyGenericSignatures));
         return classResolver;
     }
 
     private static class UriImporterOfProcessor implements ClassUriImporter {
         private final DeclarationHandler declarationHandler;
         private final boolean md5InClassSourcesEnabled;
+        private final boolean lazyGenericSignatures;
 
-        UriImporterOfProcessor(DeclarationHandler declarationHandler, boolean md5InClassSourcesEnabled) {
+        UriImporterOfProcessor(DeclarationHandler declarationHandler, boolean md5InClassSourcesEnabled, boolean lazyGenericSignatures) {
             this.declarationHandler = declarationHandler;
             this.md5InClassSourcesEnabled = md5InClassSourcesEnabled;
+            this.lazyGenericSignatures = lazyGenericSignatures;
         }
 
         @Override
         public Optional<JavaClass> tryImport(URI uri) {
             try (InputStream inputStream = uri.toURL().openStream()) {
-                JavaClassProcessor classProcessor = new JavaClassProcessor(new SourceDescriptor(uri, md5InClassSourcesEnabled), declarationHandler);
+                JavaClassProcessor classProcessor =
+                        new JavaClassProcessor(new SourceDescriptor(uri, md5InClassSourcesEnabled), lazyGenericSignatures, declarationHandler);
                 new ClassReader(inputStream).accept(classProcessor, 0);
                 return classProcessor.createJavaClass();
             } catch (Exception e) {
@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import com.google.common.collect.HashMultimap;
@@ -63,10 +64,12 @@ import com.tngtech.archunit.core.importer.DomainBuilders.JavaMethodCallBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaMethodReferenceBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaParameterizedTypeBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.TryCatchBlockBuilder;
+import com.tngtech.archunit.core.importer.JavaClassSignatureImporter.JavaClassSignature;
 import com.tngtech.archunit.core.importer.RawAccessRecord.CodeUnit;
 import com.tngtech.archunit.core.importer.resolvers.ClassResolver;
 
 import static com.google.common.collect.ImmutableSet.toImmutableSet;
+import static com.tngtech.archunit.base.Suppliers.memoize;
 import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.completeAnnotations;
 import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.completeClassHierarchy;
 import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.completeEnclosingDeclaration;
@@ -87,6 +90,7 @@ class ClassGraphCreator implements ImportContext {
 
     private final ClassFileImportRecord importRecord;
     private final DependencyResolutionProcess dependencyResolutionProcess;
+    private final boolean lazyGenericSignatures;
 
     private final SetMultimap<JavaCodeUnit, FieldAccessRecord> processedFieldAccessRecords = HashMultimap.create();
     private final SetMultimap<JavaCodeUnit, AccessRecord<MethodCallTarget>> processedMethodCallRecords = HashMultimap.create();
@@ -97,9 +101,11 @@ class ClassGraphCreator implements ImportContext {
     private final SetMultimap<JavaCodeUnit, InstanceofCheck> processedInstanceofChecks = HashMultimap.create();
     private final SetMultimap<JavaCodeUnit, TryCatchBlockBuilder> processedTryCatchBlocks = HashMultimap.create();
 
-    ClassGraphCreator(ClassFileImportRecord importRecord, DependencyResolutionProcess dependencyResolutionProcess, ClassResolver classResolver) {
+    ClassGraphCreator(ClassFileImportRecord importRecord, DependencyResolutionProcess dependencyResolutionProcess, ClassResolver classResolver,
+            boolean lazyGenericSignatures) {
         this.importRecord = importRecord;
         this.dependencyResolutionProcess = dependencyResolutionProcess;
+        this.lazyGenericSignatures = lazyGenericSignatures;
         classes = new ImportedClasses(importRecord.getClasses(), classResolver, this::getMethodReturnType);
     }
 
@@ -107,7 +113,9 @@ class ClassGraphCreator implements ImportContext {
         dependencyResolutionProcess.resolve(classes);
         completeClasses();
         completeCodeUnitDependencies();
-        return createJavaClasses(classes.getDirectlyImported(), classes.getAllWithOuterClassesSortedBeforeInnerClasses(), this);
+        JavaClasses result = createJavaClasses(classes.getDirectlyImported(), classes.getAllWithOuterClassesSortedBeforeInnerClasses(), this);
+        classes.freeze();
+        return result;
     }
 
     private void completeClasses() {
@@ -123,16 +131,20 @@ class ClassGraphCreator implements ImportContext {
     }
 
     private void completeCodeUnitDependencies() {
-        importRecord.forEachRawFieldAccessRecord(record ->
-                tryProcess(record, AccessRecord.Factory.forFieldAccessRecord(), processedFieldAccessRecords));
-        importRecord.forEachRawMethodCallRecord(record ->
-                tryProcess(record, AccessRecord.Factory.forMethodCallRecord(), processedMethodCallRecords));
-        importRecord.forEachRawConstructorCallRecord(record ->
-                tryProcess(record, AccessRecord.Factory.forConstructorCallRecord(), processedConstructorCallRecords));
-        importRecord.forEachRawMethodReferenceRecord(record ->
-                tryProcess(record, AccessRecord.Factory.forMethodReferenceRecord(), processedMethodReferenceRecords));
+        // one factory per kind of access for the whole import, so all accesses to the same target share one target instance
+        AccessRecord.Factory<RawAccessRecord.ForField, FieldAccessRecord> fieldAccessRecordFactory = AccessRecord.Factory.forFieldAccessRecord();
+        AccessRecord.Factory<RawAccessRecord, AccessRecord<MethodCallTarget>> methodCallRecordFactory = AccessRecord.Factory.forMethodCallRecord();
+        AccessRecord.Factory<RawAccessRecord, AccessRecord<ConstructorCallTarget>> constructorCallRecordFactory = AccessRecord.Factory.forConstructorCallRecord();
+        AccessRecord.Factory<RawAccessRecord, AccessRecord<MethodReferenceTarget>> methodReferenceRecordFactory = AccessRecord.Factory.forMethodReferenceRecord();
+        AccessRecord.Factory<RawAccessRecord, AccessRecord<ConstructorReferenceTarget>> constructorReferenceRecordFactory =
+                AccessRecord.Factory.forConstructorReferenceRecord();
+
+        importRecord.forEachRawFieldAccessRecord(record -> tryProcess(record, fieldAccessRecordFactory, processedFieldAccessRecords));
+        importRecord.forEachRawMethodCallRecord(record -> tryProcess(record, methodCallRecordFactory, processedMethodCallRecords));
+        importRecord.forEachRawConstructorCallRecord(record -> tryProcess(record, constructorCallRecordFactory, processedConstructorCallRecords));
+        importRecord.forEachRawMethodReferenceRecord(record -> tryProcess(record, methodReferenceRecordFactory, processedMethodReferenceRecords));
         importRecord.forEachRawConstructorReferenceRecord(record ->
-                tryProcess(record, AccessRecord.Factory.forConstructorReferenceRecord(), processedConstructorReferenceRecords));
+                tryProcess(record, constructorReferenceRecordFactory, processedConstructorReferenceRecords));
         importRecord.forEachRawReferencedClassObject(this::processReferencedClassObject);
         importRecord.forEachRawInstanceofCheck(this::processInstanceofCheck);
         importRecord.forEachRawTryCatchBlock(this::processTryCatchBlock);
@@ -260,15 +272,31 @@ class ClassGraphCreator implements ImportContext {
     }
 
     @Override
-    public Optional<JavaType> createGenericSuperclass(JavaClass owner) {
-        Optional<JavaParameterizedTypeBuilder<JavaClass>> genericSuperclassBuilder = importRecord.getGenericSuperclassFor(owner);
+    public Supplier<Optional<JavaType>> createGenericSuperclass(JavaClass owner) {
+        Optional<Supplier<JavaClassSignature>> lazilyParsedSignature = importRecord.getLazilyParsedGenericSignatureFor(owner);
+        if (lazilyParsedSignature.isPresent()) {
+            return memoize(() -> createGenericSuperclass(owner, lazilyParsedSignature.get().get().getGenericSuperclass()));
+        }
+        Optional<JavaType> result = createGenericSuperclass(owner, importRecord.getGenericSuperclassFor(owner));
+        return () -> result;
+    }
+
+    private Optional<JavaType> createGenericSuperclass(JavaClass owner, Optional<JavaParameterizedTypeBuilder<JavaClass>> genericSuperclassBuilder) {
         return genericSuperclassBuilder.map(javaClassJavaParameterizedTypeBuilder ->
                 javaClassJavaParameterizedTypeBuilder.build(owner, getTypeParametersInContextOf(owner), classes));
     }
 
     @Override
-    public Optional<List<JavaType>> createGenericInterfaces(JavaClass owner) {
-        Optional<List<JavaParameterizedTypeBuilder<JavaClass>>> genericInterfaceBuilders = importRecord.getGenericInterfacesFor(owner);
+    public Supplier<Optional<List<JavaType>>> createGenericInterfaces(JavaClass owner) {
+        Optional<Supplier<JavaClassSignature>> lazilyParsedSignature = importRecord.getLazilyParsedGenericSignatureFor(owner);
+        if (lazilyParsedSignature.isPresent()) {
+            return memoize(() -> createGenericInterfaces(owner, Optional.of(lazilyParsedSignature.get().get().getGenericInterfaces())));
+        }
+        Optional<List<JavaType>> result = createGenericInterfaces(owner, importRecord.getGenericInterfacesFor(owner));
+        return () -> result;
+    }
+
+    private Optional<List<JavaType>> createGenericInterfaces(JavaClass owner, Optional<List<JavaParameterizedTypeBuilder<JavaClass>>> genericInterfaceBuilders) {
         if (!genericInterfaceBuilders.isPresent()) {
             return Optional.empty();
         }
@@ -289,6 +317,11 @@ class ClassGraphCreator implements ImportContext {
         return result;
     }
 
+    @Override
+    public boolean includesGenericTypesInDependencies() {
+        return !lazyGenericSignatures;
+    }
+
     @Override
     public List<JavaClass> createInterfaces(JavaClass owner) {
         ImmutableList.Builder<JavaClass> result = ImmutableList.builder();
@@ -299,9 +332,14 @@ class ClassGraphCreator implements ImportContext {
     }
 
     @Override
-    public List<JavaTypeVariable<JavaClass>> createTypeParameters(JavaClass owner) {
+    public Supplier<List<JavaTypeVariable<JavaClass>>> createTypeParameters(JavaClass owner) {
+        Optional<Supplier<JavaClassSignature>> lazilyParsedSignature = importRecord.getLazilyParsedGenericSignatureFor(owner);
+        if (lazilyParsedSignature.isPresent()) {
+            return memoize(() -> lazilyParsedSignature.get().get().getTypeParametersBuilder().build(owner, classes));
+        }
         JavaClassTypeParametersBuilder typeParametersBuilder = importRecord.getTypeParameterBuildersFor(owner.getName());
-        return typeParametersBuilder.build(owner, classes);
+        List<JavaTypeVariable<JavaClass>> result = typeParametersBuilder.build(owner, classes);
+        return () -> result;
     }
 
     @Override
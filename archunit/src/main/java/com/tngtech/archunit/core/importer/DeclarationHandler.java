@@ -19,10 +19,11 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import com.tngtech.archunit.core.domain.JavaClass;
 
-interface DeclarationHandler {
+interface DeclarationHandler extends GenericSignatureTypeHandler {
     boolean isNew(String className);
 
     void onNewClass(String className, Optional<String> superclassName, List<String> interfaceNames);
@@ -33,6 +34,8 @@ interface DeclarationHandler {
 
     void onGenericInterfaces(List<DomainBuilders.JavaParameterizedTypeBuilder<JavaClass>> genericInterfaceBuilders);
 
+    void onLazilyParsedGenericSignature(Supplier<JavaClassSignatureImporter.JavaClassSignature> genericSignature);
+
     void onDeclaredField(DomainBuilders.JavaFieldBuilder fieldBuilder, String fieldTypeName);
 
     void onDeclaredConstructor(DomainBuilders.JavaConstructorBuilder constructorBuilder, Collection<String> rawParameterTypeNames);
@@ -58,6 +61,4 @@ interface DeclarationHandler {
     void onDeclaredInstanceofCheck(String typeName);
 
     void onDeclaredThrowsClause(Collection<String> exceptionTypeNames);
-
-    void onDeclaredGenericSignatureType(String typeName);
 }
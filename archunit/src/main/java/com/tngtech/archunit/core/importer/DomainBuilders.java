@@ -71,11 +71,13 @@ import com.tngtech.archunit.core.domain.SourceCodeLocation;
 import com.tngtech.archunit.core.domain.ThrowsClause;
 import com.tngtech.archunit.core.domain.TryCatchBlock;
 import com.tngtech.archunit.core.domain.properties.HasTypeParameters;
+import com.tngtech.archunit.core.importer.JavaCodeUnitSignatureImporter.JavaCodeUnitSignature;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.ImmutableSet.toImmutableSet;
 import static com.google.common.collect.Sets.union;
+import static com.tngtech.archunit.base.Suppliers.memoize;
 import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.completeTypeVariable;
 import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.createGenericArrayType;
 import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.createSource;
@@ -145,6 +147,7 @@ public final class DomainBuilders {
         private JavaClass owner;
         ImportedClasses importedClasses;
         private int firstLineNumber;
+        boolean genericSignatureParsedLazily = false;
 
         private JavaMemberBuilder() {
         }
@@ -199,6 +202,18 @@ public final class DomainBuilders {
             return firstLineNumber;
         }
 
+        /**
+         * @return a supplier of the value created from the generic signature of this member. The value is created right away,
+         *         unless the generic signature is only parsed on first access, in which case the value is created on first access as well.
+         */
+        public <T> Supplier<T> createFromGenericSignature(Supplier<T> create) {
+            if (genericSignatureParsedLazily) {
+                return memoize(create);
+            }
+            T result = create.get();
+            return () -> result;
+        }
+
         @Override
         public final OUTPUT build(JavaClass owner, ImportedClasses importedClasses) {
             this.owner = owner;
@@ -209,22 +224,35 @@ public final class DomainBuilders {
 
     @Internal
     public static final class JavaFieldBuilder extends JavaMemberBuilder<JavaField, JavaFieldBuilder> {
-        private Optional<JavaTypeCreationProcess<JavaField>> genericType;
+        private Supplier<Optional<JavaTypeCreationProcess<JavaField>>> genericType;
         private JavaClassDescriptor rawType;
 
         JavaFieldBuilder() {
         }
 
         JavaFieldBuilder withType(Optional<JavaTypeCreationProcess<JavaField>> genericTypeBuilder, JavaClassDescriptor rawType) {
-            this.genericType = checkNotNull(genericTypeBuilder);
+            checkNotNull(genericTypeBuilder);
+            this.genericType = () -> genericTypeBuilder;
             this.rawType = checkNotNull(rawType);
             return self();
         }
 
+        JavaFieldBuilder withLazilyParsedType(Supplier<Optional<JavaTypeCreationProcess<JavaField>>> parseGenericType, JavaClassDescriptor rawType) {
+            this.genericType = memoize(parseGenericType);
+            this.rawType = checkNotNull(rawType);
+            genericSignatureParsedLazily = true;
+            return self();
+        }
+
+        public JavaClass getRawType() {
+            return importedClasses.getOrResolve(rawType.getFullyQualifiedClassName());
+        }
+
         public JavaType getType(JavaField field) {
+            Optional<JavaTypeCreationProcess<JavaField>> genericType = this.genericType.get();
             return genericType.isPresent()
                     ? genericType.get().finish(field, allTypeParametersInContextOf(field.getOwner()), importedClasses)
-                    : importedClasses.getOrResolve(rawType.getFullyQualifiedClassName());
+                    : getRawType();
         }
 
         private static Iterable<JavaTypeVariable<?>> allTypeParametersInContextOf(JavaClass javaClass) {
@@ -239,36 +267,50 @@ public final class DomainBuilders {
 
     @Internal
     public abstract static class JavaCodeUnitBuilder<OUTPUT, SELF extends JavaCodeUnitBuilder<OUTPUT, SELF>> extends JavaMemberBuilder<OUTPUT, SELF> {
-        private Optional<JavaTypeCreationProcess<JavaCodeUnit>> genericReturnType;
+        private Supplier<Optional<JavaTypeCreationProcess<JavaCodeUnit>>> genericReturnType;
         private JavaClassDescriptor rawReturnType;
-        private List<JavaTypeCreationProcess<JavaCodeUnit>> genericParameterTypes;
+        private Supplier<List<JavaTypeCreationProcess<JavaCodeUnit>>> genericParameterTypes;
         private List<JavaClassDescriptor> rawParameterTypes;
         private SetMultimap<Integer, JavaAnnotationBuilder> parameterAnnotationsByIndex;
-        private JavaCodeUnitTypeParametersBuilder typeParametersBuilder;
+        private Supplier<JavaCodeUnitTypeParametersBuilder> typeParametersBuilder;
         private List<JavaClassDescriptor> throwsDeclarations;
 
         private JavaCodeUnitBuilder() {
         }
 
         SELF withReturnType(Optional<JavaTypeCreationProcess<JavaCodeUnit>> genericReturnType, JavaClassDescriptor rawReturnType) {
-            this.genericReturnType = genericReturnType;
+            this.genericReturnType = () -> genericReturnType;
             this.rawReturnType = rawReturnType;
             return self();
         }
 
         SELF withParameterTypes(List<JavaTypeCreationProcess<JavaCodeUnit>> genericParameterTypes, List<JavaClassDescriptor> rawParameterTypes) {
-            this.genericParameterTypes = genericParameterTypes;
+            this.genericParameterTypes = () -> genericParameterTypes;
             this.rawParameterTypes = rawParameterTypes;
             return self();
         }
 
+        SELF withLazilyParsedSignature(
+                Supplier<JavaCodeUnitSignature> parseSignature, List<JavaClassDescriptor> rawParameterTypes, JavaClassDescriptor rawReturnType) {
+
+            Supplier<JavaCodeUnitSignature> signature = memoize(parseSignature);
+            this.typeParametersBuilder = () -> new JavaCodeUnitTypeParametersBuilder(signature.get().getTypeParameterBuilders());
+            this.genericParameterTypes = () -> signature.get().getParameterTypes();
+            this.rawParameterTypes = rawParameterTypes;
+            this.genericReturnType = () -> signature.get().getReturnType();
+            this.rawReturnType = rawReturnType;
+            genericSignatureParsedLazily = true;
+            return self();
+        }
+
         SELF withParameterAnnotations(SetMultimap<Integer, JavaAnnotationBuilder> parameterAnnotationsByIndex) {
             this.parameterAnnotationsByIndex = parameterAnnotationsByIndex;
             return self();
         }
 
         SELF withTypeParameters(List<JavaTypeParameterBuilder<JavaCodeUnit>> typeParameterBuilders) {
-            this.typeParametersBuilder = new JavaCodeUnitTypeParametersBuilder(typeParameterBuilders);
+            JavaCodeUnitTypeParametersBuilder typeParametersBuilder = new JavaCodeUnitTypeParametersBuilder(typeParameterBuilders);
+            this.typeParametersBuilder = () -> typeParametersBuilder;
             return self();
         }
 
@@ -290,6 +332,7 @@ public final class DomainBuilders {
         }
 
         public JavaType getGenericReturnType(JavaCodeUnit codeUnit) {
+            Optional<JavaTypeCreationProcess<JavaCodeUnit>> genericReturnType = this.genericReturnType.get();
             return genericReturnType.isPresent()
                     ? genericReturnType.get().finish(codeUnit, allTypeParametersInContextOf(codeUnit), importedClasses)
                     : getRawReturnType();
@@ -304,7 +347,7 @@ public final class DomainBuilders {
         }
 
         public List<JavaType> getGenericParameterTypes(JavaCodeUnit codeUnit) {
-            return build(genericParameterTypes, codeUnit);
+            return build(genericParameterTypes.get(), codeUnit);
         }
 
         private List<JavaType> build(List<JavaTypeCreationProcess<JavaCodeUnit>> genericParameterTypeBuilders, JavaCodeUnit codeUnit) {
@@ -316,7 +359,7 @@ public final class DomainBuilders {
         }
 
         public List<JavaTypeVariable<JavaCodeUnit>> getTypeParameters(JavaCodeUnit owner) {
-            return typeParametersBuilder.build(owner, importedClasses);
+            return typeParametersBuilder.get().build(owner, importedClasses);
         }
 
         public <CODE_UNIT extends JavaCodeUnit> ThrowsClause<CODE_UNIT> getThrowsClause(CODE_UNIT codeUnit) {
@@ -331,6 +374,10 @@ public final class DomainBuilders {
             return result.build();
         }
 
+        public boolean hasParameterAnnotations() {
+            return !parameterAnnotationsByIndex.isEmpty();
+        }
+
         public ParameterAnnotationsBuilder getParameterAnnotationsBuilder(int index) {
             return new ParameterAnnotationsBuilder(parameterAnnotationsByIndex.get(index), importedClasses);
         }
@@ -517,7 +564,8 @@ public final class DomainBuilders {
     public static final class JavaAnnotationBuilder {
         private JavaClassDescriptor type;
         private final Map<String, ValueBuilder> values = new LinkedHashMap<>();
-        private ImportedClasses importedClasses;
+        private JavaClass resolvedType;
+        private Map<String, ResolvedValue> resolvedValues;
 
         JavaAnnotationBuilder() {
         }
@@ -537,30 +585,70 @@ public final class DomainBuilders {
         }
 
         public JavaClass getType() {
-            return importedClasses.getOrResolve(type.getFullyQualifiedClassName());
+            return resolvedType;
         }
 
-        public <T extends HasDescription> Map<String, Object> getValues(T owner) {
-            ImmutableMap.Builder<String, Object> result = ImmutableMap.builder();
-            for (Map.Entry<String, ValueBuilder> entry : values.entrySet()) {
-                entry.getValue().build(owner, importedClasses).ifPresent(value -> result.put(entry.getKey(), value));
-            }
-            return result.build();
+        public boolean hasValues() {
+            return !resolvedValues.isEmpty();
+        }
+
+        /**
+         * Creates the values of the annotation from the values resolved during {@link #build(HasDescription, ImportedClasses)}.
+         * This does not depend on the import anymore, so it can be deferred until the values are requested for the first time.
+         * The returned {@link Supplier} only references the resolved values, but not this builder.
+         */
+        public Supplier<Map<String, Object>> createValues(HasDescription owner) {
+            Map<String, ResolvedValue> resolvedValues = this.resolvedValues;
+            return () -> {
+                ImmutableMap.Builder<String, Object> result = ImmutableMap.builder();
+                for (Map.Entry<String, ResolvedValue> entry : resolvedValues.entrySet()) {
+                    entry.getValue().build(owner).ifPresent(value -> result.put(entry.getKey(), value));
+                }
+                return result.build();
+            };
         }
 
         public <T extends HasDescription> JavaAnnotation<T> build(T owner, ImportedClasses importedClasses) {
-            this.importedClasses = importedClasses;
+            resolve(importedClasses);
             return DomainObjectCreationContext.createJavaAnnotation(owner, this);
         }
 
+        private void resolve(ImportedClasses importedClasses) {
+            if (resolvedValues != null) {
+                return;
+            }
+            resolvedType = importedClasses.getOrResolve(type.getFullyQualifiedClassName());
+            ImmutableMap.Builder<String, ResolvedValue> resolvedValues = ImmutableMap.builder();
+            for (Map.Entry<String, ValueBuilder> entry : values.entrySet()) {
+                resolvedValues.put(entry.getKey(), entry.getValue().resolve(importedClasses));
+            }
+            this.resolvedValues = resolvedValues.build();
+            // nested annotations keep this builder until their values are created, so we drop what is only needed to resolve the values
+            values.clear();
+        }
+
+        /**
+         * An annotation value where all referenced classes have already been resolved during the import,
+         * but where the value itself (e.g. a {@link JavaEnumConstant}, a nested {@link JavaAnnotation} or an array)
+         * is only created once it is requested.
+         */
+        @FunctionalInterface
+        interface ResolvedValue {
+            Optional<Object> build(HasDescription owner);
+        }
+
         abstract static class ValueBuilder {
-            abstract <T extends HasDescription> Optional<Object> build(T owner, ImportedClasses importedClasses);
+            abstract ResolvedValue resolve(ImportedClasses importedClasses);
+
+            <T extends HasDescription> Optional<Object> build(T owner, ImportedClasses importedClasses) {
+                return resolve(importedClasses).build(owner);
+            }
 
             static ValueBuilder fromPrimitiveProperty(Object value) {
                 return new ValueBuilder() {
                     @Override
-                    <T extends HasDescription> Optional<Object> build(T owner, ImportedClasses unused) {
-                        return Optional.of(value);
+                    ResolvedValue resolve(ImportedClasses unused) {
+                        return owner -> Optional.of(value);
                     }
                 };
             }
@@ -568,10 +656,11 @@ public final class DomainBuilders {
             public static ValueBuilder fromEnumProperty(JavaClassDescriptor enumType, String value) {
                 return new ValueBuilder() {
                     @Override
-                    <T extends HasDescription> Optional<Object> build(T owner, ImportedClasses importedClasses) {
-                        return Optional.of(
+                    ResolvedValue resolve(ImportedClasses importedClasses) {
+                        JavaClass declaringClass = importedClasses.getOrResolve(enumType.getFullyQualifiedClassName());
+                        return owner -> Optional.of(
                                 new DomainBuilders.JavaEnumConstantBuilder()
-                                        .withDeclaringClass(importedClasses.getOrResolve(enumType.getFullyQualifiedClassName()))
+                                        .withDeclaringClass(declaringClass)
                                         .withName(value)
                                         .build());
                     }
@@ -581,8 +670,9 @@ public final class DomainBuilders {
             static ValueBuilder fromClassProperty(JavaClassDescriptor value) {
                 return new ValueBuilder() {
                     @Override
-                    <T extends HasDescription> Optional<Object> build(T owner, ImportedClasses importedClasses) {
-                        return Optional.of(importedClasses.getOrResolve(value.getFullyQualifiedClassName()));
+                    ResolvedValue resolve(ImportedClasses importedClasses) {
+                        JavaClass javaClass = importedClasses.getOrResolve(value.getFullyQualifiedClassName());
+                        return owner -> Optional.of(javaClass);
                     }
                 };
             }
@@ -590,8 +680,9 @@ public final class DomainBuilders {
             static ValueBuilder fromAnnotationProperty(JavaAnnotationBuilder builder) {
                 return new ValueBuilder() {
                     @Override
-                    <T extends HasDescription> Optional<Object> build(T owner, ImportedClasses importedClasses) {
-                        return Optional.of(builder.build(owner, importedClasses));
+                    ResolvedValue resolve(ImportedClasses importedClasses) {
+                        builder.resolve(importedClasses);
+                        return owner -> Optional.of(DomainObjectCreationContext.createJavaAnnotation(owner, builder));
                     }
                 };
             }
@@ -19,6 +19,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
@@ -42,8 +43,10 @@ class ImportedClasses {
 
     private final ImmutableMap<String, JavaClass> directlyImported;
     private final Map<String, JavaClass> allClasses = new HashMap<>();
-    private final ClassResolver resolver;
-    private final MethodReturnTypeGetter getMethodReturnType;
+    private final Map<String, JavaClass> detachedStubs = new ConcurrentHashMap<>();
+    private ClassResolver resolver;
+    private MethodReturnTypeGetter getMethodReturnType;
+    private volatile boolean frozen = false;
 
     ImportedClasses(Map<String, JavaClass> directlyImported, ClassResolver resolver, MethodReturnTypeGetter methodReturnTypeGetter) {
         this.directlyImported = ImmutableMap.copyOf(directlyImported);
@@ -58,7 +61,20 @@ class ImportedClasses {
 
     JavaClass getOrResolve(String typeName) {
         JavaClass javaClass = allClasses.get(typeName);
-        return javaClass != null ? javaClass : resolve(typeName);
+        if (javaClass != null) {
+            return javaClass;
+        }
+        return frozen ? detachedStubs.computeIfAbsent(typeName, ImportedClasses::stubClassOf) : resolve(typeName);
+    }
+
+    /**
+     * Called once the import has been completed. Types that are only requested afterwards (e.g. by generic signatures
+     * that are parsed on first access) can not become part of the imported class graph anymore and are thus represented by stubs.
+     */
+    void freeze() {
+        frozen = true;
+        resolver = null;
+        getMethodReturnType = null;
     }
 
     ImportedClassState ensurePresent(String typeName) {
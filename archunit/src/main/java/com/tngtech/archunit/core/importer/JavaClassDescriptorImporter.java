@@ -16,6 +16,8 @@
 package com.tngtech.archunit.core.importer;
 
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
 
 import com.google.common.collect.ImmutableList;
@@ -27,13 +29,19 @@ class JavaClassDescriptorImporter {
     private static final String LAMBDA_METAFACTORY_ASM_OBJECT_TYPE_NAME = "java/lang/invoke/LambdaMetafactory";
     private static final Pattern LAMBDA_METHOD_PATTERN = Pattern.compile("lambda\\$.*\\$\\d+");
     private static final Pattern ACCESS_METHOD_PATTERN = Pattern.compile("access\\$\\d+");
+    // the same types are referenced by countless instructions and signatures, so we only convert each ASM name once
+    private static final ConcurrentMap<String, JavaClassDescriptor> descriptorsByAsmObjectTypeName = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, JavaClassDescriptor> descriptorsByAsmTypeDescriptor = new ConcurrentHashMap<>();
 
     /**
      * Takes an 'internal' ASM object type name, i.e. the class name but with slashes instead of periods,
      * i.e. java/lang/Object (note that this is not a descriptor like Ljava/lang/Object;)
      */
     static JavaClassDescriptor createFromAsmObjectTypeName(String objectTypeName) {
-        return JavaClassDescriptor.From.name(Type.getObjectType(objectTypeName).getClassName());
+        JavaClassDescriptor cached = descriptorsByAsmObjectTypeName.get(objectTypeName);
+        return cached != null
+                ? cached
+                : descriptorsByAsmObjectTypeName.computeIfAbsent(objectTypeName, name -> JavaClassDescriptor.From.name(Type.getObjectType(name).getClassName()));
     }
 
     static JavaClassDescriptor importAsmType(Object type) {
@@ -84,18 +92,35 @@ class JavaClassDescriptorImporter {
     }
 
     static JavaClassDescriptor importAsmTypeFromDescriptor(String typeDescriptor) {
-        return importAsmType(Type.getType(typeDescriptor));
+        JavaClassDescriptor cached = descriptorsByAsmTypeDescriptor.get(typeDescriptor);
+        return cached != null
+                ? cached
+                : descriptorsByAsmTypeDescriptor.computeIfAbsent(typeDescriptor, descriptor -> importAsmType(Type.getType(descriptor)));
     }
 
     static List<JavaClassDescriptor> importAsmMethodArgumentTypes(String methodDescriptor) {
         ImmutableList.Builder<JavaClassDescriptor> result = ImmutableList.builder();
-        for (Type type : Type.getArgumentTypes(methodDescriptor)) {
-            result.add(importAsmType(type));
+        int position = 1; // skip the opening '(' of the method descriptor
+        while (methodDescriptor.charAt(position) != ')') {
+            int end = endOfTypeDescriptor(methodDescriptor, position);
+            result.add(importAsmTypeFromDescriptor(methodDescriptor.substring(position, end)));
+            position = end;
         }
         return result.build();
     }
 
     static JavaClassDescriptor importAsmMethodReturnType(String methodDescriptor) {
-        return importAsmType(Type.getReturnType(methodDescriptor));
+        return importAsmTypeFromDescriptor(methodDescriptor.substring(methodDescriptor.indexOf(')') + 1));
+    }
+
+    /**
+     * @return the end (exclusive) of the type descriptor starting at {@code start}, e.g. {@code [I} or {@code Ljava/lang/Object;}
+     */
+    private static int endOfTypeDescriptor(String descriptor, int start) {
+        int position = start;
+        while (descriptor.charAt(position) == '[') {
+            position++;
+        }
+        return descriptor.charAt(position) == 'L' ? descriptor.indexOf(';', position) + 1 : position + 1;
     }
 }
@@ -43,11 +43,10 @@ import com.tngtech.archunit.core.domain.JavaAnnotation;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClassDescriptor;
 import com.tngtech.archunit.core.domain.JavaEnumConstant;
-import com.tngtech.archunit.core.domain.JavaField;
 import com.tngtech.archunit.core.domain.JavaModifier;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaAnnotationBuilder;
+import com.tngtech.archunit.core.importer.DomainBuilders.JavaAnnotationBuilder.ResolvedValue;
 import com.tngtech.archunit.core.importer.DomainBuilders.JavaAnnotationBuilder.ValueBuilder;
-import com.tngtech.archunit.core.importer.DomainBuilders.JavaTypeCreationProcess;
 import com.tngtech.archunit.core.importer.JavaCodeUnitSignatureImporter.JavaCodeUnitSignature;
 import com.tngtech.archunit.core.importer.RawAccessRecord.CodeUnit;
 import org.objectweb.asm.AnnotationVisitor;
@@ -63,6 +62,7 @@ import org.slf4j.LoggerFactory;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.base.Strings.nullToEmpty;
+import static com.tngtech.archunit.base.Suppliers.memoize;
 import static com.tngtech.archunit.core.domain.JavaConstructor.CONSTRUCTOR_NAME;
 import static com.tngtech.archunit.core.domain.JavaStaticInitializer.STATIC_INITIALIZER_NAME;
 import static com.tngtech.archunit.core.importer.ClassFileProcessor.ASM_API_VERSION;
@@ -80,17 +80,19 @@ class JavaClassProcessor extends ClassVisitor {
     private DomainBuilders.JavaClassBuilder javaClassBuilder;
     private final Set<JavaAnnotationBuilder> annotations = new HashSet<>();
     private final SourceDescriptor sourceDescriptor;
+    private final boolean lazyGenericSignatures;
     private final DeclarationHandler declarationHandler;
     private final AccessHandler accessHandler;
     private String className;
 
-    JavaClassProcessor(SourceDescriptor sourceDescriptor, DeclarationHandler declarationHandler) {
-        this(sourceDescriptor, declarationHandler, NO_OP);
+    JavaClassProcessor(SourceDescriptor sourceDescriptor, boolean lazyGenericSignatures, DeclarationHandler declarationHandler) {
+        this(sourceDescriptor, lazyGenericSignatures, declarationHandler, NO_OP);
     }
 
-    JavaClassProcessor(SourceDescriptor sourceDescriptor, DeclarationHandler declarationHandler, AccessHandler accessHandler) {
+    JavaClassProcessor(SourceDescriptor sourceDescriptor, boolean lazyGenericSignatures, DeclarationHandler declarationHandler, AccessHandler accessHandler) {
         super(ASM_API_VERSION);
         this.sourceDescriptor = sourceDescriptor;
+        this.lazyGenericSignatures = lazyGenericSignatures;
         this.declarationHandler = declarationHandler;
         this.accessHandler = accessHandler;
     }
@@ -127,7 +129,16 @@ class JavaClassProcessor extends ClassVisitor {
 
         className = descriptor.getFullyQualifiedClassName();
         declarationHandler.onNewClass(className, superclassName, interfaceNames);
-        JavaClassSignatureImporter.parseAsmTypeSignature(signature, declarationHandler);
+        if (parseLazily(signature)) {
+            declarationHandler.onLazilyParsedGenericSignature(
+                    memoize(() -> JavaClassSignatureImporter.parseAsmClassSignature(signature, GenericSignatureTypeHandler.IGNORE)));
+        } else {
+            JavaClassSignatureImporter.parseAsmTypeSignature(signature, declarationHandler);
+        }
+    }
+
+    private boolean parseLazily(String signature) {
+        return lazyGenericSignatures && signature != null;
     }
 
     private boolean alreadyImported(JavaClassDescriptor descriptor) {
@@ -224,12 +235,15 @@ class JavaClassProcessor extends ClassVisitor {
         }
 
         JavaClassDescriptor rawType = JavaClassDescriptorImporter.importAsmTypeFromDescriptor(desc);
-        Optional<JavaTypeCreationProcess<JavaField>> genericType = JavaFieldTypeSignatureImporter.parseAsmFieldTypeSignature(signature, declarationHandler);
         DomainBuilders.JavaFieldBuilder fieldBuilder = new DomainBuilders.JavaFieldBuilder()
                 .withName(name)
-                .withType(genericType, rawType)
                 .withModifiers(JavaModifier.getModifiersForField(access))
                 .withDescriptor(desc);
+        if (parseLazily(signature)) {
+            fieldBuilder.withLazilyParsedType(() -> JavaFieldTypeSignatureImporter.parseAsmFieldTypeSignature(signature, GenericSignatureTypeHandler.IGNORE), rawType);
+        } else {
+            fieldBuilder.withType(JavaFieldTypeSignatureImporter.parseAsmFieldTypeSignature(signature, declarationHandler), rawType);
+        }
         declarationHandler.onDeclaredField(fieldBuilder, rawType.getFullyQualifiedClassName());
         return new FieldProcessor(fieldBuilder, declarationHandler);
     }
@@ -246,16 +260,23 @@ class JavaClassProcessor extends ClassVisitor {
 
         JavaClassDescriptor rawReturnType = JavaClassDescriptorImporter.importAsmMethodReturnType(desc);
         DomainBuilders.JavaCodeUnitBuilder<?, ?> codeUnitBuilder = addCodeUnitBuilder(name, codeUnit.getRawParameterTypeNames(), rawReturnType.getFullyQualifiedClassName());
-        JavaCodeUnitSignature codeUnitSignature = JavaCodeUnitSignatureImporter.parseAsmMethodSignature(signature, declarationHandler);
         List<JavaClassDescriptor> throwsDeclarations = typesFrom(exceptions);
         codeUnitBuilder
                 .withName(name)
                 .withModifiers(JavaModifier.getModifiersForMethod(access))
-                .withTypeParameters(codeUnitSignature.getTypeParameterBuilders())
-                .withParameterTypes(codeUnitSignature.getParameterTypes(), codeUnit.getRawParameterTypes())
-                .withReturnType(codeUnitSignature.getReturnType(), rawReturnType)
                 .withDescriptor(desc)
                 .withThrowsClause(throwsDeclarations);
+        if (parseLazily(signature)) {
+            codeUnitBuilder.withLazilyParsedSignature(
+                    () -> JavaCodeUnitSignatureImporter.parseAsmMethodSignature(signature, GenericSignatureTypeHandler.IGNORE),
+                    codeUnit.getRawParameterTypes(), rawReturnType);
+        } else {
+            JavaCodeUnitSignature codeUnitSignature = JavaCodeUnitSignatureImporter.parseAsmMethodSignature(signature, declarationHandler);
+            codeUnitBuilder
+                    .withTypeParameters(codeUnitSignature.getTypeParameterBuilders())
+                    .withParameterTypes(codeUnitSignature.getParameterTypes(), codeUnit.getRawParameterTypes())
+                    .withReturnType(codeUnitSignature.getReturnType(), rawReturnType);
+        }
         declarationHandler.onDeclaredThrowsClause(fullyQualifiedClassNamesOf(throwsDeclarations));
 
         return new MethodProcessor(className, accessHandler, codeUnitBuilder, declarationHandler);
@@ -725,18 +746,37 @@ class JavaClassProcessor extends ClassVisitor {
 
         @Override
         public void visitEnd() {
-            annotationArrayContext.setArrayResult(new ArrayValueBuilder());
-        }
+            annotationArrayContext.setArrayResult(new ArrayValueBuilder(
+                    derivedComponentType,
+                    annotationArrayContext.getDeclaringAnnotationTypeName(),
+                    annotationArrayContext.getDeclaringAnnotationMemberName(),
+                    values));
+        }
+
+        // NOTE: Must not reference the processor and the resolved value must not reference this builder, since annotation values
+        //       are created lazily and would otherwise keep the whole import state reachable from the imported classes
+        private static class ArrayValueBuilder extends ValueBuilder {
+            private final Class<?> derivedComponentType;
+            private final String declaringAnnotationTypeName;
+            private final String declaringAnnotationMemberName;
+            private final List<ValueBuilder> values;
+
+            ArrayValueBuilder(Class<?> derivedComponentType, String declaringAnnotationTypeName, String declaringAnnotationMemberName, List<ValueBuilder> values) {
+                this.derivedComponentType = derivedComponentType;
+                this.declaringAnnotationTypeName = declaringAnnotationTypeName;
+                this.declaringAnnotationMemberName = declaringAnnotationMemberName;
+                this.values = values;
+            }
 
-        private class ArrayValueBuilder extends ValueBuilder {
             @Override
-            public <T extends HasDescription> Optional<Object> build(T owner, ImportedClasses importContext) {
-                return determineComponentType(importContext).map(aClass -> toArray(aClass, buildValues(owner, importContext)));
-
+            ResolvedValue resolve(ImportedClasses importContext) {
+                Optional<Class<?>> componentType = determineComponentType(importContext);
+                List<ResolvedValue> resolvedValues = values.stream().map(value -> value.resolve(importContext)).collect(toList());
+                return owner -> componentType.map(aClass -> toArray(aClass, buildValues(owner, resolvedValues)));
             }
 
             @SuppressWarnings({"unchecked", "rawtypes"}) // NOTE: We assume the component type matches the list
-            private Object toArray(Class<?> componentType, List<Object> values) {
+            private static Object toArray(Class<?> componentType, List<Object> values) {
                 if (componentType == boolean.class) {
                     return Booleans.toArray((Collection) values);
                 } else if (componentType == byte.class) {
@@ -757,9 +797,9 @@ class JavaClassProcessor extends ClassVisitor {
                 return values.toArray((Object[]) Array.newInstance(componentType, values.size()));
             }
 
-            private <T extends HasDescription> List<Object> buildValues(T owner, ImportedClasses importContext) {
-                return values.stream()
-                        .flatMap(value -> value.build(owner, importContext).map(Stream::of).orElse(Stream.empty()))
+            private static List<Object> buildValues(HasDescription owner, List<ResolvedValue> resolvedValues) {
+                return resolvedValues.stream()
+                        .flatMap(value -> value.build(owner).map(Stream::of).orElse(Stream.empty()))
                         .collect(toList());
             }
 
@@ -768,9 +808,7 @@ class JavaClassProcessor extends ClassVisitor {
                     return Optional.of(derivedComponentType);
                 }
 
-                Optional<JavaClass> returnType = importContext.getMethodReturnType(
-                        annotationArrayContext.getDeclaringAnnotationTypeName(),
-                        annotationArrayContext.getDeclaringAnnotationMemberName());
+                Optional<JavaClass> returnType = importContext.getMethodReturnType(declaringAnnotationTypeName, declaringAnnotationMemberName);
 
                 return returnType.isPresent() ?
                         determineComponentTypeFromReturnValue(returnType.get()) :
@@ -28,7 +28,9 @@ import org.objectweb.asm.signature.SignatureVisitor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static com.google.common.base.Preconditions.checkNotNull;
 import static com.tngtech.archunit.core.importer.ClassFileProcessor.ASM_API_VERSION;
+import static java.util.Collections.emptyList;
 
 class JavaClassSignatureImporter {
     private static final Logger log = LoggerFactory.getLogger(JavaClassSignatureImporter.class);
@@ -38,18 +40,25 @@ class JavaClassSignatureImporter {
             return;
         }
 
-        log.trace("Analyzing signature: {}", signature);
-
-        SignatureProcessor signatureProcessor = new SignatureProcessor(declarationHandler);
-        new SignatureReader(signature).accept(signatureProcessor);
-        declarationHandler.onDeclaredTypeParameters(new JavaClassTypeParametersBuilder(signatureProcessor.getTypeParameterBuilders()));
+        JavaClassSignature parsedSignature = parseAsmClassSignature(signature, declarationHandler);
+        declarationHandler.onDeclaredTypeParameters(parsedSignature.getTypeParametersBuilder());
+        parsedSignature.getGenericSuperclass().ifPresent(declarationHandler::onGenericSuperclass);
+        declarationHandler.onGenericInterfaces(parsedSignature.getGenericInterfaces());
+    }
 
-        Optional<JavaParameterizedTypeBuilder<JavaClass>> genericSuperclass = signatureProcessor.getGenericSuperclass();
-        if (genericSuperclass.isPresent()) {
-            declarationHandler.onGenericSuperclass(genericSuperclass.get());
+    static JavaClassSignature parseAsmClassSignature(String signature, GenericSignatureTypeHandler genericSignatureTypeHandler) {
+        if (signature == null) {
+            return JavaClassSignature.ABSENT;
         }
 
-        declarationHandler.onGenericInterfaces(signatureProcessor.getGenericInterfaces());
+        log.trace("Analyzing signature: {}", signature);
+
+        SignatureProcessor signatureProcessor = new SignatureProcessor(genericSignatureTypeHandler);
+        new SignatureReader(signature).accept(signatureProcessor);
+        return new JavaClassSignature(
+                new JavaClassTypeParametersBuilder(signatureProcessor.getTypeParameterBuilders()),
+                signatureProcessor.getGenericSuperclass(),
+                signatureProcessor.getGenericInterfaces());
     }
 
     private static class SignatureProcessor extends SignatureVisitor {
@@ -57,11 +66,11 @@ class JavaClassSignatureImporter {
         private final GenericSuperclassProcessor superclassProcessor;
         private final GenericInterfacesProcessor interfacesProcessor;
 
-        SignatureProcessor(DeclarationHandler declarationHandler) {
+        SignatureProcessor(GenericSignatureTypeHandler genericSignatureTypeHandler) {
             super(ASM_API_VERSION);
-            typeParameterProcessor = new SignatureTypeParameterProcessor<>(declarationHandler);
-            superclassProcessor = new GenericSuperclassProcessor(declarationHandler);
-            interfacesProcessor = new GenericInterfacesProcessor(declarationHandler);
+            typeParameterProcessor = new SignatureTypeParameterProcessor<>(genericSignatureTypeHandler);
+            superclassProcessor = new GenericSuperclassProcessor(genericSignatureTypeHandler);
+            interfacesProcessor = new GenericInterfacesProcessor(genericSignatureTypeHandler);
         }
 
         List<JavaTypeParameterBuilder<JavaClass>> getTypeParameterBuilders() {
@@ -103,12 +112,12 @@ class JavaClassSignatureImporter {
         }
 
         private static class GenericSuperclassProcessor extends SignatureVisitor {
-            private final DeclarationHandler declarationHandler;
+            private final GenericSignatureTypeHandler genericSignatureTypeHandler;
             private JavaParameterizedTypeBuilder<JavaClass> superclass;
 
-            GenericSuperclassProcessor(DeclarationHandler declarationHandler) {
+            GenericSuperclassProcessor(GenericSignatureTypeHandler genericSignatureTypeHandler) {
                 super(ASM_API_VERSION);
-                this.declarationHandler = declarationHandler;
+                this.genericSignatureTypeHandler = genericSignatureTypeHandler;
             }
 
             @Override
@@ -123,18 +132,18 @@ class JavaClassSignatureImporter {
 
             @Override
             public SignatureVisitor visitTypeArgument(char wildcard) {
-                return SignatureTypeArgumentProcessor.create(wildcard, superclass, declarationHandler);
+                return SignatureTypeArgumentProcessor.create(wildcard, superclass, genericSignatureTypeHandler);
             }
         }
 
         private static class GenericInterfacesProcessor extends SignatureVisitor {
-            private final DeclarationHandler declarationHandler;
+            private final GenericSignatureTypeHandler genericSignatureTypeHandler;
             private final List<JavaParameterizedTypeBuilder<JavaClass>> interfaces = new ArrayList<>();
             private JavaParameterizedTypeBuilder<JavaClass> currentInterface;
 
-            GenericInterfacesProcessor(DeclarationHandler declarationHandler) {
+            GenericInterfacesProcessor(GenericSignatureTypeHandler genericSignatureTypeHandler) {
                 super(ASM_API_VERSION);
-                this.declarationHandler = declarationHandler;
+                this.genericSignatureTypeHandler = genericSignatureTypeHandler;
             }
 
             @Override
@@ -145,8 +154,42 @@ class JavaClassSignatureImporter {
 
             @Override
             public SignatureVisitor visitTypeArgument(char wildcard) {
-                return SignatureTypeArgumentProcessor.create(wildcard, currentInterface, declarationHandler);
+                return SignatureTypeArgumentProcessor.create(wildcard, currentInterface, genericSignatureTypeHandler);
             }
         }
     }
+
+    static class JavaClassSignature {
+        static final JavaClassSignature ABSENT = new JavaClassSignature(
+                new JavaClassTypeParametersBuilder(emptyList()),
+                Optional.empty(),
+                emptyList()
+        );
+
+        private final JavaClassTypeParametersBuilder typeParametersBuilder;
+        private final Optional<JavaParameterizedTypeBuilder<JavaClass>> genericSuperclass;
+        private final List<JavaParameterizedTypeBuilder<JavaClass>> genericInterfaces;
+
+        private JavaClassSignature(
+                JavaClassTypeParametersBuilder typeParametersBuilder,
+                Optional<JavaParameterizedTypeBuilder<JavaClass>> genericSuperclass,
+                List<JavaParameterizedTypeBuilder<JavaClass>> genericInterfaces
+        ) {
+            this.typeParametersBuilder = checkNotNull(typeParametersBuilder);
+            this.genericSuperclass = checkNotNull(genericSuperclass);
+            this.genericInterfaces = checkNotNull(genericInterfaces);
+        }
+
+        JavaClassTypeParametersBuilder getTypeParametersBuilder() {
+            return typeParametersBuilder;
+        }
+
+        Optional<JavaParameterizedTypeBuilder<JavaClass>> getGenericSuperclass() {
+            return genericSuperclass;
+        }
+
+        List<JavaParameterizedTypeBuilder<JavaClass>> getGenericInterfaces() {
+            return genericInterfaces;
+        }
+    }
 }
@@ -36,29 +36,29 @@ import static java.util.stream.Collectors.toList;
 class JavaCodeUnitSignatureImporter {
     private static final Logger log = LoggerFactory.getLogger(JavaCodeUnitSignatureImporter.class);
 
-    public static JavaCodeUnitSignature parseAsmMethodSignature(String signature, DeclarationHandler declarationHandler) {
+    public static JavaCodeUnitSignature parseAsmMethodSignature(String signature, GenericSignatureTypeHandler genericSignatureTypeHandler) {
         if (signature == null) {
             return JavaCodeUnitSignature.ABSENT;
         }
 
         log.trace("Analyzing method signature: {}", signature);
 
-        SignatureProcessor signatureProcessor = new SignatureProcessor(declarationHandler);
+        SignatureProcessor signatureProcessor = new SignatureProcessor(genericSignatureTypeHandler);
         new SignatureReader(signature).accept(signatureProcessor);
         return signatureProcessor.getParsedSignature();
     }
 
     private static class SignatureProcessor extends SignatureVisitor {
-        private final DeclarationHandler declarationHandler;
+        private final GenericSignatureTypeHandler genericSignatureTypeHandler;
         private final SignatureTypeParameterProcessor<JavaCodeUnit> typeParameterProcessor;
         private final GenericMemberTypeProcessor<JavaCodeUnit> genericMethodReturnTypeProcessor;
         private final List<GenericMemberTypeProcessor<JavaCodeUnit>> genericMethodParameterTypeProcessors = new ArrayList<>();
 
-        SignatureProcessor(DeclarationHandler declarationHandler) {
+        SignatureProcessor(GenericSignatureTypeHandler genericSignatureTypeHandler) {
             super(ASM_API_VERSION);
-            this.declarationHandler = declarationHandler;
-            typeParameterProcessor = new SignatureTypeParameterProcessor<>(declarationHandler);
-            genericMethodReturnTypeProcessor = new GenericMemberTypeProcessor<>(declarationHandler);
+            this.genericSignatureTypeHandler = genericSignatureTypeHandler;
+            typeParameterProcessor = new SignatureTypeParameterProcessor<>(genericSignatureTypeHandler);
+            genericMethodReturnTypeProcessor = new GenericMemberTypeProcessor<>(genericSignatureTypeHandler);
         }
 
         @Override
@@ -79,7 +79,7 @@ class JavaCodeUnitSignatureImporter {
 
         @Override
         public SignatureVisitor visitParameterType() {
-            GenericMemberTypeProcessor<JavaCodeUnit> parameterTypeProcessor = new GenericMemberTypeProcessor<>(declarationHandler);
+            GenericMemberTypeProcessor<JavaCodeUnit> parameterTypeProcessor = new GenericMemberTypeProcessor<>(genericSignatureTypeHandler);
             genericMethodParameterTypeProcessors.add(parameterTypeProcessor);
             return parameterTypeProcessor;
         }
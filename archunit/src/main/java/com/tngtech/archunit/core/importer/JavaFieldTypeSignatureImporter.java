@@ -29,14 +29,14 @@ import static com.tngtech.archunit.core.importer.ClassFileProcessor.ASM_API_VERS
 class JavaFieldTypeSignatureImporter {
     private static final Logger log = LoggerFactory.getLogger(JavaFieldTypeSignatureImporter.class);
 
-    static Optional<JavaTypeCreationProcess<JavaField>> parseAsmFieldTypeSignature(String signature, DeclarationHandler declarationHandler) {
+    static Optional<JavaTypeCreationProcess<JavaField>> parseAsmFieldTypeSignature(String signature, GenericSignatureTypeHandler genericSignatureTypeHandler) {
         if (signature == null) {
             return Optional.empty();
         }
 
         log.trace("Analyzing field signature: {}", signature);
 
-        SignatureProcessor signatureProcessor = new SignatureProcessor(declarationHandler);
+        SignatureProcessor signatureProcessor = new SignatureProcessor(genericSignatureTypeHandler);
         new SignatureReader(signature).accept(signatureProcessor);
         return signatureProcessor.getFieldType();
     }
@@ -44,9 +44,9 @@ class JavaFieldTypeSignatureImporter {
     private static class SignatureProcessor extends SignatureVisitor {
         private final GenericMemberTypeProcessor<JavaField> genericFieldTypeProcessor;
 
-        SignatureProcessor(DeclarationHandler declarationHandler) {
+        SignatureProcessor(GenericSignatureTypeHandler genericSignatureTypeHandler) {
             super(ASM_API_VERSION);
-            genericFieldTypeProcessor = new GenericMemberTypeProcessor<>(declarationHandler);
+            genericFieldTypeProcessor = new GenericMemberTypeProcessor<>(genericSignatureTypeHandler);
         }
 
         @Override
@@ -18,6 +18,7 @@ package com.tngtech.archunit.lang;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.DescribedIterable;
 import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 
 import static com.tngtech.archunit.PublicAPI.Usage.INHERITANCE;
@@ -47,8 +48,13 @@ public abstract class AbstractClassesTransformer<T> implements ClassesTransforme
     public final ClassesTransformer<T> that(DescribedPredicate<? super T> predicate) {
         return new AbstractClassesTransformer<T>(description + " that " + predicate.getDescription()) {
             @Override
+            @SuppressWarnings("unchecked") // if the transformed elements are JavaClasses, then T must be a supertype of JavaClass
             public Iterable<T> doTransform(JavaClasses collection) {
                 Iterable<T> transformed = AbstractClassesTransformer.this.doTransform(collection);
+                if (transformed instanceof JavaClasses) {
+                    // filtering JavaClasses yields a view on the same classes instead of copying them
+                    return (Iterable<T>) ((JavaClasses) transformed).that((DescribedPredicate<? super JavaClass>) predicate);
+                }
                 return stream(transformed.spliterator(), false).filter(predicate).collect(toList());
             }
         };
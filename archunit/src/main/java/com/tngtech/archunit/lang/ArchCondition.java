@@ -16,6 +16,8 @@
 package com.tngtech.archunit.lang;
 
 import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
 
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.DescribedPredicate;
@@ -57,6 +59,20 @@ public abstract class ArchCondition<T> {
     public void finish(ConditionEvents events) {
     }
 
+    /**
+     * Can be overridden to declare that {@link #check(Object, ConditionEvents)} may be called concurrently for different items,
+     * i.e. that checking one item neither modifies nor depends on any state shared with checking other items.
+     * {@link #init(Collection)} and {@link #finish(ConditionEvents)} will still be called exactly once, before and after
+     * all items have been checked.<br>
+     * Only conditions declaring a thread-safe check will be evaluated in parallel, if parallel rule evaluation
+     * is enabled via the configuration property {@code archRule.evaluateInParallel}.
+     *
+     * @return {@code true}, if {@link #check(Object, ConditionEvents)} is safe to be called concurrently, {@code false} otherwise
+     */
+    public boolean isCheckThreadSafe() {
+        return false;
+    }
+
     public ArchCondition<T> and(ArchCondition<? super T> condition) {
         return ArchConditions.and(this, condition.forSubtype());
     }
@@ -83,22 +99,7 @@ public abstract class ArchCondition<T> {
      * @return An {@link ArchCondition} with adjusted {@link #getDescription() description}.
      */
     public ArchCondition<T> as(String description, Object... args) {
-        return new ArchCondition<T>(description, args) {
-            @Override
-            public void init(Collection<T> allObjectsToTest) {
-                ArchCondition.this.init(allObjectsToTest);
-            }
-
-            @Override
-            public void check(T item, ConditionEvents events) {
-                ArchCondition.this.check(item, events);
-            }
-
-            @Override
-            public void finish(ConditionEvents events) {
-                ArchCondition.this.finish(events);
-            }
-        };
+        return new DescribedCondition<>(this, description, args);
     }
 
     @Override
@@ -203,8 +204,13 @@ public abstract class ArchCondition<T> {
         @Override
         public void check(T object, ConditionEvents events) {
             boolean satisfied = predicate.test(object);
-            String message = createMessage(object, eventDescriber.describe(predicate.getDescription(), satisfied));
-            events.add(new SimpleConditionEvent(object, satisfied, message));
+            events.add(new SimpleConditionEvent(object, satisfied,
+                    () -> createMessage(object, eventDescriber.describe(predicate.getDescription(), satisfied))));
+        }
+
+        @Override
+        public boolean isCheckThreadSafe() {
+            return true;
         }
 
         /**
@@ -227,4 +233,43 @@ public abstract class ArchCondition<T> {
             String describe(String predicateDescription, boolean satisfied);
         }
     }
+
+    private static class DescribedCondition<T> extends ArchCondition<T> implements PreselectingCondition<T> {
+        private final ArchCondition<T> delegate;
+
+        DescribedCondition(ArchCondition<T> delegate, String description, Object... args) {
+            super(description, args);
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void init(Collection<T> allObjectsToTest) {
+            delegate.init(allObjectsToTest);
+        }
+
+        @Override
+        public void check(T item, ConditionEvents events) {
+            delegate.check(item, events);
+        }
+
+        @Override
+        public void finish(ConditionEvents events) {
+            delegate.finish(events);
+        }
+
+        @Override
+        public boolean isCheckThreadSafe() {
+            return delegate.isCheckThreadSafe();
+        }
+
+        @Override
+        public Optional<Set<T>> selectObjectsThatMayViolate(Collection<T> allObjectsToTest) {
+            return PreselectingCondition.selectObjectsThatMayViolate(delegate, allObjectsToTest);
+        }
+
+        @Override
+        public Optional<Set<T>> selectObjectsThatMaySatisfy(Collection<T> allObjectsToTest) {
+            return PreselectingCondition.selectObjectsThatMaySatisfy(delegate, allObjectsToTest);
+        }
+    }
 }
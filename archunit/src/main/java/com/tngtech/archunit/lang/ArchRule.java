@@ -15,10 +15,17 @@
  */
 package com.tngtech.archunit.lang;
 
+import java.math.RoundingMode;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.math.IntMath;
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.Internal;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.DescribedIterable;
@@ -34,6 +41,7 @@ import com.tngtech.archunit.lang.syntax.elements.GivenClasses;
 
 import static com.google.common.collect.Iterables.isEmpty;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static java.util.stream.Collectors.toList;
 
 /**
  * Represents a rule about a specified set of objects of interest (e.g. {@link JavaClass}).
@@ -72,6 +80,49 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
     @PublicAPI(usage = ACCESS)
     ArchRule allowEmptyShould(boolean allowEmptyShould);
 
+    /**
+     * If set to {@code true} the evaluation of this rule stops as soon as the first object has violated the rule.
+     * The rule will then only report the violations of this object, which avoids checking and reporting
+     * possibly huge numbers of violations if the rule is broken anyway.<br>
+     * Note that this method will override the configuration property {@code archRule.failFast}.<br>
+     * This is an optional operation. Rules that always need to evaluate all objects (e.g. a
+     * {@link com.tngtech.archunit.library.freeze.FreezingArchRule FreezingArchRule}) throw an
+     * {@link UnsupportedOperationException} if fail fast is requested. By default, a rule does not support to fail fast.
+     *
+     * @param failFast Whether the evaluation stops at the first violation
+     * @return A (new) {@link ArchRule} with adjusted {@code failFast} behavior
+     * @throws UnsupportedOperationException if {@code failFast} is {@code true} and this rule does not support to fail fast
+     */
+    @PublicAPI(usage = ACCESS)
+    default ArchRule failFast(boolean failFast) {
+        if (failFast) {
+            throw new UnsupportedOperationException(String.format("%s does not support to fail fast", getClass().getName()));
+        }
+        return this;
+    }
+
+    /**
+     * Limits the number of violations that are fully recorded and reported by this rule. All further violations
+     * will still be counted and reported as the number of violations, but will not be kept in memory.<br>
+     * Note that this method will override the configuration property {@code archRule.maxNumberOfRecordedViolations}.<br>
+     * This is an optional operation. Rules that always need to record all violations (e.g. a
+     * {@link com.tngtech.archunit.library.freeze.FreezingArchRule FreezingArchRule}) throw an
+     * {@link UnsupportedOperationException} if a limit is requested. By default, a rule does not support to limit
+     * the recorded violations.
+     *
+     * @param maxNumberOfRecordedViolations The maximum number of violations to record, must be positive
+     * @return A (new) {@link ArchRule} recording at most the given number of violations
+     * @throws UnsupportedOperationException if {@code maxNumberOfRecordedViolations} is less than {@link Integer#MAX_VALUE}
+     *                                       and this rule does not support to limit the recorded violations
+     */
+    @PublicAPI(usage = ACCESS)
+    default ArchRule limitRecordedViolations(int maxNumberOfRecordedViolations) {
+        if (maxNumberOfRecordedViolations < Integer.MAX_VALUE) {
+            throw new UnsupportedOperationException(String.format("%s does not support to limit the recorded violations", getClass().getName()));
+        }
+        return this;
+    }
+
     @PublicAPI(usage = ACCESS)
     final class Assertions {
         private static final ArchUnitExtensions extensions = new ArchUnitExtensions();
@@ -126,7 +177,7 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
     @Internal
     class Factory {
         public static <T> ArchRule create(ClassesTransformer<T> classesTransformer, ArchCondition<T> condition, Priority priority) {
-            return new SimpleArchRule<>(priority, classesTransformer, condition, Optional.empty(), AllowEmptyShould.AS_CONFIGURED);
+            return new SimpleArchRule<>(priority, classesTransformer, condition, Optional.empty(), AllowEmptyShould.AS_CONFIGURED, ViolationLimits.AS_CONFIGURED);
         }
 
         public static ArchRule withBecause(ArchRule rule, String reason) {
@@ -139,25 +190,29 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
 
         private static class SimpleArchRule<T> implements ArchRule {
             private static final String FAIL_ON_EMPTY_SHOULD_PROPERTY_NAME = "archRule.failOnEmptyShould";
+            private static final String EVALUATE_IN_PARALLEL_PROPERTY_NAME = "archRule.evaluateInParallel";
+            private static final int NUMBER_OF_CHUNKS_PER_THREAD = 4;
 
             private final Priority priority;
             private final ClassesTransformer<T> classesTransformer;
             private final ArchCondition<T> condition;
             private final Optional<String> overriddenDescription;
             private final AllowEmptyShould allowEmptyShould;
+            private final ViolationLimits violationLimits;
 
             private SimpleArchRule(Priority priority, ClassesTransformer<T> classesTransformer, ArchCondition<T> condition,
-                    Optional<String> overriddenDescription, AllowEmptyShould allowEmptyShould) {
+                    Optional<String> overriddenDescription, AllowEmptyShould allowEmptyShould, ViolationLimits violationLimits) {
                 this.priority = priority;
                 this.classesTransformer = classesTransformer;
                 this.condition = condition;
                 this.overriddenDescription = overriddenDescription;
                 this.allowEmptyShould = allowEmptyShould;
+                this.violationLimits = violationLimits;
             }
 
             @Override
             public ArchRule as(String newDescription) {
-                return new SimpleArchRule<>(priority, classesTransformer, condition, Optional.of(newDescription), allowEmptyShould);
+                return new SimpleArchRule<>(priority, classesTransformer, condition, Optional.of(newDescription), allowEmptyShould, violationLimits);
             }
 
             @Override
@@ -172,21 +227,123 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
 
             @Override
             public ArchRule allowEmptyShould(boolean allowEmptyShould) {
-                return new SimpleArchRule<>(priority, classesTransformer, condition, overriddenDescription, AllowEmptyShould.fromBoolean(allowEmptyShould));
+                return new SimpleArchRule<>(priority, classesTransformer, condition, overriddenDescription,
+                        AllowEmptyShould.fromBoolean(allowEmptyShould), violationLimits);
+            }
+
+            @Override
+            public ArchRule failFast(boolean failFast) {
+                return new SimpleArchRule<>(priority, classesTransformer, condition, overriddenDescription,
+                        allowEmptyShould, violationLimits.withFailFast(failFast));
+            }
+
+            @Override
+            public ArchRule limitRecordedViolations(int maxNumberOfRecordedViolations) {
+                return new SimpleArchRule<>(priority, classesTransformer, condition, overriddenDescription,
+                        allowEmptyShould, violationLimits.withMaxNumberOfRecordedViolations(maxNumberOfRecordedViolations));
             }
 
             @Override
             public EvaluationResult evaluate(JavaClasses classes) {
+                // the configuration might be scoped to this thread, so we must resolve it before checking objects on other threads
+                ViolationLimits.Resolved limits = violationLimits.resolve();
+                boolean evaluateInParallel = isEvaluationInParallelEnabled();
+                EvaluationProfiler profiler = EvaluationProfiler.start();
                 Collection<T> allObjects = toCollection(classesTransformer.transform(classes));
                 verifyNoEmptyShouldIfEnabled(allObjects);
+                profiler.transformFinished();
 
                 condition.init(allObjects);
-                ConditionEvents events = ConditionEvents.Factory.create();
+                Collection<T> objectsToCheck = selectObjectsThatMayViolate(allObjects);
+                profiler.initFinished();
+
+                ConditionEvents events;
+                OmittedViolations omittedViolations;
+                if (limits.isFailFast()) {
+                    events = limits.createEvents(this);
+                    boolean stoppedEarly = checkUntilFirstViolation(objectsToCheck, events, profiler);
+                    omittedViolations = stoppedEarly ? OmittedViolations.of(events).stoppedEarly() : OmittedViolations.of(events);
+                } else {
+                    // a ViolationSink receives the violations as they occur, so streamed violations are always checked in order
+                    events = condition.isCheckThreadSafe() && evaluateInParallel && !limits.isStreaming()
+                            ? checkInParallel(ImmutableList.copyOf(objectsToCheck), limits, profiler)
+                            : check(objectsToCheck, limits.createEvents(this), profiler);
+                    profiler.checkFinished(objectsToCheck.size());
+                    condition.finish(profiler.countAdded(events));
+                    omittedViolations = OmittedViolations.of(events);
+                }
+                profiler.finishFinished();
+                limits.flushSink();
+                return new EvaluationResult(this, events, omittedViolations, priority, profiler.getProfile());
+            }
+
+            /**
+             * The rule only reports violations, so objects that cannot cause a violation don't need to be checked at all
+             * (compare {@link PreselectingCondition}). E.g. for {@code noClasses().should().accessClassesThat(predicate)}
+             * only those classes need to be checked that access a class matching {@code predicate}, which can be looked up
+             * from the reverse dependencies, if there are few such accesses compared to the accesses of all objects.
+             * The order of the objects is kept, so the reported violations are the same as if all objects had been checked.
+             */
+            private Collection<T> selectObjectsThatMayViolate(Collection<T> allObjects) {
+                Optional<Set<T>> objectsThatMayViolate = PreselectingCondition.selectObjectsThatMayViolate(condition, allObjects);
+                if (!objectsThatMayViolate.isPresent()) {
+                    return allObjects;
+                }
+                Set<T> selected = objectsThatMayViolate.get();
+                return allObjects.stream().filter(selected::contains).collect(toList());
+            }
+
+            private <E extends ConditionEvents> E check(Collection<T> objects, E events, EvaluationProfiler profiler) {
+                ConditionEvents countedEvents = profiler.countAdded(events);
+                for (T object : objects) {
+                    condition.check(object, countedEvents);
+                }
+                return events;
+            }
+
+            /**
+             * Stops checking further objects as soon as one object has caused a violation. The condition is still finished,
+             * since conditions may only report violations once all objects have been checked.
+             *
+             * @return {@code true}, if the evaluation stopped before all objects had been checked
+             */
+            private boolean checkUntilFirstViolation(Collection<T> allObjects, ConditionEvents events, EvaluationProfiler profiler) {
+                ConditionEvents countedEvents = profiler.countAdded(events);
+                int numberOfCheckedObjects = 0;
                 for (T object : allObjects) {
-                    condition.check(object, events);
+                    condition.check(object, countedEvents);
+                    numberOfCheckedObjects++;
+                    if (events.containViolation()) {
+                        break;
+                    }
                 }
-                condition.finish(events);
-                return new EvaluationResult(this, events, priority);
+                profiler.checkFinished(numberOfCheckedObjects);
+                condition.finish(countedEvents);
+
+                return events.containViolation() && numberOfCheckedObjects < allObjects.size();
+            }
+
+            /**
+             * Checks consecutive chunks of the objects on the common fork-join pool, each against its own {@link ConditionEvents}.
+             * The chunks are checked with the {@link ViolationLimits.Resolved limits} resolved by the evaluating thread,
+             * since the threads of the pool don't see a configuration scoped to the evaluating thread.
+             * The events of all chunks are then merged in the order of the chunks, so the result is the same as if
+             * all objects had been checked sequentially.
+             */
+            private ConditionEvents checkInParallel(List<T> allObjects, ViolationLimits.Resolved limits, EvaluationProfiler profiler) {
+                int numberOfChunks = NUMBER_OF_CHUNKS_PER_THREAD * ForkJoinPool.getCommonPoolParallelism();
+                int chunkSize = Math.max(1, IntMath.divide(allObjects.size(), numberOfChunks, RoundingMode.CEILING));
+                List<LimitedConditionEvents> eventsOfChunks = Lists.partition(allObjects, chunkSize).parallelStream()
+                        .map(chunk -> profiler.measureAllocationsOf(() -> check(chunk, limits.createLimitedEvents(), profiler)))
+                        .collect(toList());
+
+                LimitedConditionEvents events = limits.createLimitedEvents();
+                eventsOfChunks.forEach(events::addAll);
+                return events;
+            }
+
+            private boolean isEvaluationInParallelEnabled() {
+                return Boolean.parseBoolean(ArchConfiguration.get().getPropertyOrDefault(EVALUATE_IN_PARALLEL_PROPERTY_NAME, Boolean.FALSE.toString()));
             }
 
             @SuppressWarnings("unchecked")
@@ -262,5 +419,43 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
                 return String.format("because '%s'", reason);
             }
         }
+
+        @Internal
+        final class FailFast implements Transformation {
+            private final boolean failFast;
+
+            public FailFast(boolean failFast) {
+                this.failFast = failFast;
+            }
+
+            @Override
+            public ArchRule apply(ArchRule rule) {
+                return rule.failFast(failFast);
+            }
+
+            @Override
+            public String toString() {
+                return String.format("fail fast '%s'", failFast);
+            }
+        }
+
+        @Internal
+        final class LimitRecordedViolations implements Transformation {
+            private final int maxNumberOfRecordedViolations;
+
+            public LimitRecordedViolations(int maxNumberOfRecordedViolations) {
+                this.maxNumberOfRecordedViolations = maxNumberOfRecordedViolations;
+            }
+
+            @Override
+            public ArchRule apply(ArchRule rule) {
+                return rule.limitRecordedViolations(maxNumberOfRecordedViolations);
+            }
+
+            @Override
+            public String toString() {
+                return String.format("limit recorded violations to %d", maxNumberOfRecordedViolations);
+            }
+        }
     }
 }
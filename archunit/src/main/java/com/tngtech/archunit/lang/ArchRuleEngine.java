@@ -0,0 +1,85 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.core.domain.JavaClasses;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static java.util.Collections.newSetFromMap;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Evaluates many {@link ArchRule ArchRules} against the same {@link JavaClasses} at once.
+ * <br><br>
+ * The rules are evaluated concurrently on the {@link java.util.concurrent.ForkJoinPool#commonPool() common fork-join pool},
+ * each with the {@link ArchConfiguration} of the calling thread. Each rule instance is evaluated only once,
+ * even if it is passed several times. Otherwise, each rule is evaluated just like by {@link ArchRule#evaluate(JavaClasses)},
+ * i.e. every rule transforms and iterates the classes by itself.
+ * The dependencies derived from the classes are shared by the rules only as far as the
+ * {@link JavaClasses#getDependencyCachePolicy() dependency cache policy} keeps them,
+ * e.g. under {@link com.tngtech.archunit.core.domain.DependencyCachePolicy#RECOMPUTE RECOMPUTE} every rule computes them again.
+ * To check several conditions against the same objects in a single pass, join them within one rule
+ * (compare {@link ArchCondition#and(ArchCondition)}).
+ * To additionally check the objects of each single rule in parallel, set the configuration property
+ * {@code archRule.evaluateInParallel} (compare {@link ArchCondition#isCheckThreadSafe()}).
+ * <br><br>
+ * Note that conditions which are shared by several rules and keep state between
+ * {@link ArchCondition#init(Collection) init(..)} and {@link ArchCondition#finish(ConditionEvents) finish(..)}
+ * must not be evaluated this way, since their rules may then be evaluated at the same time.
+ */
+@PublicAPI(usage = ACCESS)
+public final class ArchRuleEngine {
+    private ArchRuleEngine() {
+    }
+
+    /**
+     * @param rules The rules to evaluate
+     * @param classes The classes to evaluate the rules against
+     * @return The {@link EvaluationResult} of each rule, in the same order as the rules were passed
+     */
+    @PublicAPI(usage = ACCESS)
+    public static List<EvaluationResult> evaluateAll(Collection<? extends ArchRule> rules, JavaClasses classes) {
+        checkNotNull(classes);
+        Set<ArchRule> distinctRules = newSetFromMap(new IdentityHashMap<>());
+        List<ArchRule> rulesToEvaluate = rules.stream().filter(distinctRules::add).collect(toList());
+
+        // the threads of the pool don't see a configuration scoped to the calling thread, so we pass it on explicitly
+        ArchConfiguration configuration = ArchConfiguration.get();
+        List<EvaluationResult> results = rulesToEvaluate.parallelStream()
+                .map(rule -> ArchConfiguration.withConfiguration(configuration, () -> rule.evaluate(classes)))
+                .collect(toList());
+        Map<ArchRule, EvaluationResult> resultsByRule = new IdentityHashMap<>();
+        for (int i = 0; i < rulesToEvaluate.size(); i++) {
+            resultsByRule.put(rulesToEvaluate.get(i), results.get(i));
+        }
+
+        ImmutableList.Builder<EvaluationResult> result = ImmutableList.builderWithExpectedSize(rules.size());
+        for (ArchRule rule : rules) {
+            result.add(resultsByRule.get(rule));
+        }
+        return result.build();
+    }
+}
@@ -23,6 +23,7 @@ import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.core.domain.JavaClasses;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.lang.ArchRule.Factory.createBecauseDescription;
 import static com.tngtech.archunit.lang.Priority.MEDIUM;
@@ -93,6 +94,22 @@ public final class CompositeArchRule implements ArchRule {
         return new CompositeArchRule(priority, rulesWithOverriddenAllowEmptyShould.build(), description);
     }
 
+    @Override
+    @PublicAPI(usage = ACCESS)
+    public ArchRule failFast(boolean failFast) {
+        return new CompositeArchRule(priority, transformRules(new Transformation.FailFast(failFast)), description);
+    }
+
+    @Override
+    @PublicAPI(usage = ACCESS)
+    public ArchRule limitRecordedViolations(int maxNumberOfRecordedViolations) {
+        return new CompositeArchRule(priority, transformRules(new Transformation.LimitRecordedViolations(maxNumberOfRecordedViolations)), description);
+    }
+
+    private List<ArchRule> transformRules(Transformation transformation) {
+        return rules.stream().map(transformation::apply).collect(toImmutableList());
+    }
+
     @Override
     @PublicAPI(usage = ACCESS)
     public EvaluationResult evaluate(JavaClasses classes) {
@@ -19,7 +19,10 @@ import java.util.Collection;
 import java.util.Optional;
 
 import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.HasDescription;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.PublicAPI.Usage.INHERITANCE;
 
@@ -66,5 +69,22 @@ public interface ConditionEvents {
         public static ConditionEvents create() {
             return new SimpleConditionEvents();
         }
+
+        /**
+         * Creates {@link ConditionEvents} that pass every violation to the given {@link ViolationSink}
+         * and only record the first {@code maxNumberOfRecordedViolations} violations. All further violations
+         * are merely counted, so the memory needed does not grow with the number of violations.
+         *
+         * @param rule The rule whose violations are collected, will be passed to the {@link ViolationSink}
+         * @param sink The {@link ViolationSink} to pass all violations to
+         * @param maxNumberOfRecordedViolations The maximum number of violations to keep in memory, must be positive
+         * @return {@link ConditionEvents} streaming all violations to the given {@link ViolationSink}
+         */
+        @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+        public static ConditionEvents create(HasDescription rule, ViolationSink sink, int maxNumberOfRecordedViolations) {
+            checkArgument(maxNumberOfRecordedViolations > 0,
+                    "The maximum number of recorded violations must be positive, but was %s", maxNumberOfRecordedViolations);
+            return new StreamingConditionEvents(rule, sink, maxNumberOfRecordedViolations);
+        }
     }
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+
+import com.tngtech.archunit.PublicAPI;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+
+/**
+ * Describes where the time of evaluating an {@link ArchRule} has been spent, i.e. how long it took to transform the imported
+ * classes into the objects to check ({@link ClassesTransformer}), to {@link ArchCondition#init(java.util.Collection) init} the
+ * condition, to {@link ArchCondition#check(Object, ConditionEvents) check} all objects and to
+ * {@link ArchCondition#finish(ConditionEvents) finish} the condition.<br>
+ * A profile is only recorded if the {@code archunit.properties} value {@code archRule.profileEvaluation=true} is configured
+ * (compare {@link EvaluationResult#getProfile()}).
+ */
+@PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+public final class EvaluationProfile {
+    private final Duration transformDuration;
+    private final Duration initDuration;
+    private final Duration checkDuration;
+    private final Duration finishDuration;
+    private final long numberOfCheckedObjects;
+    private final long numberOfEvents;
+    private final OptionalLong allocatedBytes;
+
+    EvaluationProfile(
+            Duration transformDuration,
+            Duration initDuration,
+            Duration checkDuration,
+            Duration finishDuration,
+            long numberOfCheckedObjects,
+            long numberOfEvents,
+            OptionalLong allocatedBytes) {
+        this.transformDuration = transformDuration;
+        this.initDuration = initDuration;
+        this.checkDuration = checkDuration;
+        this.finishDuration = finishDuration;
+        this.numberOfCheckedObjects = numberOfCheckedObjects;
+        this.numberOfEvents = numberOfEvents;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public Duration getTransformDuration() {
+        return transformDuration;
+    }
+
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public Duration getInitDuration() {
+        return initDuration;
+    }
+
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public Duration getCheckDuration() {
+        return checkDuration;
+    }
+
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public Duration getFinishDuration() {
+        return finishDuration;
+    }
+
+    /**
+     * @return The sum of all phases of the evaluation
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public Duration getTotalDuration() {
+        return transformDuration.plus(initDuration).plus(checkDuration).plus(finishDuration);
+    }
+
+    /**
+     * @return The number of objects that have been passed to {@link ArchCondition#check(Object, ConditionEvents)}
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public long getNumberOfCheckedObjects() {
+        return numberOfCheckedObjects;
+    }
+
+    /**
+     * @return The number of {@link ConditionEvent events} the condition has reported, no matter if they are violations or not
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public long getNumberOfEvents() {
+        return numberOfEvents;
+    }
+
+    /**
+     * @return An estimate of the bytes allocated to evaluate the rule, if the JVM supports measuring this.
+     *         If the objects are checked in parallel, this includes the bytes allocated by the threads checking the objects.
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public OptionalLong getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    EvaluationProfile add(EvaluationProfile other) {
+        return new EvaluationProfile(
+                transformDuration.plus(other.transformDuration),
+                initDuration.plus(other.initDuration),
+                checkDuration.plus(other.checkDuration),
+                finishDuration.plus(other.finishDuration),
+                numberOfCheckedObjects + other.numberOfCheckedObjects,
+                numberOfEvents + other.numberOfEvents,
+                allocatedBytes.isPresent() && other.allocatedBytes.isPresent()
+                        ? OptionalLong.of(allocatedBytes.getAsLong() + other.allocatedBytes.getAsLong())
+                        : OptionalLong.empty());
+    }
+
+    @Override
+    public String toString() {
+        return toStringHelper(this)
+                .add("transformDuration", transformDuration)
+                .add("initDuration", initDuration)
+                .add("checkDuration", checkDuration)
+                .add("finishDuration", finishDuration)
+                .add("numberOfCheckedObjects", numberOfCheckedObjects)
+                .add("numberOfEvents", numberOfEvents)
+                .add("allocatedBytes", allocatedBytes)
+                .toString();
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.tngtech.archunit.ArchConfiguration;
+
+/**
+ * Records an {@link EvaluationProfile} while an {@link ArchRule} is evaluated. The phases of the evaluation have to be
+ * reported in order. If profiling is not enabled, all methods do nothing and no profile is created.
+ */
+abstract class EvaluationProfiler {
+    static final String PROFILE_EVALUATION_PROPERTY_NAME = "archRule.profileEvaluation";
+
+    private static final EvaluationProfiler DISABLED = new Disabled();
+
+    static EvaluationProfiler start() {
+        boolean enabled = Boolean.parseBoolean(
+                ArchConfiguration.get().getPropertyOrDefault(PROFILE_EVALUATION_PROPERTY_NAME, Boolean.FALSE.toString()));
+        return enabled ? new Enabled() : DISABLED;
+    }
+
+    abstract void transformFinished();
+
+    abstract void initFinished();
+
+    abstract void checkFinished(int numberOfCheckedObjects);
+
+    abstract void finishFinished();
+
+    /**
+     * @param events The events to pass the reported {@link ConditionEvent events} to
+     * @return {@link ConditionEvents} that count all added events before adding them to the passed events.
+     *         Counting is thread-safe, i.e. the result may be used for events of different threads.
+     */
+    abstract ConditionEvents countAdded(ConditionEvents events);
+
+    /**
+     * Executes the given work, which may run on a thread other than the one that {@link #start() started} this profiler
+     * (e.g. a chunk of objects checked in parallel), and includes the bytes it allocates in the profile.
+     * Only the allocations of other threads are measured here, since those of the starting thread are measured anyway.
+     *
+     * @param work The work to execute
+     * @return The result of the work
+     */
+    abstract <T> T measureAllocationsOf(Supplier<T> work);
+
+    abstract Optional<EvaluationProfile> getProfile();
+
+    private static class Disabled extends EvaluationProfiler {
+        @Override
+        void transformFinished() {
+        }
+
+        @Override
+        void initFinished() {
+        }
+
+        @Override
+        void checkFinished(int numberOfCheckedObjects) {
+        }
+
+        @Override
+        void finishFinished() {
+        }
+
+        @Override
+        ConditionEvents countAdded(ConditionEvents events) {
+            return events;
+        }
+
+        @Override
+        <T> T measureAllocationsOf(Supplier<T> work) {
+            return work.get();
+        }
+
+        @Override
+        Optional<EvaluationProfile> getProfile() {
+            return Optional.empty();
+        }
+    }
+
+    private static class Enabled extends EvaluationProfiler {
+        private final LongAdder numberOfEvents = new LongAdder();
+        private final Thread evaluatingThread = Thread.currentThread();
+        private final long startAllocatedBytes = currentThreadAllocatedBytes();
+        private final LongAdder allocatedBytesOfOtherThreads = new LongAdder();
+        private volatile boolean allocationsOfOtherThreadsUnknown = false;
+        private final long startNanos = System.nanoTime();
+        private long transformFinishedNanos;
+        private long initFinishedNanos;
+        private long checkFinishedNanos;
+        private long finishFinishedNanos;
+        private int numberOfCheckedObjects;
+        private OptionalLong allocatedBytes = OptionalLong.empty();
+
+        @Override
+        void transformFinished() {
+            transformFinishedNanos = System.nanoTime();
+        }
+
+        @Override
+        void initFinished() {
+            initFinishedNanos = System.nanoTime();
+        }
+
+        @Override
+        void checkFinished(int numberOfCheckedObjects) {
+            checkFinishedNanos = System.nanoTime();
+            this.numberOfCheckedObjects = numberOfCheckedObjects;
+        }
+
+        @Override
+        void finishFinished() {
+            finishFinishedNanos = System.nanoTime();
+            long endAllocatedBytes = currentThreadAllocatedBytes();
+            if (startAllocatedBytes >= 0 && endAllocatedBytes >= 0 && !allocationsOfOtherThreadsUnknown) {
+                allocatedBytes = OptionalLong.of(endAllocatedBytes - startAllocatedBytes + allocatedBytesOfOtherThreads.sum());
+            }
+        }
+
+        @Override
+        ConditionEvents countAdded(ConditionEvents events) {
+            return new CountingConditionEvents(events, numberOfEvents);
+        }
+
+        @Override
+        <T> T measureAllocationsOf(Supplier<T> work) {
+            if (Thread.currentThread() == evaluatingThread) {
+                return work.get();
+            }
+
+            long start = currentThreadAllocatedBytes();
+            T result = work.get();
+            long end = currentThreadAllocatedBytes();
+            if (start >= 0 && end >= 0) {
+                allocatedBytesOfOtherThreads.add(end - start);
+            } else {
+                allocationsOfOtherThreadsUnknown = true;
+            }
+            return result;
+        }
+
+        @Override
+        Optional<EvaluationProfile> getProfile() {
+            return Optional.of(new EvaluationProfile(
+                    Duration.ofNanos(transformFinishedNanos - startNanos),
+                    Duration.ofNanos(initFinishedNanos - transformFinishedNanos),
+                    Duration.ofNanos(checkFinishedNanos - initFinishedNanos),
+                    Duration.ofNanos(finishFinishedNanos - checkFinishedNanos),
+                    numberOfCheckedObjects,
+                    numberOfEvents.sum(),
+                    allocatedBytes));
+        }
+
+        /**
+         * @return The bytes allocated by the current thread so far or -1, if the JVM does not support to measure this
+         */
+        private static long currentThreadAllocatedBytes() {
+            try {
+                ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+                return threadMXBean instanceof com.sun.management.ThreadMXBean
+                        ? ((com.sun.management.ThreadMXBean) threadMXBean).getThreadAllocatedBytes(Thread.currentThread().getId())
+                        : -1;
+            } catch (LinkageError | UnsupportedOperationException e) {
+                return -1;
+            }
+        }
+    }
+
+    private static class CountingConditionEvents implements ConditionEvents {
+        private final ConditionEvents delegate;
+        private final LongAdder numberOfEvents;
+
+        CountingConditionEvents(ConditionEvents delegate, LongAdder numberOfEvents) {
+            this.delegate = delegate;
+            this.numberOfEvents = numberOfEvents;
+        }
+
+        @Override
+        public void add(ConditionEvent event) {
+            numberOfEvents.increment();
+            delegate.add(event);
+        }
+
+        @Override
+        public Optional<String> getInformationAboutNumberOfViolations() {
+            return delegate.getInformationAboutNumberOfViolations();
+        }
+
+        @Override
+        public void setInformationAboutNumberOfViolations(String informationAboutNumberOfViolations) {
+            delegate.setInformationAboutNumberOfViolations(informationAboutNumberOfViolations);
+        }
+
+        @Override
+        public Collection<ConditionEvent> getViolating() {
+            return delegate.getViolating();
+        }
+
+        @Override
+        public boolean containViolation() {
+            return delegate.containViolation();
+        }
+
+        @Override
+        public String toString() {
+            return delegate.toString();
+        }
+    }
+}
@@ -62,27 +62,38 @@ public final class EvaluationResult {
     private final ArrayList<ConditionEvent> violations;
     private final Optional<String> informationAboutNumberOfViolations;
     private final Priority priority;
+    private OmittedViolations omittedViolations;
+    private Optional<EvaluationProfile> profile;
 
     @PublicAPI(usage = ACCESS)
     public EvaluationResult(HasDescription rule, Priority priority) {
-        this(rule, new ArrayList<>(), Optional.empty(), priority);
+        this(rule, new ArrayList<>(), Optional.empty(), OmittedViolations.NONE, priority, Optional.empty());
     }
 
     @PublicAPI(usage = ACCESS)
     public EvaluationResult(HasDescription rule, ConditionEvents events, Priority priority) {
+        this(rule, events, OmittedViolations.of(events), priority, Optional.empty());
+    }
+
+    EvaluationResult(HasDescription rule, ConditionEvents events, OmittedViolations omittedViolations, Priority priority, Optional<EvaluationProfile> profile) {
         this(
                 rule,
                 new ArrayList<>(events.getViolating()),
                 events.getInformationAboutNumberOfViolations(),
-                priority
+                omittedViolations,
+                priority,
+                profile
         );
     }
 
-    private EvaluationResult(HasDescription rule, ArrayList<ConditionEvent> violations, Optional<String> informationAboutNumberOfViolations, Priority priority) {
+    private EvaluationResult(HasDescription rule, ArrayList<ConditionEvent> violations, Optional<String> informationAboutNumberOfViolations,
+            OmittedViolations omittedViolations, Priority priority, Optional<EvaluationProfile> profile) {
         this.rule = rule;
         this.violations = createViolations(violations);
         this.informationAboutNumberOfViolations = informationAboutNumberOfViolations;
+        this.omittedViolations = omittedViolations;
         this.priority = priority;
+        this.profile = profile;
     }
 
     @PublicAPI(usage = ACCESS)
@@ -91,13 +102,42 @@ public final class EvaluationResult {
                 .flatMap(event -> event.getDescriptionLines().stream())
                 .sorted(natural())
                 .collect(toImmutableList());
-        FailureMessages failureMessages = new FailureMessages(result, informationAboutNumberOfViolations);
+        Optional<String> informationAboutOmittedViolations = omittedViolations.describe(result.size());
+        FailureMessages failureMessages = new FailureMessages(result,
+                informationAboutOmittedViolations.isPresent() ? informationAboutOmittedViolations : informationAboutNumberOfViolations);
         return new FailureReport(rule, priority, failureMessages);
     }
 
+    /**
+     * Adds the violations of another result, e.g. of a part of a composite rule. If either result has omitted violations
+     * (compare {@link ArchRule#limitRecordedViolations(int)} and {@link ArchRule#failFast(boolean)}),
+     * these are counted for the combined result as well.
+     *
+     * @param part The result to add to this result
+     */
     @PublicAPI(usage = ACCESS)
     public void add(EvaluationResult part) {
         violations.addAll(part.violations);
+        omittedViolations = omittedViolations.add(part.omittedViolations);
+        profile = addProfiles(profile, part.profile);
+    }
+
+    private static Optional<EvaluationProfile> addProfiles(Optional<EvaluationProfile> first, Optional<EvaluationProfile> second) {
+        if (first.isPresent() && second.isPresent()) {
+            return Optional.of(first.get().add(second.get()));
+        }
+        return first.isPresent() ? first : second;
+    }
+
+    /**
+     * @return Details about the time spent evaluating the rule, if profiling is enabled via the
+     *         {@code archunit.properties} value {@code archRule.profileEvaluation=true}.
+     *         For results combined from several rules (e.g. via {@link #add(EvaluationResult)}) the profiles of all parts are summed up.
+     * @see EvaluationProfile
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public Optional<EvaluationProfile> getProfile() {
+        return profile;
     }
 
     /**
@@ -154,6 +194,10 @@ public final class EvaluationResult {
         return violatingObjects.stream().allMatch(supportedElementType::isInstance);
     }
 
+    Collection<ConditionEvent> getViolations() {
+        return violations;
+    }
+
     @PublicAPI(usage = ACCESS)
     public boolean hasViolation() {
         return !violations.isEmpty();
@@ -174,7 +218,7 @@ public final class EvaluationResult {
     @PublicAPI(usage = ACCESS)
     public EvaluationResult filterDescriptionsMatching(Predicate<String> linePredicate) {
         ArrayList<ConditionEvent> filtered = filterEvents(violations, linePredicate);
-        return new EvaluationResult(rule, filtered, Optional.empty(), priority);
+        return new EvaluationResult(rule, filtered, Optional.empty(), OmittedViolations.NONE, priority, profile);
     }
 
     private static ArrayList<ConditionEvent> filterEvents(Collection<ConditionEvent> violations, Predicate<String> linePredicate) {
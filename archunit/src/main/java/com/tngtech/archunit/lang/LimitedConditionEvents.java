@@ -0,0 +1,90 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Records only the first violations up to a maximum number of violation lines
+ * (an event may consist of several lines, so the last recorded event may exceed this number).
+ * All further violations are merely counted
+ * and reported via {@link #getInformationAboutNumberOfViolations()}.
+ */
+final class LimitedConditionEvents implements ConditionEvents {
+    private final int maxNumberOfRecordedViolations;
+    private final List<ConditionEvent> violations = new ArrayList<>();
+    private int numberOfRecordedViolationLines = 0;
+    private int numberOfOmittedViolations = 0;
+    private Optional<String> informationAboutNumberOfViolations = Optional.empty();
+
+    LimitedConditionEvents(int maxNumberOfRecordedViolations) {
+        this.maxNumberOfRecordedViolations = maxNumberOfRecordedViolations;
+    }
+
+    @Override
+    public void add(ConditionEvent event) {
+        if (event.isViolation()) {
+            int numberOfViolationLines = event.getDescriptionLines().size();
+            if (numberOfRecordedViolationLines < maxNumberOfRecordedViolations) {
+                violations.add(event);
+                numberOfRecordedViolationLines += numberOfViolationLines;
+            } else {
+                numberOfOmittedViolations += numberOfViolationLines;
+            }
+        }
+    }
+
+    void addAll(LimitedConditionEvents events) {
+        events.violations.forEach(this::add);
+        numberOfOmittedViolations += events.numberOfOmittedViolations;
+        events.informationAboutNumberOfViolations.ifPresent(this::setInformationAboutNumberOfViolations);
+    }
+
+    OmittedViolations getOmittedViolations() {
+        return OmittedViolations.counted(numberOfOmittedViolations);
+    }
+
+    @Override
+    public Optional<String> getInformationAboutNumberOfViolations() {
+        Optional<String> informationAboutOmittedViolations = getOmittedViolations().describe(numberOfRecordedViolationLines);
+        return informationAboutOmittedViolations.isPresent() ? informationAboutOmittedViolations : informationAboutNumberOfViolations;
+    }
+
+    @Override
+    public void setInformationAboutNumberOfViolations(String informationAboutNumberOfViolations) {
+        this.informationAboutNumberOfViolations = Optional.of(informationAboutNumberOfViolations);
+    }
+
+    @Override
+    public Collection<ConditionEvent> getViolating() {
+        return ImmutableList.copyOf(violations);
+    }
+
+    @Override
+    public boolean containViolation() {
+        return !violations.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" + violations + ", omitted=" + numberOfOmittedViolations + '}';
+    }
+}
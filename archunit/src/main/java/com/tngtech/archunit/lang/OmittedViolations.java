@@ -0,0 +1,100 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.util.Optional;
+
+import com.tngtech.archunit.base.HasDescription;
+
+import static com.tngtech.archunit.lang.ViolationLimits.MAX_NUMBER_OF_RECORDED_VIOLATIONS_PROPERTY_NAME;
+
+/**
+ * The violations of a rule that have not been recorded due to the {@link ViolationLimits}, i.e. violations that
+ * have only been counted, because the maximum number of recorded violations had been reached, or that have not even been
+ * found, because the evaluation stopped at the first violation.<br>
+ * The omitted violations of several rules can be {@link #add(OmittedViolations) added}, e.g. for a {@link CompositeArchRule}.
+ */
+final class OmittedViolations {
+    static final OmittedViolations NONE = new OmittedViolations(0, false);
+
+    private final int numberOfCountedViolations;
+    private final boolean evaluationStoppedEarly;
+
+    private OmittedViolations(int numberOfCountedViolations, boolean evaluationStoppedEarly) {
+        this.numberOfCountedViolations = numberOfCountedViolations;
+        this.evaluationStoppedEarly = evaluationStoppedEarly;
+    }
+
+    /**
+     * @param numberOfCountedViolations The number of violations that have been counted, but not recorded
+     */
+    static OmittedViolations counted(int numberOfCountedViolations) {
+        return new OmittedViolations(numberOfCountedViolations, false);
+    }
+
+    /**
+     * @return The violations omitted by the {@link ViolationLimits}, if the events have been created
+     *         by {@link ViolationLimits.Resolved#createEvents(HasDescription)}
+     */
+    static OmittedViolations of(ConditionEvents events) {
+        if (events instanceof LimitedConditionEvents) {
+            return ((LimitedConditionEvents) events).getOmittedViolations();
+        }
+        if (events instanceof StreamingConditionEvents) {
+            return ((StreamingConditionEvents) events).getOmittedViolations();
+        }
+        return NONE;
+    }
+
+    /**
+     * @return The same omitted violations, where additionally the evaluation stopped at the first violation,
+     *         so there might be further violations that have not been counted
+     */
+    OmittedViolations stoppedEarly() {
+        return new OmittedViolations(numberOfCountedViolations, true);
+    }
+
+    OmittedViolations add(OmittedViolations other) {
+        return new OmittedViolations(
+                numberOfCountedViolations + other.numberOfCountedViolations,
+                evaluationStoppedEarly || other.evaluationStoppedEarly);
+    }
+
+    /**
+     * @param numberOfRecordedViolations The number of violations that have been recorded in addition to the omitted ones
+     * @return Textual information about the total number of violations (compare {@link FailureMessages#getInformationAboutNumberOfViolations()}),
+     *         or {@link Optional#empty()}, if no violations have been omitted
+     */
+    Optional<String> describe(int numberOfRecordedViolations) {
+        int numberOfViolations = numberOfRecordedViolations + numberOfCountedViolations;
+        if (evaluationStoppedEarly) {
+            return Optional.of(String.format(
+                    "at least %d times - the evaluation stopped at the first violation, since fail fast is enabled", numberOfViolations));
+        }
+        if (numberOfCountedViolations > 0) {
+            return Optional.of(String.format(
+                    "%d times - only the first %d violations are reported; "
+                            + "this limit can be adapted using the `archunit.properties` value `%s=xxx`",
+                    numberOfViolations, numberOfRecordedViolations, MAX_NUMBER_OF_RECORDED_VIOLATIONS_PROPERTY_NAME));
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{counted=" + numberOfCountedViolations + ", stoppedEarly=" + evaluationStoppedEarly + '}';
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+import com.tngtech.archunit.Internal;
+
+/**
+ * Implemented by {@link ArchCondition ArchConditions} that can tell upfront which of the objects to test
+ * might produce a violated or a satisfied {@link ConditionEvent}, without {@link ArchCondition#check(Object, ConditionEvents) checking}
+ * each object. An {@link ArchRule} then only needs to check those objects that might produce a violation,
+ * e.g. {@code noClasses().should().accessClassesThat(predicate)} only needs to check those classes that
+ * access any class matching {@code predicate}, which can be looked up from the reverse dependencies.
+ * <br><br>
+ * All selections must be supersets, i.e. any object not selected must never produce an event of the respective kind.
+ *
+ * @param <T> The type of objects the condition applies to
+ */
+@Internal
+public interface PreselectingCondition<T> {
+    /**
+     * @param allObjectsToTest All objects the condition will be tested against (compare {@link ArchCondition#init(Collection)})
+     * @return A superset of the objects that might cause a violated {@link ConditionEvent},
+     *         or {@link Optional#empty()}, if the condition cannot (cheaply) select these objects
+     */
+    Optional<Set<T>> selectObjectsThatMayViolate(Collection<T> allObjectsToTest);
+
+    /**
+     * @param allObjectsToTest All objects the condition will be tested against (compare {@link ArchCondition#init(Collection)})
+     * @return A superset of the objects that might cause a satisfied {@link ConditionEvent},
+     *         or {@link Optional#empty()}, if the condition cannot (cheaply) select these objects
+     */
+    Optional<Set<T>> selectObjectsThatMaySatisfy(Collection<T> allObjectsToTest);
+
+    @SuppressWarnings("unchecked") // the selection of a condition of T only contains objects of T
+    static <T> Optional<Set<T>> selectObjectsThatMayViolate(ArchCondition<T> condition, Collection<T> allObjectsToTest) {
+        return condition instanceof PreselectingCondition<?>
+                ? ((PreselectingCondition<T>) condition).selectObjectsThatMayViolate(allObjectsToTest)
+                : Optional.empty();
+    }
+
+    @SuppressWarnings("unchecked") // the selection of a condition of T only contains objects of T
+    static <T> Optional<Set<T>> selectObjectsThatMaySatisfy(ArchCondition<T> condition, Collection<T> allObjectsToTest) {
+        return condition instanceof PreselectingCondition<?>
+                ? ((PreselectingCondition<T>) condition).selectObjectsThatMaySatisfy(allObjectsToTest)
+                : Optional.empty();
+    }
+}
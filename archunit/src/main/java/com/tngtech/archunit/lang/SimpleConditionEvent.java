@@ -17,25 +17,57 @@ package com.tngtech.archunit.lang;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
 import com.tngtech.archunit.PublicAPI;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static java.util.Collections.singletonList;
 
+/**
+ * A {@link ConditionEvent} for a single corresponding object with a single message. The message can also be
+ * supplied lazily (compare {@link #violated(Object, Supplier)} and {@link #satisfied(Object, Supplier)}),
+ * in which case it is only rendered once it is actually requested, e.g. to report a violation.
+ * Since most events of a typical evaluation are never reported, this avoids formatting lots of messages in vain.
+ */
 @PublicAPI(usage = ACCESS)
 public final class SimpleConditionEvent implements ConditionEvent {
     private final Object correspondingObject;
     private final boolean conditionSatisfied;
-    private final String message;
+    private final Supplier<String> createMessage;
+    private String message;
 
     public SimpleConditionEvent(Object correspondingObject, boolean conditionSatisfied, String message) {
+        this(correspondingObject, conditionSatisfied, () -> message);
+        this.message = checkMessage(message);
+    }
+
+    /**
+     * @param correspondingObject The object this event refers to
+     * @param conditionSatisfied Whether the condition was satisfied by the corresponding object
+     * @param message Supplies the message of this event, will only be called once the message is requested for the first time
+     */
+    @PublicAPI(usage = ACCESS)
+    public SimpleConditionEvent(Object correspondingObject, boolean conditionSatisfied, Supplier<String> message) {
         this.correspondingObject = correspondingObject;
         this.conditionSatisfied = conditionSatisfied;
-        this.message = message;
-        checkArgument(conditionSatisfied || !this.message.trim().isEmpty(), "Message may not be empty for violation");
+        this.createMessage = checkNotNull(message);
+    }
+
+    private String getMessage() {
+        String result = message;
+        if (result == null) {
+            message = result = checkMessage(createMessage.get());
+        }
+        return result;
+    }
+
+    private String checkMessage(String message) {
+        checkArgument(conditionSatisfied || !message.trim().isEmpty(), "Message may not be empty for violation");
+        return message;
     }
 
     @Override
@@ -45,17 +77,17 @@ public final class SimpleConditionEvent implements ConditionEvent {
 
     @Override
     public ConditionEvent invert() {
-        return new SimpleConditionEvent(correspondingObject, !conditionSatisfied, message);
+        return new SimpleConditionEvent(correspondingObject, !conditionSatisfied, this::getMessage);
     }
 
     @Override
     public List<String> getDescriptionLines() {
-        return singletonList(message);
+        return singletonList(getMessage());
     }
 
     @Override
     public void handleWith(Handler handler) {
-        handler.handle(Collections.singleton(correspondingObject), message);
+        handler.handle(Collections.singleton(correspondingObject), getMessage());
     }
 
     @Override
@@ -63,7 +95,7 @@ public final class SimpleConditionEvent implements ConditionEvent {
         return toStringHelper(this)
                 .add("correspondingObject", correspondingObject)
                 .add("conditionSatisfied", conditionSatisfied)
-                .add("message", message)
+                .add("message", getMessage())
                 .toString();
     }
 
@@ -74,4 +106,22 @@ public final class SimpleConditionEvent implements ConditionEvent {
     public static ConditionEvent satisfied(Object correspondingObject, String message) {
         return new SimpleConditionEvent(correspondingObject, true, message);
     }
+
+    /**
+     * @see #violated(Object, String)
+     * @see #SimpleConditionEvent(Object, boolean, Supplier)
+     */
+    @PublicAPI(usage = ACCESS)
+    public static ConditionEvent violated(Object correspondingObject, Supplier<String> message) {
+        return new SimpleConditionEvent(correspondingObject, false, message);
+    }
+
+    /**
+     * @see #satisfied(Object, String)
+     * @see #SimpleConditionEvent(Object, boolean, Supplier)
+     */
+    @PublicAPI(usage = ACCESS)
+    public static ConditionEvent satisfied(Object correspondingObject, Supplier<String> message) {
+        return new SimpleConditionEvent(correspondingObject, true, message);
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import com.tngtech.archunit.base.HasDescription;
+
+/**
+ * Passes every violation to a {@link ViolationSink} and keeps only a limited summary of the violations in memory.
+ */
+final class StreamingConditionEvents implements ConditionEvents {
+    private final HasDescription rule;
+    private final ViolationSink sink;
+    private final LimitedConditionEvents summary;
+
+    StreamingConditionEvents(HasDescription rule, ViolationSink sink, int maxNumberOfRecordedViolations) {
+        this.rule = rule;
+        this.sink = sink;
+        this.summary = new LimitedConditionEvents(maxNumberOfRecordedViolations);
+    }
+
+    @Override
+    public void add(ConditionEvent event) {
+        if (event.isViolation()) {
+            sink.onViolation(rule, event);
+            summary.add(event);
+        }
+    }
+
+    OmittedViolations getOmittedViolations() {
+        return summary.getOmittedViolations();
+    }
+
+    @Override
+    public Optional<String> getInformationAboutNumberOfViolations() {
+        return summary.getInformationAboutNumberOfViolations();
+    }
+
+    @Override
+    public void setInformationAboutNumberOfViolations(String informationAboutNumberOfViolations) {
+        summary.setInformationAboutNumberOfViolations(informationAboutNumberOfViolations);
+    }
+
+    @Override
+    public Collection<ConditionEvent> getViolating() {
+        return summary.getViolating();
+    }
+
+    @Override
+    public boolean containViolation() {
+        return summary.containViolation();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{sink=" + sink + ", summary=" + summary + '}';
+    }
+}
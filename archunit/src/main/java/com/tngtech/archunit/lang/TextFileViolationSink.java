@@ -0,0 +1,110 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.util.Properties;
+
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.HasDescription;
+
+import static com.google.common.base.Preconditions.checkState;
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A {@link ViolationSink} that writes all violations to a single text file. The file is created (or overwritten)
+ * once the sink is initialized and then contains the violations of all evaluated rules, e.g.
+ * <pre><code>
+ * Rule 'classes should ...':
+ * Class &lt;some.pkg.SomeClass&gt; ...
+ * Class &lt;some.pkg.OtherClass&gt; ...
+ * </code></pre>
+ * This {@link ViolationSink} can be configured through the following properties:
+ * <pre><code>
+ * archRule.violationSink=com.tngtech.archunit.lang.TextFileViolationSink
+ * archRule.violationSink.path=... # string: the path of the file the violations will be written to
+ * </code></pre>
+ */
+@PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+public final class TextFileViolationSink implements ViolationSink {
+    private static final String PATH_PROPERTY_NAME = "path";
+    private static final String PATH_DEFAULT = "archunit_violations.txt";
+
+    private Writer writer;
+    private HasDescription lastRule;
+
+    @Override
+    public synchronized void initialize(Properties properties) {
+        File file = new File(properties.getProperty(PATH_PROPERTY_NAME, PATH_DEFAULT)).getAbsoluteFile();
+        File folder = file.getParentFile();
+        checkState(folder.exists() && folder.isDirectory() || folder.mkdirs(), "Cannot create folder %s", folder.getAbsolutePath());
+        try {
+            writer = new BufferedWriter(Files.newBufferedWriter(file.toPath(), UTF_8));
+        } catch (IOException e) {
+            throw new ViolationSinkWriteFailedException(e);
+        }
+    }
+
+    @Override
+    public synchronized void onViolation(HasDescription rule, ConditionEvent violation) {
+        checkState(writer != null, "%s has not been initialized or has already been closed", getClass().getSimpleName());
+        try {
+            if (rule != lastRule) {
+                writer.write(String.format("Rule '%s':%n", rule.getDescription()));
+                lastRule = rule;
+            }
+            for (String line : violation.getDescriptionLines()) {
+                writer.write(line);
+                writer.write(System.lineSeparator());
+            }
+        } catch (IOException e) {
+            throw new ViolationSinkWriteFailedException(e);
+        }
+    }
+
+    @Override
+    public synchronized void flush() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new ViolationSinkWriteFailedException(e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            throw new ViolationSinkWriteFailedException(e);
+        } finally {
+            writer = null;
+            lastRule = null;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.base.HasDescription;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Determines if the evaluation of a rule stops at the first violation and how many violations are fully recorded.
+ * Values not explicitly set for a single rule are taken from the configuration.
+ * If a {@link ViolationSink} is configured, the sink receives all violations, so by default only
+ * {@value #DEFAULT_MAX_NUMBER_OF_RECORDED_VIOLATIONS_WITH_SINK} violations are recorded.
+ */
+final class ViolationLimits {
+    static final String FAIL_FAST_PROPERTY_NAME = "archRule.failFast";
+    static final String MAX_NUMBER_OF_RECORDED_VIOLATIONS_PROPERTY_NAME = "archRule.maxNumberOfRecordedViolations";
+    static final int DEFAULT_MAX_NUMBER_OF_RECORDED_VIOLATIONS_WITH_SINK = 100;
+
+    static final ViolationLimits AS_CONFIGURED = new ViolationLimits(Optional.empty(), Optional.empty());
+
+    private final Optional<Boolean> failFast;
+    private final Optional<Integer> maxNumberOfRecordedViolations;
+
+    private ViolationLimits(Optional<Boolean> failFast, Optional<Integer> maxNumberOfRecordedViolations) {
+        this.failFast = failFast;
+        this.maxNumberOfRecordedViolations = maxNumberOfRecordedViolations;
+    }
+
+    ViolationLimits withFailFast(boolean failFast) {
+        return new ViolationLimits(Optional.of(failFast), maxNumberOfRecordedViolations);
+    }
+
+    ViolationLimits withMaxNumberOfRecordedViolations(int maxNumberOfRecordedViolations) {
+        checkArgument(maxNumberOfRecordedViolations > 0,
+                "The maximum number of recorded violations must be positive, but was %s", maxNumberOfRecordedViolations);
+        return new ViolationLimits(failFast, Optional.of(maxNumberOfRecordedViolations));
+    }
+
+    /**
+     * Resolves all values not explicitly set for the rule from the current {@link ArchConfiguration}. Since the configuration
+     * may be scoped to the current thread (compare {@link ArchConfiguration#withThreadLocalScope(Function)}), this must be called
+     * by the thread evaluating the rule. The result does not access the configuration anymore, so it can be used by any thread.
+     *
+     * @return The {@link Resolved resolved} limits
+     */
+    Resolved resolve() {
+        boolean failFast = this.failFast.orElseGet(() ->
+                Boolean.parseBoolean(ArchConfiguration.get().getPropertyOrDefault(FAIL_FAST_PROPERTY_NAME, Boolean.FALSE.toString())));
+        Optional<ViolationSink> sink = ViolationSinkFactory.getConfigured();
+        int defaultMaxNumberOfRecordedViolations = sink.isPresent() ? DEFAULT_MAX_NUMBER_OF_RECORDED_VIOLATIONS_WITH_SINK : Integer.MAX_VALUE;
+        int maxNumberOfRecordedViolations = this.maxNumberOfRecordedViolations.orElseGet(() -> Integer.parseInt(
+                ArchConfiguration.get().getPropertyOrDefault(MAX_NUMBER_OF_RECORDED_VIOLATIONS_PROPERTY_NAME, String.valueOf(defaultMaxNumberOfRecordedViolations))));
+        return new Resolved(failFast, maxNumberOfRecordedViolations, sink);
+    }
+
+    static final class Resolved {
+        private final boolean failFast;
+        private final int maxNumberOfRecordedViolations;
+        private final Optional<ViolationSink> sink;
+
+        private Resolved(boolean failFast, int maxNumberOfRecordedViolations, Optional<ViolationSink> sink) {
+            this.failFast = failFast;
+            this.maxNumberOfRecordedViolations = maxNumberOfRecordedViolations;
+            this.sink = sink;
+        }
+
+        boolean isFailFast() {
+            return failFast;
+        }
+
+        /**
+         * @return {@code true}, if all violations are passed to a configured {@link ViolationSink} as soon as they are reported
+         */
+        boolean isStreaming() {
+            return sink.isPresent();
+        }
+
+        /**
+         * Flushes a configured {@link ViolationSink}, once all violations of the rule have been reported
+         */
+        void flushSink() {
+            sink.ifPresent(ViolationSink::flush);
+        }
+
+        /**
+         * @param rule The rule to create the events for
+         * @return {@link ConditionEvents} that record at most the configured number of violations and only count all further violations.
+         *         If a {@link ViolationSink} is configured, all violations will be passed to it.
+         */
+        ConditionEvents createEvents(HasDescription rule) {
+            if (sink.isPresent()) {
+                return ConditionEvents.Factory.create(rule, sink.get(), maxNumberOfRecordedViolations);
+            }
+            return maxNumberOfRecordedViolations < Integer.MAX_VALUE
+                    ? new LimitedConditionEvents(maxNumberOfRecordedViolations)
+                    : ConditionEvents.Factory.create();
+        }
+
+        /**
+         * @return {@link LimitedConditionEvents} that record at most the configured number of violations, ignoring any
+         *         configured {@link ViolationSink}. The events of several such instances can be merged in order.
+         */
+        LimitedConditionEvents createLimitedEvents() {
+            return new LimitedConditionEvents(maxNumberOfRecordedViolations);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.util.Properties;
+
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.HasDescription;
+
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
+import static com.tngtech.archunit.PublicAPI.Usage.INHERITANCE;
+
+/**
+ * Receives every violation as soon as it is reported during the evaluation of an {@link ArchRule}.
+ * In combination with a limit of recorded violations (compare {@link ArchRule#limitRecordedViolations(int)})
+ * this allows to report all violations, e.g. by writing them to a file, without keeping them in memory.
+ * If a {@link ViolationSink} is configured, rules by default only record the first 100 violations,
+ * unless {@code archRule.maxNumberOfRecordedViolations} is configured.
+ * <br><br>
+ * A {@link ViolationSink} can be configured via the {@code archunit.properties} value
+ * {@code archRule.violationSink=some.pkg.MyViolationSink}, e.g. the built-in {@link TextFileViolationSink}.
+ * The configured class needs a default constructor. It is instantiated and {@link #initialize(Properties) initialized}
+ * only once for each configuration and then receives the violations of all evaluated rules.
+ * It is {@link #flush() flushed} after each evaluated rule and {@link #close() closed} when the JVM shuts down.
+ * Since rules may be evaluated concurrently (compare {@link ArchRuleEngine}), a configured {@link ViolationSink} must be thread-safe.
+ * Alternatively {@link ConditionEvents.Factory#create(HasDescription, ViolationSink, int)} can be used to stream
+ * the events of custom evaluations.
+ * <br><br>
+ * Note that the violations are passed as they are reported by the {@link ArchCondition}, i.e. before any
+ * further processing of the {@link EvaluationResult}, like ignore patterns. The exception is a
+ * {@link com.tngtech.archunit.library.freeze.FreezingArchRule FreezingArchRule}, which only passes those violations
+ * that have not been frozen, once the evaluation of the rule is complete.
+ */
+@PublicAPI(usage = INHERITANCE, state = EXPERIMENTAL)
+public interface ViolationSink {
+    /**
+     * Provides custom initialization with the sub properties of {@code archRule.violationSink}.
+     * If {@value com.tngtech.archunit.ArchConfiguration#ARCHUNIT_PROPERTIES_RESOURCE_NAME} contains, e.g.,
+     * {@code archRule.violationSink.path=some/path}, then this method will be called with properties containing
+     * {@code path=some/path}.
+     *
+     * @param properties The properties derived from the {@value com.tngtech.archunit.ArchConfiguration#ARCHUNIT_PROPERTIES_RESOURCE_NAME} prefix
+     *                   {@code archRule.violationSink}
+     */
+    default void initialize(Properties properties) {
+    }
+
+    /**
+     * @param rule The rule that is being evaluated
+     * @param violation A {@link ConditionEvent} that {@link ConditionEvent#isViolation() is a violation} of the rule
+     */
+    void onViolation(HasDescription rule, ConditionEvent violation);
+
+    /**
+     * Called after a rule has been evaluated, so all its violations can be written out.
+     */
+    default void flush() {
+    }
+
+    /**
+     * Called once this {@link ViolationSink} will not receive any further violations.
+     */
+    default void close() {
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.Internal;
+import com.tngtech.archunit.base.HasDescription;
+import com.tngtech.archunit.base.MayResolveTypesViaReflection;
+
+import static com.tngtech.archunit.base.ReflectionUtils.newInstanceOf;
+
+/**
+ * Creates each configured {@link ViolationSink} only once, i.e. once for every distinct combination of
+ * configured type and sub properties, since a sink might e.g. hold an open file. All created sinks are closed when the JVM shuts down.
+ */
+@Internal
+public final class ViolationSinkFactory {
+    static final String VIOLATION_SINK_PROPERTY_NAME = "archRule.violationSink";
+
+    private static final Map<Configuration, ViolationSink> sinks = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Boolean> sinkDisabled = ThreadLocal.withInitial(() -> false);
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(ViolationSinkFactory::closeAll, ViolationSinkFactory.class.getSimpleName()));
+    }
+
+    static boolean isConfigured() {
+        return ArchConfiguration.get().containsProperty(VIOLATION_SINK_PROPERTY_NAME);
+    }
+
+    private ViolationSinkFactory() {
+    }
+
+    static Optional<ViolationSink> getConfigured() {
+        if (sinkDisabled.get() || !isConfigured()) {
+            return Optional.empty();
+        }
+
+        Configuration configuration = new Configuration(
+                ArchConfiguration.get().getProperty(VIOLATION_SINK_PROPERTY_NAME),
+                ArchConfiguration.get().getSubProperties(VIOLATION_SINK_PROPERTY_NAME));
+        return Optional.of(sinks.computeIfAbsent(configuration, ViolationSinkFactory::createInstance));
+    }
+
+    /**
+     * Evaluates rules without passing their violations to the configured {@link ViolationSink}, e.g. because the violations
+     * must be processed further before they can be reported (compare {@link #passToConfiguredSink(HasDescription, EvaluationResult)}).
+     * This only applies to rules evaluated by the current thread.
+     */
+    @Internal
+    public static <T> T withoutConfiguredSink(Supplier<T> evaluation) {
+        boolean previouslyDisabled = sinkDisabled.get();
+        sinkDisabled.set(true);
+        try {
+            return evaluation.get();
+        } finally {
+            sinkDisabled.set(previouslyDisabled);
+        }
+    }
+
+    /**
+     * Passes all violations of the result to the configured {@link ViolationSink}, if there is any, and flushes the sink afterwards
+     */
+    @Internal
+    public static void passToConfiguredSink(HasDescription rule, EvaluationResult result) {
+        getConfigured().ifPresent(sink -> {
+            result.getViolations().forEach(violation -> sink.onViolation(rule, violation));
+            sink.flush();
+        });
+    }
+
+    @MayResolveTypesViaReflection(reason = "This is not part of the import process")
+    private static ViolationSink createInstance(Configuration configuration) {
+        ViolationSink sink;
+        try {
+            sink = (ViolationSink) newInstanceOf(Class.forName(configuration.violationSinkClassName));
+        } catch (Exception e) {
+            String message = String.format("Could not instantiate %s of configured type '%s=%s'",
+                    ViolationSink.class.getSimpleName(), VIOLATION_SINK_PROPERTY_NAME, configuration.violationSinkClassName);
+            throw new ViolationSinkInitializationFailedException(message, e);
+        }
+        sink.initialize(configuration.properties);
+        return sink;
+    }
+
+    private static void closeAll() {
+        sinks.values().forEach(ViolationSink::close);
+    }
+
+    private static final class Configuration {
+        private final String violationSinkClassName;
+        private final Properties properties;
+
+        private Configuration(String violationSinkClassName, Properties properties) {
+            this.violationSinkClassName = violationSinkClassName;
+            this.properties = properties;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(violationSinkClassName, properties);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            Configuration other = (Configuration) obj;
+            return violationSinkClassName.equals(other.violationSinkClassName)
+                    && properties.equals(other.properties);
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package com.tngtech.archunit.lang.conditions;
 
 import java.util.Collection;
+import java.util.Optional;
 import java.util.function.Function;
 
 import com.google.common.base.Joiner;
@@ -36,4 +37,9 @@ class AllAccessesCondition extends AllAttributesMatchCondition<JavaAccess<?>, Ja
     Collection<JavaAccess<?>> relevantAttributes(JavaClass item) {
         return getRelevantAccesses.apply(item);
     }
+
+    @Override
+    Optional<Object> relevantAttributesKey() {
+        return Optional.of(getRelevantAccesses);
+    }
 }
@@ -15,30 +15,10 @@
  */
 package com.tngtech.archunit.lang.conditions;
 
-import java.util.Collection;
-
 import com.tngtech.archunit.lang.ArchCondition;
-import com.tngtech.archunit.lang.ConditionEvents;
-
-import static com.tngtech.archunit.lang.conditions.ArchConditions.containOnlyElementsThat;
-
-abstract class AllAttributesMatchCondition<ATTRIBUTE, OWNER> extends ArchCondition<OWNER> {
-    private final ArchCondition<ATTRIBUTE> condition;
 
+abstract class AllAttributesMatchCondition<ATTRIBUTE, OWNER> extends AttributesCondition<ATTRIBUTE, OWNER> {
     AllAttributesMatchCondition(String description, ArchCondition<ATTRIBUTE> condition) {
-        super(description);
-        this.condition = condition;
-    }
-
-    @Override
-    public final void check(OWNER item, ConditionEvents events) {
-        containOnlyElementsThat(condition).check(relevantAttributes(item), events);
-    }
-
-    abstract Collection<? extends ATTRIBUTE> relevantAttributes(OWNER item);
-
-    @Override
-    public String toString() {
-        return getClass().getSimpleName() + "{condition=" + condition + "}";
+        super(description, new ContainsOnlyCondition<>(condition));
     }
 }
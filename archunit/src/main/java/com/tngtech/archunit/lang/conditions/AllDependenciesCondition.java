@@ -17,8 +17,10 @@ package com.tngtech.archunit.lang.conditions;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.function.Function;
 
+import com.google.common.collect.ImmutableList;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.domain.Dependency;
@@ -82,4 +84,9 @@ public final class AllDependenciesCondition extends AllAttributesMatchCondition<
         }
         return result;
     }
+
+    @Override
+    Optional<Object> relevantAttributesKey() {
+        return Optional.of(ImmutableList.of(javaClassToRelevantDependencies, ignorePredicate));
+    }
 }
@@ -19,31 +19,16 @@ import java.util.Collection;
 
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.lang.ArchCondition;
-import com.tngtech.archunit.lang.ConditionEvents;
-
-import static com.tngtech.archunit.lang.conditions.ArchConditions.containAnyElementThat;
-
-abstract class AnyAttributeMatchesCondition<T> extends ArchCondition<JavaClass> {
-    private final ArchCondition<T> condition;
 
+abstract class AnyAttributeMatchesCondition<T> extends AttributesCondition<T, JavaClass> {
     AnyAttributeMatchesCondition(ArchCondition<T> condition) {
         this(condition.getDescription(), condition);
     }
 
     AnyAttributeMatchesCondition(String description, ArchCondition<T> condition) {
-        super(description);
-        this.condition = condition;
+        super(description, new ContainAnyCondition<>(condition));
     }
 
     @Override
-    public final void check(JavaClass item, ConditionEvents events) {
-        containAnyElementThat(condition).check(relevantAttributes(item), events);
-    }
-
     abstract Collection<T> relevantAttributes(JavaClass item);
-
-    @Override
-    public String toString() {
-        return getClass().getSimpleName() + "{condition=" + condition + "}";
-    }
 }
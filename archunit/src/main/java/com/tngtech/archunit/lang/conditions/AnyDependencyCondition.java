@@ -17,41 +17,64 @@ package com.tngtech.archunit.lang.conditions;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 
+import com.google.common.collect.ImmutableList;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.domain.Dependency;
 import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.ReverseDependencyLookup;
+import com.tngtech.archunit.lang.PreselectingCondition;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.base.DescribedPredicate.alwaysFalse;
 
 @PublicAPI(usage = ACCESS)
-public final class AnyDependencyCondition extends AnyAttributeMatchesCondition<Dependency> {
+public final class AnyDependencyCondition extends AnyAttributeMatchesCondition<Dependency> implements PreselectingCondition<JavaClass> {
     private final DescribedPredicate<? super Dependency> conditionPredicate;
     private final Function<JavaClass, ? extends Collection<Dependency>> javaClassToRelevantDependencies;
     private final DescribedPredicate<Dependency> ignorePredicate;
+    private final Optional<DescribedPredicate<? super JavaClass>> targetClassPredicate;
 
     AnyDependencyCondition(
             String description,
             DescribedPredicate<? super Dependency> predicate,
             Function<JavaClass, ? extends Collection<Dependency>> javaClassToRelevantDependencies) {
 
-        this(description, predicate, javaClassToRelevantDependencies, alwaysFalse());
+        this(description, predicate, javaClassToRelevantDependencies, alwaysFalse(), Optional.empty());
+    }
+
+    /**
+     * @param targetClassPredicate {@code predicate} must match exactly those dependencies with a {@link Dependency#getTargetClass() target class}
+     *                             matching {@code targetClassPredicate}, and the relevant dependencies must be the
+     *                             {@link JavaClass#getDirectDependenciesFromSelf() direct dependencies from self}.
+     *                             This allows to look up the classes that can satisfy this condition from the reverse dependencies.
+     */
+    AnyDependencyCondition(
+            String description,
+            DescribedPredicate<? super Dependency> predicate,
+            Function<JavaClass, ? extends Collection<Dependency>> javaClassToRelevantDependencies,
+            Optional<DescribedPredicate<? super JavaClass>> targetClassPredicate) {
+
+        this(description, predicate, javaClassToRelevantDependencies, alwaysFalse(), targetClassPredicate);
     }
 
     private AnyDependencyCondition(
             String description,
             DescribedPredicate<? super Dependency> conditionPredicate,
             Function<JavaClass, ? extends Collection<Dependency>> javaClassToRelevantDependencies,
-            DescribedPredicate<Dependency> ignorePredicate) {
+            DescribedPredicate<Dependency> ignorePredicate,
+            Optional<DescribedPredicate<? super JavaClass>> targetClassPredicate) {
 
         super(description, new DependencyCondition(conditionPredicate));
         this.conditionPredicate = checkNotNull(conditionPredicate);
         this.javaClassToRelevantDependencies = checkNotNull(javaClassToRelevantDependencies);
         this.ignorePredicate = checkNotNull(ignorePredicate);
+        this.targetClassPredicate = checkNotNull(targetClassPredicate);
     }
 
     @PublicAPI(usage = ACCESS)
@@ -59,7 +82,8 @@ public final class AnyDependencyCondition extends AnyAttributeMatchesCondition<D
         return new AnyDependencyCondition(getDescription(),
                 conditionPredicate,
                 javaClassToRelevantDependencies,
-                this.ignorePredicate.or(ignorePredicate));
+                this.ignorePredicate.or(ignorePredicate),
+                targetClassPredicate);
     }
 
     @Override
@@ -69,7 +93,8 @@ public final class AnyDependencyCondition extends AnyAttributeMatchesCondition<D
                 String.format(description, args),
                 conditionPredicate,
                 javaClassToRelevantDependencies,
-                ignorePredicate);
+                ignorePredicate,
+                targetClassPredicate);
     }
 
     @Override
@@ -82,4 +107,26 @@ public final class AnyDependencyCondition extends AnyAttributeMatchesCondition<D
         }
         return result;
     }
+
+    @Override
+    Optional<Object> relevantAttributesKey() {
+        return Optional.of(ImmutableList.of(javaClassToRelevantDependencies, ignorePredicate));
+    }
+
+    @Override
+    public Optional<Set<JavaClass>> selectObjectsThatMayViolate(Collection<JavaClass> allObjectsToTest) {
+        return Optional.empty();
+    }
+
+    /**
+     * Ignored dependencies can only remove classes from the result of the reverse lookup, so the lookup stays a valid preselection.
+     */
+    @Override
+    public Optional<Set<JavaClass>> selectObjectsThatMaySatisfy(Collection<JavaClass> allObjectsToTest) {
+        if (!targetClassPredicate.isPresent()) {
+            return Optional.empty();
+        }
+        return ReverseDependencyLookup.of(allObjectsToTest)
+                .flatMap(lookup -> lookup.findOriginsOfDependenciesToClassesThat(targetClassPredicate.get()));
+    }
 }
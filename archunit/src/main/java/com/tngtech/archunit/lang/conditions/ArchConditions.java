@@ -18,6 +18,7 @@ package com.tngtech.archunit.lang.conditions;
 import java.lang.annotation.Annotation;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.function.Function;
@@ -295,7 +296,7 @@ public final class ArchConditions {
     public static ArchCondition<JavaClass> accessClassesThat(DescribedPredicate<? super JavaClass> predicate) {
         ChainableFunction<JavaAccess<?>, AccessTarget> getTarget = JavaAccess.Functions.Get.target();
         DescribedPredicate<JavaAccess<?>> accessPredicate = getTarget.then(Get.owner()).is(predicate);
-        return new ClassAccessesCondition<>(accessPredicate, GET_ACCESSES_FROM_SELF)
+        return new ClassAccessesCondition<>(accessPredicate, GET_ACCESSES_FROM_SELF, Optional.of(predicate))
                 .as("access classes that " + predicate.getDescription());
     }
 
@@ -311,7 +312,8 @@ public final class ArchConditions {
         return new AnyDependencyCondition(
                 "depend on classes that " + predicate.getDescription(),
                 GET_TARGET_CLASS.is(predicate),
-                GET_DIRECT_DEPENDENCIES_FROM_SELF);
+                GET_DIRECT_DEPENDENCIES_FROM_SELF,
+                Optional.of(predicate));
     }
 
     @PublicAPI(usage = ACCESS)
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang.conditions;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ConditionEvents;
+
+/**
+ * A condition that checks each object, e.g. a class, by checking the relevant attributes of the object,
+ * e.g. its dependencies, one by one against a condition.<br>
+ * Several such conditions with the same {@link #getAttributesKey() attributes key} can be evaluated together
+ * in a single pass over the attributes (compare {@link JoinCondition}).
+ *
+ * @param <ATTRIBUTE> The type of the attributes
+ * @param <OWNER> The type of the objects owning the attributes
+ */
+abstract class AttributesCondition<ATTRIBUTE, OWNER> extends ArchCondition<OWNER> {
+    private final ContainElementsCondition<ATTRIBUTE> containElementsThatMatch;
+
+    AttributesCondition(String description, ContainElementsCondition<ATTRIBUTE> containElementsThatMatch) {
+        super(description);
+        this.containElementsThatMatch = containElementsThatMatch;
+    }
+
+    @Override
+    public final void check(OWNER item, ConditionEvents events) {
+        containElementsThatMatch.check(relevantAttributes(item), events);
+    }
+
+    abstract Collection<? extends ATTRIBUTE> relevantAttributes(OWNER item);
+
+    ArchCondition<ATTRIBUTE> getCondition() {
+        return containElementsThatMatch.getCondition();
+    }
+
+    /**
+     * @return A key identifying the {@link #relevantAttributes(Object) relevant attributes} independently of this condition
+     *         (compare {@link #getAttributesKey()}), or {@link Optional#empty()}, if there is no such key
+     */
+    Optional<Object> relevantAttributesKey() {
+        return Optional.empty();
+    }
+
+    /**
+     * @return A key identifying which attributes of an object are relevant, if the attributes are checked
+     *         by an {@link ElementPredicateCondition}. Conditions with equal keys must have equal relevant attributes.
+     */
+    final Optional<Object> getAttributesKey() {
+        return getCondition() instanceof ElementPredicateCondition<?> ? relevantAttributesKey() : Optional.empty();
+    }
+
+    /**
+     * @param attributes The {@link #relevantAttributes(Object) relevant attributes} of the object to check
+     * @return An evaluation of these attributes, which must then be tested one by one
+     *         and finally be passed to {@link #addEvent(ElementPredicateEvaluation, ConditionEvents)}
+     */
+    final ElementPredicateEvaluation<?> startEvaluation(Collection<?> attributes) {
+        return containElementsThatMatch.startEvaluation(attributes);
+    }
+
+    /**
+     * Adds the same events {@link #check(Object, ConditionEvents) check} would have added
+     */
+    final void addEvent(ElementPredicateEvaluation<?> evaluation, ConditionEvents events) {
+        containElementsThatMatch.addEvent(evaluation, events);
+    }
+
+    @Override
+    public boolean isCheckThreadSafe() {
+        return containElementsThatMatch.isCheckThreadSafe();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{condition=" + getCondition() + "}";
+    }
+}
@@ -16,22 +16,80 @@
 package com.tngtech.archunit.lang.conditions;
 
 import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.domain.JavaAccess;
 import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.ReverseDependencyLookup;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.PreselectingCondition;
 
-class ClassAccessesCondition<T extends JavaAccess<?>> extends AnyAttributeMatchesCondition<T> {
+class ClassAccessesCondition<T extends JavaAccess<?>> extends AnyAttributeMatchesCondition<T> implements PreselectingCondition<JavaClass> {
     private final Function<JavaClass, ? extends Collection<T>> getRelevantAccesses;
+    private final Optional<DescribedPredicate<? super JavaClass>> targetOwnerPredicate;
 
     ClassAccessesCondition(DescribedPredicate<? super T> predicate, Function<JavaClass, ? extends Collection<T>> getRelevantAccesses) {
-        super(new JavaAccessCondition<>(predicate));
+        this(predicate, getRelevantAccesses, Optional.empty());
+    }
+
+    /**
+     * @param targetOwnerPredicate If present, {@code predicate} must match exactly those accesses from self
+     *                             with a {@link JavaAccess#getTargetOwner() target owner} matching {@code targetOwnerPredicate}.
+     *                             This allows to look up the classes that can satisfy this condition from the reverse dependencies.
+     */
+    ClassAccessesCondition(
+            DescribedPredicate<? super T> predicate,
+            Function<JavaClass, ? extends Collection<T>> getRelevantAccesses,
+            Optional<DescribedPredicate<? super JavaClass>> targetOwnerPredicate) {
+        this(new JavaAccessCondition<>(predicate), getRelevantAccesses, targetOwnerPredicate);
+    }
+
+    private ClassAccessesCondition(
+            ArchCondition<T> condition,
+            Function<JavaClass, ? extends Collection<T>> getRelevantAccesses,
+            Optional<DescribedPredicate<? super JavaClass>> targetOwnerPredicate) {
+        this(condition.getDescription(), condition, getRelevantAccesses, targetOwnerPredicate);
+    }
+
+    private ClassAccessesCondition(
+            String description,
+            ArchCondition<T> condition,
+            Function<JavaClass, ? extends Collection<T>> getRelevantAccesses,
+            Optional<DescribedPredicate<? super JavaClass>> targetOwnerPredicate) {
+        super(description, condition);
         this.getRelevantAccesses = getRelevantAccesses;
+        this.targetOwnerPredicate = targetOwnerPredicate;
+    }
+
+    @Override
+    public ClassAccessesCondition<T> as(String description, Object... args) {
+        return new ClassAccessesCondition<>(String.format(description, args), getCondition(), getRelevantAccesses, targetOwnerPredicate);
     }
 
     @Override
     Collection<T> relevantAttributes(JavaClass item) {
         return getRelevantAccesses.apply(item);
     }
+
+    @Override
+    Optional<Object> relevantAttributesKey() {
+        return Optional.of(getRelevantAccesses);
+    }
+
+    @Override
+    public Optional<Set<JavaClass>> selectObjectsThatMayViolate(Collection<JavaClass> allObjectsToTest) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Set<JavaClass>> selectObjectsThatMaySatisfy(Collection<JavaClass> allObjectsToTest) {
+        if (!targetOwnerPredicate.isPresent()) {
+            return Optional.empty();
+        }
+        return ReverseDependencyLookup.of(allObjectsToTest)
+                .flatMap(lookup -> lookup.findOriginsOfAccessesToClassesThat(targetOwnerPredicate.get()));
+    }
 }
@@ -16,6 +16,7 @@
 package com.tngtech.archunit.lang.conditions;
 
 import java.util.Collection;
+import java.util.Optional;
 import java.util.function.Function;
 
 import com.tngtech.archunit.base.DescribedPredicate;
@@ -34,4 +35,9 @@ class ClassOnlyAccessesCondition<T extends JavaAccess<?>> extends AllAttributesM
     Collection<T> relevantAttributes(JavaClass item) {
         return getRelevantAccesses.apply(item);
     }
+
+    @Override
+    Optional<Object> relevantAttributesKey() {
+        return Optional.of(getRelevantAccesses);
+    }
 }
@@ -16,6 +16,7 @@
 package com.tngtech.archunit.lang.conditions;
 
 import java.util.Collection;
+import java.util.Optional;
 import java.util.function.Function;
 
 import com.tngtech.archunit.base.DescribedPredicate;
@@ -35,4 +36,9 @@ class CodeUnitOnlyCallsCondition<T extends JavaAccess<?>> extends AllAttributesM
     Collection<? extends T> relevantAttributes(JavaCodeUnit item) {
         return getRelevantAccesses.apply(item);
     }
+
+    @Override
+    Optional<Object> relevantAttributesKey() {
+        return Optional.of(getRelevantAccesses);
+    }
 }
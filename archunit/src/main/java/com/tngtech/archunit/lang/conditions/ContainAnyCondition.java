@@ -20,33 +20,23 @@ import java.util.List;
 
 import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ConditionEvent;
-import com.tngtech.archunit.lang.ConditionEvents;
 import com.tngtech.archunit.lang.conditions.ContainsOnlyCondition.OnlyConditionEvent;
 
 import static java.util.Collections.singletonList;
 
-class ContainAnyCondition<T> extends ArchCondition<Collection<? extends T>> {
-    private final ArchCondition<T> condition;
-
+class ContainAnyCondition<T> extends ContainElementsCondition<T> {
     ContainAnyCondition(ArchCondition<T> condition) {
-        super("contain any element that " + condition.getDescription());
-        this.condition = condition;
+        super("contain any element that " + condition.getDescription(), condition);
     }
 
     @Override
-    public void check(Collection<? extends T> collection, ConditionEvents events) {
-        ViolatedAndSatisfiedConditionEvents subEvents = new ViolatedAndSatisfiedConditionEvents();
-        for (T element : collection) {
-            condition.check(element, subEvents);
-        }
-        if (!subEvents.getAllowed().isEmpty() || !subEvents.getViolating().isEmpty()) {
-            events.add(new AnyConditionEvent(collection, subEvents));
-        }
+    ConditionEvent createEvent(ElementPredicateEvaluation<?> evaluation) {
+        return evaluation.createAnyEvent();
     }
 
     @Override
-    public String toString() {
-        return getClass().getSimpleName() + "{condition=" + condition + "}";
+    ConditionEvent createEvent(Collection<?> collection, ViolatedAndSatisfiedConditionEvents subEvents) {
+        return new AnyConditionEvent(collection, subEvents);
     }
 
     static class AnyConditionEvent implements ConditionEvent {
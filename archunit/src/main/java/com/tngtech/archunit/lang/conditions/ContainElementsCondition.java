@@ -0,0 +1,88 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang.conditions;
+
+import java.util.Collection;
+
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ConditionEvent;
+import com.tngtech.archunit.lang.ConditionEvents;
+
+/**
+ * Checks the elements of a collection one by one against a condition and combines the events of all elements
+ * into a single event, e.g. "contain only elements that ..." or "contain any element that ...".
+ * If the condition is an {@link ElementPredicateCondition}, the elements are tested by an {@link ElementPredicateEvaluation}.
+ *
+ * @param <T> The type of the elements of the collection
+ */
+abstract class ContainElementsCondition<T> extends ArchCondition<Collection<? extends T>> {
+    private final ArchCondition<T> condition;
+
+    ContainElementsCondition(String description, ArchCondition<T> condition) {
+        super(description);
+        this.condition = condition;
+    }
+
+    @Override
+    public final void check(Collection<? extends T> collection, ConditionEvents events) {
+        if (condition instanceof ElementPredicateCondition<?>) {
+            addEvent(startEvaluation(collection).testAll(), events);
+            return;
+        }
+
+        ViolatedAndSatisfiedConditionEvents subEvents = new ViolatedAndSatisfiedConditionEvents();
+        for (T element : collection) {
+            condition.check(element, subEvents);
+        }
+        if (!subEvents.getAllowed().isEmpty() || !subEvents.getViolating().isEmpty()) {
+            events.add(createEvent(collection, subEvents));
+        }
+    }
+
+    ArchCondition<T> getCondition() {
+        return condition;
+    }
+
+    /**
+     * @return An evaluation of the elements, if {@link #getCondition() the condition} is an {@link ElementPredicateCondition}
+     */
+    ElementPredicateEvaluation<?> startEvaluation(Collection<?> elements) {
+        return ElementPredicateEvaluation.of((ElementPredicateCondition<?>) condition, elements);
+    }
+
+    /**
+     * Adds the same event {@link #check(Collection, ConditionEvents) check} would have added for the evaluated elements
+     */
+    void addEvent(ElementPredicateEvaluation<?> evaluation, ConditionEvents events) {
+        if (!evaluation.isEmpty()) {
+            events.add(createEvent(evaluation));
+        }
+    }
+
+    abstract ConditionEvent createEvent(ElementPredicateEvaluation<?> evaluation);
+
+    abstract ConditionEvent createEvent(Collection<?> collection, ViolatedAndSatisfiedConditionEvents subEvents);
+
+    @Override
+    public boolean isCheckThreadSafe() {
+        return condition.isCheckThreadSafe();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{condition=" + condition + "}";
+    }
+}
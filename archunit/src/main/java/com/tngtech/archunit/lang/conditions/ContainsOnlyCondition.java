@@ -21,31 +21,21 @@ import java.util.List;
 import com.google.common.collect.ImmutableList;
 import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ConditionEvent;
-import com.tngtech.archunit.lang.ConditionEvents;
 import com.tngtech.archunit.lang.conditions.ContainAnyCondition.AnyConditionEvent;
 
-class ContainsOnlyCondition<T> extends ArchCondition<Collection<? extends T>> {
-    private final ArchCondition<T> condition;
-
+class ContainsOnlyCondition<T> extends ContainElementsCondition<T> {
     ContainsOnlyCondition(ArchCondition<T> condition) {
-        super("contain only elements that " + condition.getDescription());
-        this.condition = condition;
+        super("contain only elements that " + condition.getDescription(), condition);
     }
 
     @Override
-    public void check(Collection<? extends T> collection, ConditionEvents events) {
-        ViolatedAndSatisfiedConditionEvents subEvents = new ViolatedAndSatisfiedConditionEvents();
-        for (T item : collection) {
-            condition.check(item, subEvents);
-        }
-        if (!subEvents.getAllowed().isEmpty() || !subEvents.getViolating().isEmpty()) {
-            events.add(new OnlyConditionEvent(collection, subEvents));
-        }
+    ConditionEvent createEvent(ElementPredicateEvaluation<?> evaluation) {
+        return evaluation.createOnlyEvent();
     }
 
     @Override
-    public String toString() {
-        return getClass().getSimpleName() + "{condition=" + condition + "}";
+    ConditionEvent createEvent(Collection<?> collection, ViolatedAndSatisfiedConditionEvents subEvents) {
+        return new OnlyConditionEvent(collection, subEvents);
     }
 
     static class OnlyConditionEvent implements ConditionEvent {
@@ -17,20 +17,9 @@ package com.tngtech.archunit.lang.conditions;
 
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.domain.Dependency;
-import com.tngtech.archunit.lang.ArchCondition;
-import com.tngtech.archunit.lang.ConditionEvents;
-import com.tngtech.archunit.lang.SimpleConditionEvent;
-
-class DependencyCondition extends ArchCondition<Dependency> {
-    private final DescribedPredicate<? super Dependency> conditionPredicate;
 
+class DependencyCondition extends ElementPredicateCondition<Dependency> {
     DependencyCondition(DescribedPredicate<? super Dependency> conditionPredicate) {
-        super(conditionPredicate.getDescription());
-        this.conditionPredicate = conditionPredicate;
-    }
-
-    @Override
-    public void check(Dependency item, ConditionEvents events) {
-        events.add(new SimpleConditionEvent(item, conditionPredicate.test(item), item.getDescription()));
+        super(conditionPredicate.getDescription(), conditionPredicate);
     }
 }
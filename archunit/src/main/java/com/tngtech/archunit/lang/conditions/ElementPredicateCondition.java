@@ -0,0 +1,56 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang.conditions;
+
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.base.HasDescription;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ConditionEvent;
+import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.SimpleConditionEvent;
+
+/**
+ * Checks single elements, like the dependencies or accesses of a class, against a predicate and reports exactly one
+ * {@link SimpleConditionEvent} per element, described by the element itself.<br>
+ * Since the event only depends on the result of the predicate, conditions on collections of such elements
+ * can test the predicate directly and only create events for elements that are actually reported (compare {@link ElementPredicateEvaluation}).
+ */
+abstract class ElementPredicateCondition<T extends HasDescription> extends ArchCondition<T> {
+    private final DescribedPredicate<? super T> predicate;
+
+    ElementPredicateCondition(String description, DescribedPredicate<? super T> predicate) {
+        super(description);
+        this.predicate = predicate;
+    }
+
+    @Override
+    public final void check(T item, ConditionEvents events) {
+        events.add(createEvent(item, test(item)));
+    }
+
+    final boolean test(T item) {
+        return predicate.test(item);
+    }
+
+    final ConditionEvent createEvent(T item, boolean satisfied) {
+        return new SimpleConditionEvent(item, satisfied, item::getDescription);
+    }
+
+    @Override
+    public boolean isCheckThreadSafe() {
+        return true;
+    }
+}
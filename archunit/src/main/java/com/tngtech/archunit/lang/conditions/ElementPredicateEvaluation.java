@@ -0,0 +1,101 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang.conditions;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.tngtech.archunit.base.HasDescription;
+import com.tngtech.archunit.base.Suppliers;
+import com.tngtech.archunit.lang.ConditionEvent;
+import com.tngtech.archunit.lang.conditions.ContainAnyCondition.AnyConditionEvent;
+import com.tngtech.archunit.lang.conditions.ContainsOnlyCondition.OnlyConditionEvent;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Evaluates an {@link ElementPredicateCondition} against the elements of a collection, one element at a time.
+ * Only violating elements are turned into {@link ConditionEvent events} right away. Satisfied elements are merely
+ * remembered, and their events are created once they are requested, e.g. because the resulting event is inverted
+ * by {@link NeverCondition}. The resulting events are the same as if each element had been checked by the condition.
+ */
+final class ElementPredicateEvaluation<T extends HasDescription> {
+    private final ElementPredicateCondition<T> condition;
+    private final Collection<? extends T> elements;
+    private final List<T> satisfiedElements = new ArrayList<>();
+    private final List<ConditionEvent> violating = new ArrayList<>();
+
+    private ElementPredicateEvaluation(ElementPredicateCondition<T> condition, Collection<? extends T> elements) {
+        this.condition = condition;
+        this.elements = elements;
+    }
+
+    /**
+     * @param element The next element of the collection this evaluation was created for
+     */
+    @SuppressWarnings("unchecked") // the element is taken from the collection of elements of type T
+    void test(Object element) {
+        T typedElement = (T) element;
+        if (condition.test(typedElement)) {
+            satisfiedElements.add(typedElement);
+        } else {
+            violating.add(condition.createEvent(typedElement, false));
+        }
+    }
+
+    ElementPredicateEvaluation<T> testAll() {
+        for (T element : elements) {
+            test(element);
+        }
+        return this;
+    }
+
+    @SuppressWarnings("unchecked") // the elements are checked by a condition of type ArchCondition<T>, so they must be of type T
+    static <T extends HasDescription> ElementPredicateEvaluation<T> of(ElementPredicateCondition<T> condition, Collection<?> elements) {
+        return new ElementPredicateEvaluation<>(condition, (Collection<? extends T>) elements);
+    }
+
+    boolean isEmpty() {
+        return elements.isEmpty();
+    }
+
+    ConditionEvent createOnlyEvent() {
+        return new OnlyConditionEvent(elements, new SatisfiedEvents(), violating);
+    }
+
+    ConditionEvent createAnyEvent() {
+        return new AnyConditionEvent(elements, new SatisfiedEvents(), violating);
+    }
+
+    private class SatisfiedEvents extends AbstractCollection<ConditionEvent> {
+        private final Supplier<List<ConditionEvent>> events = Suppliers.memoize(() ->
+                satisfiedElements.stream().map(element -> condition.createEvent(element, true)).collect(toList()));
+
+        @Override
+        public Iterator<ConditionEvent> iterator() {
+            return events.get().iterator();
+        }
+
+        @Override
+        public int size() {
+            return satisfiedElements.size();
+        }
+    }
+}
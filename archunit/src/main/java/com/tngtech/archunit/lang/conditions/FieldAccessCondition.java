@@ -17,26 +17,14 @@ package com.tngtech.archunit.lang.conditions;
 
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.domain.JavaFieldAccess;
-import com.tngtech.archunit.lang.ArchCondition;
-import com.tngtech.archunit.lang.ConditionEvents;
-import com.tngtech.archunit.lang.SimpleConditionEvent;
 
 import static com.tngtech.archunit.core.domain.JavaFieldAccess.AccessType.GET;
 import static com.tngtech.archunit.core.domain.JavaFieldAccess.AccessType.SET;
 import static com.tngtech.archunit.core.domain.JavaFieldAccess.Predicates.accessType;
 
-class FieldAccessCondition extends ArchCondition<JavaFieldAccess> {
-    private final DescribedPredicate<? super JavaFieldAccess> fieldAccessIdentifier;
-
+class FieldAccessCondition extends ElementPredicateCondition<JavaFieldAccess> {
     FieldAccessCondition(DescribedPredicate<? super JavaFieldAccess> fieldAccessIdentifier) {
-        super(String.format("access field where %s", fieldAccessIdentifier.getDescription()));
-
-        this.fieldAccessIdentifier = fieldAccessIdentifier;
-    }
-
-    @Override
-    public void check(JavaFieldAccess item, ConditionEvents events) {
-        events.add(new SimpleConditionEvent(item, fieldAccessIdentifier.test(item), item.getDescription()));
+        super(String.format("access field where %s", fieldAccessIdentifier.getDescription()), fieldAccessIdentifier);
     }
 
     static class FieldGetAccessCondition extends FieldAccessCondition {
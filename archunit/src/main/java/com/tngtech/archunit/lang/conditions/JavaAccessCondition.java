@@ -17,20 +17,9 @@ package com.tngtech.archunit.lang.conditions;
 
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.domain.JavaAccess;
-import com.tngtech.archunit.lang.ArchCondition;
-import com.tngtech.archunit.lang.ConditionEvents;
-import com.tngtech.archunit.lang.SimpleConditionEvent;
-
-class JavaAccessCondition<T extends JavaAccess<?>> extends ArchCondition<T> {
-    private final DescribedPredicate<? super T> predicate;
 
+class JavaAccessCondition<T extends JavaAccess<?>> extends ElementPredicateCondition<T> {
     JavaAccessCondition(DescribedPredicate<? super T> predicate) {
-        super("access target where " + predicate.getDescription());
-        this.predicate = predicate;
-    }
-
-    @Override
-    public void check(T item, ConditionEvents events) {
-        events.add(new SimpleConditionEvent(item, predicate.test(item), item.getDescription()));
+        super("access target where " + predicate.getDescription(), predicate);
     }
 }
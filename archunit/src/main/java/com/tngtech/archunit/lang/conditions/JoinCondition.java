@@ -15,8 +15,11 @@
  */
 package com.tngtech.archunit.lang.conditions;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.stream.Stream;
@@ -27,15 +30,36 @@ import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ConditionEvent;
 import com.tngtech.archunit.lang.ConditionEvents;
 
+import static com.google.common.collect.Iterables.getOnlyElement;
+import static java.util.Collections.nCopies;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 
 abstract class JoinCondition<T> extends ArchCondition<T> {
-    private final Collection<ArchCondition<T>> conditions;
+    private final List<ArchCondition<T>> conditions;
+    private final Collection<List<Integer>> indexesOfConditionsToEvaluateTogether;
 
-    JoinCondition(String infix, Collection<ArchCondition<T>> conditions) {
+    JoinCondition(String infix, List<ArchCondition<T>> conditions) {
         super(joinDescriptionsOf(infix, conditions));
         this.conditions = conditions;
+        this.indexesOfConditionsToEvaluateTogether = groupIndexesByAttributesKey(conditions);
+    }
+
+    /**
+     * {@link AttributesCondition AttributesConditions} with the same attributes key, e.g. {@code onlyDependOnClassesThat(..)}
+     * and {@code dependOnClassesThat(..)}, are evaluated together in a single pass over the attributes.
+     * All other conditions form groups of their own.
+     */
+    private static <T> Collection<List<Integer>> groupIndexesByAttributesKey(List<ArchCondition<T>> conditions) {
+        Map<Object, List<Integer>> result = new LinkedHashMap<>();
+        for (int i = 0; i < conditions.size(); i++) {
+            ArchCondition<T> condition = conditions.get(i);
+            Object key = condition instanceof AttributesCondition<?, ?>
+                    ? ((AttributesCondition<?, ?>) condition).getAttributesKey().orElseGet(Object::new)
+                    : new Object();
+            result.computeIfAbsent(key, __ -> new ArrayList<>()).add(i);
+        }
+        return result.values();
     }
 
     private static <T> String joinDescriptionsOf(String infix, Collection<ArchCondition<T>> conditions) {
@@ -56,8 +80,46 @@ abstract class JoinCondition<T> extends ArchCondition<T> {
         }
     }
 
+    @Override
+    public boolean isCheckThreadSafe() {
+        return conditions.stream().allMatch(ArchCondition::isCheckThreadSafe);
+    }
+
     List<ConditionWithEvents<T>> evaluateConditions(T item) {
-        return conditions.stream().map(condition -> new ConditionWithEvents<>(condition, item)).collect(toList());
+        List<ConditionWithEvents<T>> result = new ArrayList<>(nCopies(conditions.size(), null));
+        for (List<Integer> indexes : indexesOfConditionsToEvaluateTogether) {
+            if (indexes.size() == 1) {
+                int index = getOnlyElement(indexes);
+                result.set(index, new ConditionWithEvents<>(conditions.get(index), item));
+            } else {
+                evaluateAttributesTogether(indexes, item, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Creates the same events as checking each condition separately, but only iterates the attributes once
+     */
+    @SuppressWarnings("unchecked") // all conditions are ArchCondition<T>, so they are AttributesCondition<?, T>
+    private void evaluateAttributesTogether(List<Integer> indexes, T item, List<ConditionWithEvents<T>> result) {
+        List<AttributesCondition<?, T>> attributesConditions = indexes.stream()
+                .map(index -> (AttributesCondition<?, T>) conditions.get(index))
+                .collect(toList());
+        Collection<?> attributes = attributesConditions.get(0).relevantAttributes(item);
+        List<ElementPredicateEvaluation<?>> evaluations = attributesConditions.stream()
+                .map(condition -> condition.startEvaluation(attributes))
+                .collect(toList());
+        for (Object attribute : attributes) {
+            for (ElementPredicateEvaluation<?> evaluation : evaluations) {
+                evaluation.test(attribute);
+            }
+        }
+        for (int i = 0; i < indexes.size(); i++) {
+            ViolatedAndSatisfiedConditionEvents events = new ViolatedAndSatisfiedConditionEvents();
+            attributesConditions.get(i).addEvent(evaluations.get(i), events);
+            result.set(indexes.get(i), new ConditionWithEvents<>(conditions.get(indexes.get(i)), events));
+        }
     }
 
     @Override
@@ -16,12 +16,15 @@
 package com.tngtech.archunit.lang.conditions;
 
 import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
 
 import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ConditionEvent;
 import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.PreselectingCondition;
 
-class NeverCondition<T> extends ArchCondition<T> {
+class NeverCondition<T> extends ArchCondition<T> implements PreselectingCondition<T> {
     private final ArchCondition<T> condition;
 
     NeverCondition(ArchCondition<T> condition) {
@@ -44,6 +47,21 @@ class NeverCondition<T> extends ArchCondition<T> {
         condition.check(item, new InvertingConditionEvents(events));
     }
 
+    @Override
+    public boolean isCheckThreadSafe() {
+        return condition.isCheckThreadSafe();
+    }
+
+    @Override
+    public Optional<Set<T>> selectObjectsThatMayViolate(Collection<T> allObjectsToTest) {
+        return PreselectingCondition.selectObjectsThatMaySatisfy(condition, allObjectsToTest);
+    }
+
+    @Override
+    public Optional<Set<T>> selectObjectsThatMaySatisfy(Collection<T> allObjectsToTest) {
+        return PreselectingCondition.selectObjectsThatMayViolate(condition, allObjectsToTest);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{condition=" + condition + "}";
@@ -69,16 +69,23 @@ public final class TransitiveDependencyCondition extends ArchCondition<JavaClass
         }
     }
 
+    @Override
+    public boolean isCheckThreadSafe() {
+        return true;
+    }
+
     private static ConditionEvent newTransitiveDependencyPathFoundEvent(JavaClass javaClass, List<JavaClass> transitiveDependencyPath) {
-        String message = String.format("%sdepends on <%s>",
-                transitiveDependencyPath.size() > 1 ? "transitively " : "",
-                getLast(transitiveDependencyPath).getFullName());
+        return SimpleConditionEvent.satisfied(javaClass, () -> {
+            String message = String.format("%sdepends on <%s>",
+                    transitiveDependencyPath.size() > 1 ? "transitively " : "",
+                    getLast(transitiveDependencyPath).getFullName());
 
-        if (transitiveDependencyPath.size() > 1) {
-            message += " by [" + transitiveDependencyPath.stream().map(JavaClass::getName).collect(joining("->")) + "]";
-        }
+            if (transitiveDependencyPath.size() > 1) {
+                message += " by [" + transitiveDependencyPath.stream().map(JavaClass::getName).collect(joining("->")) + "]";
+            }
 
-        return SimpleConditionEvent.satisfied(javaClass, createMessage(javaClass, message));
+            return createMessage(javaClass, message);
+        });
     }
 
     private static ConditionEvent newNoTransitiveDependencyPathFoundEvent(JavaClass javaClass) {
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2014-2023 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang.extension;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.lang.EvaluationProfile;
+import com.tngtech.archunit.lang.EvaluationResult;
+
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * An {@link ArchUnitExtension} that writes the {@link EvaluationResult#getProfile() profiles} of all evaluated rules
+ * to a local file, the slowest rules first. To use it, profiling has to be enabled and the extension has to be registered
+ * within <i>/META-INF/services/com.tngtech.archunit.lang.extension.ArchUnitExtension</i> (compare {@link ArchUnitExtension})
+ * and enabled within {@code archunit.properties}:
+ * <pre><code>
+ * archRule.profileEvaluation=true
+ * extension.archunit-evaluation-profile.enabled=true
+ * # optional, defaults to archunit_evaluation_profile.txt
+ * extension.archunit-evaluation-profile.reportFile=build/reports/archunit-profile.txt
+ * </code></pre>
+ * The report is rewritten after each evaluated rule, so it always contains all rules evaluated so far.
+ */
+@PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+public final class EvaluationProfileReport implements ArchUnitExtension {
+    static final String UNIQUE_IDENTIFIER = "archunit-evaluation-profile";
+    static final String REPORT_FILE_PROPERTY = "reportFile";
+    static final String DEFAULT_REPORT_FILE = "archunit_evaluation_profile.txt";
+
+    private final List<ProfiledRule> profiledRules = new ArrayList<>();
+    private File reportFile = new File(DEFAULT_REPORT_FILE);
+
+    @Override
+    public String getUniqueIdentifier() {
+        return UNIQUE_IDENTIFIER;
+    }
+
+    @Override
+    public synchronized void configure(Properties properties) {
+        reportFile = new File(properties.getProperty(REPORT_FILE_PROPERTY, DEFAULT_REPORT_FILE));
+    }
+
+    @Override
+    public synchronized void handle(EvaluatedRule evaluatedRule) {
+        evaluatedRule.getResult().getProfile().ifPresent(profile ->
+                profiledRules.add(new ProfiledRule(evaluatedRule.getRule().getDescription(), profile)));
+        writeReport();
+    }
+
+    private void writeReport() {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(ProfiledRule.FORMAT,
+                "total ms", "transform ms", "init ms", "check ms", "finish ms", "objects", "events", "allocated KB", "rule"));
+        lines.addAll(profiledRules.stream()
+                .sorted(Comparator.comparing((ProfiledRule rule) -> rule.profile.getTotalDuration()).reversed())
+                .map(ProfiledRule::toReportLine)
+                .collect(toList()));
+        try {
+            File parent = reportFile.getAbsoluteFile().getParentFile();
+            if (parent != null) {
+                Files.createDirectories(parent.toPath());
+            }
+            Files.write(reportFile.toPath(), lines, UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not write evaluation profile report to " + reportFile.getAbsolutePath(), e);
+        }
+    }
+
+    private static class ProfiledRule {
+        private static final String FORMAT = "%10s %12s %10s %10s %10s %10s %10s %12s   %s";
+
+        private final String description;
+        private final EvaluationProfile profile;
+
+        ProfiledRule(String description, EvaluationProfile profile) {
+            this.description = description;
+            this.profile = profile;
+        }
+
+        String toReportLine() {
+            return String.format(FORMAT,
+                    profile.getTotalDuration().toMillis(),
+                    profile.getTransformDuration().toMillis(),
+                    profile.getInitDuration().toMillis(),
+                    profile.getCheckDuration().toMillis(),
+                    profile.getFinishDuration().toMillis(),
+                    profile.getNumberOfCheckedObjects(),
+                    profile.getNumberOfEvents(),
+                    profile.getAllocatedBytes().isPresent() ? String.valueOf(profile.getAllocatedBytes().getAsLong() / 1024) : "n/a",
+                    description);
+        }
+    }
+}
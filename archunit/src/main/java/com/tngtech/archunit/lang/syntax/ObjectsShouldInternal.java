@@ -91,6 +91,16 @@ class ObjectsShouldInternal<T> implements ArchRule {
         return finishedRule.get().allowEmptyShould(allowEmptyShould);
     }
 
+    @Override
+    public ArchRule failFast(boolean failFast) {
+        return finishedRule.get().failFast(failFast);
+    }
+
+    @Override
+    public ArchRule limitRecordedViolations(int maxNumberOfRecordedViolations) {
+        return finishedRule.get().limitRecordedViolations(maxNumberOfRecordedViolations);
+    }
+
     @Override
     public ArchRule as(String newDescription) {
         return finishedRule.get().as(newDescription);
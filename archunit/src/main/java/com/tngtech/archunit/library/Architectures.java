@@ -16,7 +16,9 @@
 package com.tngtech.archunit.library;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -24,19 +26,23 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.stream.Stream;
 
 import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.domain.Dependency;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.PackageMatcher;
+import com.tngtech.archunit.core.domain.PackageMatchers;
 import com.tngtech.archunit.core.domain.properties.HasName;
 import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.ArchRule.Transformation;
 import com.tngtech.archunit.lang.ConditionEvents;
 import com.tngtech.archunit.lang.EvaluationResult;
 import com.tngtech.archunit.lang.Priority;
@@ -68,6 +74,7 @@ import static com.tngtech.archunit.lang.conditions.ArchConditions.onlyHaveDepend
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
 import static java.lang.System.lineSeparator;
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singleton;
 import static java.util.stream.Collectors.toSet;
 
@@ -124,6 +131,7 @@ public final class Architectures {
         private final Optional<String> overriddenDescription;
         private final boolean optionalLayers;
         private final AllClassesAreContainedInArchitectureCheck allClassesAreContainedInArchitectureCheck;
+        private final List<Transformation> violationLimits;
 
         private LayeredArchitecture(DependencySettings dependencySettings) {
             this(new LayerDefinitions(),
@@ -132,7 +140,8 @@ public final class Architectures {
                     new PredicateAggregator<Dependency>().thatORs(),
                     Optional.empty(),
                     false,
-                    new AllClassesAreContainedInArchitectureCheck.Disabled());
+                    new AllClassesAreContainedInArchitectureCheck.Disabled(),
+                    emptyList());
         }
 
         private LayeredArchitecture(LayerDefinitions layerDefinitions,
@@ -141,7 +150,8 @@ public final class Architectures {
                 PredicateAggregator<Dependency> irrelevantDependenciesPredicate,
                 Optional<String> overriddenDescription,
                 boolean optionalLayers,
-                AllClassesAreContainedInArchitectureCheck allClassesAreContainedInArchitectureCheck) {
+                AllClassesAreContainedInArchitectureCheck allClassesAreContainedInArchitectureCheck,
+                List<Transformation> violationLimits) {
             this.layerDefinitions = layerDefinitions;
             this.dependencySpecifications = dependencySpecifications;
             this.dependencySettings = dependencySettings;
@@ -149,6 +159,7 @@ public final class Architectures {
             this.overriddenDescription = overriddenDescription;
             this.optionalLayers = optionalLayers;
             this.allClassesAreContainedInArchitectureCheck = allClassesAreContainedInArchitectureCheck;
+            this.violationLimits = violationLimits;
         }
 
         /**
@@ -167,7 +178,8 @@ public final class Architectures {
                     irrelevantDependenciesPredicate,
                     overriddenDescription,
                     optionalLayers,
-                    allClassesAreContainedInArchitectureCheck
+                    allClassesAreContainedInArchitectureCheck,
+                    violationLimits
             );
         }
 
@@ -232,7 +244,7 @@ public final class Architectures {
         public EvaluationResult evaluate(JavaClasses classes) {
             EvaluationResult result = new EvaluationResult(this, Priority.MEDIUM);
             checkEmptyLayers(classes, result);
-            allClassesAreContainedInArchitectureCheck.evaluate(classes, layerDefinitions).ifPresent(result::add);
+            allClassesAreContainedInArchitectureCheck.createRule(layerDefinitions).ifPresent(rule -> result.add(evaluate(rule, classes)));
 
             for (LayerDependencySpecification specification : dependencySpecifications) {
                 result.add(evaluateDependenciesShouldBeSatisfied(classes, specification));
@@ -298,26 +310,34 @@ public final class Architectures {
                     irrelevantDependenciesPredicate,
                     overriddenDescription,
                     optionalLayers,
-                    new AllClassesAreContainedInArchitectureCheck.Enabled(predicate)
+                    new AllClassesAreContainedInArchitectureCheck.Enabled(predicate),
+                    violationLimits
             );
         }
 
         private EvaluationResult evaluateLayersShouldNotBeEmpty(JavaClasses classes, LayerDefinition layerDefinition) {
-            return classes().that(layerDefinitions.containsPredicateFor(layerDefinition.name))
+            ArchRule rule = classes().that(layerDefinitions.containsPredicateFor(layerDefinition.name))
                     .should(notBeEmptyFor(layerDefinition))
                     // we need to set `allowEmptyShould(true)` to allow the layer not empty check to be evaluated. This will provide a nicer error message.
-                    .allowEmptyShould(true)
-                    .evaluate(classes);
+                    .allowEmptyShould(true);
+            return evaluate(rule, classes);
         }
 
         private EvaluationResult evaluateDependenciesShouldBeSatisfied(JavaClasses classes, LayerDependencySpecification specification) {
             ArchCondition<JavaClass> satisfyLayerDependenciesCondition = specification.constraint == LayerDependencyConstraint.ORIGIN
                     ? onlyHaveDependentsWhere(originMatchesIfDependencyIsRelevant(specification.layerName, specification.allowedLayers))
                     : onlyHaveDependenciesWhere(targetMatchesIfDependencyIsRelevant(specification.layerName, specification.allowedLayers));
-            return classes().that(layerDefinitions.containsPredicateFor(specification.layerName))
+            ArchRule rule = classes().that(layerDefinitions.containsPredicateFor(specification.layerName))
                     .should(satisfyLayerDependenciesCondition)
-                    .allowEmptyShould(true)
-                    .evaluate(classes);
+                    .allowEmptyShould(true);
+            return evaluate(rule, classes);
+        }
+
+        private EvaluationResult evaluate(ArchRule rule, JavaClasses classes) {
+            for (Transformation violationLimit : violationLimits) {
+                rule = violationLimit.apply(rule);
+            }
+            return rule.evaluate(classes);
         }
 
         private DescribedPredicate<Dependency> originMatchesIfDependencyIsRelevant(String ownLayer, Set<String> allowedAccessors) {
@@ -364,6 +384,31 @@ public final class Architectures {
             return withOptionalLayers(allowEmptyShould);
         }
 
+        @Override
+        @PublicAPI(usage = ACCESS)
+        public LayeredArchitecture failFast(boolean failFast) {
+            return withViolationLimit(new Transformation.FailFast(failFast));
+        }
+
+        @Override
+        @PublicAPI(usage = ACCESS)
+        public LayeredArchitecture limitRecordedViolations(int maxNumberOfRecordedViolations) {
+            return withViolationLimit(new Transformation.LimitRecordedViolations(maxNumberOfRecordedViolations));
+        }
+
+        private LayeredArchitecture withViolationLimit(Transformation violationLimit) {
+            return new LayeredArchitecture(
+                    layerDefinitions,
+                    dependencySpecifications,
+                    dependencySettings,
+                    irrelevantDependenciesPredicate,
+                    overriddenDescription,
+                    optionalLayers,
+                    allClassesAreContainedInArchitectureCheck,
+                    ImmutableList.<Transformation>builder().addAll(violationLimits).add(violationLimit).build()
+            );
+        }
+
         @Override
         @PublicAPI(usage = ACCESS)
         public LayeredArchitecture as(String newDescription) {
@@ -374,7 +419,8 @@ public final class Architectures {
                     irrelevantDependenciesPredicate,
                     Optional.of(newDescription),
                     optionalLayers,
-                    allClassesAreContainedInArchitectureCheck
+                    allClassesAreContainedInArchitectureCheck,
+                    violationLimits
             );
         }
 
@@ -412,7 +458,8 @@ public final class Architectures {
                     irrelevantDependenciesPredicate.add(dependency(origin, target)),
                     overriddenDescription,
                     optionalLayers,
-                    allClassesAreContainedInArchitectureCheck
+                    allClassesAreContainedInArchitectureCheck,
+                    violationLimits
             );
         }
 
@@ -435,7 +482,7 @@ public final class Architectures {
         }
 
         private abstract static class AllClassesAreContainedInArchitectureCheck {
-            abstract Optional<EvaluationResult> evaluate(JavaClasses classes, LayerDefinitions layerDefinitions);
+            abstract Optional<ArchRule> createRule(LayerDefinitions layerDefinitions);
 
             static class Enabled extends AllClassesAreContainedInArchitectureCheck {
                 private final DescribedPredicate<? super JavaClass> ignorePredicate;
@@ -444,8 +491,8 @@ public final class Architectures {
                     this.ignorePredicate = ignorePredicate;
                 }
 
-                Optional<EvaluationResult> evaluate(JavaClasses classes, LayerDefinitions layerDefinitions) {
-                    return Optional.of(classes().should(beContainedInLayers(layerDefinitions)).evaluate(classes));
+                Optional<ArchRule> createRule(LayerDefinitions layerDefinitions) {
+                    return Optional.of(classes().should(beContainedInLayers(layerDefinitions)));
                 }
 
                 private ArchCondition<JavaClass> beContainedInLayers(LayerDefinitions layerDefinitions) {
@@ -463,7 +510,7 @@ public final class Architectures {
 
             static class Disabled extends AllClassesAreContainedInArchitectureCheck {
                 @Override
-                Optional<EvaluationResult> evaluate(JavaClasses classes, LayerDefinitions layerDefinitions) {
+                Optional<ArchRule> createRule(LayerDefinitions layerDefinitions) {
                     return Optional.empty();
                 }
             }
@@ -497,9 +544,11 @@ public final class Architectures {
 
         private static final class LayerDefinitions implements Iterable<LayerDefinition> {
             private final Map<String, LayerDefinition> layerDefinitions = new LinkedHashMap<>();
+            private volatile LayerAssignment layerAssignment;
 
             void add(LayerDefinition definition) {
                 layerDefinitions.put(definition.name, definition);
+                layerAssignment = null;
             }
 
             boolean containLayer(String layerName) {
@@ -515,28 +564,114 @@ public final class Architectures {
             }
 
             DescribedPredicate<JavaClass> containsPredicateFor(Collection<String> layerNames) {
+                Set<LayerDefinition> definitions = get(layerNames);
                 DescribedPredicate<JavaClass> result = alwaysFalse();
-                for (LayerDefinition definition : get(layerNames)) {
+                for (LayerDefinition definition : definitions) {
                     result = result.or(definition.containsPredicate());
                 }
-                return result;
+                return getLayerAssignment().containsPredicateFor(definitions).as(result.getDescription());
             }
 
-            private Iterable<LayerDefinition> get(Collection<String> layerNames) {
+            private Set<LayerDefinition> get(Collection<String> layerNames) {
                 return layerNames.stream().map(layerDefinitions::get).collect(toSet());
             }
 
+            private LayerAssignment getLayerAssignment() {
+                LayerAssignment result = layerAssignment;
+                if (result == null) {
+                    result = layerAssignment = new LayerAssignment(layerDefinitions.values());
+                }
+                return result;
+            }
+
             @Override
             public Iterator<LayerDefinition> iterator() {
                 return layerDefinitions.values().iterator();
             }
         }
 
+        /**
+         * Assigns classes to all layers defined by package identifiers at once, by matching the package of each class
+         * against the package identifiers of all these layers in a single pass (compare {@link PackageMatchers}).
+         */
+        private static final class LayerAssignment {
+            private final Map<LayerDefinition, Integer> indexesOfLayersDefinedByPackages = new HashMap<>();
+            private final Map<String, BitSet> layersByPackageIdentifier = new HashMap<>();
+            private final PackageMatchers packageMatchers;
+            private final Map<String, BitSet> layersByPackage = new ConcurrentHashMap<>();
+
+            LayerAssignment(Collection<LayerDefinition> layerDefinitions) {
+                for (LayerDefinition definition : layerDefinitions) {
+                    definition.packageIdentifiers.ifPresent(packageIdentifiers -> {
+                        int index = indexesOfLayersDefinedByPackages.size();
+                        indexesOfLayersDefinedByPackages.put(definition, index);
+                        for (String packageIdentifier : packageIdentifiers) {
+                            layersByPackageIdentifier.computeIfAbsent(packageIdentifier, __ -> new BitSet()).set(index);
+                        }
+                    });
+                }
+                packageMatchers = PackageMatchers.of(layersByPackageIdentifier.keySet());
+            }
+
+            DescribedPredicate<JavaClass> containsPredicateFor(Collection<LayerDefinition> definitions) {
+                BitSet layersDefinedByPackages = new BitSet();
+                List<DescribedPredicate<JavaClass>> otherLayers = new ArrayList<>();
+                for (LayerDefinition definition : definitions) {
+                    Integer index = indexesOfLayersDefinedByPackages.get(definition);
+                    if (index != null) {
+                        layersDefinedByPackages.set(index);
+                    } else {
+                        otherLayers.add(definition.containsPredicate());
+                    }
+                }
+                return new ContainedInLayersPredicate(this, layersDefinedByPackages, otherLayers);
+            }
+
+            BitSet getLayersDefinedByPackagesContaining(JavaClass javaClass) {
+                return layersByPackage.computeIfAbsent(javaClass.getPackageName(), this::getLayersDefinedByPackagesMatching);
+            }
+
+            private BitSet getLayersDefinedByPackagesMatching(String packageName) {
+                BitSet result = new BitSet();
+                for (String packageIdentifier : packageMatchers.getMatchingPackageIdentifiers(packageName)) {
+                    result.or(layersByPackageIdentifier.get(packageIdentifier));
+                }
+                return result;
+            }
+        }
+
+        private static final class ContainedInLayersPredicate extends DescribedPredicate<JavaClass> {
+            private final LayerAssignment layerAssignment;
+            private final BitSet layersDefinedByPackages;
+            private final List<DescribedPredicate<JavaClass>> otherLayers;
+
+            ContainedInLayersPredicate(LayerAssignment layerAssignment, BitSet layersDefinedByPackages, List<DescribedPredicate<JavaClass>> otherLayers) {
+                super("contained in layers");
+                this.layerAssignment = layerAssignment;
+                this.layersDefinedByPackages = layersDefinedByPackages;
+                this.otherLayers = otherLayers;
+            }
+
+            @Override
+            public boolean test(JavaClass javaClass) {
+                if (!layersDefinedByPackages.isEmpty() && layerAssignment.getLayersDefinedByPackagesContaining(javaClass).intersects(layersDefinedByPackages)) {
+                    return true;
+                }
+                for (DescribedPredicate<JavaClass> layer : otherLayers) {
+                    if (layer.test(javaClass)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        }
+
         @PublicAPI(usage = ACCESS)
         public final class LayerDefinition {
             private final String name;
             private final boolean optional;
             private DescribedPredicate<JavaClass> containsPredicate;
+            private Optional<List<String>> packageIdentifiers = Optional.empty();
 
             private LayerDefinition(String name, boolean optional) {
                 checkState(!isNullOrEmpty(name), "Layer name must be present");
@@ -553,9 +688,7 @@ public final class Architectures {
              */
             @PublicAPI(usage = ACCESS)
             public LayeredArchitecture definedBy(DescribedPredicate<? super JavaClass> predicate) {
-                checkNotNull(predicate, "Supplied predicate must not be null");
-                this.containsPredicate = predicate.forSubtype();
-                return LayeredArchitecture.this.addLayerDefinition(this);
+                return definedBy(predicate, Optional.empty());
             }
 
             /**
@@ -563,7 +696,15 @@ public final class Architectures {
              */
             @PublicAPI(usage = ACCESS)
             public LayeredArchitecture definedBy(String... packageIdentifiers) {
-                return definedBy(resideInAnyPackage(packageIdentifiers).as(joinSingleQuoted(packageIdentifiers)));
+                return definedBy(resideInAnyPackage(packageIdentifiers).as(joinSingleQuoted(packageIdentifiers)),
+                        Optional.of(ImmutableList.copyOf(packageIdentifiers)));
+            }
+
+            private LayeredArchitecture definedBy(DescribedPredicate<? super JavaClass> predicate, Optional<List<String>> packageIdentifiers) {
+                checkNotNull(predicate, "Supplied predicate must not be null");
+                this.containsPredicate = predicate.forSubtype();
+                this.packageIdentifiers = packageIdentifiers;
+                return LayeredArchitecture.this.addLayerDefinition(this);
             }
 
             boolean isOptional() {
@@ -782,6 +923,7 @@ public final class Architectures {
         private boolean optionalLayers = false;
         private List<IgnoredDependency> ignoredDependencies = new ArrayList<>();
         private AllClassesAreContainedInArchitectureCheck allClassesAreContainedInArchitectureCheck = new AllClassesAreContainedInArchitectureCheck.Disabled();
+        private List<Transformation> violationLimits = new ArrayList<>();
 
         private OnionArchitecture() {
             overriddenDescription = Optional.empty();
@@ -793,12 +935,14 @@ public final class Architectures {
                 Optional<DescribedPredicate<? super JavaClass>> applicationPredicate,
                 Map<String, DescribedPredicate<? super JavaClass>> adapterPredicates,
                 List<IgnoredDependency> ignoredDependencies,
+                List<Transformation> violationLimits,
                 Optional<String> overriddenDescription) {
             this.domainModelPredicate = domainModelPredicate;
             this.domainServicePredicate = domainServicePredicate;
             this.applicationPredicate = applicationPredicate;
             this.adapterPredicates = adapterPredicates;
             this.ignoredDependencies = ignoredDependencies;
+            this.violationLimits = violationLimits;
             this.overriddenDescription = overriddenDescription;
         }
 
@@ -1025,6 +1169,10 @@ public final class Architectures {
 
             layeredArchitectureDelegate = allClassesAreContainedInArchitectureCheck.configure(layeredArchitectureDelegate);
 
+            for (Transformation violationLimit : violationLimits) {
+                layeredArchitectureDelegate = layeredArchitectureDelegate.withViolationLimit(violationLimit);
+            }
+
             return layeredArchitectureDelegate.as(getDescription());
         }
 
@@ -1051,10 +1199,22 @@ public final class Architectures {
             return withOptionalLayers(allowEmptyShould);
         }
 
+        @Override
+        public OnionArchitecture failFast(boolean failFast) {
+            violationLimits.add(new Transformation.FailFast(failFast));
+            return this;
+        }
+
+        @Override
+        public OnionArchitecture limitRecordedViolations(int maxNumberOfRecordedViolations) {
+            violationLimits.add(new Transformation.LimitRecordedViolations(maxNumberOfRecordedViolations));
+            return this;
+        }
+
         @Override
         public OnionArchitecture as(String newDescription) {
             return new OnionArchitecture(domainModelPredicate, domainServicePredicate,
-                    applicationPredicate, adapterPredicates, ignoredDependencies,
+                    applicationPredicate, adapterPredicates, ignoredDependencies, violationLimits,
                     Optional.of(newDescription));
         }
 
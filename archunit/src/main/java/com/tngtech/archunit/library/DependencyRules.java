@@ -126,7 +126,7 @@ public final class DependencyRules {
         public void check(JavaClass clazz, ConditionEvents events) {
             for (Dependency dependency : clazz.getDirectDependenciesFromSelf()) {
                 boolean dependencyOnUpperPackage = isDependencyOnUpperPackage(dependency.getOriginClass(), dependency.getTargetClass());
-                events.add(new SimpleConditionEvent(dependency, dependencyOnUpperPackage, dependency.getDescription()));
+                events.add(new SimpleConditionEvent(dependency, dependencyOnUpperPackage, dependency::getDescription));
             }
         }
 
@@ -168,7 +168,7 @@ public final class ProxyRules {
             public void check(JavaClass javaClass, ConditionEvents events) {
                 for (JavaMethodCall call : javaClass.getMethodCallsFromSelf()) {
                     boolean satisfied = call.getOriginOwner().equals(call.getTargetOwner()) && predicate.test(call.getTarget());
-                    events.add(new SimpleConditionEvent(call, satisfied, call.getDescription()));
+                    events.add(new SimpleConditionEvent(call, satisfied, call::getDescription));
                 }
             }
         };
@@ -28,6 +28,8 @@ import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ArchRule;
 import com.tngtech.archunit.lang.ArchRule.Transformation.As;
 import com.tngtech.archunit.lang.ArchRule.Transformation.Because;
+import com.tngtech.archunit.lang.ArchRule.Transformation.FailFast;
+import com.tngtech.archunit.lang.ArchRule.Transformation.LimitRecordedViolations;
 import com.tngtech.archunit.lang.EvaluationResult;
 import com.tngtech.archunit.lang.Priority;
 
@@ -93,6 +95,18 @@ public final class SliceRule implements ArchRule {
         return new SliceRule(inputTransformer, priority, transformations, ignoreDependency, conditionFactory, Optional.of(allowEmptyShould));
     }
 
+    @Override
+    @PublicAPI(usage = ACCESS)
+    public SliceRule failFast(boolean failFast) {
+        return copyWithTransformation(new FailFast(failFast));
+    }
+
+    @Override
+    @PublicAPI(usage = ACCESS)
+    public SliceRule limitRecordedViolations(int maxNumberOfRecordedViolations) {
+        return copyWithTransformation(new LimitRecordedViolations(maxNumberOfRecordedViolations));
+    }
+
     @Override
     @PublicAPI(usage = ACCESS)
     public EvaluationResult evaluate(JavaClasses classes) {
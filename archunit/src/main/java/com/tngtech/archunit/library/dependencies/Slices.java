@@ -328,15 +328,16 @@ public final class Slices implements DescribedIterable<Slice>, CanOverrideDescri
 
     private static class PackageMatchingSliceIdentifier implements SliceAssignment {
         private final String packageIdentifier;
+        private final PackageMatcher packageMatcher;
 
         private PackageMatchingSliceIdentifier(String packageIdentifier) {
             this.packageIdentifier = checkNotNull(packageIdentifier);
+            this.packageMatcher = PackageMatcher.of(packageIdentifier);
         }
 
         @Override
         public SliceIdentifier getIdentifierOf(JavaClass javaClass) {
-            PackageMatcher matcher = PackageMatcher.of(packageIdentifier);
-            Optional<List<String>> result = matcher.match(javaClass.getPackageName()).map(TO_GROUPS);
+            Optional<List<String>> result = packageMatcher.match(javaClass.getPackageName()).map(TO_GROUPS);
             List<String> parts = result.orElse(emptyList());
             return parts.isEmpty() ? SliceIdentifier.ignore() : SliceIdentifier.of(parts);
         }
@@ -34,6 +34,8 @@ import org.slf4j.LoggerFactory;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static com.tngtech.archunit.lang.ViolationSinkFactory.passToConfiguredSink;
+import static com.tngtech.archunit.lang.ViolationSinkFactory.withoutConfiguredSink;
 import static com.tngtech.archunit.library.freeze.ViolationStoreFactory.FREEZE_STORE_PROPERTY_NAME;
 import static java.util.stream.Collectors.toList;
 
@@ -109,6 +111,38 @@ public final class FreezingArchRule implements ArchRule {
         return new FreezingArchRule(delegate.allowEmptyShould(allowEmptyShould), store, matcher);
     }
 
+    /**
+     * Not supported, since a {@link FreezingArchRule} always needs to know all violations of the frozen rule
+     * to compare them to the {@link ViolationStore}.
+     *
+     * @throws UnsupportedOperationException if {@code failFast} is {@code true}
+     */
+    @Override
+    @PublicAPI(usage = ACCESS)
+    public FreezingArchRule failFast(boolean failFast) {
+        if (failFast) {
+            throw new UnsupportedOperationException(String.format(
+                    "%s cannot fail fast, since it needs to know all violations of the frozen rule", getClass().getSimpleName()));
+        }
+        return this;
+    }
+
+    /**
+     * Not supported, since a {@link FreezingArchRule} always needs to know all violations of the frozen rule
+     * to compare them to the {@link ViolationStore}.
+     *
+     * @throws UnsupportedOperationException if {@code maxNumberOfRecordedViolations} is less than {@link Integer#MAX_VALUE}
+     */
+    @Override
+    @PublicAPI(usage = ACCESS)
+    public FreezingArchRule limitRecordedViolations(int maxNumberOfRecordedViolations) {
+        if (maxNumberOfRecordedViolations < Integer.MAX_VALUE) {
+            throw new UnsupportedOperationException(String.format(
+                    "%s cannot limit the recorded violations, since it needs to know all violations of the frozen rule", getClass().getSimpleName()));
+        }
+        return this;
+    }
+
     @Override
     @PublicAPI(usage = ACCESS)
     public FreezingArchRule as(String newDescription) {
@@ -120,12 +154,17 @@ public final class FreezingArchRule implements ArchRule {
     public EvaluationResult evaluate(JavaClasses classes) {
         store.initialize(ArchConfiguration.get().getSubProperties(FREEZE_STORE_PROPERTY_NAME));
 
-        EvaluationResultLineBreakAdapter result = new EvaluationResultLineBreakAdapter(delegate.evaluate(classes));
-        if (!store.contains(delegate) || refreezeViolations()) {
-            return storeViolationsAndReturnSuccess(result);
-        } else {
-            return removeObsoleteViolationsFromStoreAndReturnNewViolations(result);
-        }
+        // a configured ViolationSink must only receive those violations that are not frozen
+        EvaluationResultLineBreakAdapter result = new EvaluationResultLineBreakAdapter(withoutConfiguredSink(() -> evaluateAllViolations(classes)));
+        EvaluationResult newViolations = !store.contains(delegate) || refreezeViolations()
+                ? storeViolationsAndReturnSuccess(result)
+                : removeObsoleteViolationsFromStoreAndReturnNewViolations(result);
+        passToConfiguredSink(delegate, newViolations);
+        return newViolations;
+    }
+
+    private EvaluationResult evaluateAllViolations(JavaClasses classes) {
+        return delegate.failFast(false).limitRecordedViolations(Integer.MAX_VALUE).evaluate(classes);
     }
 
     private boolean refreezeViolations() {
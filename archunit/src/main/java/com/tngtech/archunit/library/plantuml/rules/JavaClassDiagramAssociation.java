@@ -16,24 +16,30 @@
 package com.tngtech.archunit.library.plantuml.rules;
 
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.core.domain.JavaClass;
-import com.tngtech.archunit.core.domain.PackageMatcher;
+import com.tngtech.archunit.core.domain.PackageMatchers;
 
 import static com.google.common.collect.Iterables.getOnlyElement;
 
 class JavaClassDiagramAssociation {
-    private final Set<AssociatedComponent> components;
+    private final Map<String, PlantUmlComponent> componentsByPackageIdentifier;
+    private final PackageMatchers packageMatchers;
 
     JavaClassDiagramAssociation(PlantUmlDiagram diagram) {
-        ImmutableSet.Builder<AssociatedComponent> components = ImmutableSet.builder();
         validateStereotypes(diagram);
+        ImmutableMap.Builder<String, PlantUmlComponent> componentsByPackageIdentifier = ImmutableMap.builder();
         for (PlantUmlComponent component : diagram.getAllComponents()) {
-            components.add(new AssociatedComponent(component));
+            for (Stereotype stereotype : component.getStereotypes()) {
+                componentsByPackageIdentifier.put(stereotype.asString(), component);
+            }
         }
-        this.components = components.build();
+        this.componentsByPackageIdentifier = componentsByPackageIdentifier.build();
+        this.packageMatchers = PackageMatchers.of(this.componentsByPackageIdentifier.keySet());
     }
 
     private void validateStereotypes(PlantUmlDiagram plantUmlDiagram) {
@@ -78,33 +84,9 @@ class JavaClassDiagramAssociation {
 
     Set<PlantUmlComponent> getAssociatedComponents(JavaClass javaClass) {
         ImmutableSet.Builder<PlantUmlComponent> result = ImmutableSet.builder();
-        for (AssociatedComponent component : components) {
-            if (component.contains(javaClass)) {
-                result.add(component.asPlantUmlComponent());
-            }
+        for (String packageIdentifier : packageMatchers.getMatchingPackageIdentifiers(javaClass.getPackageName())) {
+            result.add(componentsByPackageIdentifier.get(packageIdentifier));
         }
         return result.build();
     }
-
-    private static class AssociatedComponent {
-        private final PlantUmlComponent component;
-        private final Set<PackageMatcher> packageMatchers;
-
-        private AssociatedComponent(PlantUmlComponent component) {
-            this.component = component;
-            ImmutableSet.Builder<PackageMatcher> packageMatchers = ImmutableSet.builder();
-            for (Stereotype stereotype : component.getStereotypes()) {
-                packageMatchers.add(PackageMatcher.of(stereotype.asString()));
-            }
-            this.packageMatchers = packageMatchers.build();
-        }
-
-        private boolean contains(JavaClass javaClass) {
-            return packageMatchers.stream().anyMatch(packageMatcher -> packageMatcher.matches(javaClass.getPackageName()));
-        }
-
-        PlantUmlComponent asPlantUmlComponent() {
-            return component;
-        }
-    }
 }
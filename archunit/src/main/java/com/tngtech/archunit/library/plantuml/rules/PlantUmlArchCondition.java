@@ -330,16 +330,16 @@ public final class PlantUmlArchCondition extends ArchCondition<JavaClass> {
         }
 
         private static class NotContainedInPackagesPredicate extends DescribedPredicate<Dependency> {
-            private final List<String> packageIdentifiers;
+            private final PackageMatchers packageMatchers;
 
             NotContainedInPackagesPredicate(List<String> packageIdentifiers) {
                 super(" while ignoring dependencies outside of packages [%s]", joinSingleQuoted(packageIdentifiers));
-                this.packageIdentifiers = packageIdentifiers;
+                this.packageMatchers = PackageMatchers.of(packageIdentifiers);
             }
 
             @Override
             public boolean test(Dependency input) {
-                return !PackageMatchers.of(packageIdentifiers).test(input.getTargetClass().getPackageName());
+                return !packageMatchers.test(input.getTargetClass().getPackageName());
             }
         }
     }
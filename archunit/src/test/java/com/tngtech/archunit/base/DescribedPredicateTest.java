@@ -1,6 +1,8 @@
 package com.tngtech.archunit.base;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -25,6 +27,10 @@ import static com.tngtech.archunit.base.DescribedPredicate.greaterThanOrEqualTo;
 import static com.tngtech.archunit.base.DescribedPredicate.lessThan;
 import static com.tngtech.archunit.base.DescribedPredicate.lessThanOrEqualTo;
 import static com.tngtech.archunit.base.DescribedPredicate.not;
+import static com.tngtech.archunit.base.DeclaresEvaluationCost.evaluationCostOf;
+import static com.tngtech.archunit.base.EvaluationCost.CHEAP;
+import static com.tngtech.archunit.base.EvaluationCost.EXPENSIVE;
+import static com.tngtech.archunit.base.EvaluationCost.MODERATE;
 import static com.tngtech.archunit.testutil.Assertions.assertThat;
 import static com.tngtech.java.junit.dataprovider.DataProviders.$;
 import static com.tngtech.java.junit.dataprovider.DataProviders.$$;
@@ -60,6 +66,70 @@ public class DescribedPredicateTest {
         assertThat(alwaysTrue().or(alwaysTrue())).accepts(new Object());
     }
 
+    @Test
+    public void and_tests_the_cheaper_of_two_built_in_predicates_first() {
+        List<String> testedPredicates = new ArrayList<>();
+        DescribedPredicate<Object> expensive = new BuiltInRecordingPredicate("expensive", EXPENSIVE, false, testedPredicates);
+        DescribedPredicate<Object> cheap = new BuiltInRecordingPredicate("cheap", CHEAP, false, testedPredicates);
+
+        DescribedPredicate<Object> predicate = expensive.and(cheap);
+
+        assertThat(predicate).rejects(new Object()).hasDescription("expensive and cheap");
+        assertThat(testedPredicates).containsExactly("cheap");
+        assertThat(evaluationCostOf(predicate)).isEqualTo(EXPENSIVE);
+    }
+
+    @Test
+    public void or_tests_the_cheaper_of_two_built_in_predicates_first() {
+        List<String> testedPredicates = new ArrayList<>();
+        DescribedPredicate<Object> expensive = new BuiltInRecordingPredicate("expensive", EXPENSIVE, true, testedPredicates);
+        DescribedPredicate<Object> cheap = new BuiltInRecordingPredicate("cheap", CHEAP, true, testedPredicates);
+
+        DescribedPredicate<Object> predicate = expensive.or(cheap);
+
+        assertThat(predicate).accepts(new Object()).hasDescription("expensive or cheap");
+        assertThat(testedPredicates).containsExactly("cheap");
+        assertThat(evaluationCostOf(predicate)).isEqualTo(EXPENSIVE);
+    }
+
+    @Test
+    public void predicates_of_equal_cost_are_tested_in_declaration_order() {
+        List<String> testedPredicates = new ArrayList<>();
+        DescribedPredicate<Object> first = new BuiltInRecordingPredicate("first", MODERATE, true, testedPredicates);
+        DescribedPredicate<Object> second = new BuiltInRecordingPredicate("second", MODERATE, true, testedPredicates);
+
+        first.and(second).test(new Object());
+
+        assertThat(testedPredicates).containsExactly("first", "second");
+    }
+
+    @Test
+    public void custom_predicates_are_tested_in_declaration_order() {
+        List<String> testedPredicates = new ArrayList<>();
+        DescribedPredicate<Object> guard = new RecordingPredicate("guard", false, testedPredicates);
+        DescribedPredicate<Object> guarded = new RecordingPredicate("guarded", false, testedPredicates);
+        DescribedPredicate<Object> builtIn = new BuiltInRecordingPredicate("built-in", CHEAP, false, testedPredicates);
+
+        guard.and(guarded).test(new Object());
+        guard.and(builtIn).test(new Object());
+        guard.as("described guard").and(builtIn).test(new Object());
+        guard.or(builtIn).test(new Object());
+
+        assertThat(testedPredicates).containsExactly("guard", "guard", "guard", "guard", "built-in");
+    }
+
+    @Test
+    public void evaluation_cost_is_propagated_through_wrapping_predicates() {
+        DescribedPredicate<Object> expensive = new BuiltInRecordingPredicate("expensive", EXPENSIVE, true, new ArrayList<>());
+
+        assertThat(evaluationCostOf(expensive.as("changed"))).isEqualTo(EXPENSIVE);
+        assertThat(evaluationCostOf(not(expensive))).isEqualTo(EXPENSIVE);
+        assertThat(evaluationCostOf(equalTo(5))).isEqualTo(CHEAP);
+        assertThat(evaluationCostOf(describe("custom", input -> true))).isEqualTo(MODERATE);
+        assertThat(evaluationCostOf(anyElementThat(equalTo(5)))).isEqualTo(MODERATE);
+        assertThat(evaluationCostOf(new RecordingPredicate("custom", true, new ArrayList<>()))).isEqualTo(MODERATE);
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void static_and_works() {
@@ -273,6 +343,37 @@ public class DescribedPredicateTest {
                 .accepts(ImmutableList.of());
     }
 
+    private static class RecordingPredicate extends DescribedPredicate<Object> {
+        private final boolean result;
+        private final List<String> testedPredicates;
+
+        RecordingPredicate(String description, boolean result, List<String> testedPredicates) {
+            super(description);
+            this.result = result;
+            this.testedPredicates = testedPredicates;
+        }
+
+        @Override
+        public boolean test(Object input) {
+            testedPredicates.add(getDescription());
+            return result;
+        }
+    }
+
+    private static class BuiltInRecordingPredicate extends RecordingPredicate implements DeclaresEvaluationCost {
+        private final EvaluationCost evaluationCost;
+
+        BuiltInRecordingPredicate(String description, EvaluationCost evaluationCost, boolean result, List<String> testedPredicates) {
+            super(description, result, testedPredicates);
+            this.evaluationCost = evaluationCost;
+        }
+
+        @Override
+        public EvaluationCost getEvaluationCost() {
+            return evaluationCost;
+        }
+    }
+
     private Function<Object, Integer> constant(int integer) {
         return input -> integer;
     }
@@ -0,0 +1,102 @@
+package com.tngtech.archunit.base;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.tngtech.java.junit.dataprovider.DataProvider;
+import com.tngtech.java.junit.dataprovider.DataProviderRunner;
+import com.tngtech.java.junit.dataprovider.UseDataProvider;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static com.tngtech.archunit.testutil.Assertions.assertThat;
+import static com.tngtech.java.junit.dataprovider.DataProviders.testForEach;
+
+@RunWith(DataProviderRunner.class)
+public class SuppliersTest {
+
+    @DataProvider
+    public static Object[][] memoizers() {
+        return testForEach(
+                (Function<Supplier<Object>, Supplier<Object>>) Suppliers::memoize,
+                (Function<Supplier<Object>, Supplier<Object>>) Suppliers::memoizeRacy);
+    }
+
+    @Test
+    @UseDataProvider("memoizers")
+    public void memoizes_value(Function<Supplier<Object>, Supplier<Object>> memoizer) {
+        AtomicInteger invocations = new AtomicInteger();
+        Supplier<Object> supplier = memoizer.apply(() -> "value" + invocations.incrementAndGet());
+
+        assertThat(supplier.get()).isEqualTo("value1");
+        assertThat(supplier.get()).isEqualTo("value1");
+        assertThat(invocations.get()).isEqualTo(1);
+    }
+
+    @Test
+    @UseDataProvider("memoizers")
+    public void memoizes_null(Function<Supplier<Object>, Supplier<Object>> memoizer) {
+        AtomicInteger invocations = new AtomicInteger();
+        Supplier<Object> supplier = memoizer.apply(() -> {
+            invocations.incrementAndGet();
+            return null;
+        });
+
+        assertThat(supplier.get()).isNull();
+        assertThat(supplier.get()).isNull();
+        assertThat(invocations.get()).isEqualTo(1);
+    }
+
+    @Test
+    @UseDataProvider("memoizers")
+    public void all_threads_observe_the_same_value(Function<Supplier<Object>, Supplier<Object>> memoizer) throws Exception {
+        Supplier<Object> supplier = memoizer.apply(Object::new);
+
+        List<Object> results = getConcurrently(supplier, 8);
+
+        assertThat(results).hasSize(8).containsOnly(results.get(0));
+    }
+
+    @Test
+    public void memoize_computes_value_only_once_under_contention() throws Exception {
+        AtomicInteger invocations = new AtomicInteger();
+        Supplier<Object> supplier = Suppliers.memoize(() -> {
+            invocations.incrementAndGet();
+            return new Object();
+        });
+
+        getConcurrently(supplier, 8);
+
+        assertThat(invocations.get()).isEqualTo(1);
+    }
+
+    private static List<Object> getConcurrently(Supplier<Object> supplier, int numberOfThreads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < numberOfThreads; i++) {
+                futures.add(executor.submit((Callable<Object>) () -> {
+                    start.await();
+                    return supplier.get();
+                }));
+            }
+            start.countDown();
+            List<Object> results = new ArrayList<>();
+            for (Future<Object> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -43,6 +43,7 @@ import static com.tngtech.archunit.testutil.assertion.DependenciesAssertion.from
 import static com.tngtech.java.junit.dataprovider.DataProviders.$;
 import static com.tngtech.java.junit.dataprovider.DataProviders.$$;
 import static com.tngtech.java.junit.dataprovider.DataProviders.testForEach;
+import static java.util.stream.Collectors.toSet;
 
 @RunWith(DataProviderRunner.class)
 public class DependencyTest {
@@ -543,6 +544,19 @@ public class DependencyTest {
                         origin.getFullName(), FileSystem.class.getName(), DependenciesOnClassObjects.class.getSimpleName(), 22));
     }
 
+    @Test
+    public void dependencies_are_equal_if_and_only_if_their_descriptions_are_equal() {
+        JavaClass javaClass = importClassWithContext(ClassWithBridgeMethod.class);
+
+        Set<Dependency> dependencies = javaClass.getDirectDependenciesFromSelf();
+
+        Set<String> descriptions = dependencies.stream().map(Dependency::getDescription).collect(toSet());
+        assertThat(descriptions).hasSameSizeAs(dependencies);
+        assertThat(descriptions).contains(String.format("Method <%s.twoParameters(%s, %s)> has parameter of type <%s> in (%s.java:0)",
+                ClassWithBridgeMethod.class.getName(), SomeMemberType.class.getName(), SomeMemberType.class.getName(),
+                SomeMemberType.class.getName(), getClass().getSimpleName()));
+    }
+
     @Test
     public void origin_predicates_match() {
         assertThatDependency(Origin.class, Target.class)
@@ -650,6 +664,18 @@ public class DependencyTest {
     private static class SomeMemberType {
     }
 
+    @SuppressWarnings("unused")
+    private static class ClassWithBridgeMethod implements Supplier<SomeMemberType> {
+        @Override
+        @SomeAnnotation(SomeMemberType.class)
+        public SomeMemberType get() {
+            return null;
+        }
+
+        void twoParameters(SomeMemberType first, SomeMemberType second) {
+        }
+    }
+
     @Retention(RetentionPolicy.RUNTIME)
     @interface SomeAnnotation {
         Class<?> value();
@@ -36,6 +36,60 @@ public class JavaAnnotationTest {
                         + "> on method <" + SomeClass.class.getName() + ".method()>");
     }
 
+    @Test
+    public void description_of_annotation_on_parameter() {
+        JavaClass javaClass = importClasses(SomeAnnotation.class, SomeClass.class).get(SomeClass.class);
+
+        JavaAnnotation<JavaParameter> annotation = javaClass.getMethod("methodWithParameter", String.class)
+                .getParameters().get(0).getAnnotationOfType(SomeAnnotation.class.getName());
+
+        assertThat(annotation.getDescription()).isEqualTo(
+                "Annotation <" + SomeAnnotation.class.getName()
+                        + "> on parameter <" + String.class.getName() + "> of method <" + SomeClass.class.getName() + ".methodWithParameter(" + String.class.getName() + ")>");
+    }
+
+    @Test
+    public void values_are_created_once() {
+        JavaClass javaClass = importClasses(SomeAnnotation.class, SomeClass.class).get(SomeClass.class);
+
+        JavaAnnotation<JavaClass> annotation = javaClass.getAnnotationOfType(SomeAnnotation.class.getName());
+
+        assertThat(annotation.get("sub").get()).isSameAs(annotation.get("sub").get());
+    }
+
+    @Test
+    public void values_are_not_created_by_the_import() {
+        JavaClasses classes = importClasses(
+                AnnotationWithFirstLevelParameters.class, AnnotationWithSecondLevelParameters.class,
+                ClassWithAnnotationWithSecondLevelParameters.class,
+                Class1.class, Class2.class, Class3.class, Class4.class, SomeEnum.class,
+                SomeAnnotation.class, SubAnnotation.class, SomeClass.class);
+        JavaAnnotation<JavaClass> classAnnotation = classes.get(ClassWithAnnotationWithSecondLevelParameters.class)
+                .getAnnotationOfType(AnnotationWithSecondLevelParameters.class.getName());
+        JavaAnnotation<JavaMethod> methodAnnotation = classes.get(SomeClass.class).getMethod("method")
+                .getAnnotationOfType(SomeAnnotation.class.getName());
+
+        assertThat(classAnnotation.areValuesCreated()).as("values of class annotation created").isFalse();
+        assertThat(methodAnnotation.areValuesCreated()).as("values of method annotation created").isFalse();
+
+        classAnnotation.get("annotation");
+        methodAnnotation.getProperties();
+
+        assertThat(classAnnotation.areValuesCreated()).as("values of class annotation created").isTrue();
+        assertThat(methodAnnotation.areValuesCreated()).as("values of method annotation created").isTrue();
+    }
+
+    @Test
+    public void proxies_are_created_once() {
+        JavaClass javaClass = importClasses(SomeAnnotation.class, SomeClass.class).get(SomeClass.class);
+
+        JavaAnnotation<JavaClass> annotation = javaClass.getAnnotationOfType(SomeAnnotation.class.getName());
+
+        SomeAnnotation proxy = annotation.as(SomeAnnotation.class);
+        assertThat(proxy.sub()).hasSize(1);
+        assertThat(annotation.as(SomeAnnotation.class)).isSameAs(proxy);
+    }
+
     @Test
     public void description_of_class_annotation_parameter() {
         JavaClass javaClass = importClasses(SomeAnnotation.class, SomeClass.class).get(SomeClass.class);
@@ -169,6 +223,9 @@ public class JavaAnnotationTest {
         @SomeAnnotation(sub = @SubAnnotation)
         void method() {
         }
+
+        void methodWithParameter(@SomeAnnotation String param) {
+        }
     }
 
     private enum SomeEnum {
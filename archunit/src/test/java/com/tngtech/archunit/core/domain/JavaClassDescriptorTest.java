@@ -40,6 +40,13 @@ public class JavaClassDescriptorTest {
         assertThat(arrayType).isEquivalentTo(expected);
     }
 
+    @Test
+    public void all_spellings_of_a_type_share_the_same_descriptor() {
+        assertThat(JavaClassDescriptor.From.name("I")).isSameAs(JavaClassDescriptor.From.name("int"));
+        assertThat(JavaClassDescriptor.From.name(Object[].class.getCanonicalName())).isSameAs(JavaClassDescriptor.From.name(Object[].class.getName()));
+        assertThat(JavaClassDescriptor.From.name(Object[].class.getName()).toArrayDescriptor()).isSameAs(JavaClassDescriptor.From.name(Object[][].class.getName()));
+    }
+
     @Test
     public void object_name() {
         JavaClassDescriptor objectType = JavaClassDescriptor.From.name(Object.class.getName());
@@ -1,25 +1,63 @@
 package com.tngtech.archunit.core.domain;
 
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.Internal;
+import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.properties.HasName;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
+import com.tngtech.java.junit.dataprovider.DataProvider;
+import com.tngtech.java.junit.dataprovider.DataProviderRunner;
+import com.tngtech.java.junit.dataprovider.UseDataProvider;
+import org.junit.Rule;
 import org.junit.Test;
-
+import org.junit.runner.RunWith;
+
+import static com.tngtech.archunit.base.DescribedPredicate.not;
+import static com.tngtech.archunit.core.domain.DependencyCachePolicy.RECOMPUTE;
+import static com.tngtech.archunit.core.domain.DependencyCachePolicy.RETAIN;
+import static com.tngtech.archunit.core.domain.DependencyCachePolicy.SOFT;
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.INTERFACES;
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.assignableTo;
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.resideInAPackage;
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.resideInAnyPackage;
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.simpleName;
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.simpleNameEndingWith;
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.simpleNameStartingWith;
 import static com.tngtech.archunit.core.domain.TestUtils.importClassWithContext;
 import static com.tngtech.archunit.core.domain.TestUtils.importClassesWithContext;
+import static com.tngtech.archunit.core.domain.properties.CanBeAnnotated.Predicates.annotatedWith;
 import static com.tngtech.archunit.testutil.Assertions.assertThatTypes;
+import static com.tngtech.java.junit.dataprovider.DataProviders.testForEach;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 
+@RunWith(DataProviderRunner.class)
 public class JavaClassesTest {
     public static final JavaClasses ALL_CLASSES = importClassesWithContext(SomeClass.class, SomeOtherClass.class);
     private static final JavaClass SOME_CLASS = ALL_CLASSES.get(SomeClass.class);
     private static final JavaClass SOME_OTHER_CLASS = ALL_CLASSES.get(SomeOtherClass.class);
 
+    @Rule
+    public final ArchConfigurationRule configurationRule = new ArchConfigurationRule();
+
     @Test
     public void restriction_on_classes_should_filter_the_elements() {
         JavaClasses onlySomeClass = ALL_CLASSES.that(haveTheNameOf(SomeClass.class));
@@ -69,6 +107,86 @@ public class JavaClassesTest {
         assertThat(allOriginalElements.getDescription()).isEqualTo("customized");
     }
 
+    @Test
+    public void restriction_on_classes_only_contains_matching_classes() {
+        JavaClasses onlySomeClass = ALL_CLASSES.that(haveTheNameOf(SomeClass.class));
+
+        assertThat(onlySomeClass.contain(SomeClass.class)).isTrue();
+        assertThat(onlySomeClass.contain(SomeOtherClass.class)).isFalse();
+        assertThat(onlySomeClass.contains(SOME_OTHER_CLASS)).isFalse();
+        assertThat(onlySomeClass.that(haveTheNameOf(SomeOtherClass.class))).isEmpty();
+        assertThatThrownBy(() -> onlySomeClass.get(SomeOtherClass.class))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DataProvider
+    public static Object[][] predicates_answerable_by_index() {
+        return testForEach(
+                resideInAPackage("..domain.properties.."),
+                simpleName("JavaClass"),
+                simpleNameStartingWith("Java").and(simpleNameEndingWith("Class")),
+                simpleNameEndingWith("Test").or(resideInAPackage("..properties..")),
+                INTERFACES.and(annotatedWith(PublicAPI.class)),
+                assignableTo(HasName.class).and(resideInAnyPackage("..properties..", "..domain")),
+                assignableTo(Object.class).as("custom description"),
+                INTERFACES.or(simpleNameEndingWith("Test")),
+                not(simpleNameEndingWith("Test")).and(annotatedWith(Internal.class)),
+                simpleName("NotExisting").or(assignableTo("not.Existing"))
+        );
+    }
+
+    @Test
+    @UseDataProvider("predicates_answerable_by_index")
+    public void restriction_on_classes_by_index_has_the_same_result_as_testing_all_classes(DescribedPredicate<JavaClass> predicate) {
+        JavaClasses classes = new ClassFileImporter().importPackagesOf(JavaClasses.class);
+
+        for (JavaClasses input : ImmutableList.of(classes, classes.that(not(INTERFACES)))) {
+            JavaClasses result = input.that(predicate);
+
+            assertThat(result).containsExactlyElementsOf(input.stream().filter(predicate).collect(toList()));
+            assertThat(result.getDescription()).isEqualTo(input.getDescription() + " that " + predicate.getDescription());
+        }
+    }
+
+    @Test
+    public void restriction_on_classes_only_tests_the_candidates_selected_by_index() {
+        JavaClasses classes = new ClassFileImporter().importPackagesOf(JavaClasses.class);
+        AtomicInteger numberOfTestedClasses = new AtomicInteger();
+        DescribedPredicate<JavaClass> countingPredicate = DescribedPredicate.describe("are counted", javaClass -> {
+            numberOfTestedClasses.incrementAndGet();
+            return true;
+        });
+
+        JavaClasses result = classes.that(resideInAPackage("..domain.properties..").and(countingPredicate));
+
+        assertThat(result).isNotEmpty();
+        assertThat(numberOfTestedClasses.get()).isEqualTo(result.size());
+    }
+
+    @Test
+    public void classes_can_be_combined_by_and() {
+        JavaClasses onlySomeClass = ALL_CLASSES.that(haveTheNameOf(SomeClass.class));
+        JavaClasses onlySomeOtherClass = ALL_CLASSES.that(haveTheNameOf(SomeOtherClass.class));
+
+        assertThat(ALL_CLASSES.and(onlySomeClass)).containsExactly(SOME_CLASS);
+        assertThat(onlySomeClass.and(onlySomeOtherClass)).isEmpty();
+        assertThat(onlySomeClass.and(onlySomeOtherClass).getDescription())
+                .isEqualTo("classes that have the name SomeClass and classes that have the name SomeOtherClass");
+        assertThat(onlySomeClass.and(JavaClasses.of(singletonList(SOME_CLASS)))).containsExactly(SOME_CLASS);
+    }
+
+    @Test
+    public void classes_can_be_combined_by_or() {
+        JavaClasses onlySomeClass = ALL_CLASSES.that(haveTheNameOf(SomeClass.class));
+        JavaClasses onlySomeOtherClass = ALL_CLASSES.that(haveTheNameOf(SomeOtherClass.class));
+
+        assertThat(onlySomeClass.or(onlySomeOtherClass)).containsOnly(SOME_CLASS, SOME_OTHER_CLASS);
+        assertThat(onlySomeClass.or(onlySomeOtherClass).getDescription())
+                .isEqualTo("classes that have the name SomeClass or classes that have the name SomeOtherClass");
+        assertThat(onlySomeClass.or(onlySomeOtherClass)).isEqualTo(ALL_CLASSES.as(onlySomeClass.or(onlySomeOtherClass).getDescription()));
+        assertThat(onlySomeClass.or(JavaClasses.of(singletonList(SOME_OTHER_CLASS)))).containsOnly(SOME_CLASS, SOME_OTHER_CLASS);
+    }
+
     @Test
     public void contain_type() {
         assertThat(ALL_CLASSES.contain(getClass())).isFalse();
@@ -112,6 +230,135 @@ public class JavaClassesTest {
                 .hasMessage("JavaClasses do not contain JavaClass of type %s", String.class.getName());
     }
 
+    @Test
+    public void dependency_cache_policy_is_retain_by_default() {
+        JavaClasses classes = new ClassFileImporter().importClasses(SomeClass.class, SomeOtherClass.class);
+
+        assertThat(classes.getDependencyCachePolicy()).isEqualTo(RETAIN);
+        assertThat(classes.get(SomeClass.class).getDirectDependenciesFromSelf())
+                .isSameAs(classes.get(SomeClass.class).getDirectDependenciesFromSelf());
+    }
+
+    @Test
+    public void dependency_cache_policy_can_be_configured() {
+        ArchConfiguration.get().setProperty("domain.dependencyCachePolicy", "recompute");
+
+        JavaClasses classes = new ClassFileImporter().importClasses(SomeClass.class, SomeOtherClass.class);
+
+        assertThat(classes.getDependencyCachePolicy()).isEqualTo(RECOMPUTE);
+        assertThat(classes.get(SomeClass.class).getDirectDependenciesFromSelf())
+                .isEqualTo(classes.get(SomeClass.class).getDirectDependenciesFromSelf())
+                .isNotSameAs(classes.get(SomeClass.class).getDirectDependenciesFromSelf());
+    }
+
+    @Test
+    public void dependency_cache_policy_is_shared_by_all_classes_of_the_same_import() {
+        ArchConfiguration.get().setProperty("domain.dependencyCachePolicy", "soft");
+        JavaClasses classes = new ClassFileImporter().importClasses(SomeClass.class, SomeOtherClass.class);
+        ArchConfiguration.get().setProperty("domain.dependencyCachePolicy", "recompute");
+
+        assertThat(classes.that(haveTheNameOf(SomeClass.class)).getDependencyCachePolicy()).isEqualTo(SOFT);
+        assertThat(JavaClasses.of(singletonList(classes.get(SomeOtherClass.class))).getDependencyCachePolicy()).isEqualTo(SOFT);
+    }
+
+    @DataProvider
+    public static Object[][] dependency_cache_policies() {
+        return new Object[][]{{RETAIN}, {SOFT}, {RECOMPUTE}};
+    }
+
+    @Test
+    @UseDataProvider("dependency_cache_policies")
+    public void dependencies_do_not_depend_on_dependency_cache_policy(DependencyCachePolicy policy) {
+        JavaClasses expectedClasses = new ClassFileImporter().importClasses(JavaClassesTest.class, SomeClass.class, SomeOtherClass.class, JavaClasses.class);
+        Set<String> expectedDependenciesFromSelf = descriptionsOf(expectedClasses.get(JavaClassesTest.class).getDirectDependenciesFromSelf());
+        Set<String> expectedDependenciesToSelf = descriptionsOf(expectedClasses.get(SomeClass.class).getDirectDependenciesToSelf());
+        Set<String> expectedAccessesToSelf = accessDescriptionsOf(expectedClasses.get(JavaClasses.class).getAccessesToSelf());
+
+        ArchConfiguration.get().setProperty("domain.dependencyCachePolicy", policy.name());
+        JavaClasses classes = new ClassFileImporter().importClasses(JavaClassesTest.class, SomeClass.class, SomeOtherClass.class, JavaClasses.class);
+
+        assertThat(classes.getDependencyCachePolicy()).isEqualTo(policy);
+        assertThat(descriptionsOf(classes.get(JavaClassesTest.class).getDirectDependenciesFromSelf())).isEqualTo(expectedDependenciesFromSelf);
+        assertThat(descriptionsOf(classes.get(JavaClassesTest.class).streamDirectDependenciesFromSelf().collect(toSet()))).isEqualTo(expectedDependenciesFromSelf);
+        assertThat(descriptionsOf(classes.get(SomeClass.class).getDirectDependenciesToSelf())).isEqualTo(expectedDependenciesToSelf);
+        assertThat(expectedAccessesToSelf).isNotEmpty();
+        assertThat(accessDescriptionsOf(classes.get(JavaClasses.class).getAccessesToSelf())).isEqualTo(expectedAccessesToSelf);
+    }
+
+    @Test
+    public void precomputing_derived_data_does_not_change_it() {
+        JavaClasses classes = new ClassFileImporter().importClasses(JavaClassesTest.class, SomeClass.class, SomeOtherClass.class, JavaClasses.class);
+        JavaClasses precomputedClasses = new ClassFileImporter().importClasses(JavaClassesTest.class, SomeClass.class, SomeOtherClass.class, JavaClasses.class)
+                .precompute(DerivedData.values());
+
+        for (JavaClass javaClass : classes) {
+            JavaClass precomputedClass = precomputedClasses.get(javaClass.getName());
+            assertThat(namesOf(precomputedClass.getAllRawSuperclasses())).isEqualTo(namesOf(javaClass.getAllRawSuperclasses()));
+            assertThat(namesOf(precomputedClass.getAllSubclasses())).isEqualTo(namesOf(javaClass.getAllSubclasses()));
+            assertThat(descriptionsOf(precomputedClass.getDirectDependenciesFromSelf())).isEqualTo(descriptionsOf(javaClass.getDirectDependenciesFromSelf()));
+            assertThat(descriptionsOf(precomputedClass.getDirectDependenciesToSelf())).isEqualTo(descriptionsOf(javaClass.getDirectDependenciesToSelf()));
+            assertThat(accessDescriptionsOf(precomputedClass.getAccessesToSelf())).isEqualTo(accessDescriptionsOf(javaClass.getAccessesToSelf()));
+        }
+        assertThat(descriptionsOf(precomputedClasses.getDefaultPackage().getClassDependenciesFromThisPackageTree()))
+                .isEqualTo(descriptionsOf(classes.getDefaultPackage().getClassDependenciesFromThisPackageTree()));
+    }
+
+    @Test
+    public void precomputing_returns_same_classes() {
+        JavaClasses classes = new ClassFileImporter().importClasses(SomeClass.class, SomeOtherClass.class);
+
+        assertThat(classes.precompute(DerivedData.DEPENDENCIES)).isSameAs(classes);
+        assertThat(classes.precompute()).isSameAs(classes);
+    }
+
+    @Test
+    public void reflects_all_classes_with_the_given_class_loader() {
+        JavaClasses classes = new ClassFileImporter().importClasses(SomeClass.class, SomeOtherClass.class);
+
+        Map<JavaClass, Class<?>> reflected = classes.reflect(getClass().getClassLoader());
+
+        assertThat(reflected).containsOnly(
+                entry(classes.get(SomeClass.class), SomeClass.class),
+                entry(classes.get(SomeOtherClass.class), SomeOtherClass.class));
+        assertThat(classes.get(SomeClass.class).reflect()).isEqualTo(SomeClass.class);
+    }
+
+    @Test
+    public void reflecting_with_a_class_loader_does_not_affect_reflecting_single_classes() throws IOException {
+        JavaClasses classes = new ClassFileImporter().importClasses(SomeClass.class, Object.class);
+
+        try (URLClassLoader bootstrapClassLoaderOnly = new URLClassLoader(new URL[0], null)) {
+            Map<JavaClass, Class<?>> reflected = classes.reflect(bootstrapClassLoaderOnly);
+
+            assertThat(reflected).containsOnly(entry(classes.get(Object.class), Object.class));
+        }
+        assertThat(classes.get(SomeClass.class).reflect()).isEqualTo(SomeClass.class);
+    }
+
+    @Test
+    public void reflects_classes_with_the_given_class_loader_even_if_they_have_been_reflected_before() throws IOException {
+        JavaClasses classes = new ClassFileImporter().importClasses(SomeClass.class, Object.class);
+        assertThat(classes.get(SomeClass.class).reflect()).isEqualTo(SomeClass.class);
+
+        try (URLClassLoader bootstrapClassLoaderOnly = new URLClassLoader(new URL[0], null)) {
+            Map<JavaClass, Class<?>> reflected = classes.reflect(bootstrapClassLoaderOnly);
+
+            assertThat(reflected).containsOnly(entry(classes.get(Object.class), Object.class));
+        }
+    }
+
+    private static Set<String> namesOf(Collection<JavaClass> classes) {
+        return classes.stream().map(JavaClass::getName).collect(toSet());
+    }
+
+    private static Set<String> descriptionsOf(Collection<Dependency> dependencies) {
+        return dependencies.stream().map(Dependency::getDescription).collect(toSet());
+    }
+
+    private static Set<String> accessDescriptionsOf(Collection<JavaAccess<?>> accesses) {
+        return accesses.stream().map(JavaAccess::getDescription).collect(toSet());
+    }
+
     private DescribedPredicate<JavaClass> haveTheNameOf(Class<?> clazz) {
         return new DescribedPredicate<JavaClass>("have the name " + clazz.getSimpleName()) {
             @Override
@@ -8,6 +8,7 @@ import java.security.Security;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.function.Predicate;
 
@@ -38,6 +39,7 @@ import static com.tngtech.archunit.testutil.Assertions.assertThatPackages;
 import static com.tngtech.archunit.testutil.Assertions.assertThatType;
 import static com.tngtech.archunit.testutil.Assertions.assertThatTypes;
 import static java.util.regex.Pattern.quote;
+import static java.util.stream.Collectors.toSet;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class JavaPackageTest {
@@ -438,6 +440,34 @@ public class JavaPackageTest {
         assertThat(nonAnnotatedPackage.tryGetPackageInfo()).isEmpty();
     }
 
+    @Test
+    public void dependencies_of_package_trees_are_consistent_with_dependencies_of_contained_classes() {
+        JavaPackage examplePackage = importPackage("packageexamples");
+
+        for (JavaPackage javaPackage : examplePackage.getSubpackagesInTree()) {
+            Set<JavaClass> classesInTree = javaPackage.getClassesInPackageTree();
+            Set<Dependency> expectedDependenciesFromTree = classesInTree.stream()
+                    .flatMap(javaClass -> javaClass.getDirectDependenciesFromSelf().stream())
+                    .filter(dependency -> !classesInTree.contains(dependency.getTargetClass()))
+                    .collect(toSet());
+            Set<Dependency> expectedDependenciesToTree = classesInTree.stream()
+                    .flatMap(javaClass -> javaClass.getDirectDependenciesToSelf().stream())
+                    .filter(dependency -> !classesInTree.contains(dependency.getOriginClass()))
+                    .collect(toSet());
+
+            assertThat(javaPackage.getClassDependenciesFromThisPackageTree())
+                    .as("dependencies from %s", javaPackage).isEqualTo(expectedDependenciesFromTree);
+            assertThat(javaPackage.getClassDependenciesToThisPackageTree())
+                    .as("dependencies to %s", javaPackage).isEqualTo(expectedDependenciesToTree);
+            assertThat(javaPackage.getPackageDependenciesFromThisPackageTree())
+                    .as("package dependencies from %s", javaPackage)
+                    .isEqualTo(expectedDependenciesFromTree.stream().map(dependency -> dependency.getTargetClass().getPackage()).collect(toSet()));
+            assertThat(javaPackage.getPackageDependenciesToThisPackageTree())
+                    .as("package dependencies to %s", javaPackage)
+                    .isEqualTo(expectedDependenciesToTree.stream().map(dependency -> dependency.getOriginClass().getPackage()).collect(toSet()));
+        }
+    }
+
     @Test
     public void test_getAnnotations() {
         JavaPackage annotatedPackage = importPackage("packageexamples.annotated");
@@ -159,13 +159,42 @@ public class PackageMatcherTest {
 
     @Test
     public void should_reject_illegal_characters() {
-        String illegalPackageIdentifier = "some" + PackageMatcher.TWO_STAR_REGEX_MARKER + "package";
+        String illegalPackageIdentifier = "some#%#%#package";
 
         assertThatThrownBy(() -> PackageMatcher.of(illegalPackageIdentifier))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Package Identifier '%s' may only consist of valid java identifier parts or the symbols '.)(*'", illegalPackageIdentifier);
     }
 
+    @Test
+    @DataProvider(value = {"some.(pkg", "some.[a|b", "some.pkg)"})
+    public void should_reject_unbalanced_groups(String packageIdentifier) {
+        assertThatThrownBy(() -> PackageMatcher.of(packageIdentifier))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void repeated_matches_return_same_result() {
+        PackageMatcher matcher = PackageMatcher.of("com.(*)..service.(**)");
+
+        for (int i = 0; i < 3; i++) {
+            Result result = matcher.match("com.mycompany.some.service.special.name").get();
+
+            assertThat(result.getNumberOfGroups()).isEqualTo(2);
+            assertThat(result.getGroup(0)).isEqualTo("com.mycompany.some.service.special.name");
+            assertThat(result.getGroup(1)).isEqualTo("mycompany");
+            assertThat(result.getGroup(2)).isEqualTo("special.name");
+            assertThat(matcher.match("com.mycompany.some.other.special.name")).isEmpty();
+        }
+    }
+
+    @Test
+    public void rejects_group_numbers_out_of_range() {
+        Result result = PackageMatcher.of("com.(*)").match("com.mycompany").get();
+
+        assertThatThrownBy(() -> result.getGroup(2)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
     @Test
     public void transform_match_to_groups() {
         Optional<Result> result = PackageMatcher.of("com.(*)..service.(**)")
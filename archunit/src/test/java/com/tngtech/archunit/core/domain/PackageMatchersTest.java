@@ -1,5 +1,8 @@
 package com.tngtech.archunit.core.domain;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 import org.junit.Test;
 
 import static com.tngtech.archunit.testutil.Assertions.assertThat;
@@ -15,6 +18,35 @@ public class PackageMatchersTest {
                 .rejects("matc.hother");
     }
 
+    @Test
+    public void returns_all_matching_package_identifiers_in_order() {
+        PackageMatchers packageMatchers = PackageMatchers.of("com.foo..", "..bar..", "com.foo.bar", "com.other..", "..*.bar", "(*)..baz");
+
+        assertThat(packageMatchers.getMatchingPackageIdentifiers("com.foo.bar"))
+                .containsExactly("com.foo..", "..bar..", "com.foo.bar", "..*.bar");
+        assertThat(packageMatchers.getMatchingPackageIdentifiers("com.foo.baz"))
+                .containsExactly("com.foo..", "(*)..baz");
+        assertThat(packageMatchers.getMatchingPackageIdentifiers("com.fo")).isEmpty();
+        assertThat(packageMatchers.getMatchingPackageIdentifiers("")).isEmpty();
+    }
+
+    @Test
+    public void matches_package_identifiers_sharing_prefixes_like_single_package_matchers() {
+        String[] packageIdentifiers = {"", "com", "com..", "com.*", "com.foo", "com.foo..", "com.foo$", "com.[foo|bar]..", "com.(*).bar", "..foo"};
+        PackageMatchers packageMatchers = PackageMatchers.of(packageIdentifiers);
+
+        for (String aPackage : new String[]{"", "com", "co", "com.foo", "com.foo.bar", "com.bar.baz", "comfoo", "org.foo"}) {
+            Set<String> expected = new LinkedHashSet<>();
+            for (String packageIdentifier : packageIdentifiers) {
+                if (PackageMatcher.of(packageIdentifier).matches(aPackage)) {
+                    expected.add(packageIdentifier);
+                }
+            }
+            assertThat(packageMatchers.getMatchingPackageIdentifiers(aPackage)).as("matching '%s'", aPackage).containsExactlyElementsOf(expected);
+            assertThat(packageMatchers.test(aPackage)).as("matching '%s'", aPackage).isEqualTo(!expected.isEmpty());
+        }
+    }
+
     @Test
     public void description() {
         assertThat(PackageMatchers.of("..foo..", "..bar.."))
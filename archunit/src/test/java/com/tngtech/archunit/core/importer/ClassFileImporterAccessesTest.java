@@ -171,6 +171,18 @@ public class ClassFileImporterAccessesTest {
                 .as("Line number of set intValue").isEqualTo(20);
     }
 
+    @Test
+    public void accesses_to_the_same_target_share_the_target() {
+        JavaClass classWithOwnFieldAccess = new ClassFileImporter().importUrl(getClass().getResource("testexamples/fieldaccessimport")).get(OwnFieldAccess.class);
+
+        Set<JavaFieldAccess> fieldAccesses = classWithOwnFieldAccess.getFieldAccessesFromSelf();
+
+        FieldAccessTarget getTarget = getOnly(fieldAccesses, "stringValue", GET).getTarget();
+        FieldAccessTarget setTarget = getOnly(fieldAccesses, "stringValue", SET).getTarget();
+        assertThat((Object) getTarget).isSameAs(setTarget);
+        assertThat(getOnly(fieldAccesses, "stringValue", SET).getSourceCodeLocation().getLineNumber()).isEqualTo(12);
+    }
+
     @Test
     public void imports_own_static_field_accesses() {
         JavaClass classWithOwnFieldAccess = new ClassFileImporter().importUrl(getClass().getResource("testexamples/fieldaccessimport")).get(OwnStaticFieldAccess.class);
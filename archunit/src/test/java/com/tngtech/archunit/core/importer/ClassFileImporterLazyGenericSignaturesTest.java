@@ -0,0 +1,75 @@
+package com.tngtech.archunit.core.importer;
+
+import java.io.File;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.domain.Dependency;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaParameterizedType;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static com.tngtech.archunit.testutil.Assertions.assertThat;
+import static com.tngtech.archunit.testutil.Assertions.assertThatType;
+import static com.tngtech.archunit.testutil.assertion.ExpectedConcreteType.ExpectedConcreteClass.concreteClass;
+
+public class ClassFileImporterLazyGenericSignaturesTest {
+    @Rule
+    public final ArchConfigurationRule archConfigurationRule = new ArchConfigurationRule();
+
+    @Before
+    public void setUp() {
+        ArchConfiguration.get().setProperty(ClassFileProcessor.LAZY_GENERIC_SIGNATURES_PROPERTY_NAME, "true");
+    }
+
+    @Test
+    public void parses_generic_signatures_on_first_access() {
+        JavaClass javaClass = new ClassFileImporter().importClass(Child.class);
+
+        assertThatType(javaClass).hasTypeParameters("T");
+        assertThatType(javaClass.getSuperclass().get()).hasErasure(Base.class).hasActualTypeArguments(String.class);
+        assertThatType(javaClass.getField("field").getType()).hasErasure(Map.class)
+                .hasActualTypeArguments(concreteClass(String.class), concreteClass(File.class));
+        assertThatType(javaClass.getMethod("method", List.class).getParameterTypes().get(0)).hasErasure(List.class)
+                .hasActualTypeArguments(File.class);
+    }
+
+    @Test
+    public void does_not_resolve_types_only_occurring_within_generic_signatures() {
+        JavaClass javaClass = new ClassFileImporter().importClass(Child.class);
+
+        assertThat(javaClass.getRawSuperclass().get().isFullyImported()).as("raw superclass is fully imported").isTrue();
+        JavaParameterizedType fieldType = (JavaParameterizedType) javaClass.getField("field").getType();
+        JavaClass typeArgument = fieldType.getActualTypeArguments().get(1).toErasure();
+        assertThat(typeArgument.getName()).isEqualTo(File.class.getName());
+        assertThat(typeArgument.isFullyImported()).as("type argument is fully imported").isFalse();
+    }
+
+    @Test
+    public void excludes_generic_types_from_dependencies() {
+        JavaClass javaClass = new ClassFileImporter().importClass(Child.class);
+
+        assertThat(javaClass.getDirectDependenciesFromSelf())
+                .extracting(Dependency::getTargetClass)
+                .extracting(JavaClass::getName)
+                .contains(Base.class.getName(), Map.class.getName(), List.class.getName())
+                .doesNotContain(String.class.getName(), File.class.getName(), Serializable.class.getName());
+    }
+
+    @SuppressWarnings("unused")
+    private static class Base<T> {
+    }
+
+    @SuppressWarnings("unused")
+    private static class Child<T extends Serializable> extends Base<String> {
+        Map<String, File> field;
+
+        void method(List<File> files) {
+        }
+    }
+}
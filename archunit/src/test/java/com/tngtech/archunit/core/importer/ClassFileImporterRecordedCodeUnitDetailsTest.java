@@ -0,0 +1,89 @@
+package com.tngtech.archunit.core.importer;
+
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.domain.InstanceofCheck;
+import com.tngtech.archunit.core.domain.JavaAccess;
+import com.tngtech.archunit.core.domain.JavaMethod;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static com.tngtech.archunit.core.importer.ClassFileProcessor.RECORD_ACCESS_LINE_NUMBERS_PROPERTY_NAME;
+import static com.tngtech.archunit.core.importer.ClassFileProcessor.RECORD_INSTANCEOF_CHECKS_PROPERTY_NAME;
+import static com.tngtech.archunit.core.importer.ClassFileProcessor.RECORD_REFERENCED_CLASS_OBJECTS_PROPERTY_NAME;
+import static com.tngtech.archunit.core.importer.ClassFileProcessor.RECORD_TRY_CATCH_BLOCKS_PROPERTY_NAME;
+import static com.tngtech.archunit.testutil.Assertions.assertThat;
+
+public class ClassFileImporterRecordedCodeUnitDetailsTest {
+    @Rule
+    public final ArchConfigurationRule archConfigurationRule = new ArchConfigurationRule();
+
+    @Test
+    public void records_all_details_by_default() {
+        JavaMethod method = importExampleMethod();
+
+        assertThat(method.getTryCatchBlocks()).hasSize(1);
+        assertThat(method.getInstanceofChecks()).hasSize(1);
+        assertThat(method.getReferencedClassObjects()).hasSize(1);
+        assertThat(method.getMethodCallsFromSelf()).extracting(JavaAccess::getLineNumber).doesNotContain(0);
+    }
+
+    @Test
+    public void omits_try_catch_blocks() {
+        ArchConfiguration.get().setProperty(RECORD_TRY_CATCH_BLOCKS_PROPERTY_NAME, "false");
+
+        JavaMethod method = importExampleMethod();
+
+        assertThat(method.getTryCatchBlocks()).isEmpty();
+        assertThat(method.getMethodCallsFromSelf()).hasSize(2);
+    }
+
+    @Test
+    public void omits_instanceof_checks() {
+        ArchConfiguration.get().setProperty(RECORD_INSTANCEOF_CHECKS_PROPERTY_NAME, "false");
+
+        JavaMethod method = importExampleMethod();
+
+        assertThat(method.getInstanceofChecks()).isEmpty();
+        assertThat(method.getOwner().getDirectDependenciesFromSelf())
+                .noneMatch(dependency -> dependency.getDescription().contains("checks instanceof"));
+    }
+
+    @Test
+    public void omits_referenced_class_objects() {
+        ArchConfiguration.get().setProperty(RECORD_REFERENCED_CLASS_OBJECTS_PROPERTY_NAME, "false");
+
+        JavaMethod method = importExampleMethod();
+
+        assertThat(method.getReferencedClassObjects()).isEmpty();
+        assertThat(method.getInstanceofChecks()).hasSize(1);
+    }
+
+    @Test
+    public void omits_access_line_numbers() {
+        ArchConfiguration.get().setProperty(RECORD_ACCESS_LINE_NUMBERS_PROPERTY_NAME, "false");
+
+        JavaMethod method = importExampleMethod();
+
+        assertThat(method.getMethodCallsFromSelf()).extracting(JavaAccess::getLineNumber).containsExactly(0, 0);
+        assertThat(method.getInstanceofChecks()).extracting(InstanceofCheck::getLineNumber).containsExactly(0);
+        assertThat(method.getTryCatchBlocks()).hasSize(1);
+    }
+
+    private JavaMethod importExampleMethod() {
+        return new ClassFileImporter().importClass(Example.class).getMethod("method", Object.class);
+    }
+
+    @SuppressWarnings("unused")
+    private static class Example {
+        Object method(Object input) {
+            try {
+                input.toString();
+                input.hashCode();
+            } catch (IllegalStateException e) {
+                return null;
+            }
+            return input instanceof String ? String.class : null;
+        }
+    }
+}
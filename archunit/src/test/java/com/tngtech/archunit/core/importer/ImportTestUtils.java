@@ -342,13 +342,13 @@ public class ImportTestUtils {
         }
 
         @Override
-        public Optional<JavaType> createGenericSuperclass(JavaClass owner) {
-            return Optional.empty();
+        public Supplier<Optional<JavaType>> createGenericSuperclass(JavaClass owner) {
+            return Optional::empty;
         }
 
         @Override
-        public Optional<List<JavaType>> createGenericInterfaces(JavaClass owner) {
-            return Optional.empty();
+        public Supplier<Optional<List<JavaType>>> createGenericInterfaces(JavaClass owner) {
+            return Optional::empty;
         }
 
         @Override
@@ -357,8 +357,8 @@ public class ImportTestUtils {
         }
 
         @Override
-        public List<JavaTypeVariable<JavaClass>> createTypeParameters(JavaClass owner) {
-            return Collections.emptyList();
+        public Supplier<List<JavaTypeVariable<JavaClass>>> createTypeParameters(JavaClass owner) {
+            return Collections::emptyList;
         }
 
         @Override
@@ -445,5 +445,10 @@ public class ImportTestUtils {
         public JavaClass resolveClass(String fullyQualifiedClassName) {
             throw new UnsupportedOperationException("Override me where necessary");
         }
+
+        @Override
+        public boolean includesGenericTypesInDependencies() {
+            return true;
+        }
     }
 }
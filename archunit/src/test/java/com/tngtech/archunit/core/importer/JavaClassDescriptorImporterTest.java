@@ -1,5 +1,7 @@
 package com.tngtech.archunit.core.importer;
 
+import java.util.List;
+
 import com.tngtech.archunit.core.domain.JavaClassDescriptor;
 import org.junit.Test;
 import org.objectweb.asm.Type;
@@ -24,4 +26,20 @@ public class JavaClassDescriptorImporterTest {
         assertThat(toStringDescriptor.getFullyQualifiedClassName()).isEqualTo(String.class.getName());
         assertThat(toStringDescriptor.resolveClass()).isEqualTo(String.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void asm_method_descriptor() {
+        String methodDescriptor = "(I[Ljava/lang/String;[[JLjava/util/List;)[Ljava/lang/Object;";
+
+        List<JavaClassDescriptor> argumentTypes = JavaClassDescriptorImporter.importAsmMethodArgumentTypes(methodDescriptor);
+        JavaClassDescriptor returnType = JavaClassDescriptorImporter.importAsmMethodReturnType(methodDescriptor);
+
+        assertThat(argumentTypes).hasSize(4);
+        assertThat(argumentTypes.get(0)).isEquivalentTo(int.class);
+        assertThat(argumentTypes.get(1)).isEquivalentTo(String[].class);
+        assertThat(argumentTypes.get(2)).isEquivalentTo(long[][].class);
+        assertThat(argumentTypes.get(3)).isEquivalentTo(List.class);
+        assertThat(returnType).isEquivalentTo(Object[].class);
+        assertThat(JavaClassDescriptorImporter.importAsmMethodArgumentTypes("()V")).isEmpty();
+    }
+}
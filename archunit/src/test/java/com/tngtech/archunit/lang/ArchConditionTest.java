@@ -269,6 +269,24 @@ public class ArchConditionTest {
                 .haveOneViolationMessageContaining(String.format("Class <%s> true some description", Object.class.getName()));
     }
 
+    @Test
+    public void check_is_only_thread_safe_if_declared() {
+        ArchCondition<JavaClass> threadSafe = ArchCondition.from(alwaysTrue());
+        ArchCondition<JavaClass> notThreadSafe = new ArchCondition<JavaClass>("not thread-safe") {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+            }
+        };
+
+        assertThat(threadSafe.isCheckThreadSafe()).as("condition from predicate is thread-safe").isTrue();
+        assertThat(notThreadSafe.isCheckThreadSafe()).as("custom condition is thread-safe").isFalse();
+        assertThat(threadSafe.as("changed").isCheckThreadSafe()).as("condition with changed description is thread-safe").isTrue();
+        assertThat(never(threadSafe).isCheckThreadSafe()).as("never(thread-safe) is thread-safe").isTrue();
+        assertThat(threadSafe.and(threadSafe).isCheckThreadSafe()).as("thread-safe and thread-safe is thread-safe").isTrue();
+        assertThat(threadSafe.or(notThreadSafe).isCheckThreadSafe()).as("thread-safe or not thread-safe is thread-safe").isFalse();
+        assertThat(notThreadSafe.as("changed").isCheckThreadSafe()).as("changed description makes condition thread-safe").isFalse();
+    }
+
     private ArchCondition<Integer> greaterThan(int... numbers) {
         return new ArchCondition<Integer>("greater than " + Arrays.toString(numbers)) {
             @Override
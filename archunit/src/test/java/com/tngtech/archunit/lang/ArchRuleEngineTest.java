@@ -0,0 +1,74 @@
+package com.tngtech.archunit.lang;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import org.junit.Test;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ArchRuleEngineTest {
+    private static final JavaClasses CLASSES = new ClassFileImporter().importPackagesOf(ArchRule.class);
+
+    @Test
+    public void evaluates_all_rules_in_order() {
+        List<ArchRule> rules = ImmutableList.of(
+                noClasses().should().dependOnClassesThat().haveSimpleNameEndingWith("Builder"),
+                classes().should().bePublic(),
+                classes().should().haveSimpleNameStartingWith("Arch").allowEmptyShould(true),
+                noClasses().should().accessClassesThat().resideInAPackage("java.io.."));
+
+        List<EvaluationResult> results = ArchRuleEngine.evaluateAll(rules, CLASSES);
+
+        assertThat(reportsOf(results)).containsExactlyElementsOf(reportsOf(rules.stream().map(rule -> rule.evaluate(CLASSES)).collect(toList())));
+    }
+
+    @Test
+    public void evaluates_the_same_rule_only_once() {
+        AtomicInteger numberOfEvaluations = new AtomicInteger();
+        ArchRule rule = classes().should(new ArchCondition<JavaClass>("be counted") {
+            @Override
+            public void init(Collection<JavaClass> allObjectsToTest) {
+                numberOfEvaluations.incrementAndGet();
+            }
+
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+            }
+        });
+
+        List<EvaluationResult> results = ArchRuleEngine.evaluateAll(ImmutableList.of(rule, rule), CLASSES);
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0)).isSameAs(results.get(1));
+        assertThat(numberOfEvaluations).hasValue(1);
+    }
+
+    @Test
+    public void evaluates_rules_with_the_configuration_of_the_calling_thread() {
+        List<ArchRule> rulesWithEmptyShould = IntStream.range(0, 50)
+                .mapToObj(i -> classes().that().haveSimpleName("NotExisting" + i).should().bePublic())
+                .collect(toList());
+
+        List<EvaluationResult> results = ArchConfiguration.withThreadLocalScope(configuration -> {
+            configuration.setProperty("archRule.failOnEmptyShould", "false");
+            return ArchRuleEngine.evaluateAll(rulesWithEmptyShould, CLASSES);
+        });
+
+        assertThat(results).hasSize(rulesWithEmptyShould.size()).noneMatch(EvaluationResult::hasViolation);
+    }
+
+    private static List<String> reportsOf(List<EvaluationResult> results) {
+        return results.stream().map(result -> result.getFailureReport().toString()).collect(toList());
+    }
+}
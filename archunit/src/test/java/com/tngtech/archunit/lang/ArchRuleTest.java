@@ -1,14 +1,23 @@
 package com.tngtech.archunit.lang;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.base.HasDescription;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.JavaClassesTest;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
 import com.tngtech.archunit.core.importer.testexamples.SomeClass;
 import com.tngtech.archunit.lang.ArchConditionTest.ConditionWithInitAndFinish;
 import com.tngtech.archunit.lang.syntax.ArchRuleDefinition;
@@ -20,17 +29,25 @@ import org.junit.Test;
 import static com.google.common.collect.Lists.newArrayList;
 import static com.tngtech.archunit.base.DescribedPredicate.alwaysFalse;
 import static com.tngtech.archunit.core.domain.Formatters.joinSingleQuoted;
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.type;
 import static com.tngtech.archunit.core.domain.TestUtils.importClasses;
 import static com.tngtech.archunit.core.domain.TestUtils.importClassesWithContext;
 import static com.tngtech.archunit.lang.Priority.HIGH;
+import static com.tngtech.archunit.lang.ViolationLimits.FAIL_FAST_PROPERTY_NAME;
+import static com.tngtech.archunit.lang.ViolationLimits.MAX_NUMBER_OF_RECORDED_VIOLATIONS_PROPERTY_NAME;
+import static com.tngtech.archunit.lang.conditions.ArchConditions.accessClassesThat;
+import static com.tngtech.archunit.lang.conditions.ArchConditions.dependOnClassesThat;
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.all;
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
 import static com.tngtech.archunit.testutil.ArchConfigurationRule.FAIL_ON_EMPTY_SHOULD_PROPERTY_NAME;
 import static java.util.stream.Collectors.toCollection;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class ArchRuleTest {
+    private static final String EVALUATE_IN_PARALLEL_PROPERTY_NAME = "archRule.evaluateInParallel";
+    private static final JavaClasses CLASSES = new ClassFileImporter().importPackagesOf(ArchRule.class);
 
     @Rule
     public final ArchConfigurationRule archConfigurationRule = new ArchConfigurationRule();
@@ -151,6 +168,305 @@ public class ArchRuleTest {
         createPassingArchRule().allowEmptyShould(true).evaluate(importEmptyClasses());
     }
 
+    @Test
+    public void evaluation_in_parallel_reports_the_same_violations_in_the_same_order_as_sequential_evaluation() {
+        ArchRule rule = classes().should(ArchCondition.from(alwaysFalse().as("never match")));
+        List<String> sequentialViolations = violationMessagesInOrderOf(rule.evaluate(CLASSES));
+
+        ArchConfiguration.get().setProperty(EVALUATE_IN_PARALLEL_PROPERTY_NAME, "true");
+        List<String> parallelViolations = violationMessagesInOrderOf(rule.evaluate(CLASSES));
+
+        assertThat(parallelViolations).hasSize(CLASSES.size()).containsExactlyElementsOf(sequentialViolations);
+    }
+
+    @Test
+    public void evaluation_in_parallel_inits_and_finishes_condition_once() {
+        ArchConfiguration.get().setProperty(EVALUATE_IN_PARALLEL_PROPERTY_NAME, "true");
+        AtomicInteger numberOfInits = new AtomicInteger();
+        AtomicInteger numberOfFinishes = new AtomicInteger();
+        ArchCondition<JavaClass> condition = new ArchCondition<JavaClass>("be counted") {
+            @Override
+            public void init(Collection<JavaClass> allObjectsToTest) {
+                numberOfInits.incrementAndGet();
+            }
+
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                events.add(SimpleConditionEvent.violated(item, item.getName()));
+            }
+
+            @Override
+            public void finish(ConditionEvents events) {
+                numberOfFinishes.incrementAndGet();
+                events.add(SimpleConditionEvent.violated("finish", "finished after " + events.getViolating().size()));
+            }
+
+            @Override
+            public boolean isCheckThreadSafe() {
+                return true;
+            }
+        };
+
+        List<String> violations = violationMessagesInOrderOf(classes().should(condition).evaluate(CLASSES));
+
+        assertThat(numberOfInits).hasValue(1);
+        assertThat(numberOfFinishes).hasValue(1);
+        assertThat(violations).last().isEqualTo("finished after " + CLASSES.size());
+    }
+
+    @Test
+    public void evaluation_in_parallel_checks_conditions_without_thread_safe_check_sequentially() {
+        ArchConfiguration.get().setProperty(EVALUATE_IN_PARALLEL_PROPERTY_NAME, "true");
+        Set<Thread> checkingThreads = new HashSet<>();
+        ArchCondition<JavaClass> condition = new ArchCondition<JavaClass>("record checking thread") {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                checkingThreads.add(Thread.currentThread());
+            }
+        };
+
+        classes().should(condition).evaluate(CLASSES);
+
+        assertThat(checkingThreads).containsExactly(Thread.currentThread());
+    }
+
+    @Test
+    public void fail_fast_stops_evaluation_at_first_violating_object() {
+        List<JavaClass> checkedClasses = new ArrayList<>();
+        ArchCondition<JavaClass> condition = new ArchCondition<JavaClass>("record checked class") {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                checkedClasses.add(item);
+                events.add(SimpleConditionEvent.violated(item, item.getName()));
+            }
+        };
+
+        EvaluationResult result = classes().should(condition).failFast(true).evaluate(CLASSES);
+
+        assertThat(checkedClasses).hasSize(1);
+        assertThat(violationMessagesInOrderOf(result)).containsExactly(checkedClasses.get(0).getName());
+        assertThat(result.getFailureReport().toString())
+                .contains("at least 1 times - the evaluation stopped at the first violation");
+    }
+
+    @Test
+    public void fail_fast_can_be_configured_and_overridden_per_rule() {
+        ArchRule rule = classes().should(ALWAYS_BE_VIOLATED);
+        ArchConfiguration.get().setProperty(FAIL_FAST_PROPERTY_NAME, "true");
+
+        assertThat(rule.evaluate(CLASSES).getFailureReport().getDetails()).hasSize(1);
+        assertThat(rule.failFast(false).evaluate(CLASSES).getFailureReport().getDetails()).hasSize(CLASSES.size());
+    }
+
+    @Test
+    public void limit_of_recorded_violations_counts_omitted_violations() {
+        EvaluationResult result = classes().should(ALWAYS_BE_VIOLATED).limitRecordedViolations(3).evaluate(CLASSES);
+
+        assertThat(result.getFailureReport().getDetails()).hasSize(3);
+        assertThat(result.getFailureReport().toString())
+                .contains(String.format("%d times - only the first 3 violations are reported", CLASSES.size()))
+                .contains(MAX_NUMBER_OF_RECORDED_VIOLATIONS_PROPERTY_NAME);
+    }
+
+    @Test
+    public void limit_of_recorded_violations_can_be_configured() {
+        ArchConfiguration.get().setProperty(MAX_NUMBER_OF_RECORDED_VIOLATIONS_PROPERTY_NAME, "2");
+
+        EvaluationResult result = classes().should(ALWAYS_BE_VIOLATED).evaluate(CLASSES);
+
+        assertThat(result.getFailureReport().getDetails()).hasSize(2);
+    }
+
+    @Test
+    public void limit_of_recorded_violations_applies_to_parallel_evaluation() {
+        ArchConfiguration.get().setProperty(EVALUATE_IN_PARALLEL_PROPERTY_NAME, "true");
+        ArchRule rule = classes().should(ArchCondition.from(alwaysFalse().as("never match")));
+        List<String> allViolations = violationMessagesInOrderOf(rule.evaluate(CLASSES));
+
+        EvaluationResult result = rule.limitRecordedViolations(5).evaluate(CLASSES);
+
+        assertThat(violationMessagesInOrderOf(result)).containsExactlyElementsOf(allViolations.subList(0, 5));
+        assertThat(result.getFailureReport().toString()).contains(String.format("%d times - only the first 5 violations are reported", CLASSES.size()));
+    }
+
+    @Test
+    public void evaluation_in_parallel_uses_the_configuration_of_the_evaluating_thread() {
+        ArchRule rule = classes().should(ArchCondition.from(alwaysFalse().as("never match")));
+        List<String> allViolations = violationMessagesInOrderOf(rule.evaluate(CLASSES));
+
+        EvaluationResult result = ArchConfiguration.withThreadLocalScope(configuration -> {
+            configuration.setProperty(EVALUATE_IN_PARALLEL_PROPERTY_NAME, "true");
+            configuration.setProperty(MAX_NUMBER_OF_RECORDED_VIOLATIONS_PROPERTY_NAME, "5");
+            return rule.evaluate(CLASSES);
+        });
+
+        assertThat(violationMessagesInOrderOf(result)).containsExactlyElementsOf(allViolations.subList(0, 5));
+        assertThat(result.getFailureReport().toString()).contains(String.format("%d times - only the first 5 violations are reported", CLASSES.size()));
+    }
+
+    @Test
+    public void rejects_non_positive_limit_of_recorded_violations() {
+        assertThatThrownBy(() -> classes().should(ALWAYS_BE_VIOLATED).limitRecordedViolations(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("must be positive");
+    }
+
+    @Test
+    public void streaming_events_pass_all_violations_to_sink_but_record_only_the_first() {
+        ViolationSinkFactoryTest.TestViolationSink sink = new ViolationSinkFactoryTest.TestViolationSink();
+        HasDescription rule = () -> "some rule";
+
+        ConditionEvents events = ConditionEvents.Factory.create(rule, sink, 2);
+        for (int i = 0; i < 5; i++) {
+            events.add(SimpleConditionEvent.violated(i, "violation " + i));
+        }
+        events.add(SimpleConditionEvent.satisfied(5, "satisfied"));
+
+        assertThat(sink.violations).containsExactly(
+                "some rule: [violation 0]", "some rule: [violation 1]", "some rule: [violation 2]",
+                "some rule: [violation 3]", "some rule: [violation 4]");
+        assertThat(events.getViolating()).hasSize(2);
+        assertThat(events.getInformationAboutNumberOfViolations()).hasValueSatisfying(information ->
+                assertThat(information).startsWith("5 times - only the first 2 violations are reported"));
+    }
+
+    @Test
+    public void configured_violation_sink_receives_all_violations_of_rule() {
+        ArchConfiguration.get().setProperty(ViolationSinkFactory.VIOLATION_SINK_PROPERTY_NAME, RecordingViolationSink.class.getName());
+        RecordingViolationSink.violations.clear();
+
+        EvaluationResult result = classes().should(ALWAYS_BE_VIOLATED).limitRecordedViolations(1).evaluate(CLASSES);
+
+        assertThat(RecordingViolationSink.violations).hasSize(CLASSES.size());
+        assertThat(result.getFailureReport().getDetails()).hasSize(1);
+    }
+
+    @Test
+    public void records_only_a_bounded_number_of_violations_by_default_if_violation_sink_is_configured() {
+        ArchConfiguration.get().setProperty(ViolationSinkFactory.VIOLATION_SINK_PROPERTY_NAME, RecordingViolationSink.class.getName());
+        RecordingViolationSink.violations.clear();
+
+        EvaluationResult result = classes().should(ALWAYS_BE_VIOLATED).evaluate(CLASSES);
+
+        assertThat(RecordingViolationSink.violations).hasSize(CLASSES.size());
+        assertThat(result.getFailureReport().getDetails()).hasSize(ViolationLimits.DEFAULT_MAX_NUMBER_OF_RECORDED_VIOLATIONS_WITH_SINK);
+    }
+
+    @Test
+    public void records_no_profile_by_default() {
+        assertThat(classes().should(ALWAYS_BE_VIOLATED).evaluate(CLASSES).getProfile()).isEmpty();
+    }
+
+    @Test
+    public void records_profile_of_evaluation_if_enabled() {
+        ArchConfiguration.get().setProperty(EvaluationProfiler.PROFILE_EVALUATION_PROPERTY_NAME, "true");
+
+        EvaluationResult result = classes().should(ALWAYS_BE_VIOLATED).evaluate(CLASSES);
+
+        assertThat(result.getProfile()).hasValueSatisfying(profile -> {
+            assertThat(profile.getNumberOfCheckedObjects()).isEqualTo(CLASSES.size());
+            assertThat(profile.getNumberOfEvents()).isEqualTo(CLASSES.size());
+            assertThat(profile.getTotalDuration()).isEqualTo(profile.getTransformDuration()
+                    .plus(profile.getInitDuration()).plus(profile.getCheckDuration()).plus(profile.getFinishDuration()));
+        });
+    }
+
+    @Test
+    public void profile_includes_allocations_of_all_threads_checking_in_parallel() {
+        ArchConfiguration.get().setProperty(EvaluationProfiler.PROFILE_EVALUATION_PROPERTY_NAME, "true");
+        ArchConfiguration.get().setProperty(EVALUATE_IN_PARALLEL_PROPERTY_NAME, "true");
+        int bytesAllocatedPerCheck = 100_000;
+        AtomicReference<byte[]> lastAllocated = new AtomicReference<>();
+        ArchCondition<JavaClass> condition = new ArchCondition<JavaClass>("allocate") {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                lastAllocated.set(new byte[bytesAllocatedPerCheck]);
+            }
+
+            @Override
+            public boolean isCheckThreadSafe() {
+                return true;
+            }
+        };
+
+        EvaluationResult result = classes().should(condition).evaluate(CLASSES);
+
+        assertThat(result.getProfile()).hasValueSatisfying(profile ->
+                assertThat(profile.getAllocatedBytes().getAsLong()).isGreaterThanOrEqualTo((long) CLASSES.size() * bytesAllocatedPerCheck));
+    }
+
+    @Test
+    public void profile_counts_only_checked_objects_if_failing_fast() {
+        ArchConfiguration.get().setProperty(EvaluationProfiler.PROFILE_EVALUATION_PROPERTY_NAME, "true");
+
+        EvaluationResult result = classes().should(ALWAYS_BE_VIOLATED).failFast(true).evaluate(CLASSES);
+
+        assertThat(result.getProfile()).hasValueSatisfying(profile -> {
+            assertThat(profile.getNumberOfCheckedObjects()).isEqualTo(1);
+            assertThat(profile.getNumberOfEvents()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    public void rule_forbidding_accesses_to_rarely_accessed_classes_only_checks_the_accessing_classes() {
+        ArchConfiguration.get().setProperty(EvaluationProfiler.PROFILE_EVALUATION_PROPERTY_NAME, "true");
+        ArchCondition<JavaClass> condition = accessClassesThat(type(RarelyAccessedClass.class));
+
+        EvaluationResult result = noClasses().should(condition).evaluate(CLASSES);
+
+        assertThat(result.getProfile()).hasValueSatisfying(profile ->
+                assertThat(profile.getNumberOfCheckedObjects()).isEqualTo(1));
+        assertThat(violationMessagesInOrderOf(result))
+                .isNotEmpty()
+                .allMatch(message -> message.contains(ClassAccessingRarelyAccessedClass.class.getName()))
+                .containsExactlyElementsOf(violationMessagesInOrderOf(noClasses().should(checkingAllObjects(condition)).evaluate(CLASSES)));
+    }
+
+    @Test
+    public void rule_forbidding_dependencies_on_rarely_used_classes_only_checks_the_dependent_classes_once_dependencies_to_classes_are_known() {
+        ArchConfiguration.get().setProperty(EvaluationProfiler.PROFILE_EVALUATION_PROPERTY_NAME, "true");
+        CLASSES.get(RarelyAccessedClass.class).getDirectDependenciesToSelf();
+        ArchCondition<JavaClass> condition = dependOnClassesThat(type(RarelyAccessedClass.class)).as("depend on rarely used classes");
+
+        EvaluationResult result = noClasses().should(condition).evaluate(CLASSES);
+
+        assertThat(result.getProfile()).hasValueSatisfying(profile ->
+                assertThat(profile.getNumberOfCheckedObjects()).isLessThan(CLASSES.size()));
+        assertThat(violationMessagesInOrderOf(result))
+                .anyMatch(message -> message.contains(ClassAccessingRarelyAccessedClass.class.getName()))
+                .containsExactlyElementsOf(violationMessagesInOrderOf(noClasses().should(checkingAllObjects(condition)).evaluate(CLASSES)));
+    }
+
+    @Test
+    public void rule_requiring_accesses_checks_all_classes() {
+        ArchConfiguration.get().setProperty(EvaluationProfiler.PROFILE_EVALUATION_PROPERTY_NAME, "true");
+
+        EvaluationResult result = classes().should(accessClassesThat(type(RarelyAccessedClass.class))).evaluate(CLASSES);
+
+        assertThat(result.getProfile()).hasValueSatisfying(profile ->
+                assertThat(profile.getNumberOfCheckedObjects()).isEqualTo(CLASSES.size()));
+    }
+
+    private List<String> violationMessagesInOrderOf(EvaluationResult result) {
+        List<String> messages = new ArrayList<>();
+        result.handleViolations((Collection<Object> violatingObjects, String message) -> messages.add(message));
+        return messages;
+    }
+
+    private static ArchCondition<JavaClass> checkingAllObjects(ArchCondition<JavaClass> condition) {
+        return new ArchCondition<JavaClass>(condition.getDescription()) {
+            @Override
+            public void init(Collection<JavaClass> allObjectsToTest) {
+                condition.init(allObjectsToTest);
+            }
+
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                condition.check(item, events);
+            }
+        };
+    }
+
     private JavaClasses importEmptyClasses() {
         return importClasses();
     }
@@ -244,4 +560,25 @@ public class ArchRuleTest {
             "bar".replaceAll("a", "b");
         }
     }
+
+    private static class RarelyAccessedClass {
+        static void use() {
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class ClassAccessingRarelyAccessedClass {
+        void execute() {
+            RarelyAccessedClass.use();
+        }
+    }
+
+    public static class RecordingViolationSink implements ViolationSink {
+        static final List<ConditionEvent> violations = new ArrayList<>();
+
+        @Override
+        public void onViolation(HasDescription rule, ConditionEvent violation) {
+            violations.add(violation);
+        }
+    }
 }
@@ -112,6 +112,28 @@ public class CompositeArchRuleTest {
         compositeRuleWithPartialEmptyShould().allowEmptyShould(true).check(new ClassFileImporter().importClasses(Object.class));
     }
 
+    @Test
+    public void counts_violations_omitted_by_limit_of_all_rules() {
+        JavaClasses classes = importClasses(CompositeArchRuleTest.class, ArchRule.class, Priority.class);
+        CompositeArchRule rule = CompositeArchRule.of(archRuleThatFails()).and(archRuleThatFails());
+
+        EvaluationResult result = rule.limitRecordedViolations(1).evaluate(classes);
+
+        assertThat(result.getFailureReport().getDetails()).hasSize(2);
+        assertThat(result.getFailureReport().toString()).contains("6 times - only the first 2 violations are reported");
+    }
+
+    @Test
+    public void reports_fail_fast_of_all_rules() {
+        JavaClasses classes = importClasses(CompositeArchRuleTest.class, ArchRule.class, Priority.class);
+        CompositeArchRule rule = CompositeArchRule.of(archRuleThatFails()).and(archRuleThatFails());
+
+        EvaluationResult result = rule.failFast(true).evaluate(classes);
+
+        assertThat(result.getFailureReport().getDetails()).hasSize(2);
+        assertThat(result.getFailureReport().toString()).contains("at least 2 times - the evaluation stopped at the first violation");
+    }
+
     private static CompositeArchRule compositeRuleWithPartialEmptyShould() {
         return CompositeArchRule
                 .of(classes().should().bePublic())
@@ -2,11 +2,13 @@ package com.tngtech.archunit.lang;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 
 import static com.google.common.collect.Iterables.getOnlyElement;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class SimpleConditionEventTest {
     @Test
@@ -22,4 +24,27 @@ public class SimpleConditionEventTest {
         SimpleConditionEvent.violated(88, "violated").handleWith(handler);
         assertThat(messages).containsExactly("88: violated");
     }
+
+    @Test
+    public void renders_supplied_message_only_once_when_requested() {
+        AtomicInteger numberOfRenderings = new AtomicInteger();
+        ConditionEvent event = SimpleConditionEvent.satisfied(77, () -> "rendered " + numberOfRenderings.incrementAndGet());
+
+        ConditionEvent inverted = event.invert();
+        assertThat(numberOfRenderings).hasValue(0);
+
+        assertThat(inverted.isViolation()).isTrue();
+        assertThat(inverted.getDescriptionLines()).containsExactly("rendered 1");
+        assertThat(event.getDescriptionLines()).containsExactly("rendered 1");
+        assertThat(numberOfRenderings).hasValue(1);
+    }
+
+    @Test
+    public void rejects_empty_supplied_message_of_violation_once_rendered() {
+        ConditionEvent event = SimpleConditionEvent.violated(88, () -> " ");
+
+        assertThatThrownBy(event::getDescriptionLines)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Message may not be empty for violation");
+    }
 }
@@ -0,0 +1,63 @@
+package com.tngtech.archunit.lang;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.base.HasDescription;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static com.tngtech.archunit.lang.ViolationSinkFactory.VIOLATION_SINK_PROPERTY_NAME;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static com.tngtech.archunit.testutil.TestUtils.properties;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TextFileViolationSinkTest {
+    @Rule
+    public final ArchConfigurationRule configurationRule = new ArchConfigurationRule();
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void writes_violations_of_all_rules_to_configured_file() throws IOException {
+        File violationFile = new File(temporaryFolder.getRoot(), "some/folder/violations.txt");
+        TextFileViolationSink sink = new TextFileViolationSink();
+        sink.initialize(properties("path", violationFile.getAbsolutePath()));
+
+        HasDescription firstRule = () -> "first rule";
+        HasDescription secondRule = () -> "second rule";
+        sink.onViolation(firstRule, SimpleConditionEvent.violated(1, "first violation"));
+        sink.onViolation(firstRule, SimpleConditionEvent.violated(2, "second violation"));
+        sink.onViolation(secondRule, SimpleConditionEvent.violated(3, "third violation"));
+        sink.flush();
+
+        assertThat(Files.readAllLines(violationFile.toPath(), UTF_8)).containsExactly(
+                "Rule 'first rule':", "first violation", "second violation",
+                "Rule 'second rule':", "third violation");
+
+        sink.close();
+    }
+
+    @Test
+    public void receives_all_violations_of_rules_with_bounded_report() throws IOException {
+        File violationFile = temporaryFolder.newFile();
+        ArchConfiguration.get().setProperty(VIOLATION_SINK_PROPERTY_NAME, TextFileViolationSink.class.getName());
+        ArchConfiguration.get().setProperty(VIOLATION_SINK_PROPERTY_NAME + ".path", violationFile.getAbsolutePath());
+
+        JavaClasses classes = new ClassFileImporter().importClasses(String.class, Integer.class, Long.class);
+
+        EvaluationResult result = classes().should().haveSimpleName("NotExisting").limitRecordedViolations(1).evaluate(classes);
+
+        assertThat(result.getFailureReport().getDetails()).hasSize(1);
+        assertThat(Files.readAllLines(violationFile.toPath(), UTF_8))
+                .hasSize(4)
+                .startsWith("Rule 'classes should have simple name 'NotExisting'':");
+    }
+}
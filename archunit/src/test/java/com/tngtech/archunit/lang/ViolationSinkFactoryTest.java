@@ -0,0 +1,74 @@
+package com.tngtech.archunit.lang;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.base.HasDescription;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static com.tngtech.archunit.lang.ViolationSinkFactory.VIOLATION_SINK_PROPERTY_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+public class ViolationSinkFactoryTest {
+
+    @Rule
+    public final ArchConfigurationRule configurationRule = new ArchConfigurationRule();
+
+    @Test
+    public void no_violation_sink_is_created_by_default() {
+        assertThat(ViolationSinkFactory.getConfigured()).isEmpty();
+    }
+
+    @Test
+    public void configured_violation_sink_is_used() {
+        ArchConfiguration.get().setProperty(VIOLATION_SINK_PROPERTY_NAME, TestViolationSink.class.getName());
+
+        assertThat(ViolationSinkFactory.getConfigured()).containsInstanceOf(TestViolationSink.class);
+    }
+
+    @Test
+    public void creates_configured_violation_sink_only_once_per_configuration() {
+        ArchConfiguration.get().setProperty(VIOLATION_SINK_PROPERTY_NAME, TestViolationSink.class.getName());
+        ArchConfiguration.get().setProperty(VIOLATION_SINK_PROPERTY_NAME + ".some", "first");
+
+        ViolationSink first = ViolationSinkFactory.getConfigured().get();
+        assertThat(ViolationSinkFactory.getConfigured()).containsSame(first);
+        assertThat(((TestViolationSink) first).properties).containsOnly(entry("some", "first"));
+
+        ArchConfiguration.get().setProperty(VIOLATION_SINK_PROPERTY_NAME + ".some", "second");
+
+        ViolationSink second = ViolationSinkFactory.getConfigured().get();
+        assertThat(second).isNotSameAs(first);
+        assertThat(((TestViolationSink) second).properties).containsOnly(entry("some", "second"));
+    }
+
+    @Test
+    public void reports_violation_sink_that_cannot_be_instantiated() {
+        ArchConfiguration.get().setProperty(VIOLATION_SINK_PROPERTY_NAME, "not.Existing");
+
+        assertThatThrownBy(ViolationSinkFactory::getConfigured)
+                .isInstanceOf(ViolationSinkInitializationFailedException.class)
+                .hasMessageContaining("archRule.violationSink=not.Existing");
+    }
+
+    static class TestViolationSink implements ViolationSink {
+        final List<String> violations = new ArrayList<>();
+        final Properties properties = new Properties();
+
+        @Override
+        public void initialize(Properties properties) {
+            this.properties.putAll(properties);
+        }
+
+        @Override
+        public void onViolation(HasDescription rule, ConditionEvent violation) {
+            violations.add(rule.getDescription() + ": " + violation.getDescriptionLines());
+        }
+    }
+}
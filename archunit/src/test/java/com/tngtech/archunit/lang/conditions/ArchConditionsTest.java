@@ -1,7 +1,14 @@
 package com.tngtech.archunit.lang.conditions;
 
 import java.sql.SQLException;
-
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+import com.google.common.collect.ImmutableList;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.domain.Dependency;
 import com.tngtech.archunit.core.domain.JavaCall;
@@ -16,6 +23,7 @@ import org.junit.Test;
 
 import static com.tngtech.archunit.base.DescribedPredicate.alwaysFalse;
 import static com.tngtech.archunit.base.DescribedPredicate.alwaysTrue;
+import static com.tngtech.archunit.core.domain.Dependency.Functions.GET_TARGET_CLASS;
 import static com.tngtech.archunit.core.domain.JavaCall.Predicates.target;
 import static com.tngtech.archunit.core.domain.JavaClass.Predicates.assignableTo;
 import static com.tngtech.archunit.core.domain.JavaClass.Predicates.type;
@@ -36,14 +44,18 @@ import static com.tngtech.archunit.lang.conditions.ArchConditions.callMethodWher
 import static com.tngtech.archunit.lang.conditions.ArchConditions.containAnyElementThat;
 import static com.tngtech.archunit.lang.conditions.ArchConditions.containOnlyElementsThat;
 import static com.tngtech.archunit.lang.conditions.ArchConditions.declareThrowableOfType;
+import static com.tngtech.archunit.lang.conditions.ArchConditions.dependOnClassesThat;
 import static com.tngtech.archunit.lang.conditions.ArchConditions.have;
 import static com.tngtech.archunit.lang.conditions.ArchConditions.never;
 import static com.tngtech.archunit.lang.conditions.ArchConditions.not;
+import static com.tngtech.archunit.lang.conditions.ArchConditions.onlyAccessClassesThat;
 import static com.tngtech.archunit.lang.conditions.ArchConditions.onlyBeAccessedByAnyPackage;
+import static com.tngtech.archunit.lang.conditions.ArchConditions.onlyDependOnClassesThat;
 import static com.tngtech.archunit.lang.conditions.ArchConditions.onlyHaveDependentsInAnyPackage;
 import static com.tngtech.archunit.lang.conditions.ArchConditions.onlyHaveDependentsWhere;
 import static com.tngtech.archunit.testutil.Assertions.assertThat;
 import static java.util.regex.Pattern.quote;
+import static java.util.stream.Collectors.toList;
 
 public class ArchConditionsTest {
     @Test
@@ -76,6 +88,49 @@ public class ArchConditionsTest {
                 .containNoViolation();
     }
 
+    @Test
+    public void joined_dependency_conditions_retrieve_the_dependencies_of_each_class_once() {
+        JavaClass callingClass = importClasses(CallingClass.class, SomeClass.class).get(CallingClass.class);
+        AtomicInteger numberOfRetrievals = new AtomicInteger();
+        Function<JavaClass, Set<Dependency>> getDependencies = javaClass -> {
+            numberOfRetrievals.incrementAndGet();
+            return javaClass.getDirectDependenciesFromSelf();
+        };
+        ArchCondition<JavaClass> condition =
+                new AllDependenciesCondition("only depend on some class", GET_TARGET_CLASS.is(type(SomeClass.class)), getDependencies)
+                        .and(new AnyDependencyCondition("depend on object", GET_TARGET_CLASS.is(type(Object.class)), getDependencies));
+
+        assertThat(condition).checking(callingClass)
+                .haveAtLeastOneViolationMessageMatching(".*" + quote(CallingClass.class.getName()) + ".*" + quote(Object.class.getName()) + ".*");
+        assertThat(numberOfRetrievals).hasValue(1);
+    }
+
+    @Test
+    public void joined_dependency_and_access_conditions_report_the_same_events_as_conditions_checked_separately() {
+        JavaClass callingClass = importClasses(CallingClass.class, SomeClass.class).get(CallingClass.class);
+        List<ArchCondition<JavaClass>> conditions = ImmutableList.of(
+                onlyDependOnClassesThat(type(SomeClass.class)),
+                dependOnClassesThat(type(Object.class)),
+                accessClassesThat(type(SomeClass.class)),
+                onlyAccessClassesThat(type(Object.class)));
+
+        List<String> allViolations = new ArrayList<>();
+        for (ArchCondition<JavaClass> first : conditions) {
+            for (ArchCondition<JavaClass> second : conditions) {
+                for (BinaryOperator<ArchCondition<JavaClass>> join : ImmutableList.<BinaryOperator<ArchCondition<JavaClass>>>of(ArchCondition::and, ArchCondition::or)) {
+                    ArchCondition<JavaClass> joined = join.apply(first, second);
+                    ArchCondition<JavaClass> joinedSeparately = join.apply(checkedSeparately(first), checkedSeparately(second));
+
+                    assertThat(violationLinesOf(joined, callingClass)).containsExactlyElementsOf(violationLinesOf(joinedSeparately, callingClass));
+                    assertThat(violationLinesOf(never(joined), callingClass)).containsExactlyElementsOf(violationLinesOf(never(joinedSeparately), callingClass));
+                    allViolations.addAll(violationLinesOf(joined, callingClass));
+                    allViolations.addAll(violationLinesOf(never(joined), callingClass));
+                }
+            }
+        }
+        assertThat(allViolations).isNotEmpty();
+    }
+
     @Test
     public void descriptions() {
         assertThat(accessClassesThatResideIn("..any.."))
@@ -185,6 +240,21 @@ public class ArchConditionsTest {
         };
     }
 
+    private static List<String> violationLinesOf(ArchCondition<JavaClass> condition, JavaClass javaClass) {
+        ConditionEvents events = ConditionEvents.Factory.create();
+        condition.check(javaClass, events);
+        return events.getViolating().stream().flatMap(event -> event.getDescriptionLines().stream()).collect(toList());
+    }
+
+    private static ArchCondition<JavaClass> checkedSeparately(ArchCondition<JavaClass> condition) {
+        return new ArchCondition<JavaClass>(condition.getDescription()) {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                condition.check(item, events);
+            }
+        };
+    }
+
     private static class CallingClass {
         void call() {
             new SomeClass().doNotCallMe();
@@ -0,0 +1,84 @@
+package com.tngtech.archunit.lang.extension;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Properties;
+
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.EvaluationResult;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static com.tngtech.archunit.testutil.TestUtils.properties;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EvaluationProfileReportTest {
+    private static final JavaClasses CLASSES = new ClassFileImporter().importPackagesOf(ArchUnitExtension.class);
+
+    @Rule
+    public final ArchConfigurationRule configurationRule = new ArchConfigurationRule();
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void writes_profiles_of_evaluated_rules_to_configured_file() throws IOException {
+        ArchConfiguration.get().setProperty("archRule.profileEvaluation", "true");
+        File reportFile = new File(temporaryFolder.getRoot(), "some/folder/profile.txt");
+        EvaluationProfileReport report = configuredReport(properties("reportFile", reportFile.getAbsolutePath()));
+
+        report.handle(evaluate(classes().should().haveSimpleNameNotContaining("$$$")));
+        report.handle(evaluate(classes().should().onlyDependOnClassesThat().haveNameNotMatching("not\\.existing\\..*")));
+
+        List<String> lines = Files.readAllLines(reportFile.toPath(), UTF_8);
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).contains("total ms", "objects", "events", "rule");
+        assertThat(lines.subList(1, 3))
+                .anySatisfy(line -> assertThat(line).endsWith("classes should have simple name not containing '$$$'"))
+                .anySatisfy(line -> assertThat(line).contains("classes should only depend on classes"));
+    }
+
+    @Test
+    public void ignores_rules_without_profile() throws IOException {
+        File reportFile = temporaryFolder.newFile();
+        EvaluationProfileReport report = configuredReport(properties("reportFile", reportFile.getAbsolutePath()));
+
+        report.handle(evaluate(classes().should().haveSimpleNameNotContaining("$$$")));
+
+        assertThat(Files.readAllLines(reportFile.toPath(), UTF_8)).hasSize(1);
+    }
+
+    private EvaluationProfileReport configuredReport(Properties properties) {
+        EvaluationProfileReport report = new EvaluationProfileReport();
+        report.configure(properties);
+        return report;
+    }
+
+    private EvaluatedRule evaluate(ArchRule rule) {
+        EvaluationResult result = rule.evaluate(CLASSES);
+        return new EvaluatedRule() {
+            @Override
+            public ArchRule getRule() {
+                return rule;
+            }
+
+            @Override
+            public JavaClasses getClasses() {
+                return CLASSES;
+            }
+
+            @Override
+            public EvaluationResult getResult() {
+                return result;
+            }
+        };
+    }
+}
@@ -215,6 +215,31 @@ public class LayeredArchitectureTest {
                         expectedFieldTypePattern(SecondThreeAnyClass.class, "illegalTarget", SomePkgClass.class)));
     }
 
+    @Test
+    @UseDataProvider("layeredArchitectureDefinitions")
+    public void layered_architecture_counts_violations_omitted_by_limit(LayeredArchitecture architecture) {
+        JavaClasses classes = new ClassFileImporter().importPackages(absolute(""));
+        int numberOfViolations = architecture.evaluate(classes).getFailureReport().getDetails().size();
+
+        EvaluationResult result = architecture.limitRecordedViolations(1).evaluate(classes);
+
+        int numberOfRecordedViolations = result.getFailureReport().getDetails().size();
+        assertThat(numberOfRecordedViolations).isLessThan(numberOfViolations);
+        assertThat(result.getFailureReport().toString()).contains(String.format(
+                "%d times - only the first %d violations are reported", numberOfViolations, numberOfRecordedViolations));
+    }
+
+    @Test
+    @UseDataProvider("layeredArchitectureDefinitions")
+    public void layered_architecture_reports_fail_fast(LayeredArchitecture architecture) {
+        JavaClasses classes = new ClassFileImporter().importPackages(absolute(""));
+
+        EvaluationResult result = architecture.failFast(true).evaluate(classes);
+
+        assertThat(result.getFailureReport().toString()).contains(String.format(
+                "at least %d times - the evaluation stopped at the first violation", result.getFailureReport().getDetails().size()));
+    }
+
     @DataProvider
     public static Object[][] toIgnore() {
         LayeredArchitecture layeredArchitecture = layeredArchitecture()
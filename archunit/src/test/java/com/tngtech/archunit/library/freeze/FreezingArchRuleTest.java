@@ -25,6 +25,7 @@ import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ArchRule;
 import com.tngtech.archunit.lang.ConditionEvent;
 import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.TextFileViolationSink;
 import com.tngtech.archunit.testutil.ArchConfigurationRule;
 import com.tngtech.java.junit.dataprovider.DataProvider;
 import com.tngtech.java.junit.dataprovider.DataProviderRunner;
@@ -43,8 +44,10 @@ import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
 import static com.tngtech.archunit.library.freeze.FreezingArchRule.freeze;
 import static com.tngtech.archunit.testutil.Assertions.assertThat;
 import static com.tngtech.archunit.testutil.Assertions.assertThatRule;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.Files.delete;
 import static java.nio.file.Files.exists;
+import static java.nio.file.Files.readAllLines;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -56,6 +59,7 @@ public class FreezingArchRuleTest {
     private static final String ALLOW_STORE_CREATION_PROPERTY_NAME = "freeze.store.default.allowStoreCreation";
     private static final String ALLOW_STORE_UPDATE_PROPERTY_NAME = "freeze.store.default.allowStoreUpdate";
     private static final String LINE_MATCHER_PROPERTY_NAME = "freeze.lineMatcher";
+    private static final String VIOLATION_SINK_PROPERTY_NAME = "archRule.violationSink";
 
     @Rule
     public final ArchConfigurationRule configurationRule = new ArchConfigurationRule();
@@ -102,6 +106,21 @@ public class FreezingArchRuleTest {
                 .contains("because some reason");
     }
 
+    @Test
+    public void rejects_fail_fast_and_limited_recorded_violations() {
+        FreezingArchRule rule = freeze(rule("some description").withoutViolations().create());
+
+        assertThatThrownBy(() -> rule.failFast(true))
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessageContaining("cannot fail fast");
+        assertThatThrownBy(() -> rule.limitRecordedViolations(10))
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessageContaining("cannot limit the recorded violations");
+
+        assertThat(rule.failFast(false)).isSameAs(rule);
+        assertThat(rule.limitRecordedViolations(Integer.MAX_VALUE)).isSameAs(rule);
+    }
+
     @Test
     public void freezes_violations_on_first_call() {
         ArchRule input = rule("some description").withViolations("first violation", "second violation").create();
@@ -143,6 +162,24 @@ public class FreezingArchRuleTest {
                 .hasOnlyViolations("second violation");
     }
 
+    @Test
+    public void passes_only_new_violations_to_configured_violation_sink() throws IOException {
+        File violationFile = temporaryFolder.newFile();
+        ArchConfiguration.get().setProperty(VIOLATION_SINK_PROPERTY_NAME, TextFileViolationSink.class.getName());
+        ArchConfiguration.get().setProperty(VIOLATION_SINK_PROPERTY_NAME + ".path", violationFile.getAbsolutePath());
+        TestViolationStore violationStore = new TestViolationStore();
+
+        createFrozen(violationStore, rule("some description").withViolations("first violation").create());
+
+        assertThat(readAllLines(violationFile.toPath(), UTF_8)).as("violations passed to sink on freeze").isEmpty();
+
+        ArchRule anotherViolation = rule("some description").withViolations("first violation", "second violation").create();
+        freeze(anotherViolation).persistIn(violationStore).evaluate(importClasses(getClass()));
+
+        assertThat(readAllLines(violationFile.toPath(), UTF_8)).as("violations passed to sink")
+                .containsExactly("Rule 'some description':", "second violation");
+    }
+
     @Test
     public void allows_to_overwrite_frozen_violations_if_configured() {
         TestViolationStore violationStore = new TestViolationStore();